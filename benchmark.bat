@@ -0,0 +1,46 @@
+@echo off
+echo ========================================
+echo    BomberMan - JMH Benchmarks
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+REM JMH jars are not bundled; download them into lib\ first:
+REM   jmh-core-1.37.jar, jmh-generator-annprocess-1.37.jar,
+REM   jopt-simple-5.0.4.jar, commons-math3-3.6.1.jar
+set JMH_CP=lib\jmh-core-1.37.jar;lib\jmh-generator-annprocess-1.37.jar;lib\jopt-simple-5.0.4.jar;lib\commons-math3-3.6.1.jar
+
+if not exist "lib\jmh-core-1.37.jar" (
+    echo ERROR: JMH jars not found in lib\
+    echo Please download them and try again.
+    pause
+    exit /b 1
+)
+
+REM Game classes must be compiled first (compile.bat)
+if not exist "bin\com\bomberman\core\GameManager.class" (
+    echo ERROR: Game is not compiled. Run compile.bat first.
+    pause
+    exit /b 1
+)
+
+if not exist "bin-bench" mkdir bin-bench
+
+echo Compiling benchmarks...
+javac -d bin-bench -cp bin;%JMH_CP% -processorpath %JMH_CP% src\jmh\java\com\bomberman\benchmarks\*.java
+if %errorlevel% neq 0 (
+    echo.
+    echo ERROR: Benchmark compilation failed!
+    pause
+    exit /b 1
+)
+
+REM Results are written as JSON so runs can be compared between releases.
+REM Extra arguments are passed to JMH, e.g. a name filter: benchmark.bat Pathfinding
+echo Running benchmarks...
+java -Djava.awt.headless=true -cp bin;bin-bench;%JMH_CP% org.openjdk.jmh.Main -rf json -rff jmh-result.json %*
+
+echo.
+echo Results saved to jmh-result.json
+pause
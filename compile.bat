@@ -22,7 +22,7 @@ REM Compile all Java files
 echo Compiling Java source files...
 echo.
 
-javac -d bin -sourcepath src src\com\bomberman\*.java src\com\bomberman\core\*.java src\com\bomberman\entities\*.java src\com\bomberman\events\*.java src\com\bomberman\exceptions\*.java src\com\bomberman\managers\*.java src\com\bomberman\powerups\*.java src\com\bomberman\states\*.java src\com\bomberman\utils\*.java
+javac -d bin -sourcepath src src\com\bomberman\*.java src\com\bomberman\core\*.java src\com\bomberman\entities\*.java src\com\bomberman\events\*.java src\com\bomberman\exceptions\*.java src\com\bomberman\headless\*.java src\com\bomberman\managers\*.java src\com\bomberman\powerups\*.java src\com\bomberman\render\*.java src\com\bomberman\replay\*.java src\com\bomberman\states\*.java src\com\bomberman\utils\*.java
 
 if %errorlevel% equ 0 (
     echo.
@@ -0,0 +1,26 @@
+@echo off
+echo ========================================
+echo    BomberMan - Headless Simulation
+echo ========================================
+echo.
+
+cd /d "%~dp0"
+
+REM Check if Java is installed
+java -version >nul 2>&1
+if %errorlevel% neq 0 (
+    echo ERROR: Java is not installed or not in PATH!
+    echo Please install Java JDK and try again.
+    pause
+    exit /b 1
+)
+
+REM Run matches without display or audio, passing through any options
+java -Djava.awt.headless=true -cp bin com.bomberman.headless.HeadlessRunner %*
+
+if %errorlevel% neq 0 (
+    echo.
+    echo ERROR: Simulation failed!
+    echo Make sure the project is compiled correctly.
+    exit /b 1
+)
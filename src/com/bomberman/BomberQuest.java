@@ -1,60 +1,205 @@
 package com.bomberman;
 
+import com.bomberman.core.GameLoop;
 import com.bomberman.core.GameManager;
 import com.bomberman.exceptions.GameInitializationException;
 import com.bomberman.managers.SettingsManager;
+import com.bomberman.replay.Replay;
+import com.bomberman.replay.ReplayPlayer;
+import com.bomberman.utils.FrameProfiler;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferStrategy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.*;
 
-public class BomberQuest extends JPanel implements ActionListener {
+public class BomberQuest extends JPanel {
     private static final Logger logger = Logger.getLogger(BomberQuest.class.getName());
-    private Timer timer;
+    private transient GameLoop gameLoop;
     private transient GameManager gameManager;
     private static JFrame frame;
     private boolean wasFullscreen = false;
     private static final String FONT_NAME_DEFAULT = "Consolas";
+    private static final Font FPS_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 12);
+    private static final AffineTransform IDENTITY_TRANSFORM = new AffineTransform();
+    
+    // Active Rendering (BufferStrategy page flipping on a heavyweight Canvas)
+    private final Canvas canvas = new Canvas();
+    private volatile boolean activeRendering = false;
+    private volatile boolean bufferStrategyPending = false;
+    private final Thread renderThread = new Thread(this::renderLoop, "BomberQuest-Render");
     
     // FPS Tracking
     private long lastFpsTime = System.currentTimeMillis();
     private int frameCount = 0;
     private int currentFps = 60;
+    private long renderNanosTotal = 0;
+    private double currentFrameMillis = 0;
+    private String fpsText = "FPS: 60";
+    private String frameText = "";
 
     public BomberQuest() {
+        this(null);
+    }
+
+    /**
+     * @param replayFile Recorded match to play back on start, or null to start at the menu
+     */
+    public BomberQuest(Path replayFile) {
+        super(new BorderLayout());
         this.setFocusable(true);
         this.setBackground(Color.BLACK);
         updatePreferredSize();
 
+        canvas.setBackground(Color.BLACK);
+        canvas.setFocusable(true);
+        canvas.setIgnoreRepaint(true);
         
         try {
             gameManager = GameManager.getInstance();
             gameManager.init();
+            gameManager.setReplayDirectory(Paths.get("replays"));
             gameManager.setSettingsListener(this::checkSettingsChange);
         } catch (GameInitializationException e) {
             logger.log(Level.WARNING, "Critical Error: {0}", e.getMessage());
             System.exit(1);
         }
 
-        this.addKeyListener(new KeyAdapter() {
+        KeyAdapter keyHandler = new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
-                gameManager.handleInput(e.getKeyCode());
+                synchronized (gameManager) {
+                    if (gameManager.getTickListener() != null) return; // A replay is playing
+                    gameManager.handleInput(e.getKeyCode());
+                }
             }
             
             @Override
             public void keyReleased(KeyEvent e) {
-                gameManager.handleKeyReleased(e.getKeyCode());
+                synchronized (gameManager) {
+                    if (gameManager.getTickListener() != null) return;
+                    gameManager.handleKeyReleased(e.getKeyCode());
+                }
             }
-        });
+        };
+        this.addKeyListener(keyHandler);
+        canvas.addKeyListener(keyHandler);
+        applyRenderMode();
+        if (replayFile != null) startReplay(replayFile);
+
+        // Game Loop - fixed 60 Hz simulation, frames requested up to the FPS cap
+        renderThread.setDaemon(true);
+        renderThread.start();
+        gameLoop = new GameLoop(gameManager, this::requestFrame);
+        gameLoop.start();
+    }
+
+    /**
+     * Plays a recorded match back at normal speed. Keyboard input is ignored
+     * until it ends.
+     */
+    private void startReplay(Path file) {
+        try {
+            ReplayPlayer player = new ReplayPlayer(Replay.load(file), gameManager);
+            synchronized (gameManager) {
+                player.start();
+                gameManager.setTickListener(player);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Cannot play replay: {0}", e.getMessage());
+        }
+    }
+
+    /**
+     * Switches between passive (Swing repaint) and active (BufferStrategy) rendering
+     * to match the current settings. Must be called on the EDT.
+     */
+    private void applyRenderMode() {
+        boolean active = SettingsManager.getInstance().isActiveRendering();
+        if (active == activeRendering && (active == (canvas.getParent() == this))) return;
+
+        if (active) {
+            add(canvas, BorderLayout.CENTER);
+        } else {
+            remove(canvas);
+        }
+        setIgnoreRepaint(active);
+        revalidate();
+        activeRendering = active;
+        (active ? canvas : this).requestFocusInWindow();
+        repaint();
+    }
+
+    /**
+     * Called by the game loop whenever a new frame is due. Only hands the
+     * frame to the thread that draws it, so drawing never delays a tick.
+     */
+    private void requestFrame() {
+        if (activeRendering) {
+            LockSupport.unpark(renderThread); // Requests made while a frame is drawn collapse into one
+        } else {
+            repaint();
+        }
+    }
 
-        // Game Loop - Ultra High FPS (1ms = up to 1000 FPS)
-        timer = new Timer(1, this);
-        timer.start();
+    /**
+     * Body of the render thread: draws an active frame each time one is requested.
+     */
+    private void renderLoop() {
+        while (true) {
+            LockSupport.park(this);
+            if (activeRendering) renderActive();
+        }
+    }
+
+    /**
+     * Draws one frame straight into the canvas back buffer and flips it.
+     * Runs on the render thread; lost or restored surfaces are redrawn.
+     */
+    private void renderActive() {
+        if (!canvas.isDisplayable() || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) return;
+
+        BufferStrategy strategy = canvas.getBufferStrategy();
+        if (strategy == null) {
+            // Buffer creation touches the peer, so hand it to the EDT once
+            if (!bufferStrategyPending) {
+                bufferStrategyPending = true;
+                SwingUtilities.invokeLater(() -> {
+                    if (canvas.isDisplayable() && canvas.getBufferStrategy() == null) {
+                        canvas.createBufferStrategy(2);
+                    }
+                    bufferStrategyPending = false;
+                });
+            }
+            return;
+        }
+
+        try {
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        g2d.setColor(Color.BLACK);
+                        g2d.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                        renderFrame(g2d, canvas.getWidth(), canvas.getHeight());
+                    } finally {
+                        g2d.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+        } catch (IllegalStateException e) {
+            // Peer went away mid-frame (fullscreen toggle); the next frame recreates it
+            return;
+        }
+        Toolkit.getDefaultToolkit().sync();
     }
 
     private void updatePreferredSize() {
@@ -81,13 +226,16 @@ public class BomberQuest extends JPanel implements ActionListener {
             wasFullscreen = isFullscreen;
             toggleFullscreen(isFullscreen);
         }
+        
+        // Check Render Mode Change
+        applyRenderMode();
     }
     
     private void toggleFullscreen(boolean fullscreen) {
         if (frame == null) return;
         
         // Stop rendering during transition to prevent flicker
-        timer.stop();
+        gameLoop.setPaused(true);
         
         frame.setVisible(false);
         frame.dispose();
@@ -114,25 +262,30 @@ public class BomberQuest extends JPanel implements ActionListener {
         }
         
         frame.setVisible(true);
-        this.requestFocus();
+        (activeRendering ? canvas : this).requestFocus();
         
         // Resume rendering
-        timer.start();
+        gameLoop.setPaused(false);
     }
 
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (activeRendering) return; // Canvas owns the screen
+
         Graphics2D g2d = (Graphics2D) g;
+        renderFrame(g2d, getWidth(), getHeight());
+        g2d.dispose();
+    }
 
+    /**
+     * Renders the letterboxed game plus overlays into the given window-sized surface.
+     */
+    private void renderFrame(Graphics2D g2d, int winW, int winH) {
         // Game Content Size
         int gameW = GameManager.GRID_W * GameManager.TILE_SIZE;
         int gameH = GameManager.GRID_H * GameManager.TILE_SIZE;
         
-        // Window Size
-        int winW = getWidth();
-        int winH = getHeight();
-        
         // Calculate Scale (Letterboxing)
         double scaleX = (double) winW / gameW;
         double scaleY = (double) winH / gameH;
@@ -158,7 +311,15 @@ public class BomberQuest extends JPanel implements ActionListener {
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         }
 
-        gameManager.render(g2d);
+        long renderStart = System.nanoTime();
+        synchronized (gameManager) {
+            gameManager.render(g2d);
+        }
+        long renderNanos = System.nanoTime() - renderStart;
+        renderNanosTotal += renderNanos;
+        if (FrameProfiler.getInstance().isEnabled()) {
+            FrameProfiler.getInstance().record(FrameProfiler.Phase.FRAME, renderNanos);
+        }
         
         // FPS Counter
         if (SettingsManager.getInstance().isShowFPS()) {
@@ -166,23 +327,24 @@ public class BomberQuest extends JPanel implements ActionListener {
             long now = System.currentTimeMillis();
             if (now - lastFpsTime >= 1000) {
                 currentFps = frameCount;
+                currentFrameMillis = frameCount > 0 ? renderNanosTotal / 1_000_000.0 / frameCount : 0;
+                fpsText = "FPS: " + currentFps;
+                frameText = String.format("Frame: %.2f ms (%s)", currentFrameMillis,
+                    activeRendering ? "active" : "passive");
                 frameCount = 0;
+                renderNanosTotal = 0;
                 lastFpsTime = now;
             }
             
-            g2d.setTransform(new java.awt.geom.AffineTransform()); // Reset transform for UI
+            g2d.setTransform(IDENTITY_TRANSFORM); // Reset transform for UI
             g2d.setColor(Color.GREEN);
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 12));
-            g2d.drawString("FPS: " + currentFps, 10, 20);
+            g2d.setFont(FPS_FONT);
+            g2d.drawString(fpsText, 10, 20);
+            g2d.drawString(frameText, 10, 36);
+            
+            // Per-phase timings and frame graph
+            FrameProfiler.getInstance().renderOverlay(g2d, 10, 46);
         }
-        
-        g2d.dispose();
-    }
-
-    @Override
-    public void actionPerformed(ActionEvent e) {
-        gameManager.update();
-        repaint();
     }
 
     public static void main(String[] args) {
@@ -199,7 +361,9 @@ public class BomberQuest extends JPanel implements ActionListener {
                 }
             });
             
-            BomberQuest game = new BomberQuest();
+            // --replay FILE plays a recorded match instead of opening the menu
+            Path replayFile = args.length == 2 && args[0].equals("--replay") ? Paths.get(args[1]) : null;
+            BomberQuest game = new BomberQuest(replayFile);
             frame.add(game);
             frame.pack();
             frame.setLocationRelativeTo(null);
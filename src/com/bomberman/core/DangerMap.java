@@ -0,0 +1,355 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.GameObject;
+import com.bomberman.utils.CellChangeLog;
+import com.bomberman.utils.CellIndex;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Predicted blast fire per board cell: the earliest tick at which a live
+ * bomb's blast will reach it, along with the cells still burning from
+ * blasts that have already gone off.
+ *
+ * Blasts are traced the way they will spread, stopping at hard walls and
+ * after the first soft wall, and a bomb in another's blast is set off with
+ * it. A bomb therefore detonates at the fire tick of its own cell, which is
+ * what lets chain reactions be worked out by lowering cell times until
+ * nothing changes.
+ *
+ * Times are on the map's own clock, which moves on once per tick as every
+ * fuse burns ({@link #advance()}), so a prediction stays valid until bombs
+ * or walls change. A placed bomb is folded in on the next {@link #update};
+ * a bomb going off or being removed, or a wall breaking, makes the next
+ * update trace the remaining bombs again. Either way only cells in blast
+ * lanes are visited. A rebuild also takes in the fire burning on the board,
+ * which is what keeps a lane dangerous after its bomb has gone off; an
+ * update puts out the cells whose fire has burned down. Every cell that
+ * becomes or stops being threatened, by a lane or by fire, is recorded in the
+ * obstacle log, so paths that avoid threatened cells are kept up to date like
+ * paths around walls and bombs.
+ *
+ * Blasts are traced over the walls as they stand; a soft wall that an
+ * earlier blast of a chain breaks still stops the later ones.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class DangerMap {
+    /** Fire tick of a cell no blast is due to reach */
+    public static final int NONE = Integer.MAX_VALUE;
+    private static final int[][] DIRS = { {0, -1}, {0, 1}, {-1, 0}, {1, 0} }; // Up, Down, Left, Right
+
+    private final int width;
+    private final int height;
+    private final int[] fireTicks;
+    // Tick at which a burning cell's fire is out, 0 for cells not burning
+    private final int[] burnOuts;
+    // Cells threatened before a rebuild are stamped with its pass
+    private final int[] stamps;
+    private int pass = 0;
+    // Cells in lanes and burning cells, packed y * width + x, and the cells threatened before a rebuild
+    private int[] threatened = new int[64];
+    private int threatenedCount = 0;
+    private int[] burning = new int[64];
+    private int burningCount = 0;
+    private int nextBurnOut = NONE;
+    private int[] previous = new int[64];
+    // Bombs placed since the last update, and bombs waiting to spread their predicted blast
+    private Bomb[] placed = new Bomb[8];
+    private int placedCount = 0;
+    private Bomb[] queue = new Bomb[8];
+    private int queueCount = 0;
+    private int clock = 0;
+    private boolean stale = true;
+
+    /**
+     * @param width Board width in tiles
+     * @param height Board height in tiles
+     */
+    public DangerMap(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.fireTicks = new int[width * height];
+        this.burnOuts = new int[width * height];
+        this.stamps = new int[width * height];
+        Arrays.fill(fireTicks, NONE);
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * @return Current tick on the map's clock
+     */
+    public int getClock() {
+        return clock;
+    }
+
+    /**
+     * Moves the clock on by one tick; call once per tick after the fuses burn.
+     */
+    public void advance() {
+        clock++;
+    }
+
+    /**
+     * Queues a newly placed bomb to be folded in on the next update.
+     *
+     * @param bomb Bomb already added to the bomb index
+     */
+    public void bombPlaced(Bomb bomb) {
+        if (stale) return;
+        if (placedCount == placed.length) placed = Arrays.copyOf(placed, placedCount * 2);
+        placed[placedCount++] = bomb;
+    }
+
+    /**
+     * Makes the next update trace every live bomb and burning cell again,
+     * e.g. after bombs went off or were removed, fire was lit or a wall broke.
+     */
+    public void invalidate() {
+        stale = true;
+        placedCount = 0;
+    }
+
+    /**
+     * Brings the map up to date with the bombs placed, or the whole board if
+     * it was invalidated, since the last update, and puts out the cells whose
+     * fire has burned down. Call where enemies plan, after the fire has
+     * burned for the tick.
+     *
+     * @param tiles Board terrain
+     * @param bombs Every live bomb
+     * @param bombIndex Bomb positions
+     * @param fire Fire burning on the board
+     * @param log Obstacle log that cells becoming or ceasing to be threatened are recorded in
+     */
+    public void update(TileMap tiles, List<GameObject> bombs, CellIndex<Bomb> bombIndex, FireField fire,
+                       CellChangeLog log) {
+        if (stale) {
+            rebuild(tiles, bombs, bombIndex, fire, log);
+            return;
+        }
+        if (clock >= nextBurnOut) burnOut(log);
+        for (int i = 0; i < placedCount; i++) {
+            if (placed[i].isActive()) place(placed[i], tiles, bombIndex, log);
+            placed[i] = null;
+        }
+        placedCount = 0;
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return Tick on the map's clock at which a blast reaches the cell, or {@link #NONE}
+     */
+    public int getFireTick(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return NONE;
+        return fireTicks[y * width + x];
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if the cell is burning or a live bomb's blast is due to reach it
+     */
+    public boolean isThreatened(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        int cell = y * width + x;
+        return fireTicks[cell] != NONE || burnOuts[cell] != 0;
+    }
+
+    /**
+     * Whether something entering the cell now and staying there for the
+     * given number of ticks is out of the blasts' way: the cell's fire is out
+     * and no blast is due on it from the next tick until it leaves.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @param stay Ticks the cell would be stood on before leaving again
+     * @return true if no fire burns on the cell in that time
+     */
+    public boolean isSafe(int x, int y, int stay) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return true;
+        int cell = y * width + x;
+        return burnOuts[cell] <= clock && fireTicks[cell] > clock + stay + 1;
+    }
+
+    /**
+     * @return Number of cells a live bomb's blast is due to reach
+     */
+    public int getThreatenedCount() {
+        return threatenedCount;
+    }
+
+    /**
+     * @return Number of cells known to be burning
+     */
+    public int getBurningCount() {
+        return burningCount;
+    }
+
+    /**
+     * Traces every live bomb and takes in every burning cell from scratch.
+     * Cells that stay threatened are not logged; cells that become or stop
+     * being threatened are.
+     */
+    private void rebuild(TileMap tiles, List<GameObject> bombs, CellIndex<Bomb> bombIndex, FireField fire,
+                         CellChangeLog log) {
+        pass++;
+        int previousCount = 0;
+        for (int i = 0; i < threatenedCount; i++) {
+            previousCount = remember(threatened[i], previousCount);
+            fireTicks[threatened[i]] = NONE;
+        }
+        for (int i = 0; i < burningCount; i++) {
+            previousCount = remember(burning[i], previousCount);
+            burnOuts[burning[i]] = 0;
+        }
+        threatenedCount = 0;
+        burningCount = 0;
+        nextBurnOut = NONE;
+
+        // Fire lit this tick has already burned once, so a cell with t ticks left is out t ticks from now
+        for (int i = 0; i < fire.getBurningCount(); i++) {
+            int x = fire.getX(i);
+            int y = fire.getY(i);
+            int ticksLeft = fire.getTicks(x, y);
+            if (ticksLeft <= 0) continue;
+            if (burningCount == burning.length) burning = Arrays.copyOf(burning, burningCount * 2);
+            int cell = y * width + x;
+            burning[burningCount++] = cell;
+            burnOuts[cell] = clock + ticksLeft;
+            nextBurnOut = Math.min(nextBurnOut, burnOuts[cell]);
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = (Bomb) bombs.get(i);
+            if (bomb.isActive()) place(bomb, tiles, bombIndex, null);
+        }
+
+        for (int i = 0; i < previousCount; i++) {
+            int cell = previous[i];
+            if (fireTicks[cell] == NONE && burnOuts[cell] == 0) log.record(cell % width, cell / width);
+        }
+        for (int i = 0; i < threatenedCount; i++) logIfNew(threatened[i], log);
+        for (int i = 0; i < burningCount; i++) logIfNew(burning[i], log);
+        stale = false;
+        placedCount = 0;
+    }
+
+    /**
+     * Adds a cell threatened before a rebuild to the previous list, once.
+     *
+     * @return New length of the list
+     */
+    private int remember(int cell, int count) {
+        if (stamps[cell] == pass) return count;
+        stamps[cell] = pass;
+        if (count == previous.length) previous = Arrays.copyOf(previous, count * 2);
+        previous[count] = cell;
+        return count + 1;
+    }
+
+    /**
+     * Logs a cell threatened after a rebuild that was not before it, once.
+     */
+    private void logIfNew(int cell, CellChangeLog log) {
+        if (stamps[cell] == pass) return;
+        stamps[cell] = pass;
+        log.record(cell % width, cell / width);
+    }
+
+    /**
+     * Puts out the cells whose fire has burned down, logging those no lane threatens.
+     */
+    private void burnOut(CellChangeLog log) {
+        int kept = 0;
+        nextBurnOut = NONE;
+        for (int i = 0; i < burningCount; i++) {
+            int cell = burning[i];
+            if (burnOuts[cell] > clock) {
+                burning[kept++] = cell;
+                nextBurnOut = Math.min(nextBurnOut, burnOuts[cell]);
+                continue;
+            }
+            burnOuts[cell] = 0;
+            if (fireTicks[cell] == NONE) log.record(cell % width, cell / width);
+        }
+        burningCount = kept;
+    }
+
+    /**
+     * Folds one bomb in: it goes off when its fuse runs out or when a blast
+     * already traced reaches it, whichever is sooner, and its own blast may
+     * set off others sooner than they would have gone off.
+     */
+    private void place(Bomb bomb, TileMap tiles, CellIndex<Bomb> bombIndex, CellChangeLog log) {
+        int x = bomb.getX();
+        int y = bomb.getY();
+        int tick = clock + bomb.getTimer();
+        if (lower(x, y, tick, log)) {
+            queueBombsAt(x, y, bombIndex);
+        } else {
+            push(bomb);
+        }
+        while (queueCount > 0) {
+            Bomb next = queue[--queueCount];
+            queue[queueCount] = null;
+            spread(next, tiles, bombIndex, log);
+        }
+    }
+
+    /**
+     * Lights a queued bomb's lanes with the fire tick of its cell, queueing
+     * every bomb that a lane now reaches sooner.
+     */
+    private void spread(Bomb bomb, TileMap tiles, CellIndex<Bomb> bombIndex, CellChangeLog log) {
+        int bx = bomb.getX();
+        int by = bomb.getY();
+        int tick = fireTicks[by * width + bx];
+        for (int[] dir : DIRS) {
+            for (int i = 1; i <= bomb.getRadius(); i++) {
+                int tx = bx + dir[0] * i;
+                int ty = by + dir[1] * i;
+                // The map edge reads as hard wall
+                byte tile = tiles.get(tx, ty);
+                if (tile == TileMap.HARD) break;
+                if (lower(tx, ty, tick, log)) queueBombsAt(tx, ty, bombIndex);
+                if (tile == TileMap.SOFT) break;
+            }
+        }
+    }
+
+    /**
+     * Brings a cell's fire tick down to the given tick.
+     *
+     * @param log Log to record the cell in if it was not threatened before, or null not to
+     * @return true if the cell's fire tick was later before
+     */
+    private boolean lower(int x, int y, int tick, CellChangeLog log) {
+        int cell = y * width + x;
+        int current = fireTicks[cell];
+        if (tick >= current) return false;
+        if (current == NONE) {
+            if (threatenedCount == threatened.length) threatened = Arrays.copyOf(threatened, threatenedCount * 2);
+            threatened[threatenedCount++] = cell;
+            if (log != null && burnOuts[cell] == 0) log.record(x, y);
+        }
+        fireTicks[cell] = tick;
+        return true;
+    }
+
+    private void queueBombsAt(int x, int y, CellIndex<Bomb> bombIndex) {
+        for (int i = 0; i < bombIndex.count(x, y); i++) {
+            Bomb bomb = bombIndex.get(x, y, i);
+            if (bomb.isActive()) push(bomb);
+        }
+    }
+
+    private void push(Bomb bomb) {
+        if (queueCount == queue.length) queue = Arrays.copyOf(queue, queueCount * 2);
+        queue[queueCount++] = bomb;
+    }
+}
@@ -0,0 +1,136 @@
+package com.bomberman.core;
+
+import java.util.Arrays;
+
+/**
+ * Set of board tiles whose pixels changed since the last frame.
+ *
+ * The simulation marks a tile whenever something drawn on it changes (an
+ * entity moves, appears or disappears, an animation frame advances, a wall is
+ * destroyed); the renderer drains the set and repaints only those tiles.
+ * {@link #markAll()} requests a full repaint, used after state changes,
+ * during transitions and when the back buffer is recreated.
+ *
+ * Tiles are kept both as a flag array, so a repeated mark costs nothing, and
+ * as a queue in marking order, so draining never scans the whole board.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class DirtyTileTracker {
+    private final int width;
+    private final int height;
+    private final boolean[] dirty;
+    private final int[] queue;
+    private int count = 0;
+    private boolean allDirty = true;
+
+    /**
+     * @param width Board width in tiles
+     * @param height Board height in tiles
+     */
+    public DirtyTileTracker(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.dirty = new boolean[width * height];
+        this.queue = new int[width * height];
+    }
+
+    /**
+     * Marks one tile; coordinates outside the board are ignored.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     */
+    public void mark(int x, int y) {
+        if (allDirty || x < 0 || x >= width || y < 0 || y >= height) return;
+        int idx = y * width + x;
+        if (!dirty[idx]) {
+            dirty[idx] = true;
+            queue[count++] = idx;
+        }
+    }
+
+    /**
+     * Marks every tile in a row range.
+     *
+     * @param fromRow First row, inclusive
+     * @param toRow Last row, exclusive
+     */
+    public void markRows(int fromRow, int toRow) {
+        for (int y = Math.max(fromRow, 0); y < Math.min(toRow, height); y++) {
+            for (int x = 0; x < width; x++) {
+                mark(x, y);
+            }
+        }
+    }
+
+    /**
+     * Requests a repaint of the whole board.
+     */
+    public void markAll() {
+        allDirty = true;
+    }
+
+    /**
+     * @return true when the whole board must be repainted
+     */
+    public boolean isAllDirty() {
+        return allDirty;
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true when the tile is marked, either on its own or by {@link #markAll()}
+     */
+    public boolean isDirty(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        return allDirty || dirty[y * width + x];
+    }
+
+    /**
+     * @return true when any tile is marked
+     */
+    public boolean hasDirty() {
+        return allDirty || count > 0;
+    }
+
+    /**
+     * @return Number of individually marked tiles (not meaningful while all are dirty)
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param i Index below {@link #getCount()}
+     * @return X coordinate of the i-th marked tile
+     */
+    public int getX(int i) {
+        return queue[i] % width;
+    }
+
+    /**
+     * @param i Index below {@link #getCount()}
+     * @return Y coordinate of the i-th marked tile
+     */
+    public int getY(int i) {
+        return queue[i] / width;
+    }
+
+    /**
+     * Forgets every mark once the renderer has repainted them.
+     */
+    public void clear() {
+        if (count > width * height / 4) {
+            Arrays.fill(dirty, false);
+        } else {
+            for (int i = 0; i < count; i++) {
+                dirty[queue[i]] = false;
+            }
+        }
+        count = 0;
+        allDirty = false;
+    }
+}
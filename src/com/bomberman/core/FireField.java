@@ -0,0 +1,225 @@
+package com.bomberman.core;
+
+import com.bomberman.utils.ChunkLayout;
+import java.util.Arrays;
+
+/**
+ * Blast fire stored per board cell.
+ *
+ * Each cell holds the ticks it has left to burn and the arms of the blast
+ * passing through it, so the renderer can draw centres, straight segments and
+ * end caps. Lighting a cell that is already burning refreshes its timer and
+ * adds the new arms instead of stacking a second fire. Burning cells are also
+ * kept in a compact list so a tick only visits cells that are on fire.
+ *
+ * Storage is allocated per {@link ChunkLayout chunk} the first time fire
+ * reaches it, so a large map only pays for the areas that have burned.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class FireField {
+    /** Ticks a cell burns after being lit */
+    public static final int DURATION = 15;
+
+    /** Arm bits: the fire continues into the neighbouring cell in that direction */
+    public static final int ARM_UP = 1;
+    public static final int ARM_DOWN = 2;
+    public static final int ARM_LEFT = 4;
+    public static final int ARM_RIGHT = 8;
+    /** Number of distinct arm combinations */
+    public static final int ARM_SHAPES = 16;
+
+    private final ChunkLayout layout;
+    private final int width;
+    private final byte[][] ticks;
+    private final byte[][] arms;
+    private final int[][] stamps;
+    private int[] burning = new int[64];
+    private int burningCount = 0;
+    private int pass = 1;
+
+    /**
+     * @param width Board width in tiles
+     * @param height Board height in tiles
+     */
+    public FireField(int width, int height) {
+        this.layout = new ChunkLayout(width, height);
+        this.width = width;
+        this.ticks = new byte[layout.getChunkCount()][];
+        this.arms = new byte[layout.getChunkCount()][];
+        this.stamps = new int[layout.getChunkCount()][];
+    }
+
+    /**
+     * Lights a cell, or refreshes it if it is already burning.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @param armMask Arm bits to add to the cell's shape
+     * @return true if the cell was not burning before
+     */
+    public boolean ignite(int x, int y, int armMask) {
+        if (!layout.inBounds(x, y)) return false;
+        int c = layout.chunkOf(x, y);
+        if (ticks[c] == null) {
+            ticks[c] = new byte[ChunkLayout.CHUNK_CELLS];
+            arms[c] = new byte[ChunkLayout.CHUNK_CELLS];
+        }
+        int cell = ChunkLayout.cellOf(x, y);
+        boolean fresh = ticks[c][cell] == 0;
+        if (fresh) {
+            if (burningCount == burning.length) burning = Arrays.copyOf(burning, burningCount * 2);
+            burning[burningCount++] = y * width + x;
+            arms[c][cell] = 0;
+        }
+        ticks[c][cell] = DURATION;
+        arms[c][cell] |= (byte) armMask;
+        return fresh;
+    }
+
+    /**
+     * Lights a cell with a given time left to burn, as when restoring a saved match.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @param ticksLeft Ticks left to burn, 1..{@link #DURATION}
+     * @param armMask Arm bits of the cell's shape
+     * @throws IllegalArgumentException if ticksLeft is out of range
+     */
+    public void restore(int x, int y, int ticksLeft, int armMask) {
+        if (ticksLeft < 1 || ticksLeft > DURATION) {
+            throw new IllegalArgumentException("Burn time out of range: " + ticksLeft);
+        }
+        if (!layout.inBounds(x, y)) return;
+        ignite(x, y, armMask);
+        ticks[layout.chunkOf(x, y)][ChunkLayout.cellOf(x, y)] = (byte) ticksLeft;
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if the cell is on fire
+     */
+    public boolean isBurning(int x, int y) {
+        return getTicks(x, y) > 0;
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return Ticks left to burn, 0 if not burning
+     */
+    public int getTicks(int x, int y) {
+        if (!layout.inBounds(x, y)) return 0;
+        byte[] chunk = ticks[layout.chunkOf(x, y)];
+        return chunk == null ? 0 : chunk[ChunkLayout.cellOf(x, y)];
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return Arm bits of the burning cell
+     */
+    public int getArms(int x, int y) {
+        if (!layout.inBounds(x, y)) return 0;
+        byte[] chunk = arms[layout.chunkOf(x, y)];
+        return chunk == null ? 0 : chunk[ChunkLayout.cellOf(x, y)];
+    }
+
+    /**
+     * @return Number of cells on fire
+     */
+    public int getBurningCount() {
+        return burningCount;
+    }
+
+    /**
+     * @param i Index below {@link #getBurningCount()}
+     * @return X coordinate of the i-th burning cell
+     */
+    public int getX(int i) {
+        return burning[i] % width;
+    }
+
+    /**
+     * @param i Index below {@link #getBurningCount()}
+     * @return Y coordinate of the i-th burning cell
+     */
+    public int getY(int i) {
+        return burning[i] / width;
+    }
+
+    /**
+     * Burns every cell for one tick and puts out those that reach zero.
+     */
+    public void tick() {
+        int kept = 0;
+        for (int i = 0; i < burningCount; i++) {
+            int idx = burning[i];
+            int x = idx % width;
+            int y = idx / width;
+            int c = layout.chunkOf(x, y);
+            int cell = ChunkLayout.cellOf(x, y);
+            if (--ticks[c][cell] > 0) {
+                burning[kept++] = idx;
+            } else {
+                arms[c][cell] = 0;
+            }
+        }
+        burningCount = kept;
+    }
+
+    /**
+     * Puts out every fire.
+     */
+    public void clear() {
+        for (int i = 0; i < burningCount; i++) {
+            int x = getX(i);
+            int y = getY(i);
+            int c = layout.chunkOf(x, y);
+            ticks[c][ChunkLayout.cellOf(x, y)] = 0;
+            arms[c][ChunkLayout.cellOf(x, y)] = 0;
+        }
+        burningCount = 0;
+    }
+
+    /**
+     * Starts a new claim pass; see {@link #claim(int, int)}.
+     */
+    public void beginPass() {
+        pass++;
+    }
+
+    /**
+     * Claims a cell for the current pass, so work done per lit cell (such as
+     * looking for bombs to set off) happens once however many blasts of the
+     * pass cross it.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true the first time the cell is claimed in the current pass
+     */
+    public boolean claim(int x, int y) {
+        if (!layout.inBounds(x, y)) return false;
+        int c = layout.chunkOf(x, y);
+        if (stamps[c] == null) stamps[c] = new int[ChunkLayout.CHUNK_CELLS];
+        int cell = ChunkLayout.cellOf(x, y);
+        if (stamps[c][cell] == pass) return false;
+        stamps[c][cell] = pass;
+        return true;
+    }
+
+    /**
+     * @param arm One of the ARM_ bits
+     * @return The arm pointing the opposite way
+     */
+    public static int opposite(int arm) {
+        switch (arm) {
+            case ARM_UP: return ARM_DOWN;
+            case ARM_DOWN: return ARM_UP;
+            case ARM_LEFT: return ARM_RIGHT;
+            default: return ARM_LEFT;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.bomberman.core;
+
+import com.bomberman.managers.SettingsManager;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-timestep simulation loop running on its own thread.
+ * Ticks the {@link GameManager} at exactly {@link #TICKS_PER_SECOND} regardless
+ * of how fast frames are drawn, and requests frames independently at the
+ * render cap configured in {@link SettingsManager}.
+ *
+ * Simulation and rendering share the game manager's monitor: every tick runs
+ * inside {@code synchronized (gameManager)}, and the renderer must take the
+ * same lock while it reads game state.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class GameLoop implements Runnable {
+    /** Simulation rate. Every frame-based timer in the game assumes this value. */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /** Duration of one simulation tick in nanoseconds */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /** Upper bound on catch-up ticks per iteration, so a long stall cannot snowball */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final GameManager gameManager;
+    private final Runnable frameRequest;
+
+    private Thread thread;
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
+
+    /**
+     * Creates a loop for the given game.
+     *
+     * @param gameManager Game to simulate
+     * @param frameRequest Called on the simulation thread whenever a new frame
+     *        should be drawn; it should hand the frame to another thread rather
+     *        than draw it, since drawing here delays the next tick
+     */
+    public GameLoop(GameManager gameManager, Runnable frameRequest) {
+        this.gameManager = gameManager;
+        this.frameRequest = frameRequest;
+    }
+
+    /**
+     * Starts the simulation thread. Does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "BomberQuest-Simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the simulation thread and waits for it to finish.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * Suspends ticking and frame requests without stopping the thread.
+     * Time spent paused is not caught up afterwards.
+     *
+     * @param paused true to suspend, false to resume
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused && thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long nextFrame = previous;
+
+        while (running) {
+            long now = System.nanoTime();
+            long elapsed = now - previous;
+            previous = now;
+
+            if (paused) {
+                accumulator = 0;
+                LockSupport.parkNanos(TICK_NANOS);
+                continue;
+            }
+
+            // Simulation: consume elapsed time in fixed steps
+            accumulator += elapsed;
+            int steps = 0;
+            while (accumulator >= TICK_NANOS && steps < MAX_CATCH_UP_TICKS) {
+                synchronized (gameManager) {
+                    gameManager.update();
+                }
+                accumulator -= TICK_NANOS;
+                steps++;
+            }
+            if (accumulator >= TICK_NANOS) {
+                accumulator = 0; // Too far behind, drop the backlog instead of spiralling
+            }
+
+            // Rendering: independent of the tick rate, limited by the frame cap
+            long frameNanos = 1_000_000_000L / SettingsManager.getInstance().getFpsCap();
+            if (now - nextFrame >= 0) {
+                frameRequest.run();
+                nextFrame += frameNanos;
+                if (now - nextFrame >= 0) {
+                    nextFrame = now + frameNanos; // Missed frames are skipped, not queued
+                }
+            }
+
+            // Sleep until the next tick or frame, whichever comes first
+            long untilTick = TICK_NANOS - accumulator;
+            long untilFrame = nextFrame - System.nanoTime();
+            long wait = Math.min(untilTick, untilFrame);
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+}
@@ -1,34 +1,77 @@
 package com.bomberman.core;
 
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Enemy;
+import com.bomberman.entities.EnemyStore;
 import com.bomberman.entities.GameObject;
 import com.bomberman.entities.Player;
 import com.bomberman.exceptions.GameInitializationException;
 import com.bomberman.managers.SettingsManager;
 import com.bomberman.managers.SoundManager;
 import com.bomberman.states.*;
+import com.bomberman.replay.Replay;
+import com.bomberman.replay.ReplayRecorder;
+import com.bomberman.utils.CellChangeLog;
+import com.bomberman.utils.CellIndex;
+import com.bomberman.utils.FlowField;
+import com.bomberman.utils.FrameProfiler;
+import com.bomberman.utils.Pathfinding;
 import java.awt.Graphics2D;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class GameManager {
+    private static final Logger logger = Logger.getLogger(GameManager.class.getName());
     private static GameManager instance;
     private TransitionManager transitionManager;
-    private final Random random = new Random();
+    private MatchRandom matchRandom = new MatchRandom(MatchRandom.newSeed());
     
     // Constants
     public static final int TILE_SIZE = 48; // Increased for retro feel
+    // Default map size, which is also the board area the window shows
     public static final int GRID_W = 25;
     public static final int GRID_H = 15; // Adjusted for 16:9 aspect ratio
+    // Limits for the map size of a match
+    public static final int MIN_GRID_SIZE = 5;
+    public static final int MAX_GRID_SIZE = 4096;
     public static final int BOMB_RADIUS = 3;
     public static final int MAX_BOMBS = 3;
+    // Above EASY, one spawned enemy in this many is an A* hunter
+    public static final int HUNTER_EVERY = 4;
     
     // Game Data
-    private List<GameObject> walls;
-    private List<GameObject> enemies;
-    private List<GameObject> bombs;
-    private List<GameObject> explosions;
+    private int gridW = GRID_W;
+    private int gridH = GRID_H;
+    private TileMap tiles = new TileMap(GRID_W, GRID_H);
+    private final EnemyStore enemies = new EnemyStore(64);
+    private final List<GameObject> bombs = new ArrayList<>();
+    private final List<GameObject> enemiesView = new AbstractList<>() {
+        @Override public GameObject get(int i) { return enemies.view(i); }
+        @Override public int size() { return enemies.size(); }
+    };
+    private final List<GameObject> bombsView = Collections.unmodifiableList(bombs);
     private Player player;
+
+    // Per-cell indexes over the lists above; every add, move and removal goes through this class
+    private CellIndex<Enemy> enemyIndex = new CellIndex<>(GRID_W, GRID_H);
+    private CellIndex<Bomb> bombIndex = new CellIndex<>(GRID_W, GRID_H);
+
+    // Blast fire per cell
+    private FireField fire = new FireField(GRID_W, GRID_H);
+    // Where live bombs' blasts are due, shared by every enemy each tick
+    private DangerMap dangerMap = new DangerMap(GRID_W, GRID_H);
+
+    // Board tiles changed since the last frame, drained by the renderer; covers the visible board
+    private final DirtyTileTracker dirtyTiles = new DirtyTileTracker(GRID_W, GRID_H);
     
     private GameState currentState;
     private GameState previousState;
@@ -44,8 +87,19 @@ public class GameManager {
     public final GameState DIFFICULTY_SELECTION_STATE = new DifficultySelectionState();
 
     private long gameStartTime;
+    private long mapGeneration = 0;
+    // Every wall or bomb that appears or disappears, for the flow field and incremental paths
+    private final CellChangeLog obstacleLog = new CellChangeLog(1024);
+    private FlowField flowField;
+    private long flowFieldVersion = -1;
+    private final Pathfinding.WalkableChecker enemyWalkable =
+        (x, y) -> isValidMove(x, y, tiles) && !bombIndex.isOccupied(x, y) && !dangerMap.isThreatened(x, y);
+    private long matchTicks = 0;
     private int lastGameTime;
     private SettingsManager.Difficulty currentDifficulty = SettingsManager.Difficulty.MEDIUM;
+    private int enemyCountOverride = 0;
+    private boolean parallelAi = true;
+    private boolean headless = false;
 
     // Listener for Settings
     public interface SettingsApplyListener {
@@ -55,11 +109,20 @@ public class GameManager {
     public void setSettingsListener(SettingsApplyListener listener) { this.settingsListener = listener; }
     public void notifySettingsApplied() { if (settingsListener != null) settingsListener.onSettingsApplied(); }
 
+    // Listener run before every tick, e.g. to feed recorded input
+    public interface TickListener {
+        void beforeTick(GameManager gm);
+    }
+    private TickListener tickListener;
+    public void setTickListener(TickListener listener) { this.tickListener = listener; }
+    public TickListener getTickListener() { return tickListener; }
+
+    // Replay of the current match
+    private final ReplayRecorder recorder = new ReplayRecorder();
+    private Replay lastReplay;
+    private Path replayDirectory;
+
     private GameManager() {
-        walls = new ArrayList<>();
-        enemies = new ArrayList<>();
-        bombs = new ArrayList<>();
-        explosions = new ArrayList<>();
         player = new Player(1, 1);
         currentState = MAIN_MENU_STATE; // Start at Menu
         transitionManager = TransitionManager.getInstance();
@@ -79,6 +142,37 @@ public class GameManager {
         SoundManager.getInstance().playMusic(SoundManager.BGM_MENU);
     }
 
+    /**
+     * Initializes the game for headless simulation: no audio is loaded and state
+     * changes skip their visual transitions. Nothing here touches AWT.
+     */
+    public void initHeadless() {
+        headless = true;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Generates a fresh map and switches straight into play, bypassing the menus.
+     */
+    public void startMatch(SettingsManager.Difficulty difficulty) {
+        startMatch(difficulty, MatchRandom.newSeed());
+    }
+
+    /**
+     * Generates the map for a seed and switches straight into play.
+     *
+     * @param difficulty Difficulty to play on
+     * @param seed Match seed; the same seed and inputs replay the same match
+     */
+    public void startMatch(SettingsManager.Difficulty difficulty, long seed) {
+        setDifficulty(difficulty);
+        resetGame(seed);
+        setStateImmediate(PLAYING_STATE);
+    }
+
     public void setDifficulty(SettingsManager.Difficulty difficulty) {
         this.currentDifficulty = difficulty;
     }
@@ -87,61 +181,158 @@ public class GameManager {
         return currentDifficulty;
     }
 
+    /**
+     * Sets how many enemies the next {@link #resetGame()} spawns. Spawning gives
+     * up after a bounded number of attempts, so a board too small or crowded for
+     * the requested count gets fewer.
+     *
+     * @param count Number of enemies, or 0 for the difficulty's default
+     * @throws IllegalArgumentException if count is negative
+     */
+    public void setEnemyCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Enemy count must not be negative, got " + count);
+        }
+        this.enemyCountOverride = count;
+    }
+
+    /**
+     * Chooses whether enemy moves are planned on the common fork-join pool or
+     * on the game thread. Both give the same moves; the serial mode is for
+     * profiling and comparison.
+     *
+     * @param parallel true to plan in parallel
+     */
+    public void setParallelAi(boolean parallel) {
+        this.parallelAi = parallel;
+    }
+
+    /**
+     * @return Pool to plan enemy moves on, or null to plan on the calling thread
+     */
+    public ForkJoinPool getAiPool() {
+        return parallelAi ? ForkJoinPool.commonPool() : null;
+    }
+
+    /**
+     * Sets the map size used from the next {@link #resetGame()} on, with heap tile storage.
+     *
+     * @see #setMapSize(int, int, boolean)
+     */
+    public void setMapSize(int width, int height) {
+        setMapSize(width, height, false);
+    }
+
+    /**
+     * Sets the map size used from the next {@link #resetGame()} on. The tile map,
+     * cell indexes and fire field are reallocated when the size or storage
+     * changes, which drops the current match's entities. Only the top-left
+     * {@link #GRID_W} x {@link #GRID_H} tiles are shown on screen, so maps larger
+     * than the default are meant for headless matches.
+     *
+     * @param width Map width in tiles
+     * @param height Map height in tiles
+     * @param offHeap true to keep the tiles in direct buffers outside the Java heap
+     * @throws IllegalArgumentException if a side is outside MIN_GRID_SIZE..MAX_GRID_SIZE
+     */
+    public void setMapSize(int width, int height, boolean offHeap) {
+        if (width < MIN_GRID_SIZE || width > MAX_GRID_SIZE || height < MIN_GRID_SIZE || height > MAX_GRID_SIZE) {
+            throw new IllegalArgumentException("Map size must be between " + MIN_GRID_SIZE + " and "
+                + MAX_GRID_SIZE + " tiles per side, got " + width + "x" + height);
+        }
+        if (width == gridW && height == gridH && offHeap == tiles.isOffHeap()) return;
+
+        gridW = width;
+        gridH = height;
+        tiles = new TileMap(width, height, offHeap);
+        enemies.clear();
+        bombs.clear();
+        enemyIndex = new CellIndex<>(width, height);
+        bombIndex = new CellIndex<>(width, height);
+        fire = new FireField(width, height);
+        dangerMap = new DangerMap(width, height);
+        dirtyTiles.markAll();
+    }
+
+    public int getGridWidth() { return gridW; }
+    public int getGridHeight() { return gridH; }
+
+    /**
+     * Starts a new match on a fresh random seed.
+     */
     public void resetGame() {
+        resetGame(MatchRandom.newSeed());
+    }
+
+    /**
+     * Starts a new match whose map, spawns and colours all come from one seed.
+     *
+     * @param seed Match seed
+     */
+    public void resetGame(long seed) {
+        matchRandom = new MatchRandom(seed);
+        matchTicks = 0;
+        recorder.begin(seed, currentDifficulty, gridW, gridH, enemyCountOverride);
+
         // Cleanup
-        walls.clear();
+        tiles.clear();
         enemies.clear();
         bombs.clear();
-        explosions.clear();
+        enemyIndex.clear();
+        bombIndex.clear();
+        fire.clear();
+        dangerMap.invalidate();
         player.reset();
+        mapGeneration++;
+        obstacleLog.recordReset();
+        dirtyTiles.markAll();
 
         // Generate Map
-         for (int y = 0; y < GRID_H; y++) {
-            for (int x = 0; x < GRID_W; x++) {
-                if (x == 0 || x == GRID_W - 1 || y == 0 || y == GRID_H - 1) {
-                    walls.add(EntityFactory.createWall(x, y, true));
+        SplittableRandom mapRandom = matchRandom.map();
+        for (int y = 0; y < gridH; y++) {
+            for (int x = 0; x < gridW; x++) {
+                if (x == 0 || x == gridW - 1 || y == 0 || y == gridH - 1) {
+                    tiles.placeWall(x, y, false);
                 } else if (x % 2 == 0 && y % 2 == 0) {
-                    walls.add(EntityFactory.createWall(x, y, true));
+                    tiles.placeWall(x, y, false);
                 } else if ((x < 3 && y < 3)) {
                     // Safe zone
-                } else if (Math.random() < 0.4) {
-                    walls.add(EntityFactory.createWall(x, y, false));
+                } else if (mapRandom.nextDouble() < 0.4) {
+                    tiles.placeWall(x, y, true);
                 }
             }
         }
 
         // Generate Enemies
-        // Determine count based on Difficulty
+        // Determine count based on Difficulty unless overridden
         int enemiesToSpawn = 5;
         switch (currentDifficulty) {
             case EASY -> enemiesToSpawn = 3;
             case MEDIUM -> enemiesToSpawn = 6;
             case HARD -> enemiesToSpawn = 10;
         }
+        if (enemyCountOverride > 0) enemiesToSpawn = enemyCountOverride;
 
         // Spawning loop
         int count = 0;
-        int maxAttempts = 1000;
+        int maxAttempts = Math.max(1000, enemiesToSpawn * 20);
         int attempts = 0;
+        SplittableRandom spawnRandom = matchRandom.spawns();
         while (count < enemiesToSpawn && attempts < maxAttempts) {
             attempts++;
-            int ex = random.nextInt(GRID_W);
-            int ey = random.nextInt(GRID_H);
+            int ex = spawnRandom.nextInt(gridW);
+            int ey = spawnRandom.nextInt(gridH);
             // 1. Check distance from player or Check if position is valid (assuming isValidMove is a helper method)
-            if (Math.abs(ex - player.getX()) + Math.abs(ey - player.getY()) <= 5 || !isValidMove(ex, ey, GRID_W, GRID_H, walls)) continue;
+            if (Math.abs(ex - player.getX()) + Math.abs(ey - player.getY()) <= 5 || !isValidMove(ex, ey, tiles)) continue;
             
             // 2. Check minimum distance from other enemies
-            boolean tooClose = false;
-            for (GameObject enemy : enemies) {
-                int dist = Math.abs(ex - enemy.getX()) + Math.abs(ey - enemy.getY());
-                if (dist < 3) {
-                    tooClose = true;
-                    break;
+            if (!hasEnemyWithin(ex, ey, 2)) {
+                Enemy enemy = enemies.spawn(ex, ey, matchRandom.cosmetic().nextInt(Enemy.HUE_BUCKETS));
+                // 3. Above EASY every fourth enemy hunts along a path of its own instead of with the pack
+                if (currentDifficulty != SettingsManager.Difficulty.EASY && count % HUNTER_EVERY == HUNTER_EVERY - 1) {
+                    enemy.setAiMode(Enemy.AiMode.A_STAR);
                 }
-            }
-            
-            if (!tooClose) {
-                enemies.add(EntityFactory.createEnemy(ex, ey));
+                addEnemy(enemy);
                 count++;
             }
         }
@@ -154,6 +345,10 @@ public class GameManager {
     }
     
     public void setState(GameState state, TransitionManager.TransitionType transitionType) {
+        if (headless) {
+            setStateImmediate(state); // Transitions are purely visual
+            return;
+        }
         if (transitionManager.isTransitioning()) return; // Prevent transition spam
         
         transitionManager.startTransition(currentState, state, transitionType);
@@ -181,6 +376,7 @@ public class GameManager {
         }
         
         this.currentState = state;
+        dirtyTiles.markAll();
         
         // Don't restart music if returning to paused game or if already in that state's music
         if (state == MAIN_MENU_STATE) {
@@ -191,10 +387,19 @@ public class GameManager {
     }
 
     public void update() {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long tickStart = profiler.begin();
+        if (tickListener != null) tickListener.beforeTick(this);
+        
+        long phaseStart = profiler.begin();
         transitionManager.update(this);
+        profiler.end(FrameProfiler.Phase.TRANSITION, phaseStart);
+        
         if (!transitionManager.isTransitioning()) {
+            if (currentState == PLAYING_STATE) matchTicks++;
             currentState.update(this);
         }
+        profiler.end(FrameProfiler.Phase.TICK, tickStart);
     }
 
     public void render(Graphics2D g2d) {
@@ -218,7 +423,78 @@ public class GameManager {
         }
     }
 
+    /**
+     * Records a key event received by the playing state into the match replay.
+     *
+     * @param keyCode Key code
+     * @param press true for a press, false for a release
+     */
+    public void recordInput(int keyCode, boolean press) {
+        recorder.record(matchTicks, keyCode, press);
+    }
+
+    /**
+     * Ends the match recording. The replay is kept as {@link #getLastReplay()}
+     * and, if a replay directory is set, saved there.
+     */
+    public void finishReplay() {
+        Replay replay = recorder.finish(matchTicks);
+        if (replay == null) return;
+        lastReplay = replay;
+        if (replayDirectory == null) return;
+        try {
+            Files.createDirectories(replayDirectory);
+            replay.save(replayDirectory.resolve(
+                "replay-" + System.currentTimeMillis() + "-" + MatchRandom.format(replay.getSeed()) + Replay.EXTENSION));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not save replay: {0}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops recording the current match, e.g. while it is itself a replay being played back.
+     */
+    public void cancelRecording() {
+        recorder.cancel();
+    }
+
+    /**
+     * @param directory Directory finished matches are saved to, or null to keep them in memory only
+     */
+    public void setReplayDirectory(Path directory) { this.replayDirectory = directory; }
+    /** @return Replay of the most recently finished match, or null */
+    public Replay getLastReplay() { return lastReplay; }
+
+    /**
+     * Empties the board for {@link MatchState#restore} and sets the match clock.
+     * A restored match is not recorded, since it does not start from its seed.
+     */
+    void beginRestore(long seed, long ticks, long elapsedMillis) {
+        matchRandom = new MatchRandom(seed);
+        matchTicks = ticks;
+        recorder.cancel();
+        tiles.clear();
+        enemies.clear();
+        bombs.clear();
+        enemyIndex.clear();
+        bombIndex.clear();
+        fire.clear();
+        dangerMap.invalidate();
+        mapGeneration++;
+        obstacleLog.recordReset();
+        dirtyTiles.markAll();
+        gameStartTime = System.currentTimeMillis() - elapsedMillis;
+    }
+
     // Helper for collision
+    public static boolean isValidMove(int x, int y, TileMap tiles) {
+        return !tiles.isBlocked(x, y);
+    }
+
+    /**
+     * List-scanning variant of {@link #isValidMove(int, int, TileMap)}, for callers
+     * that only hold a wall list (such as the difficulty preview).
+     */
     public static boolean isValidMove(int x, int y, int w, int h, List<GameObject> walls) {
         if (x < 0 || x >= w || y < 0 || y >= h) return false;
         for (GameObject obj : walls) {
@@ -227,17 +503,242 @@ public class GameManager {
         return true;
     }
 
+    /**
+     * Checks the cells within a Manhattan distance for enemies.
+     */
+    private boolean hasEnemyWithin(int x, int y, int distance) {
+        for (int dy = -distance; dy <= distance; dy++) {
+            int span = distance - Math.abs(dy);
+            for (int dx = -span; dx <= span; dx++) {
+                if (enemyIndex.isOccupied(x + dx, y + dy)) return true;
+            }
+        }
+        return false;
+    }
+
+    // Entity bookkeeping: keeps the lists, the cell indexes and the dirty tiles in step
+
+    public void addEnemy(Enemy enemy) {
+        enemies.add(enemy); // No-op for enemies spawned straight into the store
+        enemyIndex.add(enemy);
+        dirtyTiles.mark(enemy.getX(), enemy.getY());
+    }
+
+    /**
+     * Removes an enemy. The last enemy in the store takes over its slot, so
+     * callers walking slots backwards can keep going.
+     */
+    public void removeEnemy(Enemy enemy) {
+        if (enemies.remove(enemy)) {
+            enemyIndex.remove(enemy);
+            dirtyTiles.mark(enemy.getX(), enemy.getY());
+        }
+    }
+
+    /**
+     * Updates the index and dirty tiles after an enemy changed cell.
+     *
+     * @param enemy Enemy at its new position
+     * @param fromX Previous X coordinate
+     * @param fromY Previous Y coordinate
+     */
+    public void enemyMoved(Enemy enemy, int fromX, int fromY) {
+        if (enemy.getX() == fromX && enemy.getY() == fromY) return;
+        enemyIndex.move(enemy, fromX, fromY);
+        dirtyTiles.mark(fromX, fromY);
+        dirtyTiles.mark(enemy.getX(), enemy.getY());
+    }
+
+    /**
+     * Removes every enemy standing on a cell.
+     *
+     * @return Number of enemies removed
+     */
+    public int killEnemiesAt(int x, int y) {
+        int killed = 0;
+        while (enemyIndex.isOccupied(x, y)) {
+            removeEnemy(enemyIndex.first(x, y));
+            killed++;
+        }
+        return killed;
+    }
+
+    public void clearEnemies() {
+        for (int i = 0; i < enemies.size(); i++) {
+            dirtyTiles.mark(enemies.getX(i), enemies.getY(i));
+        }
+        enemies.clear();
+        enemyIndex.clear();
+    }
+
+    public void addBomb(Bomb bomb) {
+        bombs.add(bomb);
+        bombIndex.add(bomb);
+        obstacleLog.record(bomb.getX(), bomb.getY());
+        dangerMap.bombPlaced(bomb);
+        dirtyTiles.mark(bomb.getX(), bomb.getY());
+    }
+
+    public void removeBomb(Bomb bomb) {
+        if (bombs.remove(bomb)) {
+            bombIndex.remove(bomb);
+            obstacleLog.record(bomb.getX(), bomb.getY());
+            dangerMap.invalidate();
+            dirtyTiles.mark(bomb.getX(), bomb.getY());
+        }
+    }
+
+    /**
+     * Drops every bomb that has detonated, in one pass over the list.
+     */
+    public void removeDetonatedBombs() {
+        int kept = 0;
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = (Bomb) bombs.get(i);
+            if (bomb.isActive()) {
+                bombs.set(kept++, bomb);
+            } else {
+                bombIndex.remove(bomb);
+                dirtyTiles.mark(bomb.getX(), bomb.getY());
+                obstacleLog.record(bomb.getX(), bomb.getY());
+            }
+        }
+        if (kept < bombs.size()) dangerMap.invalidate();
+        bombs.subList(kept, bombs.size()).clear();
+    }
+
+    /**
+     * Sets a cell on fire, or refreshes the fire already burning there.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @param arms {@link FireField} arm bits to add to the cell's shape
+     */
+    public void ignite(int x, int y, int arms) {
+        fire.ignite(x, y, arms);
+        dangerMap.invalidate();
+        dirtyTiles.mark(x, y);
+    }
+
+    /**
+     * Burns the fire field for one tick. Every burning cell is repainted since
+     * its sparks flicker, including the ones that go out.
+     */
+    public void tickFire() {
+        for (int i = 0; i < fire.getBurningCount(); i++) {
+            dirtyTiles.mark(fire.getX(i), fire.getY(i));
+        }
+        fire.tick();
+    }
+
+    public void clearFire() {
+        for (int i = 0; i < fire.getBurningCount(); i++) {
+            dirtyTiles.mark(fire.getX(i), fire.getY(i));
+        }
+        fire.clear();
+        dangerMap.invalidate();
+    }
+
+    /**
+     * Moves the danger map's clock on by the tick every bomb fuse just burned.
+     */
+    public void tickDanger() {
+        dangerMap.advance();
+    }
+
+    /**
+     * Where live bombs' blasts are due and fire still burns, brought up to
+     * date with the bombs, fire and walls that came or went through this
+     * manager since the last call.
+     *
+     * @return Map shared by every enemy this tick
+     */
+    public DangerMap getDangerMap() {
+        dangerMap.update(tiles, bombs, bombIndex, fire, obstacleLog);
+        return dangerMap;
+    }
+
+    /**
+     * Distance field towards the player over cells enemies may enter (no
+     * walls, no bombs, no blast lanes). It is rebuilt only when the player has
+     * changed cell or a wall, bomb or blast lane has come or gone through this
+     * manager since the last call.
+     *
+     * @return Field shared by every flow-field enemy this tick
+     */
+    public FlowField getPlayerFlowField() {
+        getDangerMap();
+        if (flowField == null || flowField.getWidth() != gridW || flowField.getHeight() != gridH) {
+            flowField = new FlowField(gridW, gridH);
+            flowFieldVersion = -1;
+        }
+        if (flowFieldVersion != obstacleLog.getVersion()
+                || flowField.getGoalX() != player.getX() || flowField.getGoalY() != player.getY()) {
+            flowField.rebuild(player.getX(), player.getY(), enemyWalkable);
+            flowFieldVersion = obstacleLog.getVersion();
+        }
+        return flowField;
+    }
+
+    public boolean hasEnemyAt(int x, int y) { return enemyIndex.isOccupied(x, y); }
+    public int getEnemyCountAt(int x, int y) { return enemyIndex.count(x, y); }
+    public boolean hasBombAt(int x, int y) { return bombIndex.isOccupied(x, y); }
+    public boolean isBurning(int x, int y) { return fire.isBurning(x, y); }
+
+    /**
+     * Removes a soft wall hit by a blast and marks its tile for repaint.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if a soft wall was destroyed
+     */
+    public boolean destroyWall(int x, int y) {
+        if (tiles.get(x, y) != TileMap.SOFT) return false;
+        tiles.removeWall(x, y);
+        dirtyTiles.mark(x, y);
+        obstacleLog.record(x, y);
+        dangerMap.invalidate();
+        return true;
+    }
+
+    /**
+     * Marks a board tile as needing a repaint.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     */
+    public void markDirty(int x, int y) {
+        dirtyTiles.mark(x, y);
+    }
+
     public void calculateScore() {
         lastGameTime = (int) ((System.currentTimeMillis() - gameStartTime) / 1000);
     }
 
     // Getters
     public Player getPlayer() { return player; }
-    public List<GameObject> getWalls() { return walls; }
-    public List<GameObject> getEnemies() { return enemies; }
-    public List<GameObject> getBombs() { return bombs; }
-    public List<GameObject> getExplosions() { return explosions; }
+    /** Snapshot of the walls as objects; see {@link TileMap#getWalls()} */
+    public List<GameObject> getWalls() { return tiles.getWalls(); }
+    public TileMap getTiles() { return tiles; }
+    public List<GameObject> getEnemies() { return enemiesView; }
+    public List<GameObject> getBombs() { return bombsView; }
+    public FireField getFire() { return fire; }
+    public EnemyStore getEnemyStore() { return enemies; }
+    /** Random streams of the current match */
+    public MatchRandom getMatchRandom() { return matchRandom; }
+    public long getMatchSeed() { return matchRandom.getSeed(); }
+    public CellIndex<Enemy> getEnemyIndex() { return enemyIndex; }
+    public CellIndex<Bomb> getBombIndex() { return bombIndex; }
+    public GameState getCurrentState() { return currentState; }
     public long getGameStartTime() { return gameStartTime; }
+    public long getMapGeneration() { return mapGeneration; }
+    /** Counter bumped whenever a wall or bomb appears or disappears */
+    public long getObstacleVersion() { return obstacleLog.getVersion(); }
+    /** Cells where a wall or bomb appeared or disappeared, for keeping paths up to date */
+    public CellChangeLog getObstacleLog() { return obstacleLog; }
+    /** Ticks played in the current match, pauses included */
+    public long getMatchTicks() { return matchTicks; }
+    public DirtyTileTracker getDirtyTiles() { return dirtyTiles; }
     public int getLastGameTime() { return lastGameTime; }
     
     public void returnToPreviousState() {
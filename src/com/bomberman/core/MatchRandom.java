@@ -0,0 +1,82 @@
+package com.bomberman.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random numbers for one match, all derived from a single 64-bit seed.
+ *
+ * The seed is split into independent streams for map generation, enemy
+ * spawns, AI decisions and cosmetics, so drawing more numbers in one area
+ * (say, a new cosmetic effect) does not shift what the others produce. A
+ * match played again with the same seed and the same inputs comes out the
+ * same.
+ *
+ * Streams are not thread-safe. Work spread over several threads should take
+ * a {@link SplittableRandom#split()} of a stream per task, made in a fixed
+ * order on one thread.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class MatchRandom {
+    private final long seed;
+    private final SplittableRandom map;
+    private final SplittableRandom spawns;
+    private final SplittableRandom ai;
+    private final SplittableRandom cosmetic;
+
+    /**
+     * @param seed Match seed
+     */
+    public MatchRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        // Split order is part of the format: reordering changes every match
+        this.map = root.split();
+        this.spawns = root.split();
+        this.ai = root.split();
+        this.cosmetic = root.split();
+    }
+
+    /**
+     * @return A seed drawn from a fresh, unseeded generator
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    public long getSeed() { return seed; }
+
+    /** @return Stream for map layout */
+    public SplittableRandom map() { return map; }
+
+    /** @return Stream for enemy spawn positions */
+    public SplittableRandom spawns() { return spawns; }
+
+    /** @return Stream for AI decisions */
+    public SplittableRandom ai() { return ai; }
+
+    /** @return Stream for looks that do not affect play, such as enemy colours */
+    public SplittableRandom cosmetic() { return cosmetic; }
+
+    /**
+     * Formats a seed the way it is shown to players.
+     *
+     * @param seed Seed to format
+     * @return Seed as 16 upper-case hex digits
+     */
+    public static String format(long seed) {
+        return String.format("%016X", seed);
+    }
+
+    /**
+     * Parses a seed written by {@link #format(long)}.
+     *
+     * @param text Up to 16 hex digits
+     * @return The seed
+     * @throws NumberFormatException if the text is not a hex seed
+     */
+    public static long parse(String text) {
+        return Long.parseUnsignedLong(text.trim(), 16);
+    }
+}
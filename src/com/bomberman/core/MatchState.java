@@ -0,0 +1,214 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Enemy;
+import com.bomberman.entities.EnemyStore;
+import com.bomberman.entities.GameObject;
+import com.bomberman.entities.Player;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.powerups.BombCapacityBoost;
+import com.bomberman.powerups.ExplosionRangeBoost;
+import com.bomberman.powerups.PowerUp;
+import com.bomberman.powerups.SpeedBoost;
+import com.bomberman.states.PlayingState;
+import java.util.List;
+
+/**
+ * Copy of everything that decides how a match plays on from a given tick:
+ * terrain, enemies with their paths and timers, bombs, fire, the player with
+ * its power-ups, held keys and cooldowns, and the match clock.
+ *
+ * Restoring a state and simulating on with the same input gives the same
+ * result as the original run. What is only drawn from while generating the
+ * map (the match's random streams) is rebuilt from the seed rather than
+ * copied.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class MatchState {
+    // Power-up kinds
+    static final int SPEED_BOOST = 0;
+    static final int BOMB_CAPACITY_BOOST = 1;
+    static final int EXPLOSION_RANGE_BOOST = 2;
+
+    static final Enemy.AiMode[] AI_MODES = Enemy.AiMode.values();
+
+    // Values per enemy in enemyData
+    static final int ENEMY_FIELDS = 8;
+
+    long seed;
+    SettingsManager.Difficulty difficulty;
+    int gridW;
+    int gridH;
+    long matchTicks;
+    long elapsedMillis;
+    TileMap tiles;
+
+    int enemyCount;
+    /** x, y, hue, move timer, path timer, path length, path cursor, AI mode per enemy */
+    int[] enemyData;
+    int[][] enemyPaths;
+
+    /** x, y, radius, timer per bomb */
+    int[] bombData;
+    /** x, y, ticks left, arms per burning cell */
+    int[] fireData;
+
+    int playerX;
+    int playerY;
+    int playerHp;
+    int playerInvincibleTimer;
+    int[] powerUpKinds;
+    int[] powerUpDurations;
+
+    int[] heldKeys;
+    int moveDelay;
+    int invincibleFrames;
+    boolean paused;
+    int pauseSelection;
+
+    MatchState() {}
+
+    /**
+     * Copies the state of the current match.
+     *
+     * @param gm Game to copy
+     * @return The copy
+     */
+    public static MatchState capture(GameManager gm) {
+        MatchState s = new MatchState();
+        s.seed = gm.getMatchSeed();
+        s.difficulty = gm.getDifficulty();
+        s.gridW = gm.getGridWidth();
+        s.gridH = gm.getGridHeight();
+        s.matchTicks = gm.getMatchTicks();
+        s.elapsedMillis = System.currentTimeMillis() - gm.getGameStartTime();
+        s.tiles = new TileMap(s.gridW, s.gridH);
+        s.tiles.copyFrom(gm.getTiles());
+
+        EnemyStore enemies = gm.getEnemyStore();
+        s.enemyCount = enemies.size();
+        s.enemyData = new int[s.enemyCount * ENEMY_FIELDS];
+        s.enemyPaths = new int[s.enemyCount][];
+        for (int i = 0; i < s.enemyCount; i++) {
+            int o = i * ENEMY_FIELDS;
+            int length = enemies.getPathLength(i);
+            s.enemyData[o] = enemies.getX(i);
+            s.enemyData[o + 1] = enemies.getY(i);
+            s.enemyData[o + 2] = enemies.getHueIndex(i);
+            s.enemyData[o + 3] = enemies.getMoveTimer(i);
+            s.enemyData[o + 4] = enemies.getPathTimer(i);
+            s.enemyData[o + 5] = length;
+            s.enemyData[o + 6] = enemies.getPathCursor(i);
+            s.enemyData[o + 7] = enemies.getAiMode(i).ordinal();
+            int[] path = new int[length];
+            for (int j = 0; j < length; j++) path[j] = enemies.getPathCell(i, j);
+            s.enemyPaths[i] = path;
+        }
+
+        List<GameObject> bombs = gm.getBombs();
+        s.bombData = new int[bombs.size() * 4];
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb b = (Bomb) bombs.get(i);
+            s.bombData[i * 4] = b.getX();
+            s.bombData[i * 4 + 1] = b.getY();
+            s.bombData[i * 4 + 2] = b.getRadius();
+            s.bombData[i * 4 + 3] = b.getTimer();
+        }
+
+        FireField fire = gm.getFire();
+        s.fireData = new int[fire.getBurningCount() * 4];
+        for (int i = 0; i < fire.getBurningCount(); i++) {
+            int x = fire.getX(i);
+            int y = fire.getY(i);
+            s.fireData[i * 4] = x;
+            s.fireData[i * 4 + 1] = y;
+            s.fireData[i * 4 + 2] = fire.getTicks(x, y);
+            s.fireData[i * 4 + 3] = fire.getArms(x, y);
+        }
+
+        Player p = gm.getPlayer();
+        s.playerX = p.getX();
+        s.playerY = p.getY();
+        s.playerHp = p.getHp();
+        s.playerInvincibleTimer = p.getInvincibleTimer();
+        List<PowerUp> powerUps = p.getActivePowerUps();
+        s.powerUpKinds = new int[powerUps.size()];
+        s.powerUpDurations = new int[powerUps.size()];
+        for (int i = 0; i < powerUps.size(); i++) {
+            s.powerUpKinds[i] = kindOf(powerUps.get(i));
+            s.powerUpDurations[i] = powerUps.get(i).getRemainingDuration();
+        }
+
+        PlayingState playing = (PlayingState) gm.PLAYING_STATE;
+        s.heldKeys = playing.getHeldKeys();
+        s.moveDelay = playing.getMoveDelay();
+        s.invincibleFrames = playing.getInvincibleFrames();
+        s.paused = playing.isPaused();
+        s.pauseSelection = playing.getPauseSelection();
+        return s;
+    }
+
+    /**
+     * Replaces the current match with this state and switches to play.
+     * The map is resized to the state's size if needed.
+     * States from {@link #capture} and {@link SnapshotCodec#decode} are
+     * always in range, so restoring them does not fail part way.
+     *
+     * @param gm Game to restore into
+     */
+    public void restore(GameManager gm) {
+        gm.setDifficulty(difficulty);
+        gm.setMapSize(gridW, gridH, gm.getTiles().isOffHeap());
+        gm.setStateImmediate(gm.PLAYING_STATE);
+        gm.beginRestore(seed, matchTicks, elapsedMillis);
+        gm.getTiles().copyFrom(tiles);
+
+        EnemyStore enemies = gm.getEnemyStore();
+        for (int i = 0; i < enemyCount; i++) {
+            int o = i * ENEMY_FIELDS;
+            gm.addEnemy(enemies.restore(enemyData[o], enemyData[o + 1], enemyData[o + 2], enemyData[o + 3],
+                enemyData[o + 4], enemyPaths[i], enemyData[o + 5], enemyData[o + 6], AI_MODES[enemyData[o + 7]]));
+        }
+        for (int i = 0; i < bombData.length; i += 4) {
+            gm.addBomb(new Bomb(bombData[i], bombData[i + 1], bombData[i + 2], bombData[i + 3]));
+        }
+        for (int i = 0; i < fireData.length; i += 4) {
+            gm.getFire().restore(fireData[i], fireData[i + 1], fireData[i + 2], fireData[i + 3]);
+        }
+
+        Player p = gm.getPlayer();
+        p.reset();
+        p.setPosition(playerX, playerY);
+        p.restoreHealth(playerHp, playerInvincibleTimer);
+        for (int i = 0; i < powerUpKinds.length; i++) {
+            PowerUp powerUp = newPowerUp(powerUpKinds[i]);
+            p.addPowerUp(powerUp);
+            powerUp.setRemainingDuration(powerUpDurations[i]);
+        }
+
+        ((PlayingState) gm.PLAYING_STATE).restoreControls(heldKeys, moveDelay, invincibleFrames, paused, pauseSelection);
+    }
+
+    public long getSeed() { return seed; }
+    public long getMatchTicks() { return matchTicks; }
+    public int getGridWidth() { return gridW; }
+    public int getGridHeight() { return gridH; }
+
+    static int kindOf(PowerUp powerUp) {
+        if (powerUp instanceof SpeedBoost) return SPEED_BOOST;
+        if (powerUp instanceof BombCapacityBoost) return BOMB_CAPACITY_BOOST;
+        if (powerUp instanceof ExplosionRangeBoost) return EXPLOSION_RANGE_BOOST;
+        throw new IllegalArgumentException("Unknown power-up: " + powerUp.getName());
+    }
+
+    static PowerUp newPowerUp(int kind) {
+        switch (kind) {
+            case SPEED_BOOST: return new SpeedBoost();
+            case BOMB_CAPACITY_BOOST: return new BombCapacityBoost();
+            case EXPLOSION_RANGE_BOOST: return new ExplosionRangeBoost();
+            default: throw new IllegalArgumentException("Unknown power-up kind: " + kind);
+        }
+    }
+}
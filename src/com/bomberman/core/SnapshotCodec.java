@@ -0,0 +1,343 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.Enemy;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Versioned binary encoding of a {@link MatchState}, used for save games.
+ *
+ * The codec writes field by field into one {@link ByteBuffer} that is kept
+ * and reused between calls, growing only when a snapshot does not fit, so
+ * saving a running match allocates nothing beyond the state copy itself.
+ * Decoding reads the fields back in the same order; nothing is reflective.
+ *
+ * Layout, integers as zigzag LEB128 varints unless noted:
+ * <pre>
+ *   "BQSV"                     magic, 4 bytes
+ *   version                    1 byte
+ *   seed                       8 bytes, big-endian
+ *   difficulty                 1 byte, enum ordinal
+ *   width, height
+ *   match ticks, elapsed ms
+ *   tiles                      runs of (tile code byte, run length) in row order
+ *   enemies                    count, then x, y, hue, move timer, path timer,
+ *                              path length, path cursor, AI mode and the path cells
+ *   bombs                      count, then x, y, radius, timer
+ *   fire                       count, then x, y, ticks left, arms
+ *   player                     x, y, hp, invincibility ticks
+ *   power-ups                  count, then kind byte, remaining duration
+ *   controls                   held key count and codes, move delay,
+ *                              invincible frames, paused byte, pause selection
+ * </pre>
+ * The default 25x15 board with its enemies encodes to a few hundred bytes.
+ * The version byte is bumped whenever the layout changes; older snapshots
+ * are then rejected rather than misread.
+ *
+ * Decoding range-checks every field against what a match can hold (map
+ * size limits, cells on the board, fire burn times and so on), so a
+ * corrupt save is rejected up front instead of failing half way through
+ * {@link MatchState#restore}.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class SnapshotCodec {
+    /** Current layout version */
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = ('B' << 24) | ('Q' << 16) | ('S' << 8) | 'V';
+
+    private ByteBuffer buffer;
+
+    public SnapshotCodec() {
+        this(4096);
+    }
+
+    /**
+     * @param initialCapacity Starting buffer size in bytes
+     */
+    public SnapshotCodec(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    /**
+     * Copies the current match and encodes it.
+     *
+     * @param gm Game to save
+     * @return The codec's buffer holding the snapshot between position and limit;
+     *         valid until the next call
+     */
+    public ByteBuffer encode(GameManager gm) {
+        return encode(MatchState.capture(gm));
+    }
+
+    /**
+     * Encodes a match state.
+     *
+     * @param s State to encode
+     * @return The codec's buffer holding the snapshot between position and limit;
+     *         valid until the next call
+     */
+    public ByteBuffer encode(MatchState s) {
+        buffer.clear();
+        ensure(32 + 2 * 10);
+        buffer.putInt(MAGIC);
+        buffer.put((byte) VERSION);
+        buffer.putLong(s.seed);
+        buffer.put((byte) s.difficulty.ordinal());
+        putInt(s.gridW);
+        putInt(s.gridH);
+        putLong(s.matchTicks);
+        putLong(s.elapsedMillis);
+
+        // Worst case is a run per tile: one code byte and a one-byte length
+        ensure(2 * s.gridW * s.gridH);
+        byte run = s.tiles.get(0, 0);
+        int runLength = 0;
+        for (int y = 0; y < s.gridH; y++) {
+            for (int x = 0; x < s.gridW; x++) {
+                byte code = s.tiles.get(x, y);
+                if (code != run) {
+                    buffer.put(run);
+                    putInt(runLength);
+                    run = code;
+                    runLength = 0;
+                }
+                runLength++;
+            }
+        }
+        ensure(6);
+        buffer.put(run);
+        putInt(runLength);
+
+        ensure(5);
+        putInt(s.enemyCount);
+        for (int i = 0; i < s.enemyCount; i++) {
+            int o = i * MatchState.ENEMY_FIELDS;
+            int[] path = s.enemyPaths[i];
+            ensure(5 * (MatchState.ENEMY_FIELDS + path.length));
+            for (int f = 0; f < MatchState.ENEMY_FIELDS; f++) putInt(s.enemyData[o + f]);
+            for (int cell : path) putInt(cell);
+        }
+
+        putInts(s.bombData, 4);
+        putInts(s.fireData, 4);
+
+        ensure(5 * 5 + 6 * s.powerUpKinds.length);
+        putInt(s.playerX);
+        putInt(s.playerY);
+        putInt(s.playerHp);
+        putInt(s.playerInvincibleTimer);
+        putInt(s.powerUpKinds.length);
+        for (int i = 0; i < s.powerUpKinds.length; i++) {
+            buffer.put((byte) s.powerUpKinds[i]);
+            putInt(s.powerUpDurations[i]);
+        }
+
+        ensure(5 * (s.heldKeys.length + 4) + 1);
+        putInt(s.heldKeys.length);
+        for (int key : s.heldKeys) putInt(key);
+        putInt(s.moveDelay);
+        putInt(s.invincibleFrames);
+        buffer.put((byte) (s.paused ? 1 : 0));
+        putInt(s.pauseSelection);
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes a snapshot, reading from the buffer's position up to its limit.
+     *
+     * @param in Buffer holding a snapshot
+     * @return The decoded state
+     * @throws IOException if the data is not a snapshot of this version, is
+     *         truncated, or holds a value the match cannot take; a decoded
+     *         state always restores
+     */
+    public static MatchState decode(ByteBuffer in) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("Not a snapshot");
+            int version = in.get() & 0xFF;
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+
+            MatchState s = new MatchState();
+            s.seed = in.getLong();
+            int difficultyIndex = in.get() & 0xFF;
+            SettingsManager.Difficulty[] difficulties = SettingsManager.Difficulty.values();
+            if (difficultyIndex >= difficulties.length) throw new IOException("Unknown difficulty " + difficultyIndex);
+            s.difficulty = difficulties[difficultyIndex];
+            s.gridW = getInt(in);
+            s.gridH = getInt(in);
+            if (s.gridW < GameManager.MIN_GRID_SIZE || s.gridW > GameManager.MAX_GRID_SIZE
+                    || s.gridH < GameManager.MIN_GRID_SIZE || s.gridH > GameManager.MAX_GRID_SIZE) {
+                throw new IOException("Bad map size " + s.gridW + "x" + s.gridH);
+            }
+            s.matchTicks = getLong(in);
+            s.elapsedMillis = getLong(in);
+            check(s.matchTicks >= 0, "match ticks", s.matchTicks);
+
+            s.tiles = new TileMap(s.gridW, s.gridH);
+            int cells = s.gridW * s.gridH;
+            int cell = 0;
+            while (cell < cells) {
+                byte code = in.get();
+                int runLength = getInt(in);
+                if (runLength < 1 || runLength > cells - cell) throw new IOException("Bad tile run");
+                if (code != TileMap.EMPTY) {
+                    for (int c = cell; c < cell + runLength; c++) {
+                        s.tiles.placeWall(c % s.gridW, c / s.gridW, code == TileMap.SOFT);
+                    }
+                }
+                cell += runLength;
+            }
+
+            s.enemyCount = getCount(in, MatchState.ENEMY_FIELDS);
+            s.enemyData = new int[s.enemyCount * MatchState.ENEMY_FIELDS];
+            s.enemyPaths = new int[s.enemyCount][];
+            for (int i = 0; i < s.enemyCount; i++) {
+                int o = i * MatchState.ENEMY_FIELDS;
+                for (int f = 0; f < MatchState.ENEMY_FIELDS; f++) s.enemyData[o + f] = getInt(in);
+                checkCell(s, s.enemyData[o], s.enemyData[o + 1], "enemy");
+                check(s.enemyData[o + 2] >= 0 && s.enemyData[o + 2] < Enemy.HUE_BUCKETS, "enemy hue", s.enemyData[o + 2]);
+                check(s.enemyData[o + 3] >= 0, "enemy move timer", s.enemyData[o + 3]);
+                check(s.enemyData[o + 4] >= 0, "enemy path timer", s.enemyData[o + 4]);
+                int aiMode = s.enemyData[o + 7];
+                if (aiMode < 0 || aiMode >= MatchState.AI_MODES.length) throw new IOException("Unknown AI mode " + aiMode);
+                int length = s.enemyData[o + 5];
+                if (length < 0 || length > in.remaining()) throw new IOException("Bad path length " + length);
+                int cursor = s.enemyData[o + 6];
+                check(cursor >= 0 && (cursor < length || cursor == 0), "enemy path cursor", cursor);
+                int[] path = new int[length];
+                for (int j = 0; j < length; j++) {
+                    path[j] = getInt(in);
+                    check(path[j] >= 0 && path[j] < cells, "enemy path cell", path[j]);
+                }
+                s.enemyPaths[i] = path;
+            }
+
+            s.bombData = getInts(in, 4);
+            for (int i = 0; i < s.bombData.length; i += 4) {
+                checkCell(s, s.bombData[i], s.bombData[i + 1], "bomb");
+                check(s.bombData[i + 2] >= 1, "bomb radius", s.bombData[i + 2]);
+                check(s.bombData[i + 3] >= 0, "bomb timer", s.bombData[i + 3]);
+            }
+            s.fireData = getInts(in, 4);
+            for (int i = 0; i < s.fireData.length; i += 4) {
+                checkCell(s, s.fireData[i], s.fireData[i + 1], "fire");
+                check(s.fireData[i + 2] >= 1 && s.fireData[i + 2] <= FireField.DURATION, "fire ticks left", s.fireData[i + 2]);
+                check(s.fireData[i + 3] >= 0 && s.fireData[i + 3] < FireField.ARM_SHAPES, "fire arms", s.fireData[i + 3]);
+            }
+
+            s.playerX = getInt(in);
+            s.playerY = getInt(in);
+            checkCell(s, s.playerX, s.playerY, "player");
+            s.playerHp = getInt(in);
+            check(s.playerHp >= 0, "player HP", s.playerHp);
+            s.playerInvincibleTimer = getInt(in);
+            check(s.playerInvincibleTimer >= 0, "player invincibility", s.playerInvincibleTimer);
+            int powerUps = getCount(in, 2);
+            s.powerUpKinds = new int[powerUps];
+            s.powerUpDurations = new int[powerUps];
+            for (int i = 0; i < powerUps; i++) {
+                s.powerUpKinds[i] = in.get() & 0xFF;
+                s.powerUpDurations[i] = getInt(in);
+                MatchState.newPowerUp(s.powerUpKinds[i]); // Rejects unknown kinds
+                check(s.powerUpDurations[i] >= 0, "power-up duration", s.powerUpDurations[i]);
+            }
+
+            s.heldKeys = new int[getCount(in, 1)];
+            for (int i = 0; i < s.heldKeys.length; i++) s.heldKeys[i] = getInt(in);
+            s.moveDelay = getInt(in);
+            check(s.moveDelay >= 0, "move delay", s.moveDelay);
+            s.invincibleFrames = getInt(in);
+            check(s.invincibleFrames >= 0, "invincible frames", s.invincibleFrames);
+            s.paused = in.get() != 0;
+            s.pauseSelection = getInt(in);
+            check(s.pauseSelection >= 0 && s.pauseSelection < PlayingState.PAUSE_OPTION_COUNT, "pause selection", s.pauseSelection);
+            return s;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated snapshot", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rejects a field value outside the range a match can hold.
+     */
+    private static void check(boolean inRange, String field, long value) throws IOException {
+        if (!inRange) throw new IOException("Bad " + field + " " + value);
+    }
+
+    private static void checkCell(MatchState s, int x, int y, String what) throws IOException {
+        if (x < 0 || x >= s.gridW || y < 0 || y >= s.gridH) throw new IOException("Bad " + what + " position " + x + "," + y);
+    }
+
+    /**
+     * Makes room for at least the given number of further bytes.
+     */
+    private void ensure(int bytes) {
+        if (buffer.remaining() >= bytes) return;
+        int capacity = buffer.capacity();
+        while (capacity - buffer.position() < bytes) capacity *= 2;
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+
+    private void putInts(int[] values, int fields) {
+        ensure(5 + 5 * values.length);
+        putInt(values.length / fields);
+        for (int v : values) putInt(v);
+    }
+
+    private void putInt(int value) {
+        putLong(value);
+    }
+
+    private void putLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        buffer.put((byte) zigzag);
+    }
+
+    private static int[] getInts(ByteBuffer in, int fields) throws IOException {
+        int[] values = new int[getCount(in, fields) * fields];
+        for (int i = 0; i < values.length; i++) values[i] = getInt(in);
+        return values;
+    }
+
+    /**
+     * Reads an element count, rejecting counts the remaining bytes cannot hold.
+     */
+    private static int getCount(ByteBuffer in, int minBytesEach) throws IOException {
+        int count = getInt(in);
+        if (count < 0 || (long) count * minBytesEach > in.remaining()) throw new IOException("Bad count " + count);
+        return count;
+    }
+
+    private static int getInt(ByteBuffer in) throws IOException {
+        long value = getLong(in);
+        if (value != (int) value) throw new IOException("Value out of range: " + value);
+        return (int) value;
+    }
+
+    private static long getLong(ByteBuffer in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        throw new IOException("Malformed varint");
+    }
+}
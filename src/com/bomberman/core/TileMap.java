@@ -0,0 +1,231 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.GameObject;
+import com.bomberman.entities.Wall;
+import com.bomberman.utils.ChunkLayout;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Board terrain stored as one byte per tile.
+ *
+ * Collision, wall destruction and blast propagation read a single byte
+ * instead of scanning a list of walls. The bytes live in chunks of
+ * {@link ChunkLayout#CHUNK_SIZE} x {@link ChunkLayout#CHUNK_SIZE} tiles that are
+ * allocated on the first wall placed in them, either on the Java heap or,
+ * for very large maps, off-heap in direct buffers. An unallocated chunk reads
+ * as empty floor.
+ *
+ * No object is kept per tile: {@link #getWall(int, int)} and
+ * {@link #getWalls()} build {@link Wall} objects on demand for callers that
+ * still need them.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class TileMap {
+    /** Walkable floor */
+    public static final byte EMPTY = 0;
+    /** Indestructible block */
+    public static final byte HARD = 1;
+    /** Destructible brick wall */
+    public static final byte SOFT = 2;
+
+    private final ChunkLayout layout;
+    private final boolean offHeap;
+    private final ByteBuffer[] chunks;
+    private int wallCount = 0;
+
+    /**
+     * Creates an empty map with heap storage.
+     *
+     * @param width Board width in tiles
+     * @param height Board height in tiles
+     */
+    public TileMap(int width, int height) {
+        this(width, height, false);
+    }
+
+    /**
+     * Creates an empty map.
+     *
+     * @param width Board width in tiles
+     * @param height Board height in tiles
+     * @param offHeap true to keep the tiles in direct buffers outside the Java heap
+     */
+    public TileMap(int width, int height, boolean offHeap) {
+        this.layout = new ChunkLayout(width, height);
+        this.offHeap = offHeap;
+        this.chunks = new ByteBuffer[layout.getChunkCount()];
+    }
+
+    public int getWidth() { return layout.getWidth(); }
+    public int getHeight() { return layout.getHeight(); }
+    public boolean isOffHeap() { return offHeap; }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if the coordinates are on the board
+     */
+    public boolean inBounds(int x, int y) {
+        return layout.inBounds(x, y);
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return Tile code; tiles outside the board read as {@link #HARD}
+     */
+    public byte get(int x, int y) {
+        if (!layout.inBounds(x, y)) return HARD;
+        ByteBuffer chunk = chunks[layout.chunkOf(x, y)];
+        return chunk == null ? EMPTY : chunk.get(ChunkLayout.cellOf(x, y));
+    }
+
+    /**
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if a wall occupies the tile or it is off the board
+     */
+    public boolean isBlocked(int x, int y) {
+        return get(x, y) != EMPTY;
+    }
+
+    /**
+     * Builds a wall object for a tile; a new object is returned on every call.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return Wall on the tile, or null if it is empty or off the board
+     */
+    public Wall getWall(int x, int y) {
+        if (!layout.inBounds(x, y)) return null;
+        byte code = get(x, y);
+        if (code == EMPTY) return null;
+        return (Wall) EntityFactory.createWall(x, y, code == HARD);
+    }
+
+    /**
+     * Places a wall, replacing whatever was on the tile.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @param destructible true for a soft wall, false for a hard one
+     */
+    public void placeWall(int x, int y, boolean destructible) {
+        if (!layout.inBounds(x, y)) return;
+        int c = layout.chunkOf(x, y);
+        ByteBuffer chunk = chunks[c];
+        if (chunk == null) {
+            chunk = offHeap ? ByteBuffer.allocateDirect(ChunkLayout.CHUNK_CELLS) : ByteBuffer.allocate(ChunkLayout.CHUNK_CELLS);
+            chunks[c] = chunk;
+        }
+        int cell = ChunkLayout.cellOf(x, y);
+        if (chunk.get(cell) == EMPTY) wallCount++;
+        chunk.put(cell, destructible ? SOFT : HARD);
+    }
+
+    /**
+     * Clears a tile.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     * @return true if a wall was removed
+     */
+    public boolean removeWall(int x, int y) {
+        if (!layout.inBounds(x, y)) return false;
+        ByteBuffer chunk = chunks[layout.chunkOf(x, y)];
+        if (chunk == null) return false;
+        int cell = ChunkLayout.cellOf(x, y);
+        if (chunk.get(cell) == EMPTY) return false;
+        chunk.put(cell, EMPTY);
+        wallCount--;
+        return true;
+    }
+
+    /**
+     * Empties the whole board. Allocated chunks are zeroed and kept for the next map.
+     */
+    public void clear() {
+        for (ByteBuffer chunk : chunks) {
+            if (chunk != null) zero(chunk);
+        }
+        wallCount = 0;
+    }
+
+    /**
+     * Replaces this map's contents with a copy of another map of the same size.
+     *
+     * @param other Map to copy
+     * @throws IllegalArgumentException if the sizes differ
+     */
+    public void copyFrom(TileMap other) {
+        if (other.getWidth() != getWidth() || other.getHeight() != getHeight()) {
+            throw new IllegalArgumentException("Tile map sizes differ");
+        }
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer source = other.chunks[c];
+            if (source == null) {
+                if (chunks[c] != null) zero(chunks[c]);
+                continue;
+            }
+            if (chunks[c] == null) {
+                chunks[c] = offHeap ? ByteBuffer.allocateDirect(ChunkLayout.CHUNK_CELLS) : ByteBuffer.allocate(ChunkLayout.CHUNK_CELLS);
+            }
+            chunks[c].put(0, source, 0, ChunkLayout.CHUNK_CELLS);
+        }
+        wallCount = other.wallCount;
+    }
+
+    /**
+     * @return Number of tiles holding a wall
+     */
+    public int getWallCount() {
+        return wallCount;
+    }
+
+    /**
+     * @return Number of chunks that have storage allocated
+     */
+    public int getAllocatedChunks() {
+        int count = 0;
+        for (ByteBuffer chunk : chunks) {
+            if (chunk != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Builds a read-only snapshot of every wall as an object. This visits every
+     * allocated tile and creates one object per wall, so it is meant for small
+     * boards and tests, not for per-frame use.
+     *
+     * @return Read-only list of wall objects
+     */
+    public List<GameObject> getWalls() {
+        List<GameObject> walls = new ArrayList<>(wallCount);
+        for (int c = 0; c < chunks.length; c++) {
+            ByteBuffer chunk = chunks[c];
+            if (chunk == null) continue;
+            int left = layout.chunkLeft(c);
+            int top = layout.chunkTop(c);
+            for (int cell = 0; cell < ChunkLayout.CHUNK_CELLS; cell++) {
+                byte code = chunk.get(cell);
+                if (code == EMPTY) continue;
+                int x = left + (cell & (ChunkLayout.CHUNK_SIZE - 1));
+                int y = top + (cell >> ChunkLayout.CHUNK_SHIFT);
+                walls.add(EntityFactory.createWall(x, y, code == HARD));
+            }
+        }
+        return Collections.unmodifiableList(walls);
+    }
+
+    private static void zero(ByteBuffer chunk) {
+        for (int i = 0; i < ChunkLayout.CHUNK_CELLS; i += Long.BYTES) {
+            chunk.putLong(i, 0L);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.bomberman.states.GameState;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RadialGradientPaint;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 public class TransitionManager {
     private static TransitionManager instance;
@@ -16,6 +19,24 @@ public class TransitionManager {
 
     private GameState toState;
     private boolean midTransition = false;
+
+    /** Black at every alpha level, so overlays never create colours per frame */
+    private static final Color[] BLACK_ALPHA = new Color[256];
+    static {
+        for (int a = 0; a < BLACK_ALPHA.length; a++) {
+            BLACK_ALPHA[a] = new Color(0, 0, 0, a);
+        }
+    }
+
+    /** Vignette paints for ZOOM_OUT, one per quantized alpha step, built for one screen size */
+    private static final int VIGNETTE_STEPS = 64;
+    private static final float[] VIGNETTE_FRACTIONS = {0.0f, 0.5f, 1.0f};
+    private final RadialGradientPaint[] vignettes = new RadialGradientPaint[VIGNETTE_STEPS + 1];
+    private int vignetteW = -1;
+    private int vignetteH = -1;
+
+    // Dissolve noise; screen effect only, so it stays outside the match seed
+    private final SplittableRandom dissolveRandom = new SplittableRandom();
     
     public enum TransitionType {
         FADE,
@@ -93,7 +114,7 @@ public class TransitionManager {
             alpha = (1.0f - progress) * 2.0f; // 1 to 0
         }
         
-        g2d.setColor(new Color(0, 0, 0, alpha));
+        g2d.setColor(blackAlpha(alpha));
         g2d.fillRect(0, 0, w, h);
     }
     
@@ -133,20 +154,38 @@ public class TransitionManager {
         }
         
         // Vignette effect
-        java.awt.RadialGradientPaint rgp = new java.awt.RadialGradientPaint(
-            w / 2.0f, h / 2.0f, 
-            Math.max(w, h) / 2.0f,
-            new float[]{0.0f, 0.5f, 1.0f},
-            new Color[]{
-                new Color(0, 0, 0, 0),
-                new Color(0, 0, 0, (int)(alpha * 100)),
-                new Color(0, 0, 0, (int)(alpha * 255))
-            }
-        );
-        g2d.setPaint(rgp);
+        g2d.setPaint(vignette(w, h, alpha));
         g2d.fillRect(0, 0, w, h);
     }
     
+    private static Color blackAlpha(float alpha) {
+        int a = Math.round(Math.max(0.0f, Math.min(1.0f, alpha)) * 255);
+        return BLACK_ALPHA[a];
+    }
+
+    private RadialGradientPaint vignette(int w, int h, float alpha) {
+        if (w != vignetteW || h != vignetteH) {
+            Arrays.fill(vignettes, null);
+            vignetteW = w;
+            vignetteH = h;
+        }
+        int step = Math.round(Math.max(0.0f, Math.min(1.0f, alpha)) * VIGNETTE_STEPS);
+        if (vignettes[step] == null) {
+            float a = (float) step / VIGNETTE_STEPS;
+            vignettes[step] = new RadialGradientPaint(
+                w / 2.0f, h / 2.0f,
+                Math.max(w, h) / 2.0f,
+                VIGNETTE_FRACTIONS,
+                new Color[]{
+                    BLACK_ALPHA[0],
+                    BLACK_ALPHA[(int) (a * 100)],
+                    BLACK_ALPHA[(int) (a * 255)]
+                }
+            );
+        }
+        return vignettes[step];
+    }
+    
     private void renderDissolve(Graphics2D g2d, int w, int h, float progress) {
         // Pixelated dissolve effect
         int blockSize = 20;
@@ -157,11 +196,11 @@ public class TransitionManager {
             alpha = (1.0f - progress) * 2.0f;
         }
         
-        g2d.setColor(new Color(0, 0, 0, alpha * 0.8f));
+        g2d.setColor(blackAlpha(alpha * 0.8f));
         
         for (int y = 0; y < h; y += blockSize) {
             for (int x = 0; x < w; x += blockSize) {
-                if (Math.random() < alpha) {
+                if (dissolveRandom.nextDouble() < alpha) {
                     g2d.fillRect(x, y, blockSize, blockSize);
                 }
             }
@@ -1,9 +1,11 @@
 package com.bomberman.entities;
 
+import com.bomberman.render.SpriteAtlas;
 import java.awt.Color;
 import java.awt.Graphics2D;
 
 public class Bomb extends GameObject {
+    private static final Color FUSE_COLOR = new Color(200, 100, 0); // Brownish
     private int timer = 120; // 2 seconds at 60fps (was too fast)
     private int radius;
 
@@ -13,6 +15,19 @@ public class Bomb extends GameObject {
         this.color = Color.BLACK;
     }
 
+    /**
+     * Creates a bomb part way through its fuse, as when restoring a saved match.
+     *
+     * @param x Grid X coordinate
+     * @param y Grid Y coordinate
+     * @param radius Blast radius
+     * @param timer Ticks left before it explodes
+     */
+    public Bomb(int x, int y, int radius, int timer) {
+        this(x, y, radius);
+        this.timer = timer;
+    }
+
     @Override
     public void update() {
         timer--;
@@ -21,13 +36,48 @@ public class Bomb extends GameObject {
         }
     }
 
+    /**
+     * Sets the bomb off immediately, e.g. when fire reaches it.
+     */
+    public void detonate() {
+        timer = 0;
+        this.active = false;
+    }
+
+    /**
+     * @return Current animation frame: bit 0 = pulse, bit 1 = spark
+     */
+    public int getFrame() {
+        return (timer % 20 < 10 ? 1 : 0) | (timer % 10 < 5 ? 2 : 0);
+    }
+
     @Override
     public void render(Graphics2D g, int tileSize) {
-        int px = x * tileSize;
-        int py = y * tileSize;
+        int frame = getFrame();
+        boolean pulse = (frame & 1) != 0;
+        boolean spark = (frame & 2) != 0;
 
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        if (atlas.isReady(tileSize)) {
+            atlas.draw(g, atlas.getBomb(pulse, spark), x * tileSize, y * tileSize);
+        } else {
+            paint(g, x * tileSize, y * tileSize, tileSize, pulse, spark);
+        }
+    }
+
+    /**
+     * Draws a bomb with primitives; used to rasterize the sprite atlas.
+     *
+     * @param g Graphics context
+     * @param px Left edge of the tile
+     * @param py Top edge of the tile
+     * @param tileSize Tile size in pixels
+     * @param pulse Whether the body is in its enlarged pulse frame
+     * @param spark Whether the fuse spark is lit
+     */
+    public static void paint(Graphics2D g, int px, int py, int tileSize, boolean pulse, boolean spark) {
         // Pulsating effect
-        int offset = (timer % 20 < 10) ? 4 : 0;
+        int offset = pulse ? 4 : 0;
 
         // Bomb Body
         g.setColor(Color.BLACK);
@@ -38,11 +88,11 @@ public class Bomb extends GameObject {
         g.fillOval(px + 10, py + 10, tileSize/4, tileSize/4);
 
         // Fuse
-        g.setColor(new Color(200, 100, 0)); // Brownish
+        g.setColor(FUSE_COLOR);
         g.fillRect(px + tileSize/2 - 2, py, 4, 6);
         
         // Spark
-        if (timer % 10 < 5) {
+        if (spark) {
             g.setColor(Color.YELLOW);
             g.drawLine(px + tileSize/2, py, px + tileSize/2 - 4, py - 4);
             g.drawLine(px + tileSize/2, py, px + tileSize/2 + 4, py - 4);
@@ -53,4 +103,11 @@ public class Bomb extends GameObject {
     public int getRadius() {
         return radius;
     }
+
+    /**
+     * @return Ticks left before the bomb explodes
+     */
+    public int getTimer() {
+        return timer;
+    }
 }
@@ -1,203 +1,159 @@
 package com.bomberman.entities;
 
-import com.bomberman.core.GameManager;
-import com.bomberman.managers.SettingsManager;
-import com.bomberman.utils.Pathfinding;
+import com.bomberman.core.TileMap;
+import com.bomberman.render.SpriteAtlas;
+import com.bomberman.utils.CellIndex;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Enemy entity with advanced A* pathfinding AI.
- * Intelligently hunts the player using optimal path calculation.
+ * Enemy entity that hunts the player, either down the flow field shared by
+ * the pack or along an A* path of its own (see {@link AiMode}).
+ *
+ * An enemy in a match is a view of one slot in an {@link EnemyStore}, which
+ * holds its position, timers, path and hue. Outside a store (new, or removed
+ * from the match) it is detached and keeps its position, hue, move timer and
+ * AI mode in fields of its own.
  * 
  * @author BomberQuest Team
  * @version 2.0 - Enhanced AI
  */
 public class Enemy extends GameObject {
-    private int moveTimer = 0;
-    private int moveInterval = 30;
-    private List<int[]> currentPath = null;
-    private int pathRecalculateTimer = 0;
-    private static final int PATH_RECALCULATE_INTERVAL = 10; // Recalculate path every 10 frames
+    /** How an enemy finds its way to the player */
+    public enum AiMode {
+        /** Steps down the distance field the game keeps towards the player, shared by all such enemies */
+        FLOW_FIELD,
+        /** Searches and follows a path of its own, for enemies that should not move as the pack does */
+        A_STAR
+    }
+
+    /** Number of distinct body hues; one pre-rasterized sprite exists per bucket */
+    public static final int HUE_BUCKETS = 32;
+    private static final Color[] HUE_COLORS = new Color[HUE_BUCKETS];
+    static {
+        for (int i = 0; i < HUE_BUCKETS; i++) {
+            HUE_COLORS[i] = Color.getHSBColor((float) i / HUE_BUCKETS, 0.7f, 0.6f);
+        }
+    }
+
+    private static final Color SHINE_COLOR = new Color(255, 255, 255, 100);
+    private static final int[] MOUTH_X = {12, 16, 20, 24, 28};
+    private static final int[] MOUTH_Y = {32, 28, 32, 28, 32};
+
+    /** Store holding this enemy's state, or null while detached; maintained by the store */
+    EnemyStore store;
+    /** Slot in the store; maintained by the store */
+    int slot;
+
+    // Detached state, used only while store is null
+    int hue;
+    int moveTimer;
+    AiMode aiMode = AiMode.FLOW_FIELD;
 
     /**
-     * Creates a new enemy at the specified position.
+     * Creates a new, detached enemy at the specified position.
      * 
      * @param x Grid X coordinate
      * @param y Grid Y coordinate
      */
     public Enemy(int x, int y) {
         super(x, y);
-        // Random color for each enemy
-        float hue = new Random().nextFloat();
-        this.color = Color.getHSBColor(hue, 0.7f, 0.6f);
-        
-        // Adjust speed based on difficulty
-        updateMoveInterval();
+        // Random colour for each enemy, quantized to a sprite hue bucket
+        this.hue = ThreadLocalRandom.current().nextInt(HUE_BUCKETS);
+    }
+
+    /**
+     * Creates an unattached view; the store fills in its slot.
+     */
+    Enemy(EnemyStore store) {
+        super(0, 0);
+        this.store = store;
+    }
+
+    @Override
+    public int getX() { return store == null ? x : store.getX(slot); }
+
+    @Override
+    public int getY() { return store == null ? y : store.getY(slot); }
+
+    public AiMode getAiMode() { return store == null ? aiMode : store.getAiMode(slot); }
+
+    /**
+     * @param mode How this enemy finds its way from its next move on
+     */
+    public void setAiMode(AiMode mode) {
+        if (store == null) aiMode = mode;
+        else store.setAiMode(slot, mode);
     }
 
     /**
      * Advanced AI: Perfect pathfinding to hunt player.
-     * Uses A* algorithm for optimal path calculation.
+     * Moving on its own there is no shared flow field, so this always uses
+     * the A* path.
      * 
-     * @param walls List of wall objects
-     * @param enemies List of enemy objects
-     * @param bombs List of bomb objects
+     * @param tiles Board terrain
+     * @param enemies Enemy positions
+     * @param bombs Bomb positions
      * @param player Player object to hunt
      * @param gridW Grid width
      * @param gridH Grid height
      */
-    public void tryMove(List<GameObject> walls, List<GameObject> enemies, List<GameObject> bombs, 
+    public void tryMove(TileMap tiles, CellIndex<Enemy> enemies, CellIndex<Bomb> bombs, 
                         Player player, int gridW, int gridH) {
-        if (moveTimer > 0) {
-            moveTimer--;
-            return;
-        }
-        
-        updateMoveInterval(); // Refresh interval based on difficulty
-        moveTimer = moveInterval;
-        pathRecalculateTimer--;
-
-        // Recalculate path periodically or if no path exists
-        if (currentPath == null || pathRecalculateTimer <= 0 || currentPath.isEmpty()) {
-            calculatePathToPlayer(walls, enemies, bombs, player, gridW, gridH);
-            pathRecalculateTimer = PATH_RECALCULATE_INTERVAL;
-        }
-
-        // Follow calculated path
-        if (currentPath != null && currentPath.size() > 1) {
-            // Remove current position (first element)
-            currentPath.remove(0);
-            
-            if (!currentPath.isEmpty()) {
-                int[] nextPos = currentPath.get(0);
-                int nx = nextPos[0];
-                int ny = nextPos[1];
-                
-                // Verify move is still valid (in case map changed)
-                if (isValidMove(nx, ny, walls, enemies, bombs, gridW, gridH)) {
-                    x = nx;
-                    y = ny;
-                } else {
-                    // Path blocked, recalculate immediately
-                    currentPath = null;
-                    pathRecalculateTimer = 0;
-                }
-            }
-        } else {
-            // Fallback: try any valid move towards player (greedy)
-            tryGreedyMove(walls, enemies, bombs, player, gridW, gridH);
-        }
+        // Only an enemy driven outside any match needs a store of its own for its path
+        if (store == null) new EnemyStore(1).add(this);
+        store.tryMove(slot, tiles, enemies, bombs, player, gridW, gridH);
     }
 
     /**
-     * Calculates optimal path to player using A* algorithm.
+     * Gets the body hue bucket of this enemy.
+     *
+     * @return Index in [0, {@link #HUE_BUCKETS})
      */
-    private void calculatePathToPlayer(List<GameObject> walls, List<GameObject> enemies, 
-                                      List<GameObject> bombs, Player player, int gridW, int gridH) {
-        // Create walkable checker lambda
-        Pathfinding.WalkableChecker checker = (tx, ty) -> isValidMove(tx, ty, walls, enemies, bombs, gridW, gridH);
-
-        // Find path using A* algorithm
-        currentPath = Pathfinding.findPath(
-            this.x, this.y,
-            player.getX(), player.getY(),
-            gridW, gridH,
-            checker
-        );
+    public int getHueIndex() {
+        return store == null ? hue : store.getHueIndex(slot);
     }
 
     /**
-     * Fallback greedy movement when pathfinding fails.
+     * Gets the body colour of a hue bucket.
+     *
+     * @param hueIndex Bucket index in [0, {@link #HUE_BUCKETS})
+     * @return Body colour
      */
-    private void tryGreedyMove(List<GameObject> walls, List<GameObject> enemies, 
-                              List<GameObject> bombs, Player player, int gridW, int gridH) {
-        int bestDirIndex = -1;
-        double minDistance = Double.MAX_VALUE;
-        int[][] dirs = { {0, -1}, {0, 1}, {-1, 0}, {1, 0} }; // Up, Down, Left, Right
-
-        // Find best direction towards player
-        for (int i = 0; i < 4; i++) {
-            int nx = x + dirs[i][0];
-            int ny = y + dirs[i][1];
-
-            if (isValidMove(nx, ny, walls, enemies, bombs, gridW, gridH)) {
-                double dist = Math.pow((double) nx - player.getX(), 2) + Math.pow((double) ny - player.getY(), 2);
-                if (dist < minDistance) {
-                    minDistance = dist;
-                    bestDirIndex = i;
-                }
-            }
-        }
-
-        // Move in best direction
-        if (bestDirIndex != -1) {
-            x += dirs[bestDirIndex][0];
-            y += dirs[bestDirIndex][1];
-        }
+    public static Color hueColor(int hueIndex) {
+        return HUE_COLORS[hueIndex];
     }
 
-    /**
-     * Updates move interval based on current difficulty.
-     */
-    private void updateMoveInterval() {
-        SettingsManager.Difficulty diff = GameManager.getInstance().getDifficulty();
-        switch (diff) {
-            case EASY:   moveInterval = 45; break; // Slower
-            case MEDIUM: moveInterval = 25; break; // Faster than before
-            case HARD:   moveInterval = 10; break; // Very fast
-            default:     moveInterval = 25; break;
+    @Override
+    public void render(Graphics2D g, int tileSize) {
+        int hueIndex = getHueIndex();
+        int px = getX() * tileSize;
+        int py = getY() * tileSize;
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        if (atlas.isReady(tileSize)) {
+            atlas.draw(g, atlas.getEnemy(hueIndex), px, py);
+        } else {
+            paint(g, px, py, tileSize, HUE_COLORS[hueIndex]);
         }
     }
 
     /**
-     * Checks if a move to the specified position is valid.
-     * 
-     * @param tx Target X coordinate
-     * @param ty Target Y coordinate
-     * @param walls List of walls
-     * @param enemies List of enemies
-     * @param bombs List of bombs
-     * @param w Grid width
-     * @param h Grid height
-     * @return true if move is valid, false otherwise
+     * Draws an enemy with primitives; used to rasterize the sprite atlas.
+     *
+     * @param g Graphics context
+     * @param px Left edge of the tile
+     * @param py Top edge of the tile
+     * @param tileSize Tile size in pixels
+     * @param body Body colour
      */
-    private boolean isValidMove(int tx, int ty, List<GameObject> walls, List<GameObject> enemies, 
-                               List<GameObject> bombs, int w, int h) {
-        // Check boundaries and walls
-        if (!GameManager.isValidMove(tx, ty, w, h, walls))
-            return false;
-
-        // Check against other enemies (don't overlap)
-        for (GameObject obj : enemies) {
-            Enemy other = (Enemy) obj;
-            if (!(obj instanceof Enemy) || other.getX() == this.x && other.getY() == this.y) continue;
-            if (other.getX() == tx && other.getY() == ty)
-                return false;
-        }
-
-        // Check against bombs
-        for (GameObject b : bombs) {
-            if (b.getX() == tx && b.getY() == ty)
-                return false;
-        }
-
-        return true;
-    }
-
-    @Override
-    public void render(Graphics2D g, int tileSize) {
-        int px = x * tileSize;
-        int py = y * tileSize;
-        
+    public static void paint(Graphics2D g, int px, int py, int tileSize, Color body) {
         // Retro Balloon-like Enemy with aggressive look
-        g.setColor(this.color);
+        g.setColor(body);
         g.fillOval(px + 4, py + 4, tileSize - 8, tileSize - 8);
         
         // Shine
-        g.setColor(new Color(255, 255, 255, 100));
+        g.setColor(SHINE_COLOR);
         g.fillOval(px + 8, py + 8, tileSize/4, tileSize/4);
         
         // Angry eyes (red)
@@ -207,7 +163,8 @@ public class Enemy extends GameObject {
         
         // Aggressive mouth
         g.setColor(Color.BLACK);
-        g.drawPolyline(new int[]{px + 12, px + 16, px + 20, px + 24, px + 28}, 
-                       new int[]{py + 32, py + 28, py + 32, py + 28, py + 32}, 5);
+        g.translate(px, py);
+        g.drawPolyline(MOUTH_X, MOUTH_Y, MOUTH_X.length);
+        g.translate(-px, -py);
     }
 }
@@ -0,0 +1,916 @@
+package com.bomberman.entities;
+
+import com.bomberman.core.DangerMap;
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.utils.CellChangeLog;
+import com.bomberman.utils.CellIndex;
+import com.bomberman.utils.FlowField;
+import com.bomberman.utils.GridPathfinder;
+import com.bomberman.utils.IncrementalPathfinder;
+import com.bomberman.utils.PathCache;
+import com.bomberman.utils.Pathfinding;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Enemy state kept in parallel primitive arrays, one slot per enemy.
+ *
+ * Positions, move and path timers, the current path with its cursor and the
+ * body hue live in arrays indexed by slot, so the per-tick loop walks plain
+ * arrays instead of chasing one heap object per enemy. Each slot also has an
+ * {@link Enemy} view that reads and writes the arrays; views are what the cell
+ * index, the renderer and the rest of the game hold on to. Removing an enemy
+ * moves the last slot into the hole, and that enemy's view follows it.
+ *
+ * A tick runs in two phases: {@link #planAll} decides every enemy's next
+ * cell from the positions at the start of the tick, optionally in parallel,
+ * then {@link #commit} applies the moves one slot at a time in slot order.
+ * The outcome does not depend on how planning was split across threads.
+ *
+ * Enemies in {@link Enemy.AiMode#FLOW_FIELD} mode, the default, step down a
+ * distance field towards the player that the whole tick shares; enemies in
+ * {@link Enemy.AiMode#A_STAR} mode search their own path. Matches above EASY
+ * spawn some of those as hunters (see {@link GameManager#HUNTER_EVERY}). When the tick view
+ * carries the game's log of wall and bomb changes, each A* enemy keeps an
+ * {@link IncrementalPathfinder} that is repaired move by move instead of
+ * searched again (on a walled board, a search starting over takes a jump
+ * point search's path instead), and the store keeps a {@link PathCache} of their recent
+ * paths so enemies standing on one another's path do not search at all.
+ * Both are caches, not match state: after a restore they start over, and
+ * where shortest paths tie an enemy may pick another one.
+ *
+ * With a {@link DangerMap} in the view, paths keep out of every lane a live
+ * bomb's blast is due to sweep, and no step, on a path or not, enters a cell
+ * that fire will reach before the enemy's next move.
+ *
+ * Every enemy belongs to exactly one store: a new {@link Enemy} gets a store
+ * of its own, and {@link #add(Enemy)} moves it into a shared one.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class EnemyStore {
+    /** Moves between path recalculations */
+    static final int PATH_RECALCULATE_INTERVAL = 10;
+    /** Slots planned per fork-join task */
+    static final int PLAN_BATCH = 256;
+    /** Paths kept in the shared path cache */
+    static final int PATH_CACHE_CAPACITY = 256;
+
+    private static final int[][] DIRS = { {0, -1}, {0, 1}, {-1, 0}, {1, 0} }; // Up, Down, Left, Right
+    private static final byte FLOW_FIELD = (byte) Enemy.AiMode.FLOW_FIELD.ordinal();
+    // Where a slot's path came from this tick, settled with the path cache after planning
+    private static final byte PATH_KEPT = 0;
+    private static final byte PATH_CACHED = 1;
+    private static final byte PATH_SEARCHED = 2;
+    private static final byte PATH_JUMPED = 3;
+    private static final Enemy.AiMode[] AI_MODES = Enemy.AiMode.values();
+    private static final ThreadLocal<PathContext> PATH_CONTEXTS = ThreadLocal.withInitial(PathContext::new);
+
+    private int size = 0;
+    private Enemy[] views;
+    private int[] xs;
+    private int[] ys;
+    private int[] moveTimers;
+    private int[] pathTimers;
+    private byte[] hues;
+    private byte[] aiModes;
+    // Path cells packed as y * gridW + x; the cursor is the cell the enemy stands on
+    private int[][] paths;
+    private int[] pathLengths;
+    private int[] pathCursors;
+    // Cell each enemy plans to enter this tick, and whether the step is on its path
+    private int[] targetXs;
+    private int[] targetYs;
+    private boolean[] targetOnPath;
+    // Incremental search of A* enemies and the obstacle log version it has caught up to, -1 for none
+    private IncrementalPathfinder[] pathEngines;
+    private long[] engineVersions;
+    // Obstacle log version and player cell (y * gridW + x) a repaired path was found for, -1 for none
+    private long[] pathVersions;
+    private int[] pathGoals;
+    private byte[] pathSources;
+    private PathCache pathCache;
+    private long pathCacheVersion = -1;
+    private long jumpPointSearches = 0;
+    /** Walkability of every incremental search: terrain and bombs of the tick being planned */
+    private final ObstacleChecker obstacleChecker = new ObstacleChecker();
+
+    /**
+     * @param capacity Initial number of slots; the store grows as needed
+     */
+    public EnemyStore(int capacity) {
+        capacity = Math.max(capacity, 1);
+        views = new Enemy[capacity];
+        xs = new int[capacity];
+        ys = new int[capacity];
+        moveTimers = new int[capacity];
+        pathTimers = new int[capacity];
+        hues = new byte[capacity];
+        aiModes = new byte[capacity];
+        paths = new int[capacity][];
+        pathLengths = new int[capacity];
+        pathCursors = new int[capacity];
+        targetXs = new int[capacity];
+        targetYs = new int[capacity];
+        targetOnPath = new boolean[capacity];
+        pathEngines = new IncrementalPathfinder[capacity];
+        engineVersions = new long[capacity];
+        pathVersions = new long[capacity];
+        pathGoals = new int[capacity];
+        pathSources = new byte[capacity];
+    }
+
+    /**
+     * Creates an enemy directly in this store with a random hue that is not
+     * tied to any match seed.
+     *
+     * @param x Grid X coordinate
+     * @param y Grid Y coordinate
+     * @return View of the new enemy
+     */
+    public Enemy spawn(int x, int y) {
+        return spawn(x, y, ThreadLocalRandom.current().nextInt(Enemy.HUE_BUCKETS));
+    }
+
+    /**
+     * Creates an enemy directly in this store with a given body hue.
+     *
+     * @param x Grid X coordinate
+     * @param y Grid Y coordinate
+     * @param hueIndex Hue bucket in [0, {@link Enemy#HUE_BUCKETS})
+     * @return View of the new enemy
+     * @throws IllegalArgumentException if the hue bucket is out of range
+     */
+    public Enemy spawn(int x, int y, int hueIndex) {
+        if (hueIndex < 0 || hueIndex >= Enemy.HUE_BUCKETS) {
+            throw new IllegalArgumentException("Hue bucket out of range: " + hueIndex);
+        }
+        Enemy view = new Enemy(this);
+        insert(view, x, y, hueIndex, 0);
+        return view;
+    }
+
+    /**
+     * Creates an enemy with its full AI state, as when restoring a saved match.
+     *
+     * @param x Grid X coordinate
+     * @param y Grid Y coordinate
+     * @param hueIndex Hue bucket
+     * @param moveTimer Ticks until its next move
+     * @param pathTimer Moves until its path is recalculated
+     * @param path Path cells packed as y * gridW + x, or null for none
+     * @param pathLength Number of cells of the path in use
+     * @param pathCursor Index of the path cell the enemy stands on
+     * @param aiMode How the enemy finds its way
+     * @return View of the new enemy
+     */
+    public Enemy restore(int x, int y, int hueIndex, int moveTimer, int pathTimer,
+                         int[] path, int pathLength, int pathCursor, Enemy.AiMode aiMode) {
+        Enemy view = spawn(x, y, hueIndex);
+        int slot = view.slot;
+        aiModes[slot] = (byte) aiMode.ordinal();
+        moveTimers[slot] = moveTimer;
+        pathTimers[slot] = pathTimer;
+        if (pathLength > 0) {
+            if (paths[slot] == null || paths[slot].length < pathLength) paths[slot] = new int[pathLength];
+            System.arraycopy(path, 0, paths[slot], 0, pathLength);
+        }
+        pathLengths[slot] = pathLength;
+        pathCursors[slot] = pathCursor;
+        return view;
+    }
+
+    /**
+     * Moves an enemy into this store, keeping its position, hue, move timer
+     * and AI mode.
+     *
+     * @param enemy Enemy to take over
+     * @return false if it already belongs to this store
+     */
+    public boolean add(Enemy enemy) {
+        if (enemy.store == this) return false;
+        if (enemy.store != null) enemy.store.detach(enemy);
+        insert(enemy, enemy.x, enemy.y, enemy.hue, enemy.moveTimer);
+        aiModes[enemy.slot] = (byte) enemy.aiMode.ordinal();
+        return true;
+    }
+
+    /**
+     * Removes an enemy; it keeps its position, hue, move timer and AI mode
+     * in its own fields afterwards.
+     *
+     * @param enemy Enemy to remove
+     * @return false if it does not belong to this store
+     */
+    public boolean remove(Enemy enemy) {
+        if (enemy.store != this) return false;
+        detach(enemy);
+        return true;
+    }
+
+    /**
+     * Removes every enemy. The views are dropped along with their state.
+     */
+    public void clear() {
+        Arrays.fill(views, 0, size, null);
+        Arrays.fill(paths, 0, size, null);
+        Arrays.fill(pathEngines, 0, size, null);
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public Enemy view(int slot) { return views[slot]; }
+    public int getX(int slot) { return xs[slot]; }
+    public int getY(int slot) { return ys[slot]; }
+    public int getHueIndex(int slot) { return hues[slot]; }
+    public int getMoveTimer(int slot) { return moveTimers[slot]; }
+    public int getPathTimer(int slot) { return pathTimers[slot]; }
+    public int getPathLength(int slot) { return pathLengths[slot]; }
+    public int getPathCursor(int slot) { return pathCursors[slot]; }
+    public Enemy.AiMode getAiMode(int slot) { return AI_MODES[aiModes[slot]]; }
+    /** Cache of A* enemies' recent paths, or null before any has been planned with an obstacle log */
+    public PathCache getPathCache() { return pathCache; }
+    /** Searches A* enemies started over with jump point search instead of their incremental search */
+    public long getJumpPointSearches() { return jumpPointSearches; }
+
+    /**
+     * @param slot Enemy slot
+     * @param mode How the enemy finds its way from its next move on
+     */
+    public void setAiMode(int slot, Enemy.AiMode mode) {
+        aiModes[slot] = (byte) mode.ordinal();
+        engineVersions[slot] = -1;
+        pathVersions[slot] = -1;
+        pathLengths[slot] = 0;
+        pathCursors[slot] = 0;
+        pathTimers[slot] = 0;
+    }
+
+    /**
+     * @param slot Enemy slot
+     * @param i Index along the path, below {@link #getPathLength(int)}
+     * @return Path cell packed as y * gridW + x
+     */
+    public int getPathCell(int slot, int i) { return paths[slot][i]; }
+
+    /**
+     * Inputs of one AI tick, shared read-only by every planning thread. The
+     * map and indexes are not copied: nothing may change them between
+     * {@link #planAll} and the commits that follow it.
+     */
+    public static final class TickView {
+        final TileMap tiles;
+        final CellIndex<Enemy> enemies;
+        final CellIndex<Bomb> bombs;
+        final int playerX;
+        final int playerY;
+        final int gridW;
+        final int gridH;
+        final int moveInterval;
+        final FlowField flowField;
+        final CellChangeLog obstacles;
+        final DangerMap danger;
+
+        /**
+         * A view without a flow field; every enemy searches its own path.
+         *
+         * @param tiles Board terrain
+         * @param enemies Enemy positions at the start of the tick
+         * @param bombs Bomb positions
+         * @param playerX Player X coordinate
+         * @param playerY Player Y coordinate
+         * @param gridW Grid width
+         * @param gridH Grid height
+         * @param moveInterval Ticks between enemy moves
+         */
+        public TickView(TileMap tiles, CellIndex<Enemy> enemies, CellIndex<Bomb> bombs,
+                        int playerX, int playerY, int gridW, int gridH, int moveInterval) {
+            this.tiles = tiles;
+            this.enemies = enemies;
+            this.bombs = bombs;
+            this.playerX = playerX;
+            this.playerY = playerY;
+            this.gridW = gridW;
+            this.gridH = gridH;
+            this.moveInterval = moveInterval;
+            this.flowField = null;
+            this.obstacles = null;
+            this.danger = null;
+        }
+
+        /**
+         * @param tiles Board terrain
+         * @param enemies Enemy positions at the start of the tick
+         * @param bombs Bomb positions
+         * @param flowField Distances to the player over the same terrain and bombs
+         * @param obstacles Every wall and bomb change made to the terrain and bombs,
+         *                  or null to have A* enemies search from scratch
+         * @param gridW Grid width
+         * @param gridH Grid height
+         * @param moveInterval Ticks between enemy moves
+         */
+        public TickView(TileMap tiles, CellIndex<Enemy> enemies, CellIndex<Bomb> bombs, FlowField flowField,
+                        CellChangeLog obstacles, int gridW, int gridH, int moveInterval) {
+            this(tiles, enemies, bombs, flowField, obstacles, null, gridW, gridH, moveInterval);
+        }
+
+        /**
+         * @param tiles Board terrain
+         * @param enemies Enemy positions at the start of the tick
+         * @param bombs Bomb positions
+         * @param flowField Distances to the player over the same terrain, bombs and blast lanes
+         * @param obstacles Every wall and bomb change made to the terrain and bombs,
+         *                  and every cell entering or leaving a blast lane,
+         *                  or null to have A* enemies search from scratch
+         * @param danger Blasts due from the live bombs, or null to ignore them
+         * @param gridW Grid width
+         * @param gridH Grid height
+         * @param moveInterval Ticks between enemy moves
+         */
+        public TickView(TileMap tiles, CellIndex<Enemy> enemies, CellIndex<Bomb> bombs, FlowField flowField,
+                        CellChangeLog obstacles, DangerMap danger, int gridW, int gridH, int moveInterval) {
+            this.tiles = tiles;
+            this.enemies = enemies;
+            this.bombs = bombs;
+            this.playerX = flowField.getGoalX();
+            this.playerY = flowField.getGoalY();
+            this.gridW = gridW;
+            this.gridH = gridH;
+            this.moveInterval = moveInterval;
+            this.flowField = flowField;
+            this.obstacles = obstacles;
+            this.danger = danger;
+        }
+    }
+
+    /**
+     * Plans every enemy's move for this tick. Planning only reads the view and
+     * writes each slot's own timers, path and target, so slots are planned in
+     * batches of {@link #PLAN_BATCH} on the pool when one is given. Nothing
+     * moves until {@link #commit} is called for each slot.
+     *
+     * @param view Tick inputs
+     * @param pool Pool to plan on, or null to plan on the calling thread
+     */
+    public void planAll(TickView view, ForkJoinPool pool) {
+        obstacleChecker.tiles = view.tiles;
+        obstacleChecker.bombs = view.bombs;
+        obstacleChecker.danger = view.danger;
+        if (view.obstacles != null) syncPathCache(view);
+        if (pool == null || size <= PLAN_BATCH) {
+            planRange(0, size, view);
+        } else {
+            pool.invoke(new PlanTask(this, 0, size, view));
+        }
+        if (view.obstacles != null) settlePathCache(view);
+    }
+
+    /**
+     * Invalidates cached paths through the walls and bombs that changed since
+     * the last tick, or drops them all when the log has moved on too far.
+     */
+    private void syncPathCache(TickView view) {
+        CellChangeLog log = view.obstacles;
+        if (pathCache == null || pathCache.getWidth() != view.gridW || pathCache.getHeight() != view.gridH) {
+            pathCache = new PathCache(view.gridW, view.gridH, PATH_CACHE_CAPACITY);
+            pathCacheVersion = -1;
+        }
+        if (pathCacheVersion < 0 || !log.canReplay(pathCacheVersion)) {
+            pathCache.clear();
+        } else {
+            for (long change = pathCacheVersion; change < log.getVersion(); change++) {
+                pathCache.cellChanged(log.getX(change), log.getY(change));
+            }
+        }
+        pathCacheVersion = log.getVersion();
+    }
+
+    /**
+     * Counts this tick's cache hits and adds the paths searched for, in slot
+     * order. Planning only reads the cache, so what it holds never depends on
+     * how planning was split across threads.
+     */
+    private void settlePathCache(TickView view) {
+        for (int slot = 0; slot < size; slot++) {
+            byte source = pathSources[slot];
+            if (source == PATH_KEPT) continue;
+            pathSources[slot] = PATH_KEPT;
+            if (source == PATH_CACHED) {
+                pathCache.recordHit(xs[slot], ys[slot], view.playerX, view.playerY);
+            } else {
+                if (source == PATH_JUMPED) jumpPointSearches++;
+                pathCache.recordMiss();
+                if (pathLengths[slot] > 0) pathCache.put(paths[slot], pathLengths[slot]);
+            }
+        }
+    }
+
+    /**
+     * Applies a slot's planned move. Slots must be committed in ascending
+     * order, updating the enemy index after each one: a move into a cell
+     * another enemy has entered since planning is refused, so the lower slot
+     * wins a contested cell. A refused path step makes the enemy recalculate
+     * its path on its next move.
+     *
+     * @param slot Enemy slot
+     * @param enemies Live enemy positions
+     * @return true if the enemy changed cell
+     */
+    public boolean commit(int slot, CellIndex<Enemy> enemies) {
+        int tx = targetXs[slot];
+        int ty = targetYs[slot];
+        if (tx == xs[slot] && ty == ys[slot]) return false;
+        if (enemies.isOccupied(tx, ty)) {
+            if (targetOnPath[slot]) {
+                pathLengths[slot] = 0;
+                pathCursors[slot] = 0;
+                pathTimers[slot] = 0;
+            }
+            return false;
+        }
+        xs[slot] = tx;
+        ys[slot] = ty;
+        return true;
+    }
+
+    /**
+     * Runs one tick of a single enemy's AI on the calling thread: plans its
+     * move and commits it straight away.
+     *
+     * @param slot Enemy slot
+     * @param tiles Board terrain
+     * @param enemies Enemy positions
+     * @param bombs Bomb positions
+     * @param player Player to hunt
+     * @param gridW Grid width
+     * @param gridH Grid height
+     * @return true if the enemy changed cell
+     */
+    public boolean tryMove(int slot, TileMap tiles, CellIndex<Enemy> enemies, CellIndex<Bomb> bombs,
+                           Player player, int gridW, int gridH) {
+        plan(slot, new TickView(tiles, enemies, bombs, player.getX(), player.getY(), gridW, gridH,
+            moveInterval(GameManager.getInstance().getDifficulty())));
+        return commit(slot, enemies);
+    }
+
+    private void planRange(int from, int to, TickView view) {
+        for (int slot = from; slot < to; slot++) {
+            plan(slot, view);
+        }
+    }
+
+    /**
+     * Hunting AI for one slot: wait out the move timer, then step down the
+     * flow field, or follow the A* path to the player: repaired every move
+     * when the view logs obstacle changes, otherwise recalculated every
+     * {@link #PATH_RECALCULATE_INTERVAL} moves or when it is blocked. All
+     * fall back to a greedy step when the player cannot be reached. The
+     * chosen cell becomes the slot's target.
+     */
+    private void plan(int slot, TickView view) {
+        targetXs[slot] = xs[slot];
+        targetYs[slot] = ys[slot];
+        targetOnPath[slot] = false;
+
+        if (moveTimers[slot] > 0) {
+            moveTimers[slot]--;
+            return;
+        }
+
+        moveTimers[slot] = view.moveInterval;
+        if (view.flowField != null && aiModes[slot] == FLOW_FIELD) {
+            planFlowStep(slot, view);
+            return;
+        }
+        if (view.obstacles != null) {
+            planRepairedStep(slot, view);
+            return;
+        }
+        pathTimers[slot]--;
+
+        // Recalculate path periodically or if no path exists
+        if (pathLengths[slot] - pathCursors[slot] <= 0 || pathTimers[slot] <= 0) {
+            calculatePathToPlayer(slot, view);
+            pathTimers[slot] = PATH_RECALCULATE_INTERVAL;
+        }
+
+        // Follow calculated path
+        if (pathLengths[slot] - pathCursors[slot] > 1) {
+            int next = paths[slot][++pathCursors[slot]];
+            int nx = next % view.gridW;
+            int ny = next / view.gridW;
+
+            // Verify move is still valid (in case map changed)
+            if (isSafeMove(slot, nx, ny, view)) {
+                targetXs[slot] = nx;
+                targetYs[slot] = ny;
+                targetOnPath[slot] = true;
+            } else {
+                // Path blocked, recalculate immediately
+                pathLengths[slot] = 0;
+                pathCursors[slot] = 0;
+                pathTimers[slot] = 0;
+            }
+        } else {
+            // Fallback: try any valid move towards player (greedy)
+            planGreedyMove(slot, view);
+        }
+    }
+
+    private void calculatePathToPlayer(int slot, TickView view) {
+        PathContext context = PATH_CONTEXTS.get();
+        context.store = this;
+        context.slot = slot;
+        context.view = view;
+        int length = searchPath(slot, view, context);
+        context.store = null;
+        context.view = null;
+
+        pathCursors[slot] = 0;
+        pathLengths[slot] = Math.max(length, 0);
+    }
+
+    /**
+     * Searches from scratch with the planning thread's pathfinder, in the
+     * mode {@link GridPathfinder#prefersJumpPoints} picks for the board, and
+     * writes the path into the slot.
+     *
+     * @return Path length, or {@link GridPathfinder#NO_PATH}
+     */
+    private int searchPath(int slot, TickView view, Pathfinding.WalkableChecker walkable) {
+        PathContext context = PATH_CONTEXTS.get();
+        GridPathfinder finder = context.finder;
+        boolean jumpPoints = GridPathfinder.prefersJumpPoints(view.gridW, view.gridH, view.tiles.getWallCount());
+        if (finder == null || finder.getWidth() != view.gridW || finder.getHeight() != view.gridH
+                || finder.isJumpPoints() != jumpPoints) {
+            finder = new GridPathfinder(view.gridW, view.gridH, jumpPoints);
+            context.finder = finder;
+        }
+        int[] cells = paths[slot];
+        if (cells == null) {
+            cells = new int[16];
+            paths[slot] = cells;
+        }
+        int length = finder.findPath(xs[slot], ys[slot], view.playerX, view.playerY, walkable, cells);
+        if (length > cells.length) {
+            cells = new int[Math.max(length, cells.length * 2)];
+            paths[slot] = cells;
+            finder.writePath(cells);
+        }
+        return length;
+    }
+
+    /**
+     * Steps along the slot's path while it is still a shortest one: no wall
+     * or bomb has come or gone and the player has not moved since it was
+     * found. Otherwise the enemy takes the rest of a cached path it stands
+     * on, or brings its incremental search up to date with those changes and
+     * its own moves, and follows the new path. Other enemies are not
+     * obstacles to either; with one on the next cell the enemy steps
+     * greedily instead.
+     */
+    private void planRepairedStep(int slot, TickView view) {
+        CellChangeLog log = view.obstacles;
+        int cursor = pathCursors[slot];
+        int goal = view.playerY * view.gridW + view.playerX;
+        if (pathVersions[slot] == log.getVersion() && pathGoals[slot] == goal
+                && pathLengths[slot] - cursor > 1
+                && paths[slot][cursor] == ys[slot] * view.gridW + xs[slot]) {
+            int next = paths[slot][cursor + 1];
+            stepOnPath(slot, next % view.gridW, next / view.gridW, 1 + cursor, view);
+            return;
+        }
+        pathVersions[slot] = log.getVersion();
+        pathGoals[slot] = goal;
+
+        int[] cells = paths[slot];
+        if (cells == null) {
+            cells = new int[16];
+            paths[slot] = cells;
+        }
+        int length = pathCache.lookup(xs[slot], ys[slot], view.playerX, view.playerY, cells);
+        if (length != PathCache.MISS) {
+            if (length > cells.length) {
+                cells = new int[Math.max(length, cells.length * 2)];
+                paths[slot] = cells;
+                pathCache.lookup(xs[slot], ys[slot], view.playerX, view.playerY, cells);
+            }
+            pathSources[slot] = PATH_CACHED;
+        } else {
+            length = searchRepairedPath(slot, view);
+            cells = paths[slot];
+        }
+        pathCursors[slot] = 0;
+        pathLengths[slot] = Math.max(length, 0);
+        if (length > 1) {
+            stepOnPath(slot, cells[1] % view.gridW, cells[1] / view.gridW, 1, view);
+        } else {
+            planGreedyMove(slot, view);
+        }
+    }
+
+    /**
+     * Catches the slot's incremental search up and writes its path into the slot.
+     *
+     * When the search has to start over (the enemy's first search, or the
+     * log has moved on past what it kept) there is nothing to repair, and
+     * D* Lite's first search is a plain A*. On a board that
+     * {@link GridPathfinder#prefersJumpPoints prefers jump points} that path
+     * comes from a jump point search instead, over the same obstacles; the
+     * incremental search is reset and does its own first search only once
+     * the path needs repairing.
+     *
+     * @return Path length, or {@link IncrementalPathfinder#NO_PATH}
+     */
+    private int searchRepairedPath(int slot, TickView view) {
+        IncrementalPathfinder engine = pathEngines[slot];
+        if (engine == null || engine.getWidth() != view.gridW || engine.getHeight() != view.gridH) {
+            engine = new IncrementalPathfinder(view.gridW, view.gridH, obstacleChecker);
+            pathEngines[slot] = engine;
+            engineVersions[slot] = -1;
+        }
+        CellChangeLog log = view.obstacles;
+        long seen = engineVersions[slot];
+        if (seen < 0 || !engine.isStarted() || !log.canReplay(seen)) {
+            engine.reset(xs[slot], ys[slot], view.playerX, view.playerY);
+            if (GridPathfinder.prefersJumpPoints(view.gridW, view.gridH, view.tiles.getWallCount())) {
+                engineVersions[slot] = log.getVersion();
+                pathSources[slot] = PATH_JUMPED;
+                return searchPath(slot, view, obstacleChecker);
+            }
+        } else {
+            engine.moveStart(xs[slot], ys[slot]);
+            engine.moveGoal(view.playerX, view.playerY);
+            for (long change = seen; change < log.getVersion(); change++) {
+                engine.cellChanged(log.getX(change), log.getY(change));
+            }
+        }
+        engineVersions[slot] = log.getVersion();
+        pathSources[slot] = PATH_SEARCHED;
+
+        int[] cells = paths[slot];
+        int length = engine.findPath(cells);
+        if (length > cells.length) {
+            cells = new int[Math.max(length, cells.length * 2)];
+            paths[slot] = cells;
+            engine.writePath(cells);
+        }
+        return length;
+    }
+
+    /**
+     * Targets the next path cell, or a greedy step if another enemy stands on it.
+     */
+    private void stepOnPath(int slot, int nx, int ny, int cursor, TickView view) {
+        if (isSafeMove(slot, nx, ny, view)) {
+            pathCursors[slot] = cursor;
+            targetXs[slot] = nx;
+            targetYs[slot] = ny;
+            targetOnPath[slot] = true;
+        } else {
+            planGreedyMove(slot, view);
+        }
+    }
+
+    /**
+     * Steps to the first neighbour, in {@link #DIRS} order, that is closer to
+     * the player and free. With every closer neighbour taken the enemy waits.
+     */
+    private void planFlowStep(int slot, TickView view) {
+        FlowField field = view.flowField;
+        int distance = field.distance(xs[slot], ys[slot]);
+        if (distance == FlowField.UNREACHABLE) {
+            planGreedyMove(slot, view);
+            return;
+        }
+        for (int i = 0; i < 4; i++) {
+            int nx = xs[slot] + DIRS[i][0];
+            int ny = ys[slot] + DIRS[i][1];
+            int d = field.distance(nx, ny);
+            if (d != FlowField.UNREACHABLE && d < distance && isSafeMove(slot, nx, ny, view)) {
+                targetXs[slot] = nx;
+                targetYs[slot] = ny;
+                return;
+            }
+        }
+    }
+
+    private void planGreedyMove(int slot, TickView view) {
+        int bestDirIndex = -1;
+        long minDistance = Long.MAX_VALUE;
+
+        // Find best direction towards player
+        for (int i = 0; i < 4; i++) {
+            int nx = xs[slot] + DIRS[i][0];
+            int ny = ys[slot] + DIRS[i][1];
+
+            if (isSafeMove(slot, nx, ny, view)) {
+                long dx = nx - view.playerX;
+                long dy = ny - view.playerY;
+                long dist = dx * dx + dy * dy;
+                if (dist < minDistance) {
+                    minDistance = dist;
+                    bestDirIndex = i;
+                }
+            }
+        }
+
+        // Move in best direction
+        if (bestDirIndex != -1) {
+            targetXs[slot] = xs[slot] + DIRS[bestDirIndex][0];
+            targetYs[slot] = ys[slot] + DIRS[bestDirIndex][1];
+        }
+    }
+
+    /**
+     * Checks walls, other enemies and bombs; enemies sharing the slot's own cell are ignored.
+     */
+    private boolean isValidMove(int slot, int tx, int ty, TickView view) {
+        if (!GameManager.isValidMove(tx, ty, view.tiles)) return false;
+        if ((tx != xs[slot] || ty != ys[slot]) && view.enemies.isOccupied(tx, ty)) return false;
+        return !view.bombs.isOccupied(tx, ty);
+    }
+
+    /**
+     * A valid move into a cell no blast will reach while the enemy stands there.
+     */
+    private boolean isSafeMove(int slot, int tx, int ty, TickView view) {
+        return isValidMove(slot, tx, ty, view) && (view.danger == null || view.danger.isSafe(tx, ty, view.moveInterval));
+    }
+
+    /**
+     * A cell paths may cross: a valid move outside every blast lane.
+     */
+    private boolean isPathCell(int slot, int x, int y, TickView view) {
+        return isValidMove(slot, x, y, view) && (view.danger == null || !view.danger.isThreatened(x, y));
+    }
+
+    /**
+     * @param difficulty Match difficulty
+     * @return Ticks between enemy moves
+     */
+    public static int moveInterval(SettingsManager.Difficulty difficulty) {
+        switch (difficulty) {
+            case EASY:   return 45; // Slower
+            case MEDIUM: return 25; // Faster than before
+            case HARD:   return 10; // Very fast
+            default:     return 25;
+        }
+    }
+
+    /**
+     * A planning thread's pathfinder, and the walkability test of the slot it
+     * is searching for. Reused across queries so path searches allocate nothing.
+     */
+    private static final class PathContext implements Pathfinding.WalkableChecker {
+        GridPathfinder finder;
+        EnemyStore store;
+        int slot;
+        TickView view;
+
+        @Override
+        public boolean isWalkable(int x, int y) {
+            return store.isPathCell(slot, x, y, view);
+        }
+    }
+
+    /**
+     * Terrain, bombs and blast lanes only, the obstacles the game logs changes of.
+     */
+    private static final class ObstacleChecker implements Pathfinding.WalkableChecker {
+        TileMap tiles;
+        CellIndex<Bomb> bombs;
+        DangerMap danger;
+
+        @Override
+        public boolean isWalkable(int x, int y) {
+            return GameManager.isValidMove(x, y, tiles) && !bombs.isOccupied(x, y)
+                && (danger == null || !danger.isThreatened(x, y));
+        }
+    }
+
+    /**
+     * Plans a range of slots, splitting it in halves down to {@link #PLAN_BATCH} slots.
+     */
+    private static final class PlanTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final EnemyStore store;
+        private final int from;
+        private final int to;
+        private final TickView view;
+
+        PlanTask(EnemyStore store, int from, int to, TickView view) {
+            this.store = store;
+            this.from = from;
+            this.to = to;
+            this.view = view;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PLAN_BATCH) {
+                store.planRange(from, to, view);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PlanTask(store, from, mid, view), new PlanTask(store, mid, to, view));
+        }
+    }
+
+    private void insert(Enemy view, int x, int y, int hue, int moveTimer) {
+        if (size == views.length) grow();
+        int slot = size++;
+        views[slot] = view;
+        xs[slot] = x;
+        ys[slot] = y;
+        hues[slot] = (byte) hue;
+        aiModes[slot] = FLOW_FIELD;
+        moveTimers[slot] = moveTimer;
+        pathTimers[slot] = 0;
+        pathLengths[slot] = 0;
+        pathCursors[slot] = 0;
+        targetXs[slot] = x;
+        targetYs[slot] = y;
+        targetOnPath[slot] = false;
+        engineVersions[slot] = -1;
+        pathVersions[slot] = -1;
+        pathSources[slot] = PATH_KEPT;
+        view.store = this;
+        view.slot = slot;
+    }
+
+    /**
+     * Parks an enemy's state in the view itself and frees its slot.
+     */
+    private void detach(Enemy view) {
+        int slot = view.slot;
+        view.x = xs[slot];
+        view.y = ys[slot];
+        view.hue = hues[slot];
+        view.moveTimer = moveTimers[slot];
+        view.aiMode = AI_MODES[aiModes[slot]];
+        view.store = null;
+        release(slot);
+    }
+
+    /**
+     * Frees a slot by moving the last enemy into it.
+     */
+    private void release(int slot) {
+        int last = --size;
+        if (slot != last) {
+            views[slot] = views[last];
+            xs[slot] = xs[last];
+            ys[slot] = ys[last];
+            moveTimers[slot] = moveTimers[last];
+            pathTimers[slot] = pathTimers[last];
+            hues[slot] = hues[last];
+            aiModes[slot] = aiModes[last];
+            int[] path = paths[slot];
+            paths[slot] = paths[last];
+            paths[last] = path; // Keep the freed path array for whoever takes the last slot next
+            pathLengths[slot] = pathLengths[last];
+            pathCursors[slot] = pathCursors[last];
+            targetXs[slot] = targetXs[last];
+            targetYs[slot] = targetYs[last];
+            targetOnPath[slot] = targetOnPath[last];
+            IncrementalPathfinder engine = pathEngines[slot];
+            pathEngines[slot] = pathEngines[last];
+            pathEngines[last] = engine;
+            engineVersions[slot] = engineVersions[last];
+            pathVersions[slot] = pathVersions[last];
+            pathGoals[slot] = pathGoals[last];
+            pathSources[slot] = pathSources[last];
+            views[slot].slot = slot;
+        }
+        views[last] = null;
+    }
+
+    private void grow() {
+        int capacity = views.length * 2;
+        views = Arrays.copyOf(views, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        moveTimers = Arrays.copyOf(moveTimers, capacity);
+        pathTimers = Arrays.copyOf(pathTimers, capacity);
+        hues = Arrays.copyOf(hues, capacity);
+        aiModes = Arrays.copyOf(aiModes, capacity);
+        paths = Arrays.copyOf(paths, capacity);
+        pathLengths = Arrays.copyOf(pathLengths, capacity);
+        pathCursors = Arrays.copyOf(pathCursors, capacity);
+        targetXs = Arrays.copyOf(targetXs, capacity);
+        targetYs = Arrays.copyOf(targetYs, capacity);
+        targetOnPath = Arrays.copyOf(targetOnPath, capacity);
+        pathEngines = Arrays.copyOf(pathEngines, capacity);
+        engineVersions = Arrays.copyOf(engineVersions, capacity);
+        pathVersions = Arrays.copyOf(pathVersions, capacity);
+        pathGoals = Arrays.copyOf(pathGoals, capacity);
+        pathSources = Arrays.copyOf(pathSources, capacity);
+    }
+}
@@ -1,6 +1,7 @@
 package com.bomberman.entities;
 
 import com.bomberman.powerups.PowerUp;
+import com.bomberman.render.SpriteAtlas;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
@@ -25,6 +26,10 @@ public class Player extends GameObject {
     private double speedBoost = 1.0;
     private int maxBombs = 3;
     private int bombRadius = 3;
+
+    /* Render colours */
+    private static final Color FACE_COLOR = new Color(255, 200, 180); // Pinkish
+    private static final Color POWERED_BODY_COLOR = new Color(255, 215, 0); // Gold
     
     /**
      * Creates a new player at the specified grid position.
@@ -68,9 +73,26 @@ public class Player extends GameObject {
             return;
         }
 
-        int px = x * tileSize;
-        int py = y * tileSize;
+        boolean poweredUp = isPoweredUp();
 
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        if (atlas.isReady(tileSize)) {
+            atlas.draw(g, atlas.getPlayer(poweredUp), x * tileSize, y * tileSize);
+        } else {
+            paint(g, x * tileSize, y * tileSize, tileSize, poweredUp);
+        }
+    }
+
+    /**
+     * Draws the player with primitives; used to rasterize the sprite atlas.
+     *
+     * @param g Graphics context
+     * @param px Left edge of the tile
+     * @param py Top edge of the tile
+     * @param tileSize Tile size in pixels
+     * @param poweredUp true to draw the gold power-up body instead of blue
+     */
+    public static void paint(Graphics2D g, int px, int py, int tileSize, boolean poweredUp) {
         // Retro Bomberman Style (Simplified)
         
         // Head (White Helmet)
@@ -80,7 +102,7 @@ public class Player extends GameObject {
         g.drawOval(px + 4, py + 2, tileSize - 8, tileSize - 8);
 
         // Face (Pinkish)
-        g.setColor(new Color(255, 200, 180));
+        g.setColor(FACE_COLOR);
         g.fillRect(px + 12, py + 12, tileSize - 24, tileSize/2);
 
         // Eyes
@@ -89,8 +111,8 @@ public class Player extends GameObject {
         g.fillRect(px + tileSize - 20, py + 16, 4, 8);
 
         // Body (Blue or special color if powered up)
-        if (!activePowerUps.isEmpty()) {
-            g.setColor(new Color(255, 215, 0)); // Gold when powered up
+        if (poweredUp) {
+            g.setColor(POWERED_BODY_COLOR); // Gold when powered up
         } else {
             g.setColor(Color.BLUE);
         }
@@ -161,6 +183,43 @@ public class Player extends GameObject {
         return hp;
     }
     
+    /**
+     * Checks whether the player is in its post-hit invincibility (blinking) period.
+     * 
+     * @return true while invincible
+     */
+    public boolean isInvincible() {
+        return invincibleTimer > 0;
+    }
+
+    /**
+     * @return Ticks of post-hit invincibility left
+     */
+    public int getInvincibleTimer() {
+        return invincibleTimer;
+    }
+
+    /**
+     * Sets health and invincibility directly, as when restoring a saved match.
+     * Power-ups are restored separately through {@link #addPowerUp(PowerUp)}.
+     *
+     * @param hp Health points
+     * @param invincibleTimer Ticks of invincibility left
+     */
+    public void restoreHealth(int hp, int invincibleTimer) {
+        this.hp = hp;
+        this.invincibleTimer = invincibleTimer;
+    }
+
+    /**
+     * Checks whether any power-up is active, which changes the body colour.
+     * 
+     * @return true if at least one power-up is active
+     */
+    public boolean isPoweredUp() {
+        return !activePowerUps.isEmpty();
+    }
+    
     /**
      * Sets the player's position.
      * 
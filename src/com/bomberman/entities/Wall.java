@@ -1,31 +1,60 @@
 package com.bomberman.entities;
 
+import com.bomberman.render.SpriteAtlas;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Stroke;
 
 public class Wall extends GameObject {
+    private static final Color SOFT_WALL_COLOR = new Color(214, 48, 49);
+    private static final Color HARD_WALL_COLOR = new Color(99, 110, 114);
+    private static final Color BRICK_FILL = new Color(180, 50, 50);
+    private static final Color BRICK_MORTAR = new Color(130, 30, 30);
+    private static final BasicStroke MORTAR_STROKE = new BasicStroke(2);
+    private static final Color METAL_FILL = new Color(80, 80, 80);
+    private static final Color METAL_LIGHT = new Color(120, 120, 120);
+    private static final Color METAL_SHADOW = new Color(40, 40, 40);
+    private static final Color RIVET_COLOR = new Color(30, 30, 30);
+
     private boolean destructible;
 
     public Wall(int x, int y, boolean destructible) {
         super(x, y);
         this.destructible = destructible;
-        this.color = destructible ? new Color(214, 48, 49) : new Color(99, 110, 114);
+        this.color = destructible ? SOFT_WALL_COLOR : HARD_WALL_COLOR;
     }
 
     public boolean isDestructible() { return destructible; }
 
     @Override
     public void render(Graphics2D g, int tileSize) {
-        int px = x * tileSize;
-        int py = y * tileSize;
-        
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        if (atlas.isReady(tileSize)) {
+            atlas.draw(g, atlas.getWall(destructible), x * tileSize, y * tileSize);
+        } else {
+            paint(g, x * tileSize, y * tileSize, tileSize, destructible);
+        }
+    }
+
+    /**
+     * Draws a wall with primitives; used to rasterize the sprite atlas.
+     *
+     * @param g Graphics context
+     * @param px Left edge of the tile
+     * @param py Top edge of the tile
+     * @param tileSize Tile size in pixels
+     * @param destructible true for a brick wall, false for a metal block
+     */
+    public static void paint(Graphics2D g, int px, int py, int tileSize, boolean destructible) {
         if (destructible) {
             // Brick Pattern
-            g.setColor(new Color(180, 50, 50));
+            g.setColor(BRICK_FILL);
             g.fillRect(px, py, tileSize, tileSize);
             
-            g.setColor(new Color(130, 30, 30));
-            g.setStroke(new java.awt.BasicStroke(2));
+            g.setColor(BRICK_MORTAR);
+            Stroke previous = g.getStroke();
+            g.setStroke(MORTAR_STROKE);
             g.drawRect(px, py, tileSize, tileSize);
             
             // Inner Bricks
@@ -33,22 +62,23 @@ public class Wall extends GameObject {
             g.drawLine(px + tileSize/2, py, px + tileSize/2, py + tileSize/2);
             g.drawLine(px + tileSize/4, py + tileSize/2, px + tileSize/4, py + tileSize);
             g.drawLine(px + 3*tileSize/4, py + tileSize/2, px + 3*tileSize/4, py + tileSize);
+            g.setStroke(previous);
         } else {
             // Solid Metal/Stone Block
-            g.setColor(new Color(80, 80, 80));
+            g.setColor(METAL_FILL);
             g.fillRect(px, py, tileSize, tileSize);
             
             // Bevel effect
-            g.setColor(new Color(120, 120, 120));
+            g.setColor(METAL_LIGHT);
             g.fillRect(px, py, tileSize, 4);
             g.fillRect(px, py, 4, tileSize);
             
-            g.setColor(new Color(40, 40, 40));
+            g.setColor(METAL_SHADOW);
             g.fillRect(px, py + tileSize - 4, tileSize, 4);
             g.fillRect(px + tileSize - 4, py, 4, tileSize);
             
             // Rivets
-            g.setColor(new Color(30, 30, 30));
+            g.setColor(RIVET_COLOR);
             g.fillOval(px + 6, py + 6, 4, 4);
             g.fillOval(px + tileSize - 10, py + 6, 4, 4);
             g.fillOval(px + 6, py + tileSize - 10, 4, 4);
@@ -0,0 +1,222 @@
+package com.bomberman.headless;
+
+import com.bomberman.core.FireField;
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.GameObject;
+import com.bomberman.entities.Player;
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+
+/**
+ * Simple rule-based player bot for headless matches.
+ * Flees blast lanes, bombs soft walls and enemies in line, otherwise walks
+ * towards the nearest target. It only ever presses keys, so it exercises
+ * the same input path as a human player.
+ *
+ * The bot only looks at a window of up to {@link #WINDOW} x {@link #WINDOW}
+ * tiles around the player, so its work per tick does not grow with the map.
+ * The default board fits in the window entirely.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class BotInputDriver implements InputDriver {
+    private static final int[][] DIRS = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+    private static final int[] DIR_KEYS = { KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT };
+
+    /** Side of the square of tiles the bot considers */
+    static final int WINDOW = 64;
+
+    // Window in map coordinates, placed around the player every tick
+    private int originX;
+    private int originY;
+    private int width;
+    private int height;
+
+    // Reused per tick, indexed by window coordinates
+    private final boolean[] blocked = new boolean[WINDOW * WINDOW];
+    private final boolean[] soft = new boolean[WINDOW * WINDOW];
+    private final boolean[] danger = new boolean[WINDOW * WINDOW];
+    private final boolean[] savedDanger = new boolean[WINDOW * WINDOW];
+    private final int[] queue = new int[WINDOW * WINDOW];
+    private final int[] firstStep = new int[WINDOW * WINDOW];
+
+    private int heldKey = -1;
+
+    @Override
+    public void onTick(GameManager gm, long tick) {
+        Player p = gm.getPlayer();
+        buildMaps(gm);
+        int here = index(p.getX() - originX, p.getY() - originY);
+
+        int dir;
+        if (danger[here]) {
+            dir = searchFirstStep(here, false, Goal.SAFE, gm);
+        } else if (shouldBomb(gm, p) && hasEscape(p, gm)) {
+            gm.handleInput(KeyEvent.VK_SPACE);
+            gm.handleKeyReleased(KeyEvent.VK_SPACE);
+            dir = -1;
+        } else {
+            dir = searchFirstStep(here, true, Goal.TARGET, gm);
+        }
+
+        hold(gm, dir < 0 ? -1 : DIR_KEYS[dir]);
+    }
+
+    @Override
+    public void reset() {
+        heldKey = -1;
+    }
+
+    private enum Goal { SAFE, TARGET }
+
+    private void hold(GameManager gm, int key) {
+        if (key == heldKey) return;
+        if (heldKey != -1) gm.handleKeyReleased(heldKey);
+        if (key != -1) gm.handleInput(key);
+        heldKey = key;
+    }
+
+    private void buildMaps(GameManager gm) {
+        TileMap tiles = gm.getTiles();
+        Player p = gm.getPlayer();
+        width = Math.min(tiles.getWidth(), WINDOW);
+        height = Math.min(tiles.getHeight(), WINDOW);
+        originX = Math.max(0, Math.min(p.getX() - width / 2, tiles.getWidth() - width));
+        originY = Math.max(0, Math.min(p.getY() - height / 2, tiles.getHeight() - height));
+
+        Arrays.fill(blocked, false);
+        Arrays.fill(soft, false);
+        Arrays.fill(danger, false);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                byte code = tiles.get(originX + x, originY + y);
+                if (code == TileMap.EMPTY) continue;
+                int idx = y * width + x;
+                blocked[idx] = true;
+                soft[idx] = code == TileMap.SOFT;
+            }
+        }
+        for (GameObject b : gm.getBombs()) {
+            int idx = index(b.getX() - originX, b.getY() - originY);
+            if (idx >= 0) blocked[idx] = true;
+        }
+        for (GameObject b : gm.getBombs()) {
+            markBlast(tiles, b.getX(), b.getY(), ((Bomb) b).getRadius());
+        }
+        FireField fire = gm.getFire();
+        for (int i = 0; i < fire.getBurningCount(); i++) {
+            markDanger(fire.getX(i), fire.getY(i));
+        }
+    }
+
+    /**
+     * Marks the lanes a bomb at map position (bx, by) will set on fire.
+     */
+    private void markBlast(TileMap tiles, int bx, int by, int radius) {
+        markDanger(bx, by);
+        for (int[] d : DIRS) {
+            for (int i = 1; i <= radius; i++) {
+                int tx = bx + d[0] * i;
+                int ty = by + d[1] * i;
+                byte code = tiles.get(tx, ty); // Off the map reads as hard wall
+                if (code == TileMap.HARD) break;
+                markDanger(tx, ty);
+                if (code == TileMap.SOFT) break;
+            }
+        }
+    }
+
+    private void markDanger(int mapX, int mapY) {
+        int idx = index(mapX - originX, mapY - originY);
+        if (idx >= 0) danger[idx] = true;
+    }
+
+    private boolean shouldBomb(GameManager gm, Player p) {
+        if (gm.getBombs().size() >= GameManager.MAX_BOMBS) return false;
+        int px = p.getX() - originX;
+        int py = p.getY() - originY;
+        for (int[] d : DIRS) {
+            int idx = index(px + d[0], py + d[1]);
+            if (idx >= 0 && soft[idx]) return true;
+        }
+        return enemyInLine(px, py, 2, gm);
+    }
+
+    /**
+     * Checks whether an enemy stands on window cell (x, y) or within range of it
+     * along an open row or column, by probing the enemy index cell by cell.
+     */
+    private boolean enemyInLine(int x, int y, int range, GameManager gm) {
+        if (gm.hasEnemyAt(x + originX, y + originY)) return true;
+        for (int[] d : DIRS) {
+            for (int i = 1; i <= range; i++) {
+                int tx = x + d[0] * i;
+                int ty = y + d[1] * i;
+                int idx = index(tx, ty);
+                if (idx < 0) break;
+                if (gm.hasEnemyAt(tx + originX, ty + originY)) return true;
+                if (blocked[idx]) break;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasEscape(Player p, GameManager gm) {
+        System.arraycopy(danger, 0, savedDanger, 0, danger.length);
+        markBlast(gm.getTiles(), p.getX(), p.getY(), GameManager.BOMB_RADIUS);
+        int here = index(p.getX() - originX, p.getY() - originY);
+        boolean escape = searchFirstStep(here, false, Goal.SAFE, gm) >= 0;
+        System.arraycopy(savedDanger, 0, danger, 0, danger.length);
+        return escape;
+    }
+
+    /**
+     * Breadth-first search from the player. Returns the direction index of the
+     * first step towards the nearest goal cell, or -1 if none is reachable.
+     */
+    private int searchFirstStep(int start, boolean avoidDanger, Goal goal, GameManager gm) {
+        Arrays.fill(firstStep, -2);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        firstStep[start] = -1;
+
+        while (head < tail) {
+            int cur = queue[head++];
+            if (cur != start && isGoal(cur, goal, gm)) {
+                return firstStep[cur];
+            }
+            int cx = cur % width;
+            int cy = cur / width;
+            for (int d = 0; d < 4; d++) {
+                int next = index(cx + DIRS[d][0], cy + DIRS[d][1]);
+                if (next < 0 || blocked[next] || firstStep[next] != -2) continue;
+                if (avoidDanger && danger[next]) continue;
+                firstStep[next] = cur == start ? d : firstStep[cur];
+                queue[tail++] = next;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isGoal(int idx, Goal goal, GameManager gm) {
+        if (goal == Goal.SAFE) return !danger[idx];
+
+        int x = idx % width;
+        int y = idx / width;
+        for (int[] d : DIRS) {
+            int n = index(x + d[0], y + d[1]);
+            if (n >= 0 && soft[n]) return true;
+        }
+        return enemyInLine(x, y, 2, gm);
+    }
+
+    private int index(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return -1;
+        return y * width + x;
+    }
+}
@@ -0,0 +1,265 @@
+package com.bomberman.headless;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.MatchRandom;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.replay.Replay;
+import com.bomberman.replay.ReplayPlayer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Command-line batch runner that plays matches with no display and no audio.
+ * Matches are ticked back to back as fast as possible and a summary with
+ * outcomes and simulation throughput is printed at the end.
+ *
+ * <pre>
+ * java -Djava.awt.headless=true -cp bin com.bomberman.headless.HeadlessRunner
+ *      [--matches N] [--difficulty EASY|MEDIUM|HARD] [--max-ticks N]
+ *      [--driver bot|idle|script:FILE] [--map WxH] [--off-heap] [--enemies N] [--serial-ai] [--seed HEX]
+ *      [--record DIR] [--quiet]
+ * java -Djava.awt.headless=true -cp bin com.bomberman.headless.HeadlessRunner
+ *      --replay FILE [--seek TICK] [--realtime] [--serial-ai]
+ * </pre>
+ *
+ * With {@code --replay} a recorded match is played back instead, as fast as
+ * possible or at the game's 60 ticks per second.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class HeadlessRunner {
+
+    /** Outcome of a single headless match */
+    public enum Outcome { VICTORY, DEFEAT, TIMEOUT }
+
+    private final GameManager gameManager;
+    private final InputDriver driver;
+    private final long maxTicks;
+
+    private long lastMatchTicks;
+
+    /**
+     * Creates a runner around the shared game manager.
+     *
+     * @param driver Input source for the player
+     * @param maxTicks Tick limit per match before it is declared a timeout
+     */
+    public HeadlessRunner(InputDriver driver, long maxTicks) {
+        this.gameManager = GameManager.getInstance();
+        this.gameManager.initHeadless();
+        this.driver = driver;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Plays one match to completion.
+     *
+     * @param difficulty Difficulty to play on
+     * @return How the match ended
+     */
+    public Outcome runMatch(SettingsManager.Difficulty difficulty) {
+        return runMatch(difficulty, MatchRandom.newSeed());
+    }
+
+    /**
+     * Plays one match to completion from a seed.
+     *
+     * @param difficulty Difficulty to play on
+     * @param seed Match seed
+     * @return How the match ended
+     */
+    public Outcome runMatch(SettingsManager.Difficulty difficulty, long seed) {
+        gameManager.startMatch(difficulty, seed);
+        driver.reset();
+
+        long tick = 0;
+        while (tick < maxTicks) {
+            driver.onTick(gameManager, tick);
+            gameManager.update();
+            tick++;
+
+            if (gameManager.getCurrentState() == gameManager.VICTORY_STATE) {
+                lastMatchTicks = tick;
+                return Outcome.VICTORY;
+            }
+            if (gameManager.getCurrentState() == gameManager.GAMEOVER_STATE) {
+                lastMatchTicks = tick;
+                return Outcome.DEFEAT;
+            }
+        }
+        lastMatchTicks = tick;
+        gameManager.finishReplay();
+        return Outcome.TIMEOUT;
+    }
+
+    /**
+     * @return Number of ticks the most recent match took
+     */
+    public long getLastMatchTicks() {
+        return lastMatchTicks;
+    }
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int matches = 10;
+        long maxTicks = 60L * 60 * 5; // Five minutes of game time
+        SettingsManager.Difficulty difficulty = SettingsManager.Difficulty.MEDIUM;
+        String driverSpec = "bot";
+        int mapWidth = GameManager.GRID_W;
+        int mapHeight = GameManager.GRID_H;
+        boolean offHeap = false;
+        int enemyCount = 0;
+        boolean serialAi = false;
+        long seed = MatchRandom.newSeed();
+        Path recordDirectory = null;
+        Path replayFile = null;
+        long seekTick = 0;
+        boolean realtime = false;
+        boolean quiet = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--matches": matches = Integer.parseInt(args[++i]); break;
+                case "--max-ticks": maxTicks = Long.parseLong(args[++i]); break;
+                case "--difficulty": difficulty = SettingsManager.Difficulty.valueOf(args[++i].toUpperCase()); break;
+                case "--driver": driverSpec = args[++i]; break;
+                case "--map": {
+                    String[] size = args[++i].toLowerCase(Locale.ROOT).split("x");
+                    mapWidth = Integer.parseInt(size[0]);
+                    mapHeight = Integer.parseInt(size[size.length - 1]);
+                    break;
+                }
+                case "--off-heap": offHeap = true; break;
+                case "--enemies": enemyCount = Integer.parseInt(args[++i]); break;
+                case "--serial-ai": serialAi = true; break;
+                case "--seed": seed = MatchRandom.parse(args[++i]); break;
+                case "--record": recordDirectory = Paths.get(args[++i]); break;
+                case "--replay": replayFile = Paths.get(args[++i]); break;
+                case "--seek": seekTick = Long.parseLong(args[++i]); break;
+                case "--realtime": realtime = true; break;
+                case "--quiet": quiet = true; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        if (replayFile != null) {
+            System.exit(playReplay(replayFile, seekTick, realtime, serialAi));
+            return;
+        }
+
+        InputDriver driver;
+        try {
+            driver = createDriver(driverSpec);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot create driver '" + driverSpec + "': " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        HeadlessRunner runner = new HeadlessRunner(driver, maxTicks);
+        try {
+            GameManager.getInstance().setMapSize(mapWidth, mapHeight, offHeap);
+            GameManager.getInstance().setEnemyCount(enemyCount);
+            GameManager.getInstance().setParallelAi(!serialAi);
+            GameManager.getInstance().setReplayDirectory(recordDirectory);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        int[] outcomes = new int[Outcome.values().length];
+        long totalTicks = 0;
+        long start = System.nanoTime();
+
+        // Each match gets its own seed, all derived from the run seed
+        SplittableRandom matchSeeds = new SplittableRandom(seed);
+        for (int m = 1; m <= matches; m++) {
+            long matchSeed = matchSeeds.nextLong();
+            Outcome outcome = runner.runMatch(difficulty, matchSeed);
+            outcomes[outcome.ordinal()]++;
+            totalTicks += runner.getLastMatchTicks();
+            if (!quiet) {
+                System.out.printf(Locale.ROOT, "match %d: %s after %d ticks (seed %s)%n",
+                    m, outcome, runner.getLastMatchTicks(), MatchRandom.format(matchSeed));
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "matches=%d difficulty=%s driver=%s map=%dx%d enemies=%s seed=%s%n",
+            matches, difficulty, driverSpec, mapWidth, mapHeight, enemyCount > 0 ? enemyCount : "default",
+            MatchRandom.format(seed));
+        System.out.printf(Locale.ROOT, "victories=%d defeats=%d timeouts=%d%n",
+            outcomes[Outcome.VICTORY.ordinal()], outcomes[Outcome.DEFEAT.ordinal()], outcomes[Outcome.TIMEOUT.ordinal()]);
+        System.out.printf(Locale.ROOT, "ticks=%d wall=%.3fs ticks/sec=%.0f%n", totalTicks, seconds, totalTicks / seconds);
+    }
+
+    /**
+     * Plays a recorded match back and prints how it ended.
+     *
+     * @param file Replay file
+     * @param seekTick Tick to jump to before playing on
+     * @param realtime true to play at 60 ticks per second
+     * @param serialAi true to plan enemy moves on one thread
+     * @return Process exit code
+     */
+    private static int playReplay(Path file, long seekTick, boolean realtime, boolean serialAi) {
+        Replay replay;
+        try {
+            replay = Replay.load(file);
+        } catch (IOException e) {
+            System.err.println("Cannot load replay '" + file + "': " + e.getMessage());
+            return 2;
+        }
+
+        GameManager gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.setParallelAi(!serialAi);
+        ReplayPlayer player = new ReplayPlayer(replay, gm);
+        try {
+            player.start();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 2;
+        }
+
+        long start = System.nanoTime();
+        player.seek(seekTick);
+        long from = player.getTick();
+        if (realtime) {
+            long next = System.nanoTime();
+            while (!player.isFinished()) {
+                player.step();
+                next += 1_000_000_000L / 60;
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        } else {
+            player.runToEnd();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Outcome outcome = gm.getCurrentState() == gm.VICTORY_STATE ? Outcome.VICTORY
+            : gm.getCurrentState() == gm.GAMEOVER_STATE ? Outcome.DEFEAT : Outcome.TIMEOUT;
+        System.out.printf(Locale.ROOT, "replay %s: seed=%s difficulty=%s map=%dx%d events=%d%n",
+            file, MatchRandom.format(replay.getSeed()), replay.getDifficulty(),
+            replay.getWidth(), replay.getHeight(), replay.getEventCount());
+        System.out.printf(Locale.ROOT, "%s after %d ticks (played from tick %d)%n",
+            outcome, player.getTick(), from);
+        System.out.printf(Locale.ROOT, "wall=%.3fs ticks/sec=%.0f%n", seconds, player.getTick() / seconds);
+        return 0;
+    }
+
+    private static InputDriver createDriver(String spec) throws IOException {
+        if (spec.equals("bot")) return new BotInputDriver();
+        if (spec.equals("idle")) return (gm, tick) -> { };
+        if (spec.startsWith("script:")) return new ScriptedInputDriver(spec.substring("script:".length()));
+        throw new IllegalArgumentException("expected bot, idle or script:FILE");
+    }
+}
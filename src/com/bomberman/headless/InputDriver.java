@@ -0,0 +1,28 @@
+package com.bomberman.headless;
+
+import com.bomberman.core.GameManager;
+
+/**
+ * Source of player input for headless matches.
+ * Implementations feed key codes through {@link GameManager#handleInput(int)}
+ * and {@link GameManager#handleKeyReleased(int)} exactly as the Swing key
+ * listener would.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface InputDriver {
+    /**
+     * Called once before every simulation tick.
+     *
+     * @param gm Game being simulated
+     * @param tick Ticks elapsed since the match started
+     */
+    void onTick(GameManager gm, long tick);
+
+    /**
+     * Called when a new match starts so drivers can drop per-match state.
+     */
+    default void reset() {}
+}
@@ -0,0 +1,111 @@
+package com.bomberman.headless;
+
+import com.bomberman.core.GameManager;
+import java.awt.event.KeyEvent;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replays a fixed list of key presses and releases at given ticks.
+ *
+ * Script format, one event per line ({@code #} starts a comment):
+ * <pre>
+ *   0   press   RIGHT
+ *   30  release RIGHT
+ *   31  press   SPACE
+ * </pre>
+ * Supported keys: UP, DOWN, LEFT, RIGHT, W, A, S, D, SPACE, ENTER, ESCAPE.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class ScriptedInputDriver implements InputDriver {
+    private final long[] ticks;
+    private final int[] keyCodes;
+    private final boolean[] presses;
+    private int cursor = 0;
+
+    /**
+     * Loads a script from disk.
+     *
+     * @param path Script file path
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public ScriptedInputDriver(String path) throws IOException {
+        List<String[]> events = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                int comment = line.indexOf('#');
+                if (comment >= 0) line = line.substring(0, comment);
+                line = line.trim();
+                if (line.isEmpty()) continue;
+
+                String[] parts = line.split("\\s+");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Expected '<tick> <press|release> <key>': " + line);
+                }
+                events.add(parts);
+            }
+        }
+
+        ticks = new long[events.size()];
+        keyCodes = new int[events.size()];
+        presses = new boolean[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            String[] parts = events.get(i);
+            ticks[i] = Long.parseLong(parts[0]);
+            presses[i] = parseAction(parts[1]);
+            keyCodes[i] = parseKey(parts[2]);
+            if (i > 0 && ticks[i] < ticks[i - 1]) {
+                throw new IllegalArgumentException("Script ticks must be ascending at line " + (i + 1));
+            }
+        }
+    }
+
+    @Override
+    public void onTick(GameManager gm, long tick) {
+        while (cursor < ticks.length && ticks[cursor] <= tick) {
+            if (presses[cursor]) {
+                gm.handleInput(keyCodes[cursor]);
+            } else {
+                gm.handleKeyReleased(keyCodes[cursor]);
+            }
+            cursor++;
+        }
+    }
+
+    @Override
+    public void reset() {
+        cursor = 0;
+    }
+
+    private static boolean parseAction(String action) {
+        switch (action.toLowerCase()) {
+            case "press": return true;
+            case "release": return false;
+            default: throw new IllegalArgumentException("Unknown action: " + action);
+        }
+    }
+
+    private static int parseKey(String key) {
+        switch (key.toUpperCase()) {
+            case "UP": return KeyEvent.VK_UP;
+            case "DOWN": return KeyEvent.VK_DOWN;
+            case "LEFT": return KeyEvent.VK_LEFT;
+            case "RIGHT": return KeyEvent.VK_RIGHT;
+            case "W": return KeyEvent.VK_W;
+            case "A": return KeyEvent.VK_A;
+            case "S": return KeyEvent.VK_S;
+            case "D": return KeyEvent.VK_D;
+            case "SPACE": return KeyEvent.VK_SPACE;
+            case "ENTER": return KeyEvent.VK_ENTER;
+            case "ESCAPE": return KeyEvent.VK_ESCAPE;
+            default: throw new IllegalArgumentException("Unknown key: " + key);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.*;
 public class LeaderboardManager {
     private static final String FILE_NAME = "leaderboard.dat";
     private Map<String, Integer> scores;
+    private int version = 0;
 
     private static LeaderboardManager instance;
 
@@ -46,6 +47,7 @@ public class LeaderboardManager {
         } else {
             scores.put(name, time);
         }
+        version++;
         saveScores();
     }
 
@@ -66,6 +68,13 @@ public class LeaderboardManager {
         return list;
     }
 
+    /**
+     * @return Counter incremented whenever the scores change, so views can cache their rows
+     */
+    public int getVersion() {
+        return version;
+    }
+
     public boolean isNameTaken(String name) {
         return scores.containsKey(name);
     }
@@ -0,0 +1,110 @@
+package com.bomberman.managers;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.SnapshotCodec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the single "save and quit" slot. A saved match is written as a
+ * {@link SnapshotCodec} snapshot and is used up when it is continued.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class SaveGameManager {
+    private static final Logger logger = Logger.getLogger(SaveGameManager.class.getName());
+    private static final String FILE_NAME = "savegame.dat";
+
+    private static SaveGameManager instance;
+
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private Path file;
+    private boolean saved;
+
+    private SaveGameManager() {
+        setFile(Paths.get(FILE_NAME));
+    }
+
+    public static SaveGameManager getInstance() {
+        if (instance == null) {
+            instance = new SaveGameManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Points the save slot at another file.
+     *
+     * @param file Save file
+     */
+    public void setFile(Path file) {
+        this.file = file;
+        this.saved = Files.isRegularFile(file);
+    }
+
+    /**
+     * @return true if there is a saved match to continue
+     */
+    public boolean hasSave() {
+        return saved;
+    }
+
+    /**
+     * Saves the current match, replacing any earlier save.
+     *
+     * @param gm Game to save
+     * @return true if the match was written
+     */
+    public boolean save(GameManager gm) {
+        ByteBuffer snapshot = codec.encode(gm);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (snapshot.hasRemaining()) channel.write(snapshot);
+            saved = true;
+            return true;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not save game: {0}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Restores the saved match into the game and removes the save.
+     * A save that cannot be read is removed as well.
+     *
+     * @param gm Game to restore into
+     * @return true if the match was restored
+     */
+    public boolean load(GameManager gm) {
+        if (!saved) return false;
+        try {
+            SnapshotCodec.decode(ByteBuffer.wrap(Files.readAllBytes(file))).restore(gm);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Could not load saved game: {0}", e.getMessage());
+            return false;
+        } finally {
+            delete();
+        }
+    }
+
+    /**
+     * Removes the saved match, if any.
+     */
+    public void delete() {
+        saved = false;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not delete saved game: {0}", e.getMessage());
+        }
+    }
+}
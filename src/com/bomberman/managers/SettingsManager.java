@@ -30,12 +30,17 @@ public class SettingsManager {
         public String toString() { return width + "x" + height; }
     }
 
+    /** Selectable frame rate caps. Simulation always ticks at 60 Hz independently. */
+    public static final int[] FPS_CAP_OPTIONS = { 30, 60, 120, 144, 240, 1000 };
+
     private static SettingsManager instance;
 
     private Resolution resolution = Resolution.RES_1280x720;
     private boolean fullscreen = false;
     private boolean retroEffects = true;
     private boolean showFPS = false;
+    private boolean activeRendering = false;
+    private int fpsCap = 240;
 
     private SettingsManager() {}
 
@@ -57,4 +62,10 @@ public class SettingsManager {
 
     public boolean isShowFPS() { return showFPS; }
     public void setShowFPS(boolean showFPS) { this.showFPS = showFPS; }
+
+    public boolean isActiveRendering() { return activeRendering; }
+    public void setActiveRendering(boolean activeRendering) { this.activeRendering = activeRendering; }
+
+    public int getFpsCap() { return fpsCap; }
+    public void setFpsCap(int fpsCap) { this.fpsCap = Math.max(1, fpsCap); }
 }
@@ -98,4 +98,13 @@ public abstract class PowerUp {
     public int getRemainingDuration() {
         return duration;
     }
+
+    /**
+     * Sets the remaining duration, as when restoring a saved match.
+     *
+     * @param duration Remaining frames
+     */
+    public void setRemainingDuration(int duration) {
+        this.duration = duration;
+    }
 }
@@ -0,0 +1,107 @@
+package com.bomberman.render;
+
+import com.bomberman.core.DirtyTileTracker;
+import com.bomberman.core.GameManager;
+import com.bomberman.managers.SettingsManager;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Persistent back buffer holding the last rendered board.
+ *
+ * The buffer lives at the current device scale. Each frame the owner asks for
+ * a graphics context with {@link #begin(Graphics2D, DirtyTileTracker)}, repaints
+ * the dirty tiles into it (see {@link #clipToTile(Graphics2D, int, int)}) and
+ * then copies the whole buffer to the screen with {@link #present(Graphics2D)}.
+ * A frame with no dirty tiles costs a single blit.
+ *
+ * When the buffer has to be (re)created, because it is new or the device
+ * scale or retro setting changed, every tile is marked dirty.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class BoardBuffer {
+    /**
+     * Logical pixels a tile's repaint area extends past its edges. Sprites reach
+     * at most {@link SpriteAtlas#PADDING} past their tile, so anything drawn in
+     * this area belongs to the tile itself or one of its eight neighbours.
+     */
+    public static final int TILE_BLEED = SpriteAtlas.PADDING;
+
+    private BufferedImage buffer;
+    private double scale = -1;
+    private boolean retro;
+
+    /**
+     * Returns a context for repainting dirty tiles, or null when nothing is dirty.
+     *
+     * @param screen Screen graphics in logical game coordinates; its scale and hints are copied
+     * @param dirty Dirty tiles; marked all dirty if the buffer is recreated
+     * @return Buffer graphics in logical game coordinates; the caller disposes it
+     */
+    public Graphics2D begin(Graphics2D screen, DirtyTileTracker dirty) {
+        double currentScale = Math.max(screen.getTransform().getScaleX(), 0.01);
+        boolean currentRetro = SettingsManager.getInstance().isRetroEffects();
+
+        if (buffer == null || currentScale != scale || currentRetro != retro) {
+            allocate(screen.getDeviceConfiguration(), currentScale);
+            scale = currentScale;
+            retro = currentRetro;
+            dirty.markAll();
+        }
+        if (!dirty.hasDirty()) return null;
+
+        Graphics2D g = buffer.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+            retro ? RenderingHints.VALUE_ANTIALIAS_OFF : RenderingHints.VALUE_ANTIALIAS_ON);
+        Object interpolation = screen.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        if (interpolation != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+        g.scale(scale, scale);
+        return g;
+    }
+
+    /**
+     * Restricts drawing to one tile plus its {@link #TILE_BLEED} border.
+     *
+     * @param g Graphics from {@link #begin(Graphics2D, DirtyTileTracker)}
+     * @param tx Tile X coordinate
+     * @param ty Tile Y coordinate
+     */
+    public static void clipToTile(Graphics2D g, int tx, int ty) {
+        int ts = GameManager.TILE_SIZE;
+        g.setClip(tx * ts - TILE_BLEED, ty * ts - TILE_BLEED, ts + TILE_BLEED * 2, ts + TILE_BLEED * 2);
+    }
+
+    /**
+     * Copies the buffer to the logical game area of the screen.
+     *
+     * @param screen Screen graphics in logical game coordinates
+     */
+    public void present(Graphics2D screen) {
+        if (buffer == null) return;
+        screen.drawImage(buffer, 0, 0, GameManager.GRID_W * GameManager.TILE_SIZE,
+            GameManager.GRID_H * GameManager.TILE_SIZE, null);
+    }
+
+    /**
+     * Drops the buffer; the next {@link #begin(Graphics2D, DirtyTileTracker)} recreates it.
+     */
+    public void invalidate() {
+        buffer = null;
+    }
+
+    private void allocate(GraphicsConfiguration gc, double newScale) {
+        int w = (int) Math.ceil(GameManager.GRID_W * GameManager.TILE_SIZE * newScale);
+        int h = (int) Math.ceil(GameManager.GRID_H * GameManager.TILE_SIZE * newScale);
+        if (buffer != null && buffer.getWidth() == w && buffer.getHeight() == h) return;
+        buffer = gc != null
+            ? gc.createCompatibleImage(w, h, Transparency.OPAQUE)
+            : new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    }
+}
@@ -0,0 +1,265 @@
+package com.bomberman.render;
+
+import com.bomberman.core.FireField;
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Enemy;
+import com.bomberman.entities.Player;
+import com.bomberman.entities.Wall;
+import com.bomberman.managers.SettingsManager;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rasterized entity sprites.
+ *
+ * Every entity look (bomb pulse/spark frames, fire spark variants for each
+ * blast shape, one enemy per hue bucket, both player body colours, the two
+ * wall kinds and the HUD hearts) is
+ * drawn once with the entity's own primitive painter into an image at the
+ * current device scale. Entities then render with a single {@code drawImage}.
+ * The atlas is validated once per frame with {@link #prepare(Graphics2D, int)}
+ * and rebuilt when the tile size, device scale or retro setting changes.
+ *
+ * Sprites carry a transparent border of {@link #PADDING} logical pixels so
+ * details that leave the tile (the bomb spark, wall outlines) are kept.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class SpriteAtlas {
+    /** Logical pixels of transparent border around each tile-sized sprite */
+    public static final int PADDING = 8;
+
+    private static final Color OUTER_FIRE = new Color(255, 69, 0); // Red-Orange
+    private static final Color INNER_FIRE = new Color(255, 140, 0); // Dark Orange
+
+    private static SpriteAtlas instance;
+
+    private final BufferedImage[] bombFrames = new BufferedImage[4];
+    private final BufferedImage[] fireFrames = new BufferedImage[4 * FireField.ARM_SHAPES];
+    private final BufferedImage[] enemyFrames = new BufferedImage[Enemy.HUE_BUCKETS];
+    private final BufferedImage[] playerFrames = new BufferedImage[2];
+    private final BufferedImage[] wallFrames = new BufferedImage[2];
+    private final BufferedImage[] heartFrames = new BufferedImage[2];
+
+    private int tileSize = -1;
+    private double scale = -1;
+    private boolean retro;
+    private boolean ready = false;
+    private double inverseScale = 1.0;
+    private final AffineTransform blitTransform = new AffineTransform();
+
+    private SpriteAtlas() {}
+
+    public static synchronized SpriteAtlas getInstance() {
+        if (instance == null) {
+            instance = new SpriteAtlas();
+        }
+        return instance;
+    }
+
+    /**
+     * Makes sure the sprites match the target's device scale, rebuilding them if needed.
+     * Called once per frame by the renderer before any entity is drawn.
+     *
+     * @param g Graphics context in logical game coordinates
+     * @param tileSize Logical tile size the sprites are drawn at
+     */
+    public void prepare(Graphics2D g, int tileSize) {
+        double currentScale = Math.max(g.getTransform().getScaleX(), 0.01);
+        boolean currentRetro = SettingsManager.getInstance().isRetroEffects();
+        if (!ready || tileSize != this.tileSize || currentScale != scale || currentRetro != retro) {
+            rebuild(g.getDeviceConfiguration(), tileSize, currentScale, currentRetro);
+        }
+    }
+
+    /**
+     * @param tileSize Tile size the caller is drawing at
+     * @return true when sprites for that tile size are available
+     */
+    public boolean isReady(int tileSize) {
+        return ready && tileSize == this.tileSize;
+    }
+
+    /**
+     * Drops every sprite; the next {@link #prepare(Graphics2D, int)} rebuilds them.
+     */
+    public void invalidate() {
+        ready = false;
+    }
+
+    /**
+     * Blits a sprite with its top-left tile corner at the given logical position.
+     *
+     * @param g Graphics context in logical game coordinates
+     * @param sprite Sprite from this atlas
+     * @param px Logical X of the tile's left edge
+     * @param py Logical Y of the tile's top edge
+     */
+    public void draw(Graphics2D g, BufferedImage sprite, int px, int py) {
+        // Undo the device scale so the sprite is copied 1:1 instead of resampled
+        blitTransform.setToTranslation(px - PADDING, py - PADDING);
+        blitTransform.scale(inverseScale, inverseScale);
+        g.drawImage(sprite, blitTransform, null);
+    }
+
+    public BufferedImage getBomb(boolean pulse, boolean spark) {
+        return bombFrames[(pulse ? 1 : 0) | (spark ? 2 : 0)];
+    }
+
+    /**
+     * @param variant Spark variant, 0-3
+     * @param arms {@link FireField} arm bits of the burning cell
+     * @return Fire sprite for that variant and blast shape
+     */
+    public BufferedImage getFire(int variant, int arms) {
+        return fireFrames[(variant & 3) * FireField.ARM_SHAPES + (arms & (FireField.ARM_SHAPES - 1))];
+    }
+
+    public BufferedImage getEnemy(int hueIndex) {
+        return enemyFrames[hueIndex];
+    }
+
+    public BufferedImage getPlayer(boolean poweredUp) {
+        return playerFrames[poweredUp ? 1 : 0];
+    }
+
+    public BufferedImage getWall(boolean destructible) {
+        return wallFrames[destructible ? 1 : 0];
+    }
+
+    public BufferedImage getHeart(boolean full) {
+        return heartFrames[full ? 1 : 0];
+    }
+
+    private void rebuild(GraphicsConfiguration gc, int newTileSize, double newScale, boolean newRetro) {
+        int device = (int) Math.ceil((newTileSize + PADDING * 2) * newScale);
+
+        for (int i = 0; i < bombFrames.length; i++) {
+            boolean pulse = (i & 1) != 0;
+            boolean spark = (i & 2) != 0;
+            Graphics2D g = begin(bombFrames, i, gc, device, newScale, newRetro);
+            Bomb.paint(g, 0, 0, newTileSize, pulse, spark);
+            g.dispose();
+        }
+        for (int i = 0; i < fireFrames.length; i++) {
+            Graphics2D g = begin(fireFrames, i, gc, device, newScale, newRetro);
+            paintFire(g, 0, 0, newTileSize, i / FireField.ARM_SHAPES, i % FireField.ARM_SHAPES);
+            g.dispose();
+        }
+        for (int i = 0; i < enemyFrames.length; i++) {
+            Graphics2D g = begin(enemyFrames, i, gc, device, newScale, newRetro);
+            Enemy.paint(g, 0, 0, newTileSize, Enemy.hueColor(i));
+            g.dispose();
+        }
+        for (int i = 0; i < playerFrames.length; i++) {
+            Graphics2D g = begin(playerFrames, i, gc, device, newScale, newRetro);
+            Player.paint(g, 0, 0, newTileSize, i == 1);
+            g.dispose();
+        }
+
+        for (int i = 0; i < wallFrames.length; i++) {
+            Graphics2D g = begin(wallFrames, i, gc, device, newScale, newRetro);
+            Wall.paint(g, 0, 0, newTileSize, i == 1);
+            g.dispose();
+        }
+        for (int i = 0; i < heartFrames.length; i++) {
+            Graphics2D g = begin(heartFrames, i, gc, device, newScale, newRetro);
+            paintHeart(g, 0, 0, i == 1);
+            g.dispose();
+        }
+
+        tileSize = newTileSize;
+        scale = newScale;
+        inverseScale = 1.0 / newScale;
+        retro = newRetro;
+        ready = true;
+    }
+
+    /**
+     * Draws one burning cell: nested flames around the centre that reach the
+     * tile edge along each arm, so neighbouring cells join into one blast.
+     *
+     * @param variant Spark bits: 1 = top-left spark, 2 = bottom-right spark
+     * @param arms {@link FireField} arm bits
+     */
+    private static void paintFire(Graphics2D g, int px, int py, int tileSize, int variant, int arms) {
+        // Outer Fire
+        g.setColor(OUTER_FIRE);
+        fillFlame(g, px, py, tileSize, 2, arms);
+
+        // Inner Fire
+        g.setColor(INNER_FIRE);
+        fillFlame(g, px, py, tileSize, 8, arms);
+
+        // Core
+        g.setColor(Color.YELLOW);
+        fillFlame(g, px, py, tileSize, 14, arms);
+
+        // Particles/sparks
+        g.setColor(Color.WHITE);
+        if ((variant & 1) != 0) g.fillRect(px + 10, py + 10, 4, 4);
+        if ((variant & 2) != 0) g.fillRect(px + tileSize - 14, py + tileSize - 14, 4, 4);
+    }
+
+    /**
+     * Fills the centre square inset by {@code inset} and extends it to the tile edge along each arm.
+     */
+    private static void fillFlame(Graphics2D g, int px, int py, int tileSize, int inset, int arms) {
+        int span = tileSize - inset * 2;
+        g.fillRect(px + inset, py + inset, span, span);
+        if ((arms & FireField.ARM_UP) != 0) g.fillRect(px + inset, py, span, inset);
+        if ((arms & FireField.ARM_DOWN) != 0) g.fillRect(px + inset, py + tileSize - inset, span, inset);
+        if ((arms & FireField.ARM_LEFT) != 0) g.fillRect(px, py + inset, inset, span);
+        if ((arms & FireField.ARM_RIGHT) != 0) g.fillRect(px + tileSize - inset, py + inset, inset, span);
+    }
+
+    /**
+     * Draws a 24x24 HUD heart, filled or as an outline.
+     */
+    private static void paintHeart(Graphics2D g, int hx, int hy, boolean full) {
+        int[] tx = {hx, hx + 24, hx + 12};
+        int[] ty = {hy + 6, hy + 6, hy + 24};
+        g.setColor(Color.RED);
+        if (full) {
+            g.fillOval(hx, hy, 12, 12);
+            g.fillOval(hx + 12, hy, 12, 12);
+            g.fillPolygon(tx, ty, 3);
+        } else {
+            g.drawOval(hx, hy, 12, 12);
+            g.drawOval(hx + 12, hy, 12, 12);
+            g.drawPolygon(tx, ty, 3);
+        }
+    }
+
+    /**
+     * Ensures {@code slots[index]} is a cleared image of the right size and returns a
+     * graphics context whose origin is the sprite's tile corner.
+     */
+    private static Graphics2D begin(BufferedImage[] slots, int index, GraphicsConfiguration gc,
+                                    int device, double scale, boolean retro) {
+        BufferedImage image = slots[index];
+        if (image == null || image.getWidth() != device || image.getHeight() != device) {
+            image = gc != null
+                ? gc.createCompatibleImage(device, device, Transparency.TRANSLUCENT)
+                : new BufferedImage(device, device, BufferedImage.TYPE_INT_ARGB);
+            slots[index] = image;
+        }
+
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, device, device);
+        g.setComposite(AlphaComposite.SrcOver);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+            retro ? RenderingHints.VALUE_ANTIALIAS_OFF : RenderingHints.VALUE_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        g.translate(PADDING, PADDING);
+        return g;
+    }
+}
@@ -0,0 +1,206 @@
+package com.bomberman.render;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.entities.Wall;
+import com.bomberman.managers.SettingsManager;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Pre-rendered board terrain.
+ *
+ * Two images are kept at the current device scale: a static layer with the
+ * floor and the indestructible walls, and the terrain layer, which is the
+ * static layer with the soft walls composited on top. A frame only blits the
+ * terrain layer. When a soft wall is destroyed its tile is queued with
+ * {@link #invalidateTile(int, int)} and restored from the static layer on the
+ * next render; everything is rebuilt when the map, scale or retro setting changes.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class TerrainCache {
+    private static final Color FLOOR_COLOR = new Color(85, 239, 196);
+
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    /** Extra device pixels restored around a tile, covering soft-wall outlines that straddle tile edges */
+    private static final int TILE_MARGIN = 2;
+
+    private BufferedImage staticLayer;
+    private BufferedImage terrainLayer;
+    private double scale = -1;
+    private boolean retro;
+    private long mapGeneration = -1;
+
+    // Tiles waiting to be restored, queued by the simulation and drained by the renderer
+    private final boolean[] pending = new boolean[GameManager.GRID_W * GameManager.GRID_H];
+    private final int[] pendingQueue = new int[GameManager.GRID_W * GameManager.GRID_H];
+    private int pendingCount = 0;
+
+    /**
+     * Draws the terrain into the logical game area, rebuilding or patching it first if needed.
+     *
+     * @param g Graphics context in logical game coordinates
+     * @param gm Game providing the walls
+     */
+    public void render(Graphics2D g, GameManager gm) {
+        double currentScale = Math.max(g.getTransform().getScaleX(), 0.01);
+        boolean currentRetro = SettingsManager.getInstance().isRetroEffects();
+
+        if (terrainLayer == null || currentScale != scale || currentRetro != retro
+                || gm.getMapGeneration() != mapGeneration) {
+            rebuild(g.getDeviceConfiguration(), gm, currentScale, currentRetro);
+        } else if (pendingCount > 0) {
+            restorePendingTiles(gm);
+        }
+
+        g.drawImage(terrainLayer, 0, 0, GameManager.GRID_W * GameManager.TILE_SIZE,
+            GameManager.GRID_H * GameManager.TILE_SIZE, null);
+    }
+
+    /**
+     * Marks a tile whose soft wall has been destroyed.
+     *
+     * @param x Tile X coordinate
+     * @param y Tile Y coordinate
+     */
+    public void invalidateTile(int x, int y) {
+        if (x < 0 || x >= GameManager.GRID_W || y < 0 || y >= GameManager.GRID_H) return;
+        int idx = y * GameManager.GRID_W + x;
+        if (!pending[idx]) {
+            pending[idx] = true;
+            pendingQueue[pendingCount++] = idx;
+        }
+    }
+
+    /**
+     * Drops both layers so the next render rebuilds them.
+     */
+    public void invalidateAll() {
+        terrainLayer = null;
+        staticLayer = null;
+        clearPending();
+    }
+
+    private void rebuild(GraphicsConfiguration gc, GameManager gm, double newScale, boolean newRetro) {
+        int w = (int) Math.ceil(GameManager.GRID_W * GameManager.TILE_SIZE * newScale);
+        int h = (int) Math.ceil(GameManager.GRID_H * GameManager.TILE_SIZE * newScale);
+
+        if (staticLayer == null || staticLayer.getWidth() != w || staticLayer.getHeight() != h) {
+            staticLayer = createImage(gc, w, h);
+            terrainLayer = createImage(gc, w, h);
+        }
+
+        // Static layer: floor + hard walls
+        Graphics2D sg = createLayerGraphics(staticLayer, newScale, newRetro);
+        sg.setColor(FLOOR_COLOR);
+        sg.fillRect(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE);
+        drawWalls(sg, gm.getTiles(), TileMap.HARD);
+        sg.dispose();
+
+        // Terrain layer: static layer + soft walls
+        Graphics2D tg = createLayerGraphics(terrainLayer, newScale, newRetro);
+        tg.setTransform(IDENTITY);
+        tg.setComposite(AlphaComposite.Src);
+        tg.drawImage(staticLayer, 0, 0, null);
+        tg.setComposite(AlphaComposite.SrcOver);
+        tg.scale(newScale, newScale);
+        drawWalls(tg, gm.getTiles(), TileMap.SOFT);
+        tg.dispose();
+
+        scale = newScale;
+        retro = newRetro;
+        mapGeneration = gm.getMapGeneration();
+        clearPending();
+    }
+
+    private void restorePendingTiles(GameManager gm) {
+        int ts = GameManager.TILE_SIZE;
+        Graphics2D tg = createLayerGraphics(terrainLayer, scale, retro);
+
+        for (int i = 0; i < pendingCount; i++) {
+            int idx = pendingQueue[i];
+            pending[idx] = false;
+            int tx = idx % GameManager.GRID_W;
+            int ty = idx / GameManager.GRID_W;
+
+            // Device-space rectangle of the tile, grown by a small margin
+            int x0 = (int) Math.floor(tx * ts * scale) - TILE_MARGIN;
+            int y0 = (int) Math.floor(ty * ts * scale) - TILE_MARGIN;
+            int x1 = (int) Math.ceil((tx + 1) * ts * scale) + TILE_MARGIN;
+            int y1 = (int) Math.ceil((ty + 1) * ts * scale) + TILE_MARGIN;
+
+            tg.setTransform(IDENTITY);
+            tg.setClip(x0, y0, x1 - x0, y1 - y0);
+            tg.setComposite(AlphaComposite.Src);
+            tg.drawImage(staticLayer, x0, y0, x1, y1, x0, y0, x1, y1, null);
+            tg.setComposite(AlphaComposite.SrcOver);
+
+            // Neighbouring soft walls may reach into the margin; redraw them clipped
+            tg.scale(scale, scale);
+            TileMap tiles = gm.getTiles();
+            for (int ny = ty - 1; ny <= ty + 1; ny++) {
+                for (int nx = tx - 1; nx <= tx + 1; nx++) {
+                    if (tiles.get(nx, ny) == TileMap.SOFT) drawWall(tg, nx, ny, true);
+                }
+            }
+        }
+        pendingCount = 0;
+        tg.dispose();
+    }
+
+    /**
+     * Draws every wall of one kind inside the visible board.
+     */
+    private static void drawWalls(Graphics2D g, TileMap tiles, byte code) {
+        int w = Math.min(tiles.getWidth(), GameManager.GRID_W);
+        int h = Math.min(tiles.getHeight(), GameManager.GRID_H);
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                if (tiles.get(x, y) == code) drawWall(g, x, y, code == TileMap.SOFT);
+            }
+        }
+    }
+
+    private static void drawWall(Graphics2D g, int x, int y, boolean destructible) {
+        int ts = GameManager.TILE_SIZE;
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        if (atlas.isReady(ts)) {
+            atlas.draw(g, atlas.getWall(destructible), x * ts, y * ts);
+        } else {
+            Wall.paint(g, x * ts, y * ts, ts, destructible);
+        }
+    }
+
+    private void clearPending() {
+        Arrays.fill(pending, false);
+        pendingCount = 0;
+    }
+
+    private static BufferedImage createImage(GraphicsConfiguration gc, int w, int h) {
+        if (gc != null) {
+            return gc.createCompatibleImage(w, h, Transparency.OPAQUE);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static Graphics2D createLayerGraphics(BufferedImage image, double scale, boolean retro) {
+        Graphics2D g = image.createGraphics();
+        if (retro) {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        } else {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        }
+        g.scale(scale, scale);
+        return g;
+    }
+}
@@ -0,0 +1,241 @@
+package com.bomberman.replay;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.managers.SettingsManager;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded match: the settings and seed it started from, and every key
+ * press and release that changed the playing state, stamped with the match
+ * tick. Auto-repeated presses of a held key do nothing and are not recorded.
+ * Since a match is fully determined by its seed and input, this is enough to
+ * play it again exactly.
+ *
+ * File format, all integers as unsigned LEB128 varints unless noted:
+ * <pre>
+ *   "BQRP"            magic, 4 bytes
+ *   version           1 byte
+ *   seed              8 bytes, big-endian
+ *   difficulty        1 byte, enum ordinal
+ *   width, height     map size in tiles
+ *   enemies           requested enemy count, 0 for the difficulty's default
+ *   length            ticks the match ran
+ *   count             number of input events
+ *   count times:
+ *     tick delta      ticks since the previous event (since tick 0 for the first)
+ *     key             key code &lt;&lt; 1 | 1 for a press, 0 for a release
+ * </pre>
+ * An event takes three or four bytes and a held key costs two events
+ * however long it is held, so a minute of play is typically a few hundred
+ * bytes.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class Replay {
+    /** File name extension of saved replays */
+    public static final String EXTENSION = ".bqr";
+
+    private static final byte[] MAGIC = { 'B', 'Q', 'R', 'P' };
+    private static final int VERSION = 1;
+    /** Most events a replay may hold; a recorder only sees a few a tick, so this is hours of play */
+    static final int MAX_EVENTS = 1 << 24;
+    /** Events read before the arrays first grow, so a bogus count cannot allocate much up front */
+    private static final int INITIAL_EVENTS = 1024;
+
+    private final long seed;
+    private final SettingsManager.Difficulty difficulty;
+    private final int width;
+    private final int height;
+    private final int enemyCount;
+    private final long length;
+    private final long[] ticks;
+    private final int[] keyCodes;
+    private final boolean[] presses;
+
+    Replay(long seed, SettingsManager.Difficulty difficulty, int width, int height, int enemyCount,
+           long length, long[] ticks, int[] keyCodes, boolean[] presses) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.width = width;
+        this.height = height;
+        this.enemyCount = enemyCount;
+        this.length = length;
+        this.ticks = ticks;
+        this.keyCodes = keyCodes;
+        this.presses = presses;
+    }
+
+    public long getSeed() { return seed; }
+    public SettingsManager.Difficulty getDifficulty() { return difficulty; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getEnemyCount() { return enemyCount; }
+    /** @return Ticks the recorded match ran */
+    public long getLength() { return length; }
+    public int getEventCount() { return ticks.length; }
+    public long getEventTick(int i) { return ticks[i]; }
+    public int getEventKey(int i) { return keyCodes[i]; }
+    public boolean isEventPress(int i) { return presses[i]; }
+
+    /**
+     * Finds the first event at or after a tick.
+     *
+     * @param tick Match tick
+     * @return Event index, or {@link #getEventCount()} if none
+     */
+    public int firstEventAt(long tick) {
+        int lo = 0;
+        int hi = ticks.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ticks[mid] < tick) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Writes the replay to a stream.
+     *
+     * @param out Stream to write to; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeByte(difficulty.ordinal());
+        writeVarLong(data, width);
+        writeVarLong(data, height);
+        writeVarLong(data, enemyCount);
+        writeVarLong(data, length);
+        writeVarLong(data, ticks.length);
+        long previous = 0;
+        for (int i = 0; i < ticks.length; i++) {
+            writeVarLong(data, ticks[i] - previous);
+            writeVarLong(data, ((long) keyCodes[i] << 1) | (presses[i] ? 1 : 0));
+            previous = ticks[i];
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay from a stream.
+     *
+     * @param in Stream positioned at the start of a replay
+     * @return The replay
+     * @throws IOException if reading fails, the data is not a replay of a known
+     *         version, or a header field is out of range
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+
+        long seed = data.readLong();
+        int difficultyIndex = data.readUnsignedByte();
+        SettingsManager.Difficulty[] difficulties = SettingsManager.Difficulty.values();
+        if (difficultyIndex >= difficulties.length) throw new IOException("Unknown difficulty " + difficultyIndex);
+        int width = readVarInt(data);
+        int height = readVarInt(data);
+        if (width < GameManager.MIN_GRID_SIZE || width > GameManager.MAX_GRID_SIZE
+                || height < GameManager.MIN_GRID_SIZE || height > GameManager.MAX_GRID_SIZE) {
+            throw new IOException("Bad map size " + width + "x" + height);
+        }
+        int enemyCount = readVarInt(data);
+        long length = readVarLong(data);
+        if (length < 0) throw new IOException("Bad length " + length);
+        int count = readVarInt(data);
+        if (count > MAX_EVENTS) throw new IOException("Bad event count " + count);
+
+        // Grown as events actually arrive, so a count the file cannot back fails at its end
+        int capacity = Math.min(count, INITIAL_EVENTS);
+        long[] ticks = new long[capacity];
+        int[] keyCodes = new int[capacity];
+        boolean[] presses = new boolean[capacity];
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == capacity) {
+                capacity = (int) Math.min(count, 2L * capacity);
+                ticks = Arrays.copyOf(ticks, capacity);
+                keyCodes = Arrays.copyOf(keyCodes, capacity);
+                presses = Arrays.copyOf(presses, capacity);
+            }
+            long delta = readVarLong(data);
+            long key = readVarLong(data);
+            if (delta < 0 || key < 0 || key >>> 1 > Integer.MAX_VALUE) throw new IOException("Bad event " + i);
+            tick += delta;
+            ticks[i] = tick;
+            keyCodes[i] = (int) (key >>> 1);
+            presses[i] = (key & 1) != 0;
+        }
+        return new Replay(seed, difficulties[difficultyIndex], width, height, enemyCount, length, ticks, keyCodes, presses);
+    }
+
+    /**
+     * Saves the replay to a file, replacing it if it exists.
+     *
+     * @param file File to write
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Loads a replay file.
+     *
+     * @param file File to read
+     * @return The replay
+     * @throws IOException if reading fails or the file is not a replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Truncated replay");
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) throw new IOException("Value out of range: " + value);
+        return (int) value;
+    }
+}
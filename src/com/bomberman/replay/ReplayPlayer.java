@@ -0,0 +1,138 @@
+package com.bomberman.replay;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.MatchState;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a {@link Replay} back by simulating the match again through
+ * {@link GameManager}, feeding the recorded key events in before the ticks
+ * they arrived at.
+ *
+ * Headless callers drive it with {@link #step()} as fast as they like. For
+ * playback at real time, install it with
+ * {@link GameManager#setTickListener} and let the game loop tick as usual;
+ * it detaches itself when the recording ends.
+ *
+ * Every {@link #KEYFRAME_INTERVAL} ticks the player keeps a
+ * {@link MatchState} copy of the match, so {@link #seek(long)} only has to
+ * simulate from the nearest keyframe at or before the target.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class ReplayPlayer implements GameManager.TickListener {
+    /** Ticks between keyframes: ten seconds of play */
+    public static final int KEYFRAME_INTERVAL = 600;
+
+    private final Replay replay;
+    private final GameManager gm;
+    private final List<MatchState> keyframes = new ArrayList<>();
+    private int cursor = 0;
+
+    /**
+     * @param replay Match to play back
+     * @param gm Game to simulate it in
+     */
+    public ReplayPlayer(Replay replay, GameManager gm) {
+        this.replay = replay;
+        this.gm = gm;
+    }
+
+    /**
+     * Sets the game up as the recorded match was and starts it at tick 0.
+     *
+     * @throws IllegalArgumentException if the recorded map size is not supported
+     */
+    public void start() {
+        gm.setMapSize(replay.getWidth(), replay.getHeight());
+        gm.setEnemyCount(replay.getEnemyCount());
+        gm.startMatch(replay.getDifficulty(), replay.getSeed());
+        gm.cancelRecording();
+        keyframes.clear();
+        cursor = 0;
+    }
+
+    /**
+     * @return Current match tick
+     */
+    public long getTick() {
+        return gm.getMatchTicks();
+    }
+
+    /**
+     * @return true once the recorded length is reached or the match has ended
+     */
+    public boolean isFinished() {
+        return getTick() >= replay.getLength() || gm.getCurrentState() != gm.PLAYING_STATE;
+    }
+
+    /**
+     * Simulates one tick.
+     */
+    public void step() {
+        feed();
+        gm.update();
+    }
+
+    /**
+     * Simulates to the end of the recording.
+     *
+     * @return Number of ticks simulated
+     */
+    public long runToEnd() {
+        long from = getTick();
+        while (!isFinished()) step();
+        return getTick() - from;
+    }
+
+    /**
+     * Moves playback to a tick, restoring the nearest keyframe at or before it
+     * and simulating forward from there. Keyframes exist only for ticks that
+     * have been played, so seeking past them simulates from the last one.
+     *
+     * @param tick Target tick, clamped to the recording
+     */
+    public void seek(long tick) {
+        long target = Math.max(0, Math.min(tick, replay.getLength()));
+        int k = (int) Math.min(target / KEYFRAME_INTERVAL, keyframes.size() - 1L);
+        if (k >= 0) {
+            long keyframeTick = (long) k * KEYFRAME_INTERVAL;
+            if (target < getTick() || keyframeTick > getTick()) {
+                keyframes.get(k).restore(gm);
+                cursor = replay.firstEventAt(keyframeTick);
+            }
+        } else if (target < getTick()) {
+            start();
+        }
+        while (getTick() < target && !isFinished()) step();
+    }
+
+    @Override
+    public void beforeTick(GameManager gm) {
+        if (isFinished()) {
+            gm.setTickListener(null);
+            return;
+        }
+        feed();
+    }
+
+    /**
+     * Takes a keyframe if one is due, then delivers the events of the current tick.
+     */
+    private void feed() {
+        long tick = getTick();
+        if (tick % KEYFRAME_INTERVAL == 0 && tick / KEYFRAME_INTERVAL == keyframes.size()) {
+            keyframes.add(MatchState.capture(gm));
+        }
+        while (cursor < replay.getEventCount() && replay.getEventTick(cursor) <= tick) {
+            if (replay.isEventPress(cursor)) {
+                gm.handleInput(replay.getEventKey(cursor));
+            } else {
+                gm.handleKeyReleased(replay.getEventKey(cursor));
+            }
+            cursor++;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bomberman.replay;
+
+import com.bomberman.managers.SettingsManager;
+import java.util.Arrays;
+
+/**
+ * Collects the input of the match being played into a {@link Replay}.
+ * Events go into growable primitive arrays, so recording allocates only
+ * when they fill up.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class ReplayRecorder {
+    private boolean recording = false;
+    private long seed;
+    private SettingsManager.Difficulty difficulty;
+    private int width;
+    private int height;
+    private int enemyCount;
+
+    private int count = 0;
+    private long[] ticks = new long[256];
+    private int[] keyCodes = new int[256];
+    private boolean[] presses = new boolean[256];
+
+    /**
+     * Starts recording a new match, dropping anything recorded before.
+     *
+     * @param seed Match seed
+     * @param difficulty Match difficulty
+     * @param width Map width
+     * @param height Map height
+     * @param enemyCount Requested enemy count, 0 for the difficulty's default
+     */
+    public void begin(long seed, SettingsManager.Difficulty difficulty, int width, int height, int enemyCount) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.width = width;
+        this.height = height;
+        this.enemyCount = enemyCount;
+        this.count = 0;
+        this.recording = true;
+    }
+
+    /**
+     * Stops recording without producing a replay, e.g. for a match that was
+     * not started from its seed.
+     */
+    public void cancel() {
+        recording = false;
+    }
+
+    public boolean isRecording() { return recording; }
+
+    /**
+     * Records a key event. Ignored when not recording.
+     *
+     * @param tick Match tick the event arrived before
+     * @param keyCode Key code
+     * @param press true for a press, false for a release
+     */
+    public void record(long tick, int keyCode, boolean press) {
+        if (!recording) return;
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            keyCodes = Arrays.copyOf(keyCodes, count * 2);
+            presses = Arrays.copyOf(presses, count * 2);
+        }
+        ticks[count] = tick;
+        keyCodes[count] = keyCode;
+        presses[count] = press;
+        count++;
+    }
+
+    /**
+     * Ends the recording.
+     *
+     * @param length Ticks the match ran
+     * @return The recorded match, or null if nothing was being recorded
+     */
+    public Replay finish(long length) {
+        if (!recording) return null;
+        recording = false;
+        return new Replay(seed, difficulty, width, height, enemyCount, length,
+            Arrays.copyOf(ticks, count), Arrays.copyOf(keyCodes, count), Arrays.copyOf(presses, count));
+    }
+}
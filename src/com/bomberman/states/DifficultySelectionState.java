@@ -8,8 +8,9 @@ import com.bomberman.managers.SettingsManager;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.event.KeyEvent;
-import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,10 +24,31 @@ public class DifficultySelectionState implements GameState {
     };
     private static final String FONT_NAME_DEFAULT = "Consolas";
 
+    // Fonts, colours and backgrounds
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 40);
+    private static final Font OPTION_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 32);
+    private static final Font DESCRIPTION_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 16);
+    private static final Font FOOTER_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 16);
+    private static final Font LABEL_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 20);
+    private static final Color BACKGROUND = new Color(20, 20, 30);
+    private static final Color HIGHLIGHT = new Color(255, 255, 255, 30);
+    private static final Color PREVIEW_BACKGROUND = new Color(20, 20, 20);
+    private final String[] selectedLabels = new String[options.length];
+    private final String[] previewLabels = new String[options.length];
+
     private List<GameObject> previewWalls = new ArrayList<>();
     private List<GameObject> previewEnemies = new ArrayList<>();
     private Player previewPlayer = new Player(1, 1);
     private int lastSelection = -1;
+    private BufferedImage previewImage;
+    private double previewScale = -1;
+
+    public DifficultySelectionState() {
+        for (int i = 0; i < options.length; i++) {
+            selectedLabels[i] = "> " + options[i];
+            previewLabels[i] = "PREVIEW: " + options[i];
+        }
+    }
 
     @Override
     public void update(GameManager gm) {
@@ -40,12 +62,12 @@ public class DifficultySelectionState implements GameState {
         int screenH = GameManager.GRID_H * GameManager.TILE_SIZE;
 
         // Background
-        g2d.setColor(new Color(20, 20, 30));
+        g2d.setColor(BACKGROUND);
         g2d.fillRect(0, 0, screenW, screenH);
 
         // Title
         g2d.setColor(Color.ORANGE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 40));
+        g2d.setFont(TITLE_FONT);
         String title = "SELECT DIFFICULTY";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         g2d.drawString(title, (screenW - titleW) / 2, 80);
@@ -56,26 +78,26 @@ public class DifficultySelectionState implements GameState {
         int startY = 200;
 
         // Options (Left Side)
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 32));
+        g2d.setFont(OPTION_FONT);
         for (int i = 0; i < options.length; i++) {
             int y = startY + i * 100;
             
             if (i == selection) {
-                String text = "> " + options[i];
+                String text = selectedLabels[i];
                 int textW = g2d.getFontMetrics().stringWidth(text);
 
                 // Highlight Box
-                g2d.setColor(new Color(255, 255, 255, 30));
+                g2d.setColor(HIGHLIGHT);
                 g2d.fillRoundRect(leftX - 20, y - 35, textW + 40, 50, 10, 10);
                 
                 g2d.setColor(Color.YELLOW);
                 g2d.drawString(text, leftX, y);
                 
                 // Description
-                g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 16));
+                g2d.setFont(DESCRIPTION_FONT);
                 g2d.setColor(Color.LIGHT_GRAY);
                 g2d.drawString(descriptions[i], leftX + 20, y + 30);
-                g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 32)); // Reset font
+                g2d.setFont(OPTION_FONT); // Reset font
             } else {
                 g2d.setColor(Color.GRAY);
                 g2d.drawString(options[i], leftX, y);
@@ -87,7 +109,7 @@ public class DifficultySelectionState implements GameState {
         drawPreview(g2d, rightX, previewY, selection);
 
         // Footer
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 16));
+        g2d.setFont(FOOTER_FONT);
         g2d.setColor(Color.WHITE);
         String footer = "Press ENTER to Start, ESC to Back";
         int footerW = g2d.getFontMetrics().stringWidth(footer);
@@ -146,68 +168,83 @@ public class DifficultySelectionState implements GameState {
     }
 
     private void drawPreview(Graphics2D g2d, int x, int y, int selection) {
-        if (selection != lastSelection) {
-            updatePreview(selection);
-            lastSelection = selection;
-        }
-
         int w = 500;
         int h = 400;
-        
+
         // Border
         g2d.setColor(Color.WHITE);
         g2d.drawRect(x, y, w, h);
-        
+
+        // The preview only changes with the selection (or the device scale), so it is
+        // rendered once into an image and blitted every frame
+        double deviceScale = Math.max(g2d.getTransform().getScaleX(), 0.01);
+        if (selection != lastSelection || previewImage == null || deviceScale != previewScale) {
+            if (selection != lastSelection) {
+                updatePreview(selection);
+                lastSelection = selection;
+            }
+            renderPreviewImage(w - 1, h - 1, deviceScale);
+        }
+        g2d.drawImage(previewImage, x + 1, y + 1, w - 1, h - 1, null);
+
+        // Label
+        g2d.setColor(Color.CYAN);
+        g2d.setFont(LABEL_FONT);
+        String label = previewLabels[selection];
+        int labelW = g2d.getFontMetrics().stringWidth(label);
+        g2d.drawString(label, x + (w - labelW)/2, y - 10);
+    }
+
+    /**
+     * Renders the current preview map into {@link #previewImage} at device resolution.
+     *
+     * @param w Logical width of the preview area
+     * @param h Logical height of the preview area
+     * @param deviceScale Scale of the screen transform the image will be drawn with
+     */
+    private void renderPreviewImage(int w, int h, double deviceScale) {
+        int imageW = (int) Math.ceil(w * deviceScale);
+        int imageH = (int) Math.ceil(h * deviceScale);
+        if (previewImage == null || previewImage.getWidth() != imageW || previewImage.getHeight() != imageH) {
+            previewImage = new BufferedImage(imageW, imageH, BufferedImage.TYPE_INT_RGB);
+        }
+
+        Graphics2D g = previewImage.createGraphics();
+        boolean retro = SettingsManager.getInstance().isRetroEffects();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+            retro ? RenderingHints.VALUE_ANTIALIAS_OFF : RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.scale(deviceScale, deviceScale);
+
         // Background
-        g2d.setColor(new Color(20, 20, 20));
-        g2d.fillRect(x + 1, y + 1, w - 1, h - 1);
-        
-        // Clip
-        java.awt.Shape oldClip = g2d.getClip();
-        g2d.setClip(x + 1, y + 1, w - 1, h - 1);
-        
+        g.setColor(PREVIEW_BACKGROUND);
+        g.fillRect(0, 0, w, h);
+
         // Calculate Scale
         double scaleX = (double) w / (GameManager.GRID_W * GameManager.TILE_SIZE);
         double scaleY = (double) h / (GameManager.GRID_H * GameManager.TILE_SIZE);
         double scale = Math.min(scaleX, scaleY);
-        
-        AffineTransform oldTransform = g2d.getTransform();
-        
-        // Translate to preview box
-        g2d.translate(x, y);
-        
+
         // Center the map in the box
         double mapW = GameManager.GRID_W * GameManager.TILE_SIZE * scale;
         double mapH = GameManager.GRID_H * GameManager.TILE_SIZE * scale;
-        double offX = (w - mapW) / 2;
-        double offY = (h - mapH) / 2;
-        
-        g2d.translate(offX, offY);
-        g2d.scale(scale, scale);
-        
+        g.translate((w - mapW) / 2, (h - mapH) / 2);
+        g.scale(scale, scale);
+
         // Render Elements
         int ts = GameManager.TILE_SIZE;
-        
+
         for (GameObject wall : previewWalls) {
-            wall.render(g2d, ts);
+            wall.render(g, ts);
         }
-        
+
         for (GameObject enemy : previewEnemies) {
-            enemy.render(g2d, ts);
+            enemy.render(g, ts);
         }
-        
-        previewPlayer.render(g2d, ts);
-        
-        // Restore
-        g2d.setTransform(oldTransform);
-        g2d.setClip(oldClip);
-        
-        // Label
-        g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 20));
-        String label = "PREVIEW: " + options[selection];
-        int labelW = g2d.getFontMetrics().stringWidth(label);
-        g2d.drawString(label, x + (w - labelW)/2, y - 10);
+
+        previewPlayer.render(g, ts);
+        g.dispose();
+        previewScale = deviceScale;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.bomberman.states;
 
 import com.bomberman.core.GameManager;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
@@ -8,6 +9,18 @@ import java.awt.event.KeyEvent;
 
 public class GameOverState implements GameState {
     private static final String FONT_NAME_DEFAULT = "Consolas";
+
+    // Fonts and colours
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 60);
+    private static final Font TEXT_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20);
+    private static final Color OVERLAY = new Color(0, 0, 0, 220);
+    private static final Color BOX_SHADOW = new Color(0, 0, 0, 120);
+    private static final Color BOX_COLOR = new Color(50, 30, 30);
+    private static final Color BOX_BORDER = new Color(200, 50, 50);
+    private static final BasicStroke BOX_STROKE = new BasicStroke(3);
+    private static final Color TITLE_SHADOW = new Color(255, 0, 0, 80);
+    private static final Color TITLE_COLOR = new Color(255, 100, 100);
+
     @Override
     public void update(GameManager gm) {
         // Handle periodic game logic, state changes, or object movement/behavior
@@ -21,7 +34,7 @@ public class GameOverState implements GameState {
         int screenW = GameManager.GRID_W * GameManager.TILE_SIZE;
         int screenH = GameManager.GRID_H * GameManager.TILE_SIZE;
         
-        g2d.setColor(new Color(0, 0, 0, 220));
+        g2d.setColor(OVERLAY);
         g2d.fillRect(0, 0, screenW, screenH);
         
         // Modal Box
@@ -31,30 +44,30 @@ public class GameOverState implements GameState {
         int boxY = (screenH - boxH) / 2;
         
         // Shadow
-        g2d.setColor(new Color(0, 0, 0, 120));
+        g2d.setColor(BOX_SHADOW);
         g2d.fillRoundRect(boxX + 5, boxY + 5, boxW, boxH, 20, 20);
         
-        g2d.setColor(new Color(50, 30, 30));
+        g2d.setColor(BOX_COLOR);
         g2d.fillRoundRect(boxX, boxY, boxW, boxH, 20, 20);
-        g2d.setColor(new Color(200, 50, 50));
-        g2d.setStroke(new java.awt.BasicStroke(3));
+        g2d.setColor(BOX_BORDER);
+        g2d.setStroke(BOX_STROKE);
         g2d.drawRoundRect(boxX, boxY, boxW, boxH, 20, 20);
         
         // Title with effect
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 60));
+        g2d.setFont(TITLE_FONT);
         String title = "GAME OVER";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         int titleX = boxX + (boxW - titleW) / 2;
         int titleY = boxY + 90;
         
-        g2d.setColor(new Color(255, 0, 0, 80));
+        g2d.setColor(TITLE_SHADOW);
         g2d.drawString(title, titleX + 2, titleY + 2);
-        g2d.setColor(new Color(255, 100, 100));
+        g2d.setColor(TITLE_COLOR);
         g2d.drawString(title, titleX, titleY);
         
         // Instructions
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20));
+        g2d.setFont(TEXT_FONT);
         String restart = "Press ENTER to Try Again";
         int restartW = g2d.getFontMetrics().stringWidth(restart);
         g2d.drawString(restart, boxX + (boxW - restartW) / 2, boxY + 170);
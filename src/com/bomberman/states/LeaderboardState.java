@@ -2,17 +2,55 @@ package com.bomberman.states;
 
 import com.bomberman.core.GameManager;
 import com.bomberman.managers.LeaderboardManager;
+import com.bomberman.render.GradientFills;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
-import java.util.List;
+import java.awt.image.BufferedImage;
 import java.util.Map;
 
 public class LeaderboardState implements GameState {
     private LeaderboardManager leaderboardManager;
     private static final String FONT_NAME_DEFAULT = "Consolas";
 
+    // Fonts, colours and backgrounds
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 48);
+    private static final Font BOLD_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 22);
+    private static final Font ROW_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 22);
+    private static final Font EMPTY_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 20);
+    private static final Font FOOTER_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 16);
+    private static final BufferedImage BACKGROUND = GradientFills.vertical(
+            GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE, 0,
+            new Color(45, 52, 54), new Color(0, 0, 0), 1);
+    private static final Color GOLD = new Color(255, 215, 0);
+    private static final Color SILVER = new Color(192, 192, 192);
+    private static final Color BRONZE = new Color(205, 127, 50);
+    private static final Color RANK_COLOR = new Color(220, 220, 240);
+    private static final Color ACCENT = new Color(100, 149, 237);
+    private static final Color ROW_STRIPE = new Color(255, 255, 255, 15);
+    private static final Color TIME_COLOR = new Color(100, 200, 100);
+    private static final BasicStroke DIVIDER_STROKE = new BasicStroke(2);
+
+    private static final int MAX_ROWS = 10;
+    private static final int TABLE_W = 700;
+    private static final int HEADER_Y = 150;
+    private static final String[] RANK_LABELS = new String[MAX_ROWS];
+    static {
+        for (int i = 0; i < MAX_ROWS; i++) {
+            RANK_LABELS[i] = "#" + (i + 1);
+        }
+    }
+    private static final BufferedImage HEADER = GradientFills.vertical(TABLE_W, 40, 10,
+            new Color(70, 130, 180, 150), new Color(100, 149, 237, 120), 2);
+
+    // Table rows, rebuilt only when the leaderboard changes
+    private final String[] rowNames = new String[MAX_ROWS];
+    private final String[] rowTimes = new String[MAX_ROWS];
+    private int rowCount = 0;
+    private int rowsVersion = -1;
+
     public LeaderboardState() {
         leaderboardManager = LeaderboardManager.getInstance();
     }
@@ -29,99 +67,102 @@ public class LeaderboardState implements GameState {
         int screenH = GameManager.GRID_H * GameManager.TILE_SIZE;
 
         // Background Gradient
-        java.awt.GradientPaint gp = new java.awt.GradientPaint(0, 0, new Color(45, 52, 54), 0,
-                screenH, new Color(0, 0, 0));
-        g2d.setPaint(gp);
-        g2d.fillRect(0, 0, screenW, screenH);
+        g2d.drawImage(BACKGROUND, 0, 0, screenW, screenH, null);
 
         // Title
-        g2d.setColor(new Color(255, 215, 0)); // Gold
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 48));
+        g2d.setColor(GOLD);
+        g2d.setFont(TITLE_FONT);
         String title = "TOP SCORES";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         g2d.drawString(title, (screenW - titleW) / 2, 80);
 
         // Table Dimensions
-        int tableW = 700;
+        int tableW = TABLE_W;
         int tableX = (screenW - tableW) / 2;
-        int headerY = 150;
+        int headerY = HEADER_Y;
         
         // Header Background with gradient
-        java.awt.GradientPaint headerGp = new java.awt.GradientPaint(
-            tableX, (float) headerY - 30, new Color(70, 130, 180, 150),
-            tableX, (float) headerY + 10, new Color(100, 149, 237, 120)
-        );
-        g2d.setPaint(headerGp);
-        g2d.fillRoundRect(tableX, headerY - 30, tableW, 40, 10, 10);
+        g2d.drawImage(HEADER, tableX, headerY - 30, tableW, 40, null);
 
         // Header Text
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 22));
+        g2d.setFont(BOLD_FONT);
         g2d.drawString("RANK", tableX + 30, headerY);
         g2d.drawString("NAME", tableX + 200, headerY);
         g2d.drawString("TIME", tableX + 550, headerY);
         
-        g2d.setColor(new Color(100, 149, 237));
-        g2d.setStroke(new java.awt.BasicStroke(2));
+        g2d.setColor(ACCENT);
+        g2d.setStroke(DIVIDER_STROKE);
         g2d.drawLine(tableX, headerY + 12, tableX + tableW, headerY + 12);
 
         // List
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 22));
-        List<Map.Entry<String, Integer>> topScores = leaderboardManager.getTopScores();
+        g2d.setFont(ROW_FONT);
+        refreshRows();
         int y = headerY + 50;
-        int count = 0;
         
-        for (Map.Entry<String, Integer> entry : topScores) {
-            if (count >= 10) break;
+        for (int count = 0; count < rowCount; count++) {
 
             int rowH = 42;
             // Alternating row color with rounded corners
             if (count % 2 == 0) {
-                g2d.setColor(new Color(255, 255, 255, 15));
+                g2d.setColor(ROW_STRIPE);
                 g2d.fillRoundRect(tableX + 5, y - 28, tableW - 10, rowH, 8, 8);
             }
 
             // Rank Color
             switch (count) {
-                case 0 -> g2d.setColor(new Color(255, 215, 0)); // Gold
-                case 1 -> g2d.setColor(new Color(192, 192, 192)); // Silver
-                case 2 -> g2d.setColor(new Color(205, 127, 50)); // Bronze
-                default -> g2d.setColor(new Color(220, 220, 240));
+                case 0 -> g2d.setColor(GOLD);
+                case 1 -> g2d.setColor(SILVER);
+                case 2 -> g2d.setColor(BRONZE);
+                default -> g2d.setColor(RANK_COLOR);
             }
 
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 22));
-            g2d.drawString("#" + (count + 1), tableX + 30, y);
+            g2d.setFont(BOLD_FONT);
+            g2d.drawString(RANK_LABELS[count], tableX + 30, y);
             
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 22));
-            g2d.drawString(entry.getKey(), tableX + 200, y);
+            g2d.setFont(ROW_FONT);
+            g2d.drawString(rowNames[count], tableX + 200, y);
             
-            // Format time
-            int time = entry.getValue();
-            String timeStr = String.format("%02d:%02d", time / 60, time % 60);
-            g2d.setColor(new Color(100, 200, 100));
-            g2d.drawString(timeStr, tableX + 550, y);
+            g2d.setColor(TIME_COLOR);
+            g2d.drawString(rowTimes[count], tableX + 550, y);
 
             y += 48;
-            count++;
         }
         
         // Empty State
-        if (topScores.isEmpty()) {
+        if (rowCount == 0) {
             g2d.setColor(Color.GRAY);
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 20));
+            g2d.setFont(EMPTY_FONT);
             String noScores = "No scores yet. Be the first!";
             int nsW = g2d.getFontMetrics().stringWidth(noScores);
             g2d.drawString(noScores, (screenW - nsW) / 2, headerY + 100);
         }
 
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 16));
+        g2d.setFont(FOOTER_FONT);
         String footer = "Press ESC to Return";
         int footerW = g2d.getFontMetrics().stringWidth(footer);
         g2d.drawString(footer, (screenW - footerW) / 2, screenH - 50);
     }
 
+    /**
+     * Re-reads and formats the top rows when the leaderboard has changed.
+     */
+    private void refreshRows() {
+        if (rowsVersion == leaderboardManager.getVersion()) return;
+        rowsVersion = leaderboardManager.getVersion();
+
+        rowCount = 0;
+        for (Map.Entry<String, Integer> entry : leaderboardManager.getTopScores()) {
+            if (rowCount >= MAX_ROWS) break;
+            int time = entry.getValue();
+            rowNames[rowCount] = entry.getKey();
+            rowTimes[rowCount] = String.format("%02d:%02d", time / 60, time % 60);
+            rowCount++;
+        }
+    }
+
     @Override
     public void handleInput(int keyCode, GameManager gm) {
         if (keyCode == KeyEvent.VK_ESCAPE) {
@@ -1,17 +1,55 @@
 package com.bomberman.states;
 
 import com.bomberman.core.GameManager;
+import com.bomberman.managers.SaveGameManager;
+import com.bomberman.managers.SoundManager;
+import com.bomberman.render.GradientFills;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
 
 public class MainMenuState implements GameState {
     private int selection = 0;
-    private final String[] options = { "Start Game", "Leaderboard", "Settings", "Exit" };
+    private static final String CONTINUE = "Continue";
+    private static final String START_GAME = "Start Game";
+    private static final String LEADERBOARD = "Leaderboard";
+    private static final String SETTINGS = "Settings";
+    private static final String EXIT = "Exit";
+    private static final String[] OPTIONS = { START_GAME, LEADERBOARD, SETTINGS, EXIT };
+    private static final String[] OPTIONS_WITH_CONTINUE = { CONTINUE, START_GAME, LEADERBOARD, SETTINGS, EXIT };
     private boolean showExitConfirmation = false;
     private static final String FONT_NAME_DEFAULT = "Consolas";
 
+    // Fonts, colours and backgrounds
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 60);
+    private static final Font SUBTITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 20);
+    private static final Font OPTION_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 28);
+    private static final Font FOOTER_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 12);
+    private static final Font CONFIRM_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 30);
+    private static final Font CONFIRM_HINT_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20);
+    private static final Color GRID_COLOR = new Color(255, 255, 255, 10);
+    private static final Color TITLE_SHADOW = new Color(0, 0, 0, 100);
+    private static final Color TITLE_COLOR = new Color(255, 100, 100);
+    private static final Color BOX_SHADOW = new Color(0, 0, 0, 80);
+    private static final Color BOX_TOP = new Color(70, 130, 180, 100);
+    private static final Color BOX_BOTTOM = new Color(100, 149, 237, 120);
+    private static final Color BOX_BORDER = new Color(100, 149, 237);
+    private static final BasicStroke BOX_STROKE = new BasicStroke(2);
+    private static final Color OPTION_COLOR = new Color(180, 180, 200);
+    private static final Color CONFIRM_OVERLAY = new Color(0, 0, 0, 220);
+
+    private static final int MENU_START_Y = 320;
+    private static final int MENU_SPACING = 70;
+    private static final int BOX_W = 350;
+    private static final int BOX_H = 55;
+    private static final BufferedImage BACKGROUND = GradientFills.vertical(
+            GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE, 0,
+            new Color(20, 20, 30), new Color(5, 5, 10), 1);
+    private static final BufferedImage SELECTION_BOX = GradientFills.vertical(BOX_W, BOX_H, 12, BOX_TOP, BOX_BOTTOM, 2);
+
     @Override
     public void update(GameManager gm) {
         // Handle periodic game logic, state changes, or object movement/behavior
@@ -21,13 +59,11 @@ public class MainMenuState implements GameState {
     @Override
     public void render(Graphics2D g2d, GameManager gm) {
         // Background Gradient
-        java.awt.GradientPaint gp = new java.awt.GradientPaint(0, 0, new Color(20, 20, 30), 0,
-                (float) GameManager.GRID_H * (float) GameManager.TILE_SIZE, new Color(5, 5, 10));
-        g2d.setPaint(gp);
-        g2d.fillRect(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE);
+        g2d.drawImage(BACKGROUND, 0, 0, GameManager.GRID_W * GameManager.TILE_SIZE,
+                GameManager.GRID_H * GameManager.TILE_SIZE, null);
 
         // Decorative Grid
-        g2d.setColor(new Color(255, 255, 255, 10));
+        g2d.setColor(GRID_COLOR);
         for(int i=0; i<GameManager.GRID_W; i++) {
             g2d.drawLine(i*GameManager.TILE_SIZE, 0, i*GameManager.TILE_SIZE, GameManager.GRID_H*GameManager.TILE_SIZE);
         }
@@ -39,54 +75,48 @@ public class MainMenuState implements GameState {
 
 
         
-        Font titleFont = new Font(FONT_NAME_DEFAULT, Font.BOLD, 60);
-        g2d.setFont(titleFont);
+        g2d.setFont(TITLE_FONT);
         String title = "BOMBER QUEST";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         int centerX = (GameManager.GRID_W * GameManager.TILE_SIZE) / 2;
         
         // Shadow
-        g2d.setColor(new Color(0, 0, 0, 100));
+        g2d.setColor(TITLE_SHADOW);
         g2d.drawString(title, centerX - titleW/2 + 5, 155);
 
         // Main Title
-        g2d.setColor(new Color(255, 100, 100));
+        g2d.setColor(TITLE_COLOR);
         g2d.drawString(title, centerX - titleW/2, 150);
         
         // Subtitle
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 20));
+        g2d.setFont(SUBTITLE_FONT);
         g2d.setColor(Color.CYAN);
         String sub = "RETRO EDITION";
         int subW = g2d.getFontMetrics().stringWidth(sub);
         g2d.drawString(sub, centerX - subW/2, 190);
 
         // Menu Options
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 28));
-        int startY = 320;
+        String[] options = options();
+        g2d.setFont(OPTION_FONT);
         for (int i = 0; i < options.length; i++) {
-            int y = startY + i * 70;
+            int y = MENU_START_Y + i * MENU_SPACING;
             
             if (i == selection) {
                 // Selected Item Box with shadow
-                int boxW = 350;
-                int boxH = 55;
+                int boxW = BOX_W;
+                int boxH = BOX_H;
                 int boxX = centerX - boxW/2;
                 int boxY = y - 38;
                 
                 // Shadow
-                g2d.setColor(new Color(0, 0, 0, 80));
+                g2d.setColor(BOX_SHADOW);
                 g2d.fillRoundRect(boxX + 3, boxY + 3, boxW, boxH, 12, 12);
                 
                 // Box with gradient
-                java.awt.GradientPaint gp2 = new java.awt.GradientPaint(
-                    boxX, boxY, new Color(70, 130, 180, 100),
-                    boxX, (float) boxY + (float) boxH, new Color(100, 149, 237, 120)
-                );
-                g2d.setPaint(gp2);
-                g2d.fillRoundRect(boxX, boxY, boxW, boxH, 12, 12);
+                g2d.drawImage(SELECTION_BOX, boxX, boxY, boxW, boxH, null);
                 
-                g2d.setColor(new Color(100, 149, 237));
-                g2d.setStroke(new java.awt.BasicStroke(2));
+                g2d.setColor(BOX_BORDER);
+                g2d.setStroke(BOX_STROKE);
                 g2d.drawRoundRect(boxX, boxY, boxW, boxH, 12, 12);
                 
                 g2d.setColor(Color.YELLOW);
@@ -95,7 +125,7 @@ public class MainMenuState implements GameState {
                 g2d.drawString(">", boxX - 35, y);
                 g2d.drawString("<", boxX + boxW + 15, y);
             } else {
-                g2d.setColor(new Color(180, 180, 200));
+                g2d.setColor(OPTION_COLOR);
             }
             
             String opt = options[i];
@@ -103,7 +133,7 @@ public class MainMenuState implements GameState {
             g2d.drawString(opt, centerX - optW/2, y);
         }
 
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 12));
+        g2d.setFont(FOOTER_FONT);
         g2d.setColor(Color.DARK_GRAY);
         String footer = "v1.0 | Use Arrow Keys & Enter";
         int footerW = g2d.getFontMetrics().stringWidth(footer);
@@ -111,16 +141,16 @@ public class MainMenuState implements GameState {
 
         // Exit Confirmation Overlay
         if (showExitConfirmation) {
-            g2d.setColor(new Color(0, 0, 0, 220));
+            g2d.setColor(CONFIRM_OVERLAY);
             g2d.fillRect(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE);
             
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 30));
+            g2d.setFont(CONFIRM_FONT);
             String msg = "EXIT GAME?";
             int msgWidth = g2d.getFontMetrics().stringWidth(msg);
             g2d.drawString(msg, (GameManager.GRID_W * GameManager.TILE_SIZE - msgWidth) / 2, 300);
             
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20));
+            g2d.setFont(CONFIRM_HINT_FONT);
             String subMsg = "[ENTER] Confirm   [ESC] Cancel";
             int subMsgWidth = g2d.getFontMetrics().stringWidth(subMsg);
             g2d.drawString(subMsg, (GameManager.GRID_W * GameManager.TILE_SIZE - subMsgWidth) / 2, 350);
@@ -138,6 +168,7 @@ public class MainMenuState implements GameState {
             return;
         }
 
+        String[] options = options();
         if (keyCode == KeyEvent.VK_UP) {
             selection--;
             if (selection < 0)
@@ -147,15 +178,35 @@ public class MainMenuState implements GameState {
             if (selection >= options.length)
                 selection = 0;
         } else if (keyCode == KeyEvent.VK_ENTER) {
-            if (selection == 0) {
-                gm.setState(gm.DIFFICULTY_SELECTION_STATE, com.bomberman.core.TransitionManager.TransitionType.FADE);
-            } else if (selection == 1) {
-                gm.setState(gm.LEADERBOARD_STATE, com.bomberman.core.TransitionManager.TransitionType.SLIDE_LEFT);
-            } else if (selection == 2) {
-                gm.setState(gm.SETTINGS_STATE, com.bomberman.core.TransitionManager.TransitionType.SLIDE_RIGHT);
-            } else if (selection == 3) {
-                showExitConfirmation = true;
+            switch (options[selection]) {
+                case CONTINUE:
+                    if (SaveGameManager.getInstance().load(gm)) {
+                        SoundManager.getInstance().pauseMusic(); // Resumes from the pause menu
+                    }
+                    selection = 0;
+                    break;
+                case START_GAME:
+                    gm.setState(gm.DIFFICULTY_SELECTION_STATE, com.bomberman.core.TransitionManager.TransitionType.FADE);
+                    break;
+                case LEADERBOARD:
+                    gm.setState(gm.LEADERBOARD_STATE, com.bomberman.core.TransitionManager.TransitionType.SLIDE_LEFT);
+                    break;
+                case SETTINGS:
+                    gm.setState(gm.SETTINGS_STATE, com.bomberman.core.TransitionManager.TransitionType.SLIDE_RIGHT);
+                    break;
+                default:
+                    showExitConfirmation = true;
+                    break;
             }
         }
     }
+
+    /**
+     * @return Menu entries, with "Continue" first while a saved match exists
+     */
+    private String[] options() {
+        String[] options = SaveGameManager.getInstance().hasSave() ? OPTIONS_WITH_CONTINUE : OPTIONS;
+        if (selection >= options.length) selection = options.length - 1;
+        return options;
+    }
 }
@@ -1,15 +1,30 @@
 package com.bomberman.states;
 
+import com.bomberman.core.DirtyTileTracker;
 import com.bomberman.core.EntityFactory;
+import com.bomberman.core.FireField;
 import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.core.TransitionManager;
 import com.bomberman.entities.*;
+import com.bomberman.managers.SaveGameManager;
+import com.bomberman.managers.SettingsManager;
 import com.bomberman.managers.SoundManager;
+import com.bomberman.render.BoardBuffer;
+import com.bomberman.render.GradientFills;
+import com.bomberman.render.SpriteAtlas;
+import com.bomberman.render.TerrainCache;
+import com.bomberman.utils.CellIndex;
+import com.bomberman.utils.FrameProfiler;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 public class PlayingState implements GameState {
@@ -21,16 +36,76 @@ public class PlayingState implements GameState {
     // Pause Menu
     private boolean paused = false;
     private int pauseSelection = 0;
-    private final String[] pauseOptions = { "Resume", "Settings", "Main Menu", "Exit to Desktop" };
+    private static final String[] PAUSE_OPTIONS = { "Resume", "Save & Quit", "Settings", "Main Menu", "Exit to Desktop" };
+    /** Number of pause menu entries */
+    public static final int PAUSE_OPTION_COUNT = PAUSE_OPTIONS.length;
+    private final String[] pauseOptionsSelected = new String[PAUSE_OPTIONS.length];
     
     // Invincibility frames to prevent spam damage
     private int playerInvincibleFrames = 0;
+    
+    // Chain reactions: bombs waiting to blast
+    private static final int[][] BLAST_DIRS = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+    private static final int[] BLAST_ARMS = { FireField.ARM_UP, FireField.ARM_DOWN, FireField.ARM_LEFT, FireField.ARM_RIGHT };
+    private final ArrayDeque<Bomb> detonations = new ArrayDeque<>();
+
+    // Floor and walls, pre-rendered
+    private final TerrainCache terrainCache = new TerrainCache();
+
+    // Last rendered board; only dirty tiles are repainted into it
+    private final BoardBuffer boardBuffer = new BoardBuffer();
+
+    /** Height of the HUD bar, including its divider line */
+    private static final int HUD_HEIGHT = 51;
+    /** Tile rows whose repaint area reaches under the HUD */
+    private static final int HUD_ROWS = (HUD_HEIGHT - 1 + BoardBuffer.TILE_BLEED) / GameManager.TILE_SIZE + 1;
+
+    // Per-layer repaint time, summed over the dirty tiles of one frame
+    private static final FrameProfiler.Phase[] LAYER_PHASES = {
+        FrameProfiler.Phase.TERRAIN, FrameProfiler.Phase.BOMB_LAYER, FrameProfiler.Phase.FIRE_LAYER,
+        FrameProfiler.Phase.ENEMY_LAYER, FrameProfiler.Phase.PLAYER_LAYER
+    };
+    private final long[] layerNanos = new long[LAYER_PHASES.length];
+
+    // HUD and pause menu fonts and colours
+    private static final Font HUD_TIMER_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 24);
+    private static final Font HUD_STAT_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 16);
+    private static final Font PAUSE_TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 40);
+    private static final Font PAUSE_OPTION_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 24);
+    private static final Color HUD_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color HUD_DIVIDER = new Color(255, 255, 255, 50);
+    // Translucent fills allocate raster buffers on every call; the bar is blitted instead
+    private static final BufferedImage HUD_BAR = GradientFills.vertical(
+        GameManager.GRID_W * GameManager.TILE_SIZE, HUD_HEIGHT - 1, 0, HUD_BACKGROUND, HUD_BACKGROUND, 1);
+    private static final BufferedImage HUD_LINE = GradientFills.vertical(
+        GameManager.GRID_W * GameManager.TILE_SIZE, 1, 0, HUD_DIVIDER, HUD_DIVIDER, 1);
+    private static final Color PAUSE_OVERLAY = new Color(0, 0, 0, 200);
+    private static final Color PAUSE_BOX = new Color(40, 40, 50);
+
+    // HUD text is rebuilt only when the value it shows changes
+    private long timerSeconds = -1;
+    private final char[] timerChars = new char[24];
+    private int timerLength = 0;
+    private int enemyCount = -1;
+    private String enemyText = "";
+    private int hudHp = -1;
+    private SettingsManager.Difficulty hudDifficulty;
+
+    public PlayingState() {
+        for (int i = 0; i < PAUSE_OPTIONS.length; i++) {
+            pauseOptionsSelected[i] = "> " + PAUSE_OPTIONS[i] + " <";
+        }
+    }
 
     @Override
     public void update(GameManager gm) {
         if (paused) return;
 
         Player p = gm.getPlayer();
+        int playerX = p.getX();
+        int playerY = p.getY();
+        boolean playerBlinking = p.isInvincible();
+        boolean playerPowered = p.isPoweredUp();
         p.update();
         
         if (playerInvincibleFrames > 0) playerInvincibleFrames--;
@@ -38,59 +113,83 @@ public class PlayingState implements GameState {
         // Handle Continuous Movement
         handleMovement(gm);
 
-        // Update Bombs
-        Iterator<GameObject> bombIt = gm.getBombs().iterator();
-        while (bombIt.hasNext()) {
-            Bomb b = (Bomb) bombIt.next();
+        FrameProfiler profiler = FrameProfiler.getInstance();
+
+        // Update Bombs: burn fuses, then detonate the expired ones and every bomb they reach
+        long phaseStart = profiler.begin();
+        List<GameObject> bombs = gm.getBombs();
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb b = (Bomb) bombs.get(i);
+            int frame = b.getFrame();
             b.update();
-            if (!b.isActive()) {
-                triggerExplosion(gm, b.getX(), b.getY(), b.getRadius());
-                bombIt.remove();
-                SoundManager.getInstance().playSFX(SoundManager.SFX_EXPLOSION);
-            }
+            if (b.getFrame() != frame) gm.markDirty(b.getX(), b.getY());
+            if (!b.isActive()) detonations.add(b);
         }
+        gm.tickDanger();
+        if (!detonations.isEmpty()) {
+            gm.getFire().beginPass();
+            resolveChain(gm);
+            SoundManager.getInstance().playSFX(SoundManager.SFX_EXPLOSION);
+        }
+        profiler.end(FrameProfiler.Phase.BOMBS, phaseStart);
 
-        // Update Explosions
-        Iterator<GameObject> expIt = gm.getExplosions().iterator();
-        while (expIt.hasNext()) {
-            Explosion e = (Explosion) expIt.next();
-            e.update();
-
+        // Update Fire: one lookup per entity cell, then burn down
+        phaseStart = profiler.begin();
+        FireField fire = gm.getFire();
+        if (fire.getBurningCount() > 0) {
             // Check Player Hit
-            if (e.getX() == p.getX() && e.getY() == p.getY() && playerInvincibleFrames == 0) {
+            if (fire.isBurning(p.getX(), p.getY()) && playerInvincibleFrames == 0) {
                 p.damage();
                 playerInvincibleFrames = 120; // 2 seconds at 60fps
                 SoundManager.getInstance().playSFX(SoundManager.SFX_DEATH);
             }
 
-            // Check Enemy Hit
-            Iterator<GameObject> enIt = gm.getEnemies().iterator();
-            while (enIt.hasNext()) {
-                Enemy en = (Enemy) enIt.next();
-                if (e.getX() == en.getX() && e.getY() == en.getY()) {
-                    enIt.remove();
-                }
+            // Check Enemy Hit; removal swaps the last slot in, so walk backwards
+            EnemyStore enemies = gm.getEnemyStore();
+            for (int i = enemies.size() - 1; i >= 0; i--) {
+                if (fire.isBurning(enemies.getX(i), enemies.getY(i))) gm.removeEnemy(enemies.view(i));
             }
-
-            if (!e.isActive())
-                expIt.remove();
+            gm.tickFire();
         }
 
+        profiler.end(FrameProfiler.Phase.EXPLOSIONS, phaseStart);
+
         // Update Enemies
-        for (GameObject obj : gm.getEnemies()) {
-            Enemy e = (Enemy) obj;
-            e.tryMove(gm.getWalls(), gm.getEnemies(), gm.getBombs(), gm.getPlayer(), GameManager.GRID_W, GameManager.GRID_H);
-            if (e.getX() == p.getX() && e.getY() == p.getY() && playerInvincibleFrames == 0) {
+        phaseStart = profiler.begin();
+        // Plan against the board as it stands, then commit in slot order; lower slots win contested cells
+        EnemyStore enemies = gm.getEnemyStore();
+        CellIndex<Enemy> enemyIndex = gm.getEnemyIndex();
+        if (enemies.size() > 0) {
+            enemies.planAll(new EnemyStore.TickView(gm.getTiles(), enemyIndex, gm.getBombIndex(),
+                gm.getPlayerFlowField(), gm.getObstacleLog(), gm.getDangerMap(), gm.getGridWidth(), gm.getGridHeight(),
+                EnemyStore.moveInterval(gm.getDifficulty())), gm.getAiPool());
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            int ex = enemies.getX(i);
+            int ey = enemies.getY(i);
+            if (enemies.commit(i, enemyIndex)) gm.enemyMoved(enemies.view(i), ex, ey);
+            if (enemies.getX(i) == p.getX() && enemies.getY(i) == p.getY() && playerInvincibleFrames == 0) {
                 p.damage();
                 playerInvincibleFrames = 120; // 2 seconds at 60fps
                 SoundManager.getInstance().playSFX(SoundManager.SFX_DEATH);
             }
         }
+        profiler.end(FrameProfiler.Phase.ENEMIES, phaseStart);
+
+        // Player tile: moved, blinking, or changed colour
+        if (p.getX() != playerX || p.getY() != playerY) {
+            gm.markDirty(playerX, playerY);
+            gm.markDirty(p.getX(), p.getY());
+        } else if (playerBlinking || p.isInvincible() || p.isPoweredUp() != playerPowered) {
+            gm.markDirty(p.getX(), p.getY());
+        }
 
         // Game Over Conditions
-        if (p.getHp() <= 0)
+        if (p.getHp() <= 0) {
+            gm.finishReplay();
             gm.setState(gm.GAMEOVER_STATE, com.bomberman.core.TransitionManager.TransitionType.DISSOLVE);
-        if (gm.getEnemies().isEmpty()) {
+        } else if (gm.getEnemies().isEmpty()) {
+            gm.finishReplay();
             gm.calculateScore(); // Calculate time taken
             gm.setState(gm.VICTORY_STATE, com.bomberman.core.TransitionManager.TransitionType.ZOOM_OUT);
             SoundManager.getInstance().playSFX(SoundManager.SFX_WIN);
@@ -117,132 +216,322 @@ public class PlayingState implements GameState {
             int ny = p.getY() + dy;
 
             // Check bomb collision (basic: can't walk into bomb)
-            boolean hitBomb = false;
-            for (GameObject b : gm.getBombs())
-                if (b.getX() == nx && b.getY() == ny)
-                    hitBomb = true;
+            boolean hitBomb = gm.hasBombAt(nx, ny);
 
-            if (GameManager.isValidMove(nx, ny, GameManager.GRID_W, GameManager.GRID_H, gm.getWalls()) && !hitBomb) {
+            if (GameManager.isValidMove(nx, ny, gm.getTiles()) && !hitBomb) {
                 p.setPosition(nx, ny);
                 moveDelay = MOVE_DELAY_MAX;
             }
         }
     }
 
-    private void triggerExplosion(GameManager gm, int bx, int by, int radius) {
-        gm.getExplosions().add(new Explosion(bx, by)); // Center
+    /**
+     * Detonates a blast at (bx, by) and resolves the chain reaction it sets off.
+     */
+    public void triggerExplosion(GameManager gm, int bx, int by, int radius) {
+        gm.getFire().beginPass();
+        spreadBlast(gm, bx, by, radius);
+        resolveChain(gm);
+    }
 
-        int[][] dirs = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
-        for (int[] dir : dirs) {
+    /**
+     * Spreads the queued detonations breadth-first until no live bomb is
+     * reached any more, then drops the spent bombs in one pass.
+     */
+    private void resolveChain(GameManager gm) {
+        Bomb b;
+        while ((b = detonations.poll()) != null) {
+            spreadBlast(gm, b.getX(), b.getY(), b.getRadius());
+        }
+        gm.removeDetonatedBombs();
+    }
+
+    /**
+     * Spreads a blast from (bx, by) in the four directions, destroying the first
+     * soft wall hit in each and stopping at hard walls. Each lit cell records
+     * the arms joining it to its neighbours in the blast.
+     */
+    private void spreadBlast(GameManager gm, int bx, int by, int radius) {
+        TileMap tiles = gm.getTiles();
+        lightCell(gm, bx, by, 0); // Center
+
+        for (int d = 0; d < BLAST_DIRS.length; d++) {
+            int[] dir = BLAST_DIRS[d];
             for (int i = 1; i <= radius; i++) {
                 int tx = bx + (dir[0] * i);
                 int ty = by + (dir[1] * i);
 
-                // Bounds check
-                if (tx < 0 || tx >= GameManager.GRID_W || ty < 0 || ty >= GameManager.GRID_H)
+                // Check Walls; the map edge reads as hard wall
+                byte tile = tiles.get(tx, ty);
+                if (tile == TileMap.HARD)
                     break;
 
-                // Check Walls
-                boolean hitHard = false;
-                boolean hitSoft = false;
-                Iterator<GameObject> wallIt = gm.getWalls().iterator();
-                while (wallIt.hasNext()) {
-                    Wall w = (Wall) wallIt.next();
-                    if (w.getX() == tx && w.getY() == ty) {
-                        if (w.isDestructible()) {
-                            hitSoft = true;
-                            wallIt.remove(); // Destroy wall
-                        } else {
-                            hitHard = true;
-                        }
-                        break;
-                    }
+                boolean hitSoft = tile == TileMap.SOFT;
+                if (hitSoft) {
+                    gm.destroyWall(tx, ty);
+                    terrainCache.invalidateTile(tx, ty);
                 }
 
-                if (hitHard)
-                    break;
-
-                gm.getExplosions().add(new Explosion(tx, ty));
+                // Join this cell to the previous one
+                gm.ignite(tx - dir[0], ty - dir[1], BLAST_ARMS[d]);
+                lightCell(gm, tx, ty, FireField.opposite(BLAST_ARMS[d]));
                 if (hitSoft)
                     break; // Stop after breaking soft wall
             }
         }
     }
 
+    /**
+     * Sets a cell on fire and queues any live bomb on it. A cell is only
+     * checked for bombs the first time the current pass lights it, so a chain
+     * costs time linear in the cells it reaches.
+     */
+    private void lightCell(GameManager gm, int x, int y, int arms) {
+        gm.ignite(x, y, arms);
+        if (!gm.getFire().claim(x, y)) return;
+
+        CellIndex<Bomb> bombIndex = gm.getBombIndex();
+        for (int i = 0; i < bombIndex.count(x, y); i++) {
+            Bomb b = bombIndex.get(x, y, i);
+            if (b.isActive()) {
+                b.detonate();
+                detonations.add(b);
+            }
+        }
+    }
+
     @Override
     public void render(Graphics2D g2d, GameManager gm) {
-        // Draw Floor
-        g2d.setColor(new Color(85, 239, 196));
-        g2d.fillRect(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE);
-
-        // Render Entities
-        for (GameObject w : gm.getWalls())
-            w.render(g2d, GameManager.TILE_SIZE);
-        for (GameObject b : gm.getBombs())
-            b.render(g2d, GameManager.TILE_SIZE);
-        for (GameObject e : gm.getExplosions())
-            e.render(g2d, GameManager.TILE_SIZE);
-        for (GameObject e : gm.getEnemies())
-            e.render(g2d, GameManager.TILE_SIZE);
-        gm.getPlayer().render(g2d, GameManager.TILE_SIZE);
-
-        // HUD
-        renderHUD(g2d, gm);
+        FrameProfiler profiler = FrameProfiler.getInstance();
+
+        // Entity sprites follow the current device scale
+        SpriteAtlas.getInstance().prepare(g2d, GameManager.TILE_SIZE);
+
+        DirtyTileTracker dirty = gm.getDirtyTiles();
+        if (TransitionManager.getInstance().isTransitioning()) {
+            dirty.markAll(); // Full repaint while the screen is changing
+        }
+        if (updateHudText(gm)) {
+            dirty.markRows(0, HUD_ROWS);
+        }
+
+        // Repaint what changed into the back buffer
+        Graphics2D bg = boardBuffer.begin(g2d, dirty);
+        if (bg != null) {
+            repaintBoard(bg, gm, dirty);
+            bg.dispose();
+            dirty.clear();
+        }
+
+        long phaseStart = profiler.begin();
+        boardBuffer.present(g2d);
+        profiler.end(FrameProfiler.Phase.BOARD_BLIT, phaseStart);
         
         // Pause Menu Overlay
         if (paused) {
             renderPauseMenu(g2d, gm);
         }
     }
+
+    /**
+     * Repaints the dirty tiles, or the whole board, into the back buffer.
+     * Each tile is repainted bottom-up (terrain, bombs, fire, enemies, player)
+     * inside its clip, so overlapping repaint areas always start from opaque terrain.
+     */
+    private void repaintBoard(Graphics2D g, GameManager gm, DirtyTileTracker dirty) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        boolean timed = profiler.isEnabled();
+        Arrays.fill(layerNanos, 0L);
+        long hudNanos;
+
+        if (dirty.isAllDirty()) {
+            drawLayers(g, gm, 0, 0, GameManager.GRID_W - 1, GameManager.GRID_H - 1, timed);
+            long hudStart = profiler.begin();
+            renderHUD(g, gm);
+            hudNanos = timed ? System.nanoTime() - hudStart : 0L;
+        } else {
+            // The HUD is translucent, so it may only be drawn over freshly repainted
+            // pixels: touching any tile under it repaints the whole band, in one
+            // pass rather than tile by tile
+            boolean hudTouched = false;
+            for (int i = 0; i < dirty.getCount() && !hudTouched; i++) {
+                hudTouched = dirty.getY(i) < HUD_ROWS;
+            }
+            if (hudTouched) {
+                g.setClip(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE,
+                    HUD_ROWS * GameManager.TILE_SIZE + BoardBuffer.TILE_BLEED);
+                drawLayers(g, gm, -1, -1, GameManager.GRID_W, HUD_ROWS, timed);
+            }
+
+            for (int i = 0; i < dirty.getCount(); i++) {
+                int tx = dirty.getX(i);
+                int ty = dirty.getY(i);
+                if (hudTouched && ty < HUD_ROWS) continue;
+                BoardBuffer.clipToTile(g, tx, ty);
+                drawLayers(g, gm, tx - 1, ty - 1, tx + 1, ty + 1, timed);
+            }
+
+            long hudStart = profiler.begin();
+            if (hudTouched) {
+                g.setClip(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, HUD_HEIGHT);
+                renderHUD(g, gm);
+            }
+            hudNanos = timed ? System.nanoTime() - hudStart : 0L;
+        }
+
+        if (timed) {
+            for (int i = 0; i < LAYER_PHASES.length; i++) {
+                profiler.record(LAYER_PHASES[i], layerNanos[i]);
+            }
+            profiler.record(FrameProfiler.Phase.HUD, hudNanos);
+        }
+    }
+
+    /**
+     * Draws every layer for entities inside the given tile range; the caller sets the clip.
+     */
+    private void drawLayers(Graphics2D g, GameManager gm, int x0, int y0, int x1, int y1, boolean timed) {
+        long t = timed ? System.nanoTime() : 0L;
+
+        // Floor and walls (cached)
+        terrainCache.render(g, gm);
+        t = lap(0, t);
+
+        drawRange(g, gm.getBombs(), x0, y0, x1, y1);
+        t = lap(1, t);
+        drawFire(g, gm.getFire(), x0, y0, x1, y1);
+        t = lap(2, t);
+        drawCells(g, gm.getEnemyIndex(), x0, y0, x1, y1);
+        t = lap(3, t);
+
+        Player p = gm.getPlayer();
+        if (p.getX() >= x0 && p.getX() <= x1 && p.getY() >= y0 && p.getY() <= y1) {
+            p.render(g, GameManager.TILE_SIZE);
+        }
+        lap(4, t);
+    }
+
+    private static void drawRange(Graphics2D g, List<GameObject> objects, int x0, int y0, int x1, int y1) {
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject obj = objects.get(i);
+            if (obj.getX() >= x0 && obj.getX() <= x1 && obj.getY() >= y0 && obj.getY() <= y1) {
+                obj.render(g, GameManager.TILE_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Draws the indexed objects in a tile range by cell, so the cost follows
+     * the range rather than the number of objects on the board.
+     */
+    private static void drawCells(Graphics2D g, CellIndex<? extends GameObject> index, int x0, int y0, int x1, int y1) {
+        for (int y = Math.max(y0, 0); y <= Math.min(y1, GameManager.GRID_H - 1); y++) {
+            for (int x = Math.max(x0, 0); x <= Math.min(x1, GameManager.GRID_W - 1); x++) {
+                int n = index.count(x, y);
+                for (int i = 0; i < n; i++) {
+                    index.get(x, y, i).render(g, GameManager.TILE_SIZE);
+                }
+            }
+        }
+    }
+
+    private static void drawFire(Graphics2D g, FireField fire, int x0, int y0, int x1, int y1) {
+        if (fire.getBurningCount() == 0) return;
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
+        int ts = GameManager.TILE_SIZE;
+        for (int y = Math.max(y0, 0); y <= Math.min(y1, GameManager.GRID_H - 1); y++) {
+            for (int x = Math.max(x0, 0); x <= Math.min(x1, GameManager.GRID_W - 1); x++) {
+                int ticks = fire.getTicks(x, y);
+                if (ticks == 0) continue;
+                // Flickering sparks: pick one of four variants per tile and tick
+                int variant = ((x * 31 + y * 17 + ticks * 7) * 0x9E3779B1) >>> 30;
+                atlas.draw(g, atlas.getFire(variant, fire.getArms(x, y)), x * ts, y * ts);
+            }
+        }
+    }
+
+    /**
+     * Adds the time since {@code start} to a layer's total and returns the new start.
+     */
+    private long lap(int layer, long start) {
+        if (start == 0L) return 0L;
+        long now = System.nanoTime();
+        layerNanos[layer] += now - start;
+        return now;
+    }
+
+    /**
+     * Refreshes the cached HUD strings.
+     *
+     * @return true if anything shown in the HUD changed since the last frame
+     */
+    private boolean updateHudText(GameManager gm) {
+        boolean changed = false;
+        long time = (System.currentTimeMillis() - gm.getGameStartTime()) / 1000;
+        if (time != timerSeconds) {
+            timerSeconds = time;
+            timerLength = writeTimer(time);
+            changed = true;
+        }
+        if (gm.getEnemies().size() != enemyCount) {
+            enemyCount = gm.getEnemies().size();
+            enemyText = "ENEMIES: " + enemyCount;
+            changed = true;
+        }
+        if (gm.getPlayer().getHp() != hudHp || gm.getDifficulty() != hudDifficulty) {
+            hudHp = gm.getPlayer().getHp();
+            hudDifficulty = gm.getDifficulty();
+            changed = true;
+        }
+        return changed;
+    }
     
+    /** Writes the time as mm:ss, with more minute digits if needed, into timerChars without allocating. */
+    private int writeTimer(long seconds) {
+        seconds = Math.max(seconds, 0);
+        long minutes = seconds / 60;
+        int digits = 2;
+        for (long m = minutes; m >= 100; m /= 10) digits++;
+        int len = digits + 3;
+        timerChars[len - 1] = (char) ('0' + seconds % 10);
+        timerChars[len - 2] = (char) ('0' + seconds % 60 / 10);
+        timerChars[len - 3] = ':';
+        for (int pos = digits - 1; pos >= 0; pos--) {
+            timerChars[pos] = (char) ('0' + minutes % 10);
+            minutes /= 10;
+        }
+        return len;
+    }
+
     private void renderHUD(Graphics2D g2d, GameManager gm) {
         int screenW = GameManager.GRID_W * GameManager.TILE_SIZE;
         
         // HUD Background Bar
-        g2d.setColor(new Color(0, 0, 0, 180));
-        g2d.fillRect(0, 0, screenW, 50);
-        g2d.setColor(new Color(255, 255, 255, 50));
-        g2d.drawLine(0, 50, screenW, 50);
+        g2d.drawImage(HUD_BAR, 0, 0, screenW, HUD_HEIGHT - 1, null);
+        g2d.drawImage(HUD_LINE, 0, HUD_HEIGHT - 1, screenW, 1, null);
 
         // 1. Health Section (Left)
-        int hp = gm.getPlayer().getHp();
-        g2d.setColor(Color.RED);
+        int hp = hudHp;
+        SpriteAtlas atlas = SpriteAtlas.getInstance();
         for (int i = 0; i < 3; i++) {
-            int hx = 20 + i * 35;
-            int hy = 15;
-            if (i < hp) {
-                // Full Heart
-                g2d.fillOval(hx, hy, 12, 12);
-                g2d.fillOval(hx + 12, hy, 12, 12);
-                int[] tx = {hx, hx + 24, hx + 12};
-                int[] ty = {hy + 6, hy + 6, hy + 24};
-                g2d.fillPolygon(tx, ty, 3);
-            } else {
-                // Empty Heart Outline
-                g2d.drawOval(hx, hy, 12, 12);
-                g2d.drawOval(hx + 12, hy, 12, 12);
-                int[] tx = {hx, hx + 24, hx + 12};
-                int[] ty = {hy + 6, hy + 6, hy + 24};
-                g2d.drawPolygon(tx, ty, 3);
-            }
+            // Full heart or empty outline, pre-rasterized
+            atlas.draw(g2d, atlas.getHeart(i < hp), 20 + i * 35, 15);
         }
 
         // 2. Timer Section (Center)
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 24));
-        long time = (System.currentTimeMillis() - gm.getGameStartTime()) / 1000;
-        String timeStr = String.format("%02d:%02d", time / 60, time % 60);
-        int timeW = g2d.getFontMetrics().stringWidth(timeStr);
-        g2d.drawString(timeStr, (screenW - timeW) / 2, 32);
+        g2d.setFont(HUD_TIMER_FONT);
+        int timeW = g2d.getFontMetrics().charsWidth(timerChars, 0, timerLength);
+        g2d.drawChars(timerChars, 0, timerLength, (screenW - timeW) / 2, 32);
         
         // 3. Stats Section (Right)
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 16));
-        String enemyStr = "ENEMIES: " + gm.getEnemies().size();
+        g2d.setFont(HUD_STAT_FONT);
+        String enemyStr = enemyText;
         int enemyW = g2d.getFontMetrics().stringWidth(enemyStr);
         g2d.drawString(enemyStr, screenW - enemyW - 20, 20);
         
         g2d.setColor(Color.YELLOW);
-        String diffStr = gm.getDifficulty().toString();
+        String diffStr = hudDifficulty.toString();
         int diffW = g2d.getFontMetrics().stringWidth(diffStr);
         g2d.drawString(diffStr, screenW - diffW - 20, 40);
     }
@@ -252,37 +541,37 @@ public class PlayingState implements GameState {
         int screenH = GameManager.GRID_H * GameManager.TILE_SIZE;
         
         // Dark Overlay
-        g2d.setColor(new Color(0, 0, 0, 200));
+        g2d.setColor(PAUSE_OVERLAY);
         g2d.fillRect(0, 0, screenW, screenH);
         
         // Menu Box
         int boxW = 400;
-        int boxH = 350;
+        int boxH = 400;
         int boxX = (screenW - boxW) / 2;
         int boxY = (screenH - boxH) / 2;
         
-        g2d.setColor(new Color(40, 40, 50));
+        g2d.setColor(PAUSE_BOX);
         g2d.fillRoundRect(boxX, boxY, boxW, boxH, 20, 20);
         g2d.setColor(Color.WHITE);
         g2d.drawRoundRect(boxX, boxY, boxW, boxH, 20, 20);
         
         // Title
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 40));
+        g2d.setFont(PAUSE_TITLE_FONT);
         String title = "PAUSED";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         g2d.drawString(title, boxX + (boxW - titleW) / 2, boxY + 60);
         
         // Options
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 24));
-        for (int i = 0; i < pauseOptions.length; i++) {
+        g2d.setFont(PAUSE_OPTION_FONT);
+        for (int i = 0; i < PAUSE_OPTIONS.length; i++) {
             int optY = boxY + 130 + i * 50;
-            String opt = pauseOptions[i];
+            String opt = PAUSE_OPTIONS[i];
             int optW = g2d.getFontMetrics().stringWidth(opt);
             int optX = boxX + (boxW - optW) / 2;
             
             if (i == pauseSelection) {
                 g2d.setColor(Color.YELLOW);
-                g2d.drawString("> " + opt + " <", optX - 20, optY);
+                g2d.drawString(pauseOptionsSelected[i], optX - 20, optY);
             } else {
                 g2d.setColor(Color.GRAY);
                 g2d.drawString(opt, optX, optY);
@@ -292,6 +581,8 @@ public class PlayingState implements GameState {
 
     @Override
     public void handleInput(int keyCode, GameManager gm) {
+        // Auto-repeat of a held key changes nothing and is left out of the replay
+        if (pressChangesState(keyCode, gm)) gm.recordInput(keyCode, true);
         if (keyCode == KeyEvent.VK_ESCAPE) {
             paused = !paused;
             if (paused) {
@@ -306,24 +597,33 @@ public class PlayingState implements GameState {
         if (paused) {
             if (keyCode == KeyEvent.VK_UP) {
                 pauseSelection--;
-                if (pauseSelection < 0) pauseSelection = pauseOptions.length - 1;
+                if (pauseSelection < 0) pauseSelection = PAUSE_OPTIONS.length - 1;
             } else if (keyCode == KeyEvent.VK_DOWN) {
                 pauseSelection++;
-                if (pauseSelection >= pauseOptions.length) pauseSelection = 0;
+                if (pauseSelection >= PAUSE_OPTIONS.length) pauseSelection = 0;
             } else if (keyCode == KeyEvent.VK_ENTER) {
                 if (pauseSelection == 0) { // Resume
                     paused = false;
                     SoundManager.getInstance().resumeMusic();
                     pressedKeys.clear();
-                } else if (pauseSelection == 1) { // Settings
+                } else if (pauseSelection == 1) { // Save & Quit
+                    pauseSelection = 0; // Continue lands on Resume
+                    pressedKeys.clear();
+                    if (SaveGameManager.getInstance().save(gm)) {
+                        gm.finishReplay();
+                        gm.setState(gm.MAIN_MENU_STATE, com.bomberman.core.TransitionManager.TransitionType.FADE);
+                        paused = false;
+                    }
+                } else if (pauseSelection == 2) { // Settings
                     gm.setState(gm.SETTINGS_STATE, com.bomberman.core.TransitionManager.TransitionType.FADE);
                     paused = false;
                     pressedKeys.clear();
-                } else if (pauseSelection == 2) { // Main Menu
+                } else if (pauseSelection == 3) { // Main Menu
+                    gm.finishReplay();
                     gm.setState(gm.MAIN_MENU_STATE, com.bomberman.core.TransitionManager.TransitionType.FADE);
                     paused = false;
                     pressedKeys.clear();
-                } else if (pauseSelection == 3) { // Exit
+                } else if (pauseSelection == 4) { // Exit
                     System.exit(0);
                 }
             }
@@ -335,13 +635,8 @@ public class PlayingState implements GameState {
         if (keyCode == KeyEvent.VK_SPACE) {
             Player p = gm.getPlayer();
             // Place Bomb
-            boolean bombExists = false;
-            for (GameObject b : gm.getBombs()) {
-                if (b.getX() == p.getX() && b.getY() == p.getY())
-                    bombExists = true;
-            }
-            if (!bombExists && gm.getBombs().size() < GameManager.MAX_BOMBS) {
-                gm.getBombs().add(EntityFactory.createBomb(p.getX(), p.getY(), GameManager.BOMB_RADIUS));
+            if (canPlaceBomb(gm)) {
+                gm.addBomb(EntityFactory.createBomb(p.getX(), p.getY(), GameManager.BOMB_RADIUS));
                 SoundManager.getInstance().playSFX(SoundManager.SFX_BOMB_PLACE);
             }
         }
@@ -349,10 +644,26 @@ public class PlayingState implements GameState {
     
     @Override
     public void handleKeyReleased(int keyCode, GameManager gm) {
-        if (!paused) {
-            pressedKeys.remove(keyCode);
+        if (!paused && pressedKeys.remove(keyCode)) {
+            gm.recordInput(keyCode, false);
         }
     }
+
+    /**
+     * Tells whether a key press would do anything: open or close the pause
+     * menu, move through it, hold down a key not yet held, or place a bomb.
+     */
+    private boolean pressChangesState(int keyCode, GameManager gm) {
+        if (keyCode == KeyEvent.VK_ESCAPE) return true;
+        if (paused) return keyCode == KeyEvent.VK_UP || keyCode == KeyEvent.VK_DOWN || keyCode == KeyEvent.VK_ENTER;
+        if (!pressedKeys.contains(keyCode)) return true;
+        return keyCode == KeyEvent.VK_SPACE && canPlaceBomb(gm);
+    }
+
+    private boolean canPlaceBomb(GameManager gm) {
+        Player p = gm.getPlayer();
+        return !gm.hasBombAt(p.getX(), p.getY()) && gm.getBombs().size() < GameManager.MAX_BOMBS;
+    }
     
     public void reset() {
         pressedKeys.clear();
@@ -365,6 +676,52 @@ public class PlayingState implements GameState {
     public boolean isPaused() {
         return paused;
     }
+
+    /**
+     * @return Key codes currently held down, in ascending order
+     */
+    public int[] getHeldKeys() {
+        return pressedKeys.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * @return Highlighted pause menu entry
+     */
+    public int getPauseSelection() {
+        return pauseSelection;
+    }
+
+    /**
+     * @return Ticks until the player may take the next step
+     */
+    public int getMoveDelay() {
+        return moveDelay;
+    }
+
+    /**
+     * @return Ticks until the player can be hurt again
+     */
+    public int getInvincibleFrames() {
+        return playerInvincibleFrames;
+    }
+
+    /**
+     * Puts back the input and cooldown state of a saved match.
+     *
+     * @param heldKeys Key codes held down
+     * @param moveDelay Ticks until the player may take the next step
+     * @param invincibleFrames Ticks until the player can be hurt again
+     * @param paused Whether the pause menu is open
+     * @param pauseSelection Highlighted pause menu entry
+     */
+    public void restoreControls(int[] heldKeys, int moveDelay, int invincibleFrames, boolean paused, int pauseSelection) {
+        pressedKeys.clear();
+        for (int key : heldKeys) pressedKeys.add(key);
+        this.moveDelay = moveDelay;
+        this.playerInvincibleFrames = invincibleFrames;
+        this.paused = paused;
+        this.pauseSelection = pauseSelection;
+    }
     
     public void setPaused(boolean paused) {
         this.paused = paused;
@@ -2,15 +2,56 @@ package com.bomberman.states;
 
 import com.bomberman.core.GameManager;
 import com.bomberman.managers.SettingsManager;
+import com.bomberman.render.GradientFills;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
 
 public class SettingsState implements GameState {
     private int selection = 0;
-    private final String[] options = { "Resolution", "Fullscreen", "Music Vol", "SFX Vol", "Retro Effects", "Show FPS", "Apply", "Back" };
+    private final String[] options = { "Resolution", "Fullscreen", "Music Vol", "SFX Vol", "Retro Effects", "Show FPS", "Active Render", "FPS Cap", "Apply", "Back" };
     private static final String FONT_NAME_DEFAULT = "Consolas";
+
+    // Fonts, colours and backgrounds
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 40);
+    private static final Font OPTION_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 22);
+    private static final Font VALUE_SMALL_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 18);
+    private static final Font NOTE_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 12);
+    private static final Font FOOTER_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 14);
+    private static final Font SLIDER_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 16);
+    private static final Color BACKGROUND = new Color(20, 20, 30);
+    private static final Color PANEL_SHADOW = new Color(0, 0, 0, 100);
+    private static final Color PANEL_COLOR = new Color(35, 40, 50);
+    private static final Color ACCENT = new Color(100, 149, 237);
+    private static final Color HIGHLIGHT = new Color(70, 130, 180, 80);
+    private static final Color OPTION_COLOR = new Color(200, 200, 220);
+    private static final Color VALUE_COLOR = new Color(180, 180, 200);
+    private static final Color MUTED = new Color(150, 150, 170);
+    private static final Color CONTROL_BG = new Color(50, 50, 60);
+    private static final Color CHECK_COLOR = new Color(100, 200, 100);
+    private static final Color SLIDER_END = new Color(50, 150, 50);
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(2);
+    private static final BasicStroke CHECK_STROKE = new BasicStroke(3);
+    private static final BasicStroke SLIDER_STROKE = new BasicStroke(1.5f);
+    private static final String[] PERCENT_LABELS = new String[101];
+    static {
+        for (int i = 0; i < PERCENT_LABELS.length; i++) {
+            PERCENT_LABELS[i] = i + "%";
+        }
+    }
+    private static final int SLIDER_W = 150;
+    private static final int SLIDER_H = 12;
+    // Slider fills by percentage, rendered the first time each value is shown
+    private static final BufferedImage[] SLIDER_FILLS = new BufferedImage[101];
+
+    // Value labels, rebuilt only when the pending value changes
+    private SettingsManager.Resolution resolutionTextFor;
+    private String resolutionText = "";
+    private int fpsCapTextFor = -1;
+    private String fpsCapText = "";
     
     // Pending changes
     private SettingsManager.Resolution pendingResolution;
@@ -19,6 +60,8 @@ public class SettingsState implements GameState {
     private int pendingSFXVol;
     private boolean pendingRetroEffects;
     private boolean pendingShowFPS;
+    private boolean pendingActiveRendering;
+    private int pendingFpsCap;
     
     private boolean initialized = false;
 
@@ -32,6 +75,8 @@ public class SettingsState implements GameState {
         pendingSFXVol = sound.getSFXVolume();
         pendingRetroEffects = sm.isRetroEffects();
         pendingShowFPS = sm.isShowFPS();
+        pendingActiveRendering = sm.isActiveRendering();
+        pendingFpsCap = sm.getFpsCap();
         initialized = true;
     }
 
@@ -45,67 +90,71 @@ public class SettingsState implements GameState {
         if (!initialized) init();
 
         // Background
-        g2d.setColor(new Color(20, 20, 30));
+        g2d.setColor(BACKGROUND);
         g2d.fillRect(0, 0, GameManager.GRID_W * GameManager.TILE_SIZE, GameManager.GRID_H * GameManager.TILE_SIZE);
 
         // Panel Background
         int panelW = 700;
-        int panelH = 580;
+        int panelH = 640;
         int panelX = (GameManager.GRID_W * GameManager.TILE_SIZE - panelW) / 2;
         int panelY = (GameManager.GRID_H * GameManager.TILE_SIZE - panelH) / 2;
         
         // Shadow
-        g2d.setColor(new Color(0, 0, 0, 100));
+        g2d.setColor(PANEL_SHADOW);
         g2d.fillRoundRect(panelX + 5, panelY + 5, panelW, panelH, 20, 20);
         
-        g2d.setColor(new Color(35, 40, 50));
+        g2d.setColor(PANEL_COLOR);
         g2d.fillRoundRect(panelX, panelY, panelW, panelH, 20, 20);
-        g2d.setColor(new Color(100, 149, 237));
-        g2d.setStroke(new java.awt.BasicStroke(2));
+        g2d.setColor(ACCENT);
+        g2d.setStroke(BORDER_STROKE);
         g2d.drawRoundRect(panelX, panelY, panelW, panelH, 20, 20);
 
         // Title
         g2d.setColor(Color.CYAN);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 40));
+        g2d.setFont(TITLE_FONT);
         String title = "CONFIGURATION";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         g2d.drawString(title, panelX + (panelW - titleW) / 2, panelY + 60);
 
         // Options
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 22));
+        g2d.setFont(OPTION_FONT);
         
         for (int i = 0; i < options.length; i++) {
-            int y = panelY + 130 + i * 55;
+            int y = panelY + 130 + i * 50;
             int x = panelX + 60;
             String text = options[i];
             
             // Draw Selection Highlight with gradient
             if (i == selection) {
-                g2d.setColor(new Color(70, 130, 180, 80));
-                g2d.fillRoundRect(x - 15, y - 32, panelW - 100, 45, 8, 8);
-                g2d.setColor(new Color(100, 149, 237));
-                g2d.drawRoundRect(x - 15, y - 32, panelW - 100, 45, 8, 8);
+                g2d.setColor(HIGHLIGHT);
+                g2d.fillRoundRect(x - 15, y - 32, panelW - 100, 42, 8, 8);
+                g2d.setColor(ACCENT);
+                g2d.drawRoundRect(x - 15, y - 32, panelW - 100, 42, 8, 8);
                 g2d.setColor(Color.YELLOW);
             } else {
-                g2d.setColor(new Color(200, 200, 220));
+                g2d.setColor(OPTION_COLOR);
             }
             
             g2d.drawString(text, x, y);
             
             // Draw Values
-            g2d.setColor(i == selection ? Color.WHITE : new Color(180, 180, 200));
+            g2d.setColor(i == selection ? Color.WHITE : VALUE_COLOR);
             int valX = panelX + 380;
             
             switch (i) {
                 case 0: // Resolution
-                    String resText = "< " + pendingResolution + " >";
+                    if (pendingResolution != resolutionTextFor) {
+                        resolutionTextFor = pendingResolution;
+                        resolutionText = "< " + pendingResolution + " >";
+                    }
+                    String resText = resolutionText;
                     if (pendingFullscreen) {
-                        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 18));
+                        g2d.setFont(VALUE_SMALL_FONT);
                         g2d.drawString(resText, valX, y);
-                        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 12));
-                        g2d.setColor(new Color(150, 150, 170));
+                        g2d.setFont(NOTE_FONT);
+                        g2d.setColor(MUTED);
                         g2d.drawString("(Takes effect on exit fullscreen)", valX, y + 15);
-                        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 22));
+                        g2d.setFont(OPTION_FONT);
                     } else {
                         g2d.drawString(resText, valX, y);
                     }
@@ -125,10 +174,20 @@ public class SettingsState implements GameState {
                 case 5: // Show FPS
                     drawCheckbox(g2d, valX, y - 20, pendingShowFPS);
                     break;
-                case 6: // Apply
+                case 6: // Active Render
+                    drawCheckbox(g2d, valX, y - 20, pendingActiveRendering);
+                    break;
+                case 7: // FPS Cap
+                    if (pendingFpsCap != fpsCapTextFor) {
+                        fpsCapTextFor = pendingFpsCap;
+                        fpsCapText = "< " + pendingFpsCap + " >";
+                    }
+                    g2d.drawString(fpsCapText, valX, y);
+                    break;
+                case 8: // Apply
                     if (i == selection) g2d.drawString("[ ENTER ]", valX, y);
                     break;
-                case 7: // Back
+                case 9: // Back
                     if (i == selection) g2d.drawString("[ ESC ]", valX, y);
                     break;
                 default:
@@ -137,7 +196,7 @@ public class SettingsState implements GameState {
         }
         
         // Footer
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 14));
+        g2d.setFont(FOOTER_FONT);
         g2d.setColor(Color.GRAY);
         String footer = "Press ENTER to Toggle/Apply, ARROWS to Navigate";
         int footerW = g2d.getFontMetrics().stringWidth(footer);
@@ -146,49 +205,49 @@ public class SettingsState implements GameState {
     
     private void drawCheckbox(Graphics2D g2d, int x, int y, boolean checked) {
         // Box
-        g2d.setColor(new Color(50, 50, 60));
+        g2d.setColor(CONTROL_BG);
         g2d.fillRoundRect(x, y, 24, 24, 4, 4);
         
-        g2d.setColor(new Color(150, 150, 170));
-        g2d.setStroke(new java.awt.BasicStroke(2));
+        g2d.setColor(MUTED);
+        g2d.setStroke(BORDER_STROKE);
         g2d.drawRoundRect(x, y, 24, 24, 4, 4);
         
         // Checkmark
         if (checked) {
-            g2d.setColor(new Color(100, 200, 100));
-            g2d.setStroke(new java.awt.BasicStroke(3));
+            g2d.setColor(CHECK_COLOR);
+            g2d.setStroke(CHECK_STROKE);
             g2d.drawLine(x + 5, y + 12, x + 10, y + 17);
             g2d.drawLine(x + 10, y + 17, x + 19, y + 7);
         }
     }
     
     private void drawSlider(Graphics2D g2d, int x, int y, int value) {
-        int barW = 150;
-        int barH = 12;
+        int barW = SLIDER_W;
+        int barH = SLIDER_H;
         
         // Bar Background
-        g2d.setColor(new Color(50, 50, 60));
+        g2d.setColor(CONTROL_BG);
         g2d.fillRoundRect(x, y + 5, barW, barH, 6, 6);
         
         // Fill with gradient effect
         if (value > 0) {
-            java.awt.GradientPaint gp = new java.awt.GradientPaint(
-                x, y, new Color(100, 200, 100),
-                x + (float) barW, y, new Color(50, 150, 50)
-            );
-            g2d.setPaint(gp);
-            g2d.fillRoundRect(x, y + 5, (int)(barW * (value / 100.0)), barH, 6, 6);
+            int v = Math.min(100, value);
+            int fillW = (int)(barW * (v / 100.0));
+            if (SLIDER_FILLS[v] == null) {
+                SLIDER_FILLS[v] = GradientFills.horizontal(fillW, barH, 6, barW, CHECK_COLOR, SLIDER_END, 2);
+            }
+            g2d.drawImage(SLIDER_FILLS[v], x, y + 5, fillW, barH, null);
         }
         
         // Border
-        g2d.setColor(new Color(150, 150, 170));
-        g2d.setStroke(new java.awt.BasicStroke(1.5f));
+        g2d.setColor(MUTED);
+        g2d.setStroke(SLIDER_STROKE);
         g2d.drawRoundRect(x, y + 5, barW, barH, 6, 6);
         
         // Text
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 16));
-        g2d.drawString(value + "%", x + barW + 15, y + 16);
+        g2d.setFont(SLIDER_FONT);
+        g2d.drawString(PERCENT_LABELS[Math.max(0, Math.min(100, value))], x + barW + 15, y + 16);
     }
 
     @Override
@@ -215,6 +274,13 @@ public class SettingsState implements GameState {
                 pendingSFXVol += dir * 10;
                 if (pendingSFXVol < 0) pendingSFXVol = 0;
                 if (pendingSFXVol > 100) pendingSFXVol = 100;
+            } else if (selection == 7) { // FPS Cap
+                int[] caps = SettingsManager.FPS_CAP_OPTIONS;
+                int current = 0;
+                for (int c = 0; c < caps.length; c++) {
+                    if (caps[c] == pendingFpsCap) current = c;
+                }
+                pendingFpsCap = caps[(current + dir + caps.length) % caps.length];
             }
         } else if (keyCode == KeyEvent.VK_ENTER) {
             if (selection == 1) { // Fullscreen
@@ -223,9 +289,11 @@ public class SettingsState implements GameState {
                 pendingRetroEffects = !pendingRetroEffects;
             } else if (selection == 5) { // Show FPS
                 pendingShowFPS = !pendingShowFPS;
-            } else if (selection == 6) { // Apply
+            } else if (selection == 6) { // Active Render
+                pendingActiveRendering = !pendingActiveRendering;
+            } else if (selection == 8) { // Apply
                 applySettings(gm);
-            } else if (selection == 7) { // Back
+            } else if (selection == 9) { // Back
                 gm.returnToPreviousState();
                 // Reset pending to actual
                 init(); 
@@ -242,6 +310,8 @@ public class SettingsState implements GameState {
         sm.setFullscreen(pendingFullscreen);
         sm.setRetroEffects(pendingRetroEffects);
         sm.setShowFPS(pendingShowFPS);
+        sm.setActiveRendering(pendingActiveRendering);
+        sm.setFpsCap(pendingFpsCap);
         
         com.bomberman.managers.SoundManager sound = com.bomberman.managers.SoundManager.getInstance();
         sound.setMusicVolume(pendingMusicVol);
@@ -1,7 +1,9 @@
 package com.bomberman.states;
 
 import com.bomberman.core.GameManager;
+import com.bomberman.core.MatchRandom;
 import com.bomberman.managers.LeaderboardManager;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
@@ -13,6 +15,27 @@ public class VictoryState implements GameState {
     private String errorMessage = "";
     private static final String FONT_NAME_DEFAULT = "Consolas";
 
+    // Fonts and colours
+    private static final Font TITLE_FONT = new Font(FONT_NAME_DEFAULT, Font.BOLD, 70);
+    private static final Font TIME_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 24);
+    private static final Font HINT_FONT = new Font(FONT_NAME_DEFAULT, Font.ITALIC, 16);
+    private static final Font TEXT_FONT = new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20);
+    private static final Color OVERLAY = new Color(0, 0, 0, 220);
+    private static final Color BOX_SHADOW = new Color(0, 0, 0, 120);
+    private static final Color BOX_COLOR = new Color(35, 45, 35);
+    private static final Color BOX_BORDER = new Color(100, 200, 100);
+    private static final BasicStroke BOX_STROKE = new BasicStroke(3);
+    private static final Color TITLE_GLOW = new Color(0, 255, 0, 50);
+    private static final Color TITLE_COLOR = new Color(100, 255, 100);
+    private static final Color INPUT_BACKGROUND = new Color(0, 0, 0, 100);
+
+    // Text rebuilt only when what it shows changes
+    private int timeTextFor = -1;
+    private String timeText = "";
+    private long seedTextFor;
+    private String seedText = null;
+    private String promptText = null;
+
     @Override
     public void update(GameManager gm) {
         // Handle periodic game logic, state changes, or object movement/behavior
@@ -27,7 +50,7 @@ public class VictoryState implements GameState {
         int screenH = GameManager.GRID_H * GameManager.TILE_SIZE;
 
         // Dark Overlay
-        g2d.setColor(new Color(0, 0, 0, 220));
+        g2d.setColor(OVERLAY);
         g2d.fillRect(0, 0, screenW, screenH);
         
         // Center Box
@@ -37,51 +60,70 @@ public class VictoryState implements GameState {
         int boxY = (screenH - boxH) / 2;
         
         // Shadow
-        g2d.setColor(new Color(0, 0, 0, 120));
+        g2d.setColor(BOX_SHADOW);
         g2d.fillRoundRect(boxX + 5, boxY + 5, boxW, boxH, 20, 20);
         
-        g2d.setColor(new Color(35, 45, 35));
+        g2d.setColor(BOX_COLOR);
         g2d.fillRoundRect(boxX, boxY, boxW, boxH, 20, 20);
-        g2d.setColor(new Color(100, 200, 100));
-        g2d.setStroke(new java.awt.BasicStroke(3));
+        g2d.setColor(BOX_BORDER);
+        g2d.setStroke(BOX_STROKE);
         g2d.drawRoundRect(boxX, boxY, boxW, boxH, 20, 20);
         
         // Title with glow effect
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.BOLD, 70));
+        g2d.setFont(TITLE_FONT);
         String title = "VICTORY!";
         int titleW = g2d.getFontMetrics().stringWidth(title);
         int titleX = boxX + (boxW - titleW) / 2;
         int titleY = boxY + 90;
         
         // Glow
-        g2d.setColor(new Color(0, 255, 0, 50));
+        g2d.setColor(TITLE_GLOW);
         for (int i = 0; i < 3; i++) {
             g2d.drawString(title, titleX - i, titleY - i);
             g2d.drawString(title, titleX + i, titleY + i);
         }
         
-        g2d.setColor(new Color(100, 255, 100));
+        g2d.setColor(TITLE_COLOR);
         g2d.drawString(title, titleX, titleY);
         
         // Time
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 24));
-        String timeStr = "Time: " + gm.getLastGameTime() + "s";
+        g2d.setFont(TIME_FONT);
+        if (gm.getLastGameTime() != timeTextFor) {
+            timeTextFor = gm.getLastGameTime();
+            timeText = "Time: " + timeTextFor + "s";
+        }
+        String timeStr = timeText;
         int timeW = g2d.getFontMetrics().stringWidth(timeStr);
         g2d.drawString(timeStr, boxX + (boxW - timeW) / 2, boxY + 130);
+
+        // Seed, so the match can be played again
+        g2d.setFont(HINT_FONT);
+        g2d.setColor(Color.LIGHT_GRAY);
+        if (seedText == null || gm.getMatchSeed() != seedTextFor) {
+            seedTextFor = gm.getMatchSeed();
+            seedText = "Seed: " + MatchRandom.format(seedTextFor);
+        }
+        int seedW = g2d.getFontMetrics().stringWidth(seedText);
+        g2d.drawString(seedText, boxX + (boxW - seedW) / 2, boxY + 158);
+        g2d.setFont(TIME_FONT);
+        g2d.setColor(Color.WHITE);
         
         if (!saved) {
             // Input Box
-            g2d.setColor(new Color(0, 0, 0, 100));
+            g2d.setColor(INPUT_BACKGROUND);
             g2d.fillRect(boxX + 50, boxY + 180, boxW - 100, 40);
             g2d.setColor(Color.WHITE);
             g2d.drawRect(boxX + 50, boxY + 180, boxW - 100, 40);
             
-            String prompt = username.toString() + "_";
+            if (promptText == null) {
+                promptText = username.toString() + "_";
+            }
+            String prompt = promptText;
             int promptW = g2d.getFontMetrics().stringWidth(prompt);
             g2d.drawString(prompt, boxX + (boxW - promptW) / 2, boxY + 210);
             
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.ITALIC, 16));
+            g2d.setFont(HINT_FONT);
             g2d.setColor(Color.LIGHT_GRAY);
             String hint = "Enter your name & press ENTER";
             int hintW = g2d.getFontMetrics().stringWidth(hint);
@@ -99,7 +141,7 @@ public class VictoryState implements GameState {
             g2d.drawString(savedMsg, boxX + (boxW - savedW) / 2, boxY + 200);
             
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font(FONT_NAME_DEFAULT, Font.PLAIN, 20));
+            g2d.setFont(TEXT_FONT);
             String playMsg = "Press ENTER to Play Again";
             int playW = g2d.getFontMetrics().stringWidth(playMsg);
             g2d.drawString(playMsg, boxX + (boxW - playW) / 2, boxY + 280);
@@ -112,6 +154,7 @@ public class VictoryState implements GameState {
 
     @Override
     public void handleInput(int keyCode, GameManager gm) {
+        promptText = null; // Name may change below
         if (!saved) {
             if (keyCode == KeyEvent.VK_ENTER) {
                 if (username.length() > 0) {
@@ -154,6 +197,7 @@ public class VictoryState implements GameState {
 
     public void reset() {
         username.setLength(0);
+        promptText = null;
         saved = false;
         errorMessage = "";
     }
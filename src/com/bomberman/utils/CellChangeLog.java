@@ -0,0 +1,89 @@
+package com.bomberman.utils;
+
+/**
+ * Numbered record of grid cells whose contents changed, so that readers who
+ * cache something derived from the grid can catch up on just the cells that
+ * changed since they last looked.
+ *
+ * Every change gets the next version number. The most recent
+ * {@link #getCapacity()} changes are kept; a reader that has fallen further
+ * behind, or that is behind a {@link #recordReset() reset}, has to rebuild
+ * from scratch instead.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class CellChangeLog {
+    private final int[] xs;
+    private final int[] ys;
+    private long version = 0;
+    private long resetVersion = 0;
+
+    /**
+     * @param capacity Number of most recent changes kept
+     */
+    public CellChangeLog(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+    }
+
+    /**
+     * Records that one cell changed.
+     *
+     * @param x Cell X coordinate
+     * @param y Cell Y coordinate
+     */
+    public void record(int x, int y) {
+        int i = (int) (version % xs.length);
+        xs[i] = x;
+        ys[i] = y;
+        version++;
+    }
+
+    /**
+     * Records that the whole grid changed, e.g. a new map.
+     */
+    public void recordReset() {
+        version++;
+        resetVersion = version;
+    }
+
+    /**
+     * @return Number of changes recorded so far; a reader that has seen
+     *         everything remembers this value
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getCapacity() {
+        return xs.length;
+    }
+
+    /**
+     * @param since Version a reader has caught up to
+     * @return true if every change from that version on can be read back
+     *         with {@link #getX}/{@link #getY}; false if the reader must rebuild
+     */
+    public boolean canReplay(long since) {
+        return since >= resetVersion && since <= version && version - since <= xs.length;
+    }
+
+    /**
+     * @param change Version number of a change, from a version that {@link #canReplay}
+     *               accepts up to below {@link #getVersion()}
+     * @return X coordinate of the changed cell
+     */
+    public int getX(long change) {
+        return xs[(int) (change % xs.length)];
+    }
+
+    /**
+     * @param change Version number of a change
+     * @return Y coordinate of the changed cell
+     */
+    public int getY(long change) {
+        return ys[(int) (change % ys.length)];
+    }
+}
@@ -0,0 +1,199 @@
+package com.bomberman.utils;
+
+import com.bomberman.entities.GameObject;
+import java.util.Arrays;
+
+/**
+ * Spatial index of game objects by grid cell.
+ * Answers "what is at (x, y)" and "is (x, y) occupied" without scanning
+ * every object. Each cell keeps a small array of its occupants that grows
+ * on demand; cells outside the grid are always empty. Cells are grouped in
+ * {@link ChunkLayout chunks} whose bookkeeping is allocated on the first
+ * insert, so a large board costs memory only where objects have been.
+ *
+ * The index does not observe the objects: whoever moves an object must
+ * report the move with {@link #move(GameObject, int, int)}.
+ *
+ * @param <T> The type of objects indexed
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class CellIndex<T extends GameObject> {
+    /** Occupant slots allocated for a cell on its first insert */
+    private static final int INITIAL_CELL_CAPACITY = 2;
+
+    /** Chunk geometry of the grid */
+    private final ChunkLayout layout;
+
+    /** Occupants per chunk and cell, null until first used */
+    private final Object[][][] cells;
+
+    /** Number of occupants per chunk and cell, null until the chunk is first used */
+    private final int[][] counts;
+
+    /** Total number of indexed objects */
+    private int size;
+
+    /**
+     * Creates an empty index for a grid.
+     *
+     * @param width Grid width (number of columns)
+     * @param height Grid height (number of rows)
+     * @throws IllegalArgumentException if width or height is less than 1
+     */
+    public CellIndex(int width, int height) {
+        this.layout = new ChunkLayout(width, height);
+        this.cells = new Object[layout.getChunkCount()][][];
+        this.counts = new int[layout.getChunkCount()][];
+    }
+
+    /**
+     * Indexes an object at its current position; objects off the grid are ignored.
+     *
+     * @param obj Object to add
+     */
+    public void add(T obj) {
+        insert(obj, obj.getX(), obj.getY());
+    }
+
+    /**
+     * Removes an object indexed at its current position.
+     *
+     * @param obj Object to remove
+     * @return true if the object was found
+     */
+    public boolean remove(T obj) {
+        return remove(obj, obj.getX(), obj.getY());
+    }
+
+    /**
+     * Moves an object's entry from its previous cell to its current position.
+     *
+     * @param obj Object that moved
+     * @param fromX X-coordinate it was indexed at
+     * @param fromY Y-coordinate it was indexed at
+     */
+    public void move(T obj, int fromX, int fromY) {
+        if (fromX == obj.getX() && fromY == obj.getY()) return;
+        if (remove(obj, fromX, fromY)) {
+            insert(obj, obj.getX(), obj.getY());
+        }
+    }
+
+    /**
+     * Gets the number of objects in a cell.
+     *
+     * @param x X-coordinate (column)
+     * @param y Y-coordinate (row)
+     * @return Occupant count, 0 outside the grid
+     */
+    public int count(int x, int y) {
+        if (!layout.inBounds(x, y)) return 0;
+        int[] chunkCounts = counts[layout.chunkOf(x, y)];
+        return chunkCounts == null ? 0 : chunkCounts[ChunkLayout.cellOf(x, y)];
+    }
+
+    /**
+     * Checks whether any object is in a cell.
+     *
+     * @param x X-coordinate (column)
+     * @param y Y-coordinate (row)
+     * @return true if the cell has at least one occupant
+     */
+    public boolean isOccupied(int x, int y) {
+        return count(x, y) > 0;
+    }
+
+    /**
+     * Gets one occupant of a cell.
+     *
+     * @param x X-coordinate (column)
+     * @param y Y-coordinate (row)
+     * @param i Index below {@link #count(int, int)}
+     * @return The i-th occupant
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int x, int y, int i) {
+        return (T) cells[layout.chunkOf(x, y)][ChunkLayout.cellOf(x, y)][i];
+    }
+
+    /**
+     * Gets the first occupant of a cell.
+     *
+     * @param x X-coordinate (column)
+     * @param y Y-coordinate (row)
+     * @return An occupant, or null if the cell is empty or off the grid
+     */
+    public T first(int x, int y) {
+        return isOccupied(x, y) ? get(x, y, 0) : null;
+    }
+
+    /**
+     * Gets the total number of indexed objects.
+     *
+     * @return Object count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every object, keeping the allocated chunks for reuse.
+     */
+    public void clear() {
+        for (int c = 0; c < counts.length; c++) {
+            int[] chunkCounts = counts[c];
+            if (chunkCounts == null) continue;
+            for (int idx = 0; idx < ChunkLayout.CHUNK_CELLS; idx++) {
+                if (chunkCounts[idx] > 0) {
+                    Arrays.fill(cells[c][idx], 0, chunkCounts[idx], null);
+                    chunkCounts[idx] = 0;
+                }
+            }
+        }
+        size = 0;
+    }
+
+    private void insert(T obj, int x, int y) {
+        if (!layout.inBounds(x, y)) return;
+        int c = layout.chunkOf(x, y);
+        if (counts[c] == null) {
+            counts[c] = new int[ChunkLayout.CHUNK_CELLS];
+            cells[c] = new Object[ChunkLayout.CHUNK_CELLS][];
+        }
+        int idx = ChunkLayout.cellOf(x, y);
+        int[] chunkCounts = counts[c];
+        Object[] cell = cells[c][idx];
+        if (cell == null) {
+            cell = new Object[INITIAL_CELL_CAPACITY];
+            cells[c][idx] = cell;
+        } else if (chunkCounts[idx] == cell.length) {
+            cell = Arrays.copyOf(cell, cell.length * 2);
+            cells[c][idx] = cell;
+        }
+        cell[chunkCounts[idx]++] = obj;
+        size++;
+    }
+
+    private boolean remove(T obj, int x, int y) {
+        if (!layout.inBounds(x, y)) return false;
+        int c = layout.chunkOf(x, y);
+        int[] chunkCounts = counts[c];
+        if (chunkCounts == null) return false;
+        int idx = ChunkLayout.cellOf(x, y);
+        Object[] cell = cells[c][idx];
+        int n = chunkCounts[idx];
+        for (int i = 0; i < n; i++) {
+            if (cell[i] == obj) {
+                // Order within a cell does not matter: fill the gap with the last entry
+                cell[i] = cell[n - 1];
+                cell[n - 1] = null;
+                chunkCounts[idx] = n - 1;
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+}
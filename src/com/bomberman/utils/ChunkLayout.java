@@ -0,0 +1,94 @@
+package com.bomberman.utils;
+
+/**
+ * Splits a grid into square chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} cells.
+ * Chunked grids allocate a chunk's storage on the first write into it, so a
+ * large board only pays for the areas that hold something. A cell is
+ * addressed by its chunk number and its index inside the chunk.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class ChunkLayout {
+    /** log2 of the chunk side */
+    public static final int CHUNK_SHIFT = 6;
+    /** Cells along one side of a chunk */
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    /** Cells in one chunk */
+    public static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+
+    private static final int LOCAL_MASK = CHUNK_SIZE - 1;
+
+    private final int width;
+    private final int height;
+    private final int chunksX;
+    private final int chunkCount;
+
+    /**
+     * @param width Grid width (number of columns)
+     * @param height Grid height (number of rows)
+     * @throws IllegalArgumentException if width or height is less than 1
+     */
+    public ChunkLayout(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("Grid dimensions must be at least 1x1");
+        }
+        this.width = width;
+        this.height = height;
+        this.chunksX = (width + LOCAL_MASK) >> CHUNK_SHIFT;
+        this.chunkCount = chunksX * ((height + LOCAL_MASK) >> CHUNK_SHIFT);
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * @return Number of chunks covering the grid
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * @param x X-coordinate (column)
+     * @param y Y-coordinate (row)
+     * @return true if the cell is on the grid
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * @param x X-coordinate of a cell on the grid
+     * @param y Y-coordinate of a cell on the grid
+     * @return Number of the chunk holding the cell
+     */
+    public int chunkOf(int x, int y) {
+        return (y >> CHUNK_SHIFT) * chunksX + (x >> CHUNK_SHIFT);
+    }
+
+    /**
+     * @param x X-coordinate of a cell on the grid
+     * @param y Y-coordinate of a cell on the grid
+     * @return Index of the cell inside its chunk
+     */
+    public static int cellOf(int x, int y) {
+        return ((y & LOCAL_MASK) << CHUNK_SHIFT) | (x & LOCAL_MASK);
+    }
+
+    /**
+     * @param chunk Chunk number
+     * @return X-coordinate of the chunk's first column
+     */
+    public int chunkLeft(int chunk) {
+        return (chunk % chunksX) << CHUNK_SHIFT;
+    }
+
+    /**
+     * @param chunk Chunk number
+     * @return Y-coordinate of the chunk's first row
+     */
+    public int chunkTop(int chunk) {
+        return (chunk / chunksX) << CHUNK_SHIFT;
+    }
+}
@@ -0,0 +1,100 @@
+package com.bomberman.utils;
+
+import java.util.Arrays;
+
+/**
+ * Distance from every walkable cell to one goal cell, built by a single
+ * breadth-first search over a 4-connected grid.
+ *
+ * Any number of agents heading for the same goal can share one field: an
+ * agent steps to a neighbour whose distance is one less than its own, in
+ * constant time and without a search of its own. The field is only valid
+ * for the walkability it was built from; rebuild it when the goal moves or
+ * a cell opens or closes.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class FlowField {
+    /** Distance of cells from which the goal cannot be reached */
+    public static final int UNREACHABLE = -1;
+
+    private static final int[] DX = { 0, 0, -1, 1 }; // Up, Down, Left, Right
+    private static final int[] DY = { -1, 1, 0, 0 };
+
+    private final int width;
+    private final int height;
+    private final int[] distances;
+    /** BFS queue of cells packed y * width + x; each cell is queued at most once */
+    private final int[] queue;
+    private int goalX = -1;
+    private int goalY = -1;
+
+    /**
+     * Creates a field with every cell unreachable.
+     *
+     * @param width Grid width
+     * @param height Grid height
+     */
+    public FlowField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.distances = new int[width * height];
+        this.queue = new int[width * height];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getGoalX() { return goalX; }
+    public int getGoalY() { return goalY; }
+
+    /**
+     * Recomputes every distance towards a goal. The goal cell itself is always
+     * the source, even if it is not walkable.
+     *
+     * @param goalX Goal X coordinate
+     * @param goalY Goal Y coordinate
+     * @param walkable Which cells may be entered
+     * @throws IllegalArgumentException if the goal is off the grid
+     */
+    public void rebuild(int goalX, int goalY, Pathfinding.WalkableChecker walkable) {
+        if (goalX < 0 || goalX >= width || goalY < 0 || goalY >= height) {
+            throw new IllegalArgumentException("Goal off the grid: " + goalX + "," + goalY);
+        }
+        this.goalX = goalX;
+        this.goalY = goalY;
+        Arrays.fill(distances, UNREACHABLE);
+
+        int head = 0;
+        int tail = 0;
+        int goal = goalY * width + goalX;
+        distances[goal] = 0;
+        queue[tail++] = goal;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            int next = distances[cell] + 1;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height) continue;
+                int n = ny * width + nx;
+                if (distances[n] != UNREACHABLE || !walkable.isWalkable(nx, ny)) continue;
+                distances[n] = next;
+                queue[tail++] = n;
+            }
+        }
+    }
+
+    /**
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @return Steps from the cell to the goal, or {@link #UNREACHABLE}; cells off the grid are unreachable
+     */
+    public int distance(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return UNREACHABLE;
+        return distances[y * width + x];
+    }
+}
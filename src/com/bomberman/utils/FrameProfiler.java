@@ -0,0 +1,274 @@
+package com.bomberman.utils;
+
+import com.bomberman.managers.SettingsManager;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.Arrays;
+
+/**
+ * Lightweight per-phase profiler for the simulation tick and the render frame.
+ * Each phase records {@code System.nanoTime()} deltas into a preallocated ring
+ * buffer, so measuring never allocates. The overlay shows rolling p50/p95/p99
+ * and max per phase plus a frame-time graph, and is drawn whenever
+ * {@link SettingsManager#isShowFPS()} is on.
+ *
+ * Update phases are recorded by the simulation thread and render phases by the
+ * thread that draws frames (the render thread with active rendering, the EDT
+ * otherwise); each ring therefore has a single writer.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public class FrameProfiler {
+
+    /**
+     * Measured phases, in overlay display order.
+     */
+    public enum Phase {
+        TICK("tick total"),
+        TRANSITION("  transition"),
+        BOMBS("  bombs"),
+        EXPLOSIONS("  explosions"),
+        ENEMIES("  enemies"),
+        FRAME("frame total"),
+        TERRAIN("  terrain"),
+        BOMB_LAYER("  bomb layer"),
+        FIRE_LAYER("  fire layer"),
+        ENEMY_LAYER("  enemy layer"),
+        PLAYER_LAYER("  player layer"),
+        BOARD_BLIT("  board blit"),
+        HUD("  hud");
+
+        private final char[] label;
+
+        Phase(String label) {
+            this.label = label.toCharArray();
+        }
+    }
+
+    /** Samples kept per phase; a power of two so the index can be masked */
+    private static final int RING_SIZE = 256;
+    private static final int RING_MASK = RING_SIZE - 1;
+
+    /** Percentiles are recomputed at most this often to keep the overlay cheap */
+    private static final long STATS_INTERVAL_NANOS = 250_000_000L;
+
+    private static final int PHASES = Phase.values().length;
+    private static final Phase[] PHASE_VALUES = Phase.values();
+
+    private static FrameProfiler instance;
+
+    // Ring buffers: samples[phase][i], written round-robin
+    private final long[][] samples = new long[PHASES][RING_SIZE];
+    private final int[] writeIndex = new int[PHASES];
+    private final int[] sampleCount = new int[PHASES];
+
+    // Cached statistics in nanoseconds
+    private final long[] p50 = new long[PHASES];
+    private final long[] p95 = new long[PHASES];
+    private final long[] p99 = new long[PHASES];
+    private final long[] max = new long[PHASES];
+    private final long[] scratch = new long[RING_SIZE];
+    private long lastStatsTime = 0;
+
+    // Overlay drawing buffers
+    private static final Font OVERLAY_FONT = new Font("Consolas", Font.PLAIN, 11);
+    private static final Color PANEL_COLOR = new Color(0, 0, 0, 170);
+    private static final Color GRAPH_COLOR = new Color(0, 200, 255);
+    private static final Color BUDGET_COLOR = new Color(255, 80, 80);
+    private final char[] line = new char[64];
+    private final int[] graphX = new int[RING_SIZE];
+    private final int[] graphY = new int[RING_SIZE];
+
+    private FrameProfiler() {}
+
+    public static synchronized FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    /**
+     * @return true when samples are being recorded
+     */
+    public boolean isEnabled() {
+        return SettingsManager.getInstance().isShowFPS();
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return Start timestamp to pass to {@link #end(Phase, long)}, or 0 when disabled
+     */
+    public long begin() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos} for the given phase.
+     *
+     * @param phase Phase being measured
+     * @param startNanos Value returned by {@link #begin()}
+     */
+    public void end(Phase phase, long startNanos) {
+        if (startNanos == 0L) return;
+        record(phase, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Adds a raw sample for a phase.
+     *
+     * @param phase Phase being measured
+     * @param nanos Duration in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        int p = phase.ordinal();
+        samples[p][writeIndex[p]] = nanos;
+        writeIndex[p] = (writeIndex[p] + 1) & RING_MASK;
+        if (sampleCount[p] < RING_SIZE) sampleCount[p]++;
+    }
+
+    /**
+     * Recomputes percentiles for every phase from the current ring contents.
+     */
+    public void computeStats() {
+        for (int p = 0; p < PHASES; p++) {
+            int count = sampleCount[p];
+            if (count == 0) {
+                p50[p] = p95[p] = p99[p] = max[p] = 0;
+                continue;
+            }
+            System.arraycopy(samples[p], 0, scratch, 0, count);
+            Arrays.sort(scratch, 0, count);
+            p50[p] = scratch[percentileIndex(count, 50)];
+            p95[p] = scratch[percentileIndex(count, 95)];
+            p99[p] = scratch[percentileIndex(count, 99)];
+            max[p] = scratch[count - 1];
+        }
+    }
+
+    private static int percentileIndex(int count, int percentile) {
+        int idx = (count * percentile + 99) / 100 - 1; // Nearest-rank
+        return Math.max(0, Math.min(count - 1, idx));
+    }
+
+    public long getP50(Phase phase) { return p50[phase.ordinal()]; }
+    public long getP95(Phase phase) { return p95[phase.ordinal()]; }
+    public long getP99(Phase phase) { return p99[phase.ordinal()]; }
+    public long getMax(Phase phase) { return max[phase.ordinal()]; }
+    public int getSampleCount(Phase phase) { return sampleCount[phase.ordinal()]; }
+
+    /**
+     * Clears all samples and statistics.
+     */
+    public void reset() {
+        for (int p = 0; p < PHASES; p++) {
+            writeIndex[p] = 0;
+            sampleCount[p] = 0;
+            p50[p] = p95[p] = p99[p] = max[p] = 0;
+        }
+    }
+
+    /**
+     * Draws the timing table and frame graph in screen space.
+     *
+     * @param g Graphics context with an identity transform
+     * @param x Left edge of the overlay
+     * @param y Top edge of the overlay
+     */
+    public void renderOverlay(Graphics2D g, int x, int y) {
+        long now = System.nanoTime();
+        if (now - lastStatsTime >= STATS_INTERVAL_NANOS) {
+            computeStats();
+            lastStatsTime = now;
+        }
+
+        int rowH = 13;
+        int panelW = 300;
+        int graphH = 60;
+        int panelH = (PHASES + 1) * rowH + graphH + 16;
+
+        g.setColor(PANEL_COLOR);
+        g.fillRect(x, y, panelW, panelH);
+        g.setFont(OVERLAY_FONT);
+
+        // Table
+        g.setColor(Color.WHITE);
+        int len = writeHeader();
+        g.drawChars(line, 0, len, x + 4, y + rowH);
+        for (int p = 0; p < PHASES; p++) {
+            g.setColor(p == Phase.TICK.ordinal() || p == Phase.FRAME.ordinal() ? Color.YELLOW : Color.LIGHT_GRAY);
+            len = writeRow(PHASE_VALUES[p]);
+            g.drawChars(line, 0, len, x + 4, y + rowH * (p + 2));
+        }
+
+        // Frame-time graph: one column per sample, 60 Hz budget as reference line
+        int gx = x + 4;
+        int gy = y + (PHASES + 1) * rowH + 8;
+        int gw = panelW - 8;
+        int frame = Phase.FRAME.ordinal();
+        int count = sampleCount[frame];
+        long scaleNanos = 33_333_333L; // Graph spans 0..33ms
+
+        g.setColor(BUDGET_COLOR);
+        int budgetY = gy + graphH - (int) (graphH * 16_666_667L / scaleNanos);
+        g.drawLine(gx, budgetY, gx + gw, budgetY);
+
+        if (count > 1) {
+            int start = (writeIndex[frame] - count) & RING_MASK;
+            for (int i = 0; i < count; i++) {
+                long v = Math.min(samples[frame][(start + i) & RING_MASK], scaleNanos);
+                graphX[i] = gx + (int) ((long) i * gw / (RING_SIZE - 1));
+                graphY[i] = gy + graphH - (int) (graphH * v / scaleNanos);
+            }
+            g.setColor(GRAPH_COLOR);
+            g.drawPolyline(graphX, graphY, count);
+        }
+    }
+
+    private int writeHeader() {
+        int len = writeLabel("phase (us)", 0);
+        len = writeText("p50", len, 16 + 7);
+        len = writeText("p95", len, 16 + 14);
+        len = writeText("p99", len, 16 + 21);
+        return writeText("max", len, 16 + 28);
+    }
+
+    private int writeRow(Phase phase) {
+        int p = phase.ordinal();
+        int len = 0;
+        for (char c : phase.label) line[len++] = c;
+        while (len < 16) line[len++] = ' ';
+        len = writeMicros(p50[p], len);
+        len = writeMicros(p95[p], len);
+        len = writeMicros(p99[p], len);
+        return writeMicros(max[p], len);
+    }
+
+    private int writeLabel(String text, int len) {
+        for (int i = 0; i < text.length(); i++) line[len++] = text.charAt(i);
+        while (len < 16) line[len++] = ' ';
+        return len;
+    }
+
+    private int writeText(String text, int len, int rightEdge) {
+        while (len < rightEdge - text.length()) line[len++] = ' ';
+        for (int i = 0; i < text.length(); i++) line[len++] = text.charAt(i);
+        return len;
+    }
+
+    /** Appends a right-aligned, 7-column microsecond value without allocating. */
+    private int writeMicros(long nanos, int len) {
+        long micros = Math.min(nanos / 1000, 999_999);
+        int end = len + 7;
+        int pos = end - 1;
+        do {
+            line[pos--] = (char) ('0' + micros % 10);
+            micros /= 10;
+        } while (micros > 0 && pos >= len);
+        while (pos >= len) line[pos--] = ' ';
+        return end;
+    }
+}
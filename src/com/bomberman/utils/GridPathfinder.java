@@ -0,0 +1,392 @@
+package com.bomberman.utils;
+
+import java.util.Arrays;
+
+/**
+ * A* search on a 4-connected grid that allocates nothing per query.
+ *
+ * Search state lives in primitive arrays owned by the instance and reused
+ * from one query to the next: per cell a g-cost, the parent cell, the cell's
+ * slot in the open heap and a generation stamp. Bumping the generation at the
+ * start of a query invalidates every cell at once, so nothing is cleared.
+ * Cell records are grouped in {@link ChunkLayout chunks} allocated on first
+ * touch, so a search on a large board only pays for the area it explores.
+ * The open set is a binary heap of cells ordered by f-cost, then by the
+ * heuristic, with decrease-key through the stored heap slots.
+ *
+ * In jump point mode the search is Jump Point Search adapted to four
+ * neighbours: a horizontal scan runs until a cell whose upper or lower
+ * neighbour opens up after being blocked, a vertical scan stops wherever a
+ * horizontal scan from it would find such a cell, and only those jump points
+ * enter the heap. Paths are just as short and far fewer cells are pushed
+ * where walls break the board up, but on an empty board the scans cost more
+ * than they save, so {@link #prefersJumpPoints} picks a mode from how
+ * walled-in the board is.
+ *
+ * Paths are written into a caller-supplied buffer as cells packed
+ * {@code y * width + x}, start first. An instance is not thread-safe; use
+ * one per thread.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class GridPathfinder {
+    /** Returned by {@link #findPath} when the goal cannot be reached */
+    public static final int NO_PATH = -1;
+
+    private static final int[] DX = { 0, 0, -1, 1 }; // Up, Down, Left, Right
+    private static final int[] DY = { -1, 1, 0, 0 };
+    // Direction bits, one per index into DX and DY
+    private static final int UP = 1;
+    private static final int DOWN = 2;
+    private static final int LEFT = 4;
+    private static final int RIGHT = 8;
+    private static final int ALL_DIRECTIONS = UP | DOWN | LEFT | RIGHT;
+
+    // Fields of a cell record; a record is FIELDS consecutive ints in its chunk
+    private static final int STAMP = 0;
+    private static final int G = 1;
+    private static final int HEAP_SLOT = 2;
+    private static final int PARENT = 3;
+    private static final int FIELDS = 4;
+
+    // Heap slot values of cells that are not in the heap
+    private static final int CLOSED = -1;
+    private static final int UNSEEN = -2;
+
+    /** {@link #prefersJumpPoints} chooses jump points once one cell in this many is a wall */
+    static final int JUMP_POINT_WALL_RATIO = 5;
+
+    private static final int LOCAL_BITS = 2 * ChunkLayout.CHUNK_SHIFT;
+    private static final int LOCAL_MASK = ChunkLayout.CHUNK_CELLS - 1;
+
+    private final ChunkLayout layout;
+    private final boolean jumpPoints;
+    /** Cell records per chunk, null until the chunk is first searched */
+    private final int[][] chunks;
+    private int generation = 0;
+
+    // Open set; a cell is referred to as chunk << LOCAL_BITS | cell in chunk
+    private int[] heapRefs = new int[64];
+    private int[] heapF = new int[64];
+    private int[] heapH = new int[64];
+    private int heapSize = 0;
+
+    // Most recent path, for writePath
+    private int lastGoalRef = -1;
+    private int lastLength = NO_PATH;
+
+    /**
+     * A plain A* search.
+     *
+     * @param width Grid width
+     * @param height Grid height
+     */
+    public GridPathfinder(int width, int height) {
+        this(width, height, false);
+    }
+
+    /**
+     * @param width Grid width
+     * @param height Grid height
+     * @param jumpPoints true to expand jump points only
+     */
+    public GridPathfinder(int width, int height, boolean jumpPoints) {
+        this.layout = new ChunkLayout(width, height);
+        this.chunks = new int[layout.getChunkCount()][];
+        this.jumpPoints = jumpPoints;
+    }
+
+    public int getWidth() { return layout.getWidth(); }
+    public int getHeight() { return layout.getHeight(); }
+    public boolean isJumpPoints() { return jumpPoints; }
+
+    /**
+     * Whether jump points pay off on a board. On an almost empty board A*
+     * with its distance estimate already walks straight at the goal, while
+     * every vertical jump scans whole rows; once walls break the board up,
+     * jump points skip the runs of cells between them.
+     *
+     * @param width Grid width
+     * @param height Grid height
+     * @param wallCount Number of blocked cells, border included
+     * @return true to search with jump points
+     */
+    public static boolean prefersJumpPoints(int width, int height, int wallCount) {
+        return (long) wallCount * JUMP_POINT_WALL_RATIO >= (long) width * height;
+    }
+
+    /**
+     * Finds a shortest path.
+     *
+     * @param startX Start X coordinate
+     * @param startY Start Y coordinate
+     * @param goalX Goal X coordinate
+     * @param goalY Goal Y coordinate
+     * @param walkable Which cells may be entered; consulted for the start and goal too
+     * @param out Buffer the path is written to if it fits; otherwise call
+     *            {@link #writePath} with a larger one
+     * @return Number of cells on the path including start and goal, or {@link #NO_PATH}
+     */
+    public int findPath(int startX, int startY, int goalX, int goalY,
+                        Pathfinding.WalkableChecker walkable, int[] out) {
+        lastLength = NO_PATH;
+        if (!layout.inBounds(startX, startY) || !layout.inBounds(goalX, goalY)
+                || !walkable.isWalkable(startX, startY) || !walkable.isWalkable(goalX, goalY)) {
+            return NO_PATH;
+        }
+        nextGeneration();
+        heapSize = 0;
+
+        int startRef = open(startX, startY);
+        int[] start = chunks[startRef >>> LOCAL_BITS];
+        int startBase = (startRef & LOCAL_MASK) * FIELDS;
+        start[startBase + G] = 0;
+        start[startBase + PARENT] = -1;
+        int h0 = Math.abs(startX - goalX) + Math.abs(startY - goalY);
+        push(startRef, h0, h0);
+
+        while (heapSize > 0) {
+            int ref = pop();
+            int[] record = chunks[ref >>> LOCAL_BITS];
+            int base = (ref & LOCAL_MASK) * FIELDS;
+            record[base + HEAP_SLOT] = CLOSED;
+            int x = xOf(ref);
+            int y = yOf(ref);
+            int g = record[base + G];
+
+            if (x == goalX && y == goalY) {
+                lastGoalRef = ref;
+                lastLength = g + 1;
+                if (out.length >= lastLength) writePath(out);
+                return lastLength;
+            }
+
+            int directions = jumpPoints ? prunedDirections(record[base + PARENT], x, y, walkable) : ALL_DIRECTIONS;
+            for (int d = 0; d < 4; d++) {
+                if ((directions & (1 << d)) == 0) continue;
+                int nx;
+                int ny;
+                if (jumpPoints) {
+                    int cell = jump(x, y, d, goalX, goalY, walkable);
+                    if (cell < 0) continue;
+                    nx = cell % layout.getWidth();
+                    ny = cell / layout.getWidth();
+                } else {
+                    nx = x + DX[d];
+                    ny = y + DY[d];
+                    if (!layout.inBounds(nx, ny) || !walkable.isWalkable(nx, ny)) continue;
+                }
+
+                int nref = open(nx, ny);
+                int[] n = chunks[nref >>> LOCAL_BITS];
+                int nbase = (nref & LOCAL_MASK) * FIELDS;
+                int slot = n[nbase + HEAP_SLOT];
+                if (slot == CLOSED) continue;
+                int tentative = g + Math.abs(nx - x) + Math.abs(ny - y);
+                if (slot != UNSEEN && tentative >= n[nbase + G]) continue;
+
+                n[nbase + G] = tentative;
+                n[nbase + PARENT] = ref;
+                int h = Math.abs(nx - goalX) + Math.abs(ny - goalY);
+                if (slot == UNSEEN) {
+                    push(nref, tentative + h, h);
+                } else {
+                    heapF[slot] = tentative + h;
+                    siftUp(slot);
+                }
+            }
+        }
+        return NO_PATH;
+    }
+
+    /**
+     * Writes the path found by the last successful {@link #findPath} call.
+     *
+     * @param out Buffer of at least the returned length
+     * @throws IllegalStateException if the last search found no path
+     * @throws IllegalArgumentException if the buffer is too small
+     */
+    public void writePath(int[] out) {
+        if (lastLength == NO_PATH) throw new IllegalStateException("No path to write");
+        if (out.length < lastLength) {
+            throw new IllegalArgumentException("Path of " + lastLength + " cells does not fit in " + out.length);
+        }
+        int width = layout.getWidth();
+        int ref = lastGoalRef;
+        int x = xOf(ref);
+        int y = yOf(ref);
+        int i = lastLength - 1;
+        out[i] = y * width + x;
+        // Parents are jump points in jump point mode, so walk each straight stretch cell by cell
+        while (i > 0) {
+            ref = chunks[ref >>> LOCAL_BITS][(ref & LOCAL_MASK) * FIELDS + PARENT];
+            int px = xOf(ref);
+            int py = yOf(ref);
+            while (x != px || y != py) {
+                x += Integer.signum(px - x);
+                y += Integer.signum(py - y);
+                out[--i] = y * width + x;
+            }
+        }
+    }
+
+    /**
+     * Directions worth scanning from a jump point, as bits over {@link #DX}:
+     * every direction from the start; straight on and both sides after a
+     * vertical move; straight on and the sides that just opened up after a
+     * horizontal move.
+     */
+    private int prunedDirections(int parentRef, int x, int y, Pathfinding.WalkableChecker walkable) {
+        if (parentRef < 0) return ALL_DIRECTIONS;
+        int dx = Integer.signum(x - xOf(parentRef));
+        int dy = Integer.signum(y - yOf(parentRef));
+        if (dx == 0) {
+            return (dy < 0 ? UP : DOWN) | LEFT | RIGHT;
+        }
+        int directions = dx < 0 ? LEFT : RIGHT;
+        if (opensUp(x, y, dx, -1, walkable)) directions |= UP;
+        if (opensUp(x, y, dx, 1, walkable)) directions |= DOWN;
+        return directions;
+    }
+
+    /**
+     * Scans from a cell in one direction for the next jump point.
+     *
+     * @return The jump point packed y * width + x, or -1 if the scan runs into a wall
+     */
+    private int jump(int x, int y, int d, int goalX, int goalY, Pathfinding.WalkableChecker walkable) {
+        int dx = DX[d];
+        int dy = DY[d];
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!layout.inBounds(x, y) || !walkable.isWalkable(x, y)) return -1;
+            if (x == goalX && y == goalY) return y * layout.getWidth() + x;
+            if (dy == 0) {
+                // The goal's column is where a vertical scan can head straight for it
+                if (x == goalX || opensUp(x, y, dx, -1, walkable) || opensUp(x, y, dx, 1, walkable)) {
+                    return y * layout.getWidth() + x;
+                }
+            } else if (jump(x, y, 2, goalX, goalY, walkable) >= 0 || jump(x, y, 3, goalX, goalY, walkable) >= 0) {
+                return y * layout.getWidth() + x;
+            }
+        }
+    }
+
+    /**
+     * Whether the cell beside a horizontal scan, on side sy, is open while the one before it was not.
+     */
+    private boolean opensUp(int x, int y, int dx, int sy, Pathfinding.WalkableChecker walkable) {
+        int ny = y + sy;
+        return layout.inBounds(x, ny) && walkable.isWalkable(x, ny)
+            && (!layout.inBounds(x - dx, ny) || !walkable.isWalkable(x - dx, ny));
+    }
+
+    private int xOf(int ref) {
+        return layout.chunkLeft(ref >>> LOCAL_BITS) + (ref & (ChunkLayout.CHUNK_SIZE - 1));
+    }
+
+    private int yOf(int ref) {
+        return layout.chunkTop(ref >>> LOCAL_BITS) + ((ref & LOCAL_MASK) >>> ChunkLayout.CHUNK_SHIFT);
+    }
+
+    /**
+     * Returns a cell's reference, resetting its record if this query has not seen it yet.
+     */
+    private int open(int x, int y) {
+        int chunk = layout.chunkOf(x, y);
+        int[] records = chunks[chunk];
+        if (records == null) {
+            records = new int[ChunkLayout.CHUNK_CELLS * FIELDS];
+            chunks[chunk] = records;
+        }
+        int local = ChunkLayout.cellOf(x, y);
+        int base = local * FIELDS;
+        if (records[base + STAMP] != generation) {
+            records[base + STAMP] = generation;
+            records[base + HEAP_SLOT] = UNSEEN;
+        }
+        return (chunk << LOCAL_BITS) | local;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == 0) {
+            // Wrapped around: stale stamps could now match, so wipe them
+            for (int[] records : chunks) {
+                if (records != null) Arrays.fill(records, 0);
+            }
+            generation = 1;
+        }
+    }
+
+    private void push(int ref, int f, int h) {
+        if (heapSize == heapRefs.length) {
+            heapRefs = Arrays.copyOf(heapRefs, heapSize * 2);
+            heapF = Arrays.copyOf(heapF, heapSize * 2);
+            heapH = Arrays.copyOf(heapH, heapSize * 2);
+        }
+        heapRefs[heapSize] = ref;
+        heapF[heapSize] = f;
+        heapH[heapSize] = h;
+        siftUp(heapSize++);
+    }
+
+    private int pop() {
+        int top = heapRefs[0];
+        heapSize--;
+        if (heapSize > 0) {
+            set(0, heapRefs[heapSize], heapF[heapSize], heapH[heapSize]);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int slot) {
+        int ref = heapRefs[slot];
+        int f = heapF[slot];
+        int h = heapH[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!before(f, h, heapF[parent], heapH[parent])) break;
+            set(slot, heapRefs[parent], heapF[parent], heapH[parent]);
+            slot = parent;
+        }
+        set(slot, ref, f, h);
+    }
+
+    private void siftDown(int slot) {
+        int ref = heapRefs[slot];
+        int f = heapF[slot];
+        int h = heapH[slot];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && before(heapF[child + 1], heapH[child + 1], heapF[child], heapH[child])) {
+                child++;
+            }
+            if (!before(heapF[child], heapH[child], f, h)) break;
+            set(slot, heapRefs[child], heapF[child], heapH[child]);
+            slot = child;
+        }
+        set(slot, ref, f, h);
+    }
+
+    /**
+     * Places a cell in a heap slot and records the slot in the cell.
+     */
+    private void set(int slot, int ref, int f, int h) {
+        heapRefs[slot] = ref;
+        heapF[slot] = f;
+        heapH[slot] = h;
+        chunks[ref >>> LOCAL_BITS][(ref & LOCAL_MASK) * FIELDS + HEAP_SLOT] = slot;
+    }
+
+    /**
+     * Lower f first; on equal f, the cell closer to the goal.
+     */
+    private static boolean before(int f1, int h1, int f2, int h2) {
+        return f1 < f2 || (f1 == f2 && h1 < h2);
+    }
+}
@@ -0,0 +1,561 @@
+package com.bomberman.utils;
+
+import java.util.Arrays;
+
+/**
+ * Shortest paths on a 4-connected grid for one agent chasing one target,
+ * kept up to date across ticks instead of searched again from scratch.
+ *
+ * This is Moving Target D* Lite: a D* Lite search rooted at the agent and
+ * heading for the target, with the repair rules for each kind of change.
+ * <ul>
+ *   <li>{@link #cellChanged}: a cell opened or closed. Only the cells whose
+ *       distance actually changes are revisited, usually a small region
+ *       around the cell.</li>
+ *   <li>{@link #moveGoal}: the target moved. Distances are measured from the
+ *       agent, so none of them change; only the heuristic does, and the open
+ *       set is re-keyed lazily by raising a key offset, as D* Lite does.</li>
+ *   <li>{@link #moveStart}: the agent moved. The part of the search tree
+ *       hanging below the new cell stays valid as is; the rest is cleared
+ *       and re-attached to it.</li>
+ * </ul>
+ * {@link #findPath} then finishes whatever work the changes left and writes
+ * the path. The owner must report every walkability change through
+ * {@link #cellChanged}, or {@link #reset} after losing track.
+ *
+ * Per cell the search keeps g, rhs, the parent cell, the heap slot, a
+ * generation stamp and a scratch mark, in pages of 16x16 cells allocated on
+ * first touch. Distances are only meaningful relative to the agent's cell,
+ * whose own g grows by one each time the agent steps along its tree.
+ * When several shortest paths exist, which one is returned depends on the
+ * search's history. An instance is not thread-safe.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class IncrementalPathfinder {
+    /** Returned by {@link #findPath} when the goal cannot be reached */
+    public static final int NO_PATH = -1;
+
+    private static final int INF = 1 << 29;
+
+    private static final int[] DX = { 0, 0, -1, 1 }; // Up, Down, Left, Right
+    private static final int[] DY = { -1, 1, 0, 0 };
+
+    // Fields of a cell record; a record is FIELDS consecutive ints in its page
+    private static final int STAMP = 0;
+    private static final int G = 1;
+    private static final int RHS = 2;
+    private static final int PARENT = 3;
+    private static final int HEAP_SLOT = 4;
+    private static final int MARK = 5;
+    private static final int FIELDS = 6;
+
+    private static final int NOT_IN_HEAP = -1;
+
+    // Tree membership during moveStart, stored as markStamp << 2 | state
+    private static final int VISITING = 1;
+    private static final int KEPT = 2;
+    private static final int DROPPED = 3;
+
+    private static final int PAGE_SHIFT = 4;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int LOCAL_BITS = 2 * PAGE_SHIFT;
+    private static final int LOCAL_MASK = (1 << LOCAL_BITS) - 1;
+
+    private final int width;
+    private final int height;
+    private final int pagesX;
+    /** Cell records per page, null until a cell of the page is first touched */
+    private final int[][] pages;
+    private final Pathfinding.WalkableChecker walkable;
+    private int generation = 0;
+    private int markStamp = 0;
+
+    /** Every cell touched since the last reset; a cell is referred to as page << LOCAL_BITS | cell in page */
+    private int[] touched = new int[256];
+    private int touchedCount = 0;
+    private int[] dropped = new int[64];
+    /** Parent chain being classified by membership */
+    private int[] chain = new int[64];
+
+    // Open set, ordered by (k1, k2)
+    private int[] heapRefs = new int[64];
+    private int[] heapK1 = new int[64];
+    private int[] heapK2 = new int[64];
+    private int heapSize = 0;
+
+    private boolean started = false;
+    private int startX;
+    private int startY;
+    private int startRef;
+    private int goalX;
+    private int goalY;
+    private int km;
+
+    private int lastLength = NO_PATH;
+    private int expansions = 0;
+
+    /**
+     * @param width Grid width
+     * @param height Grid height
+     * @param walkable Which cells may be entered; must answer consistently with the
+     *                 changes reported through {@link #cellChanged}
+     */
+    public IncrementalPathfinder(int width, int height, Pathfinding.WalkableChecker walkable) {
+        if (width < 1 || height < 1) throw new IllegalArgumentException("Bad grid size " + width + "x" + height);
+        this.width = width;
+        this.height = height;
+        this.pagesX = (width + PAGE_SIZE - 1) >> PAGE_SHIFT;
+        this.pages = new int[pagesX * ((height + PAGE_SIZE - 1) >> PAGE_SHIFT)][];
+        this.walkable = walkable;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getStartX() { return startX; }
+    public int getStartY() { return startY; }
+    public int getGoalX() { return goalX; }
+    public int getGoalY() { return goalY; }
+
+    /**
+     * @return true once {@link #reset} has given the search an agent and a target
+     */
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * @return Cells expanded by the most recent {@link #findPath}; a measure of how much was repaired
+     */
+    public int getExpansions() {
+        return expansions;
+    }
+
+    /**
+     * Forgets all search state and starts over.
+     *
+     * @param startX Agent X coordinate
+     * @param startY Agent Y coordinate
+     * @param goalX Target X coordinate
+     * @param goalY Target Y coordinate
+     * @throws IllegalArgumentException if a cell is off the grid
+     */
+    public void reset(int startX, int startY, int goalX, int goalY) {
+        checkBounds(startX, startY);
+        checkBounds(goalX, goalY);
+        generation++;
+        if (generation == 0) {
+            // Wrapped around: stale stamps could now match, so wipe them
+            for (int[] records : pages) {
+                if (records != null) Arrays.fill(records, 0);
+            }
+            generation = 1;
+        }
+        touchedCount = 0;
+        heapSize = 0;
+        km = 0;
+        this.goalX = goalX;
+        this.goalY = goalY;
+        this.startX = startX;
+        this.startY = startY;
+        startRef = touch(startX, startY);
+        setField(startRef, RHS, 0);
+        updateHeap(startRef);
+        started = true;
+    }
+
+    /**
+     * Moves the agent, keeping the part of the search below its new cell.
+     * Falls back to a {@link #reset} when the new cell is not in the search tree.
+     *
+     * @param x New agent X coordinate
+     * @param y New agent Y coordinate
+     * @throws IllegalStateException if the search has not been started
+     */
+    public void moveStart(int x, int y) {
+        requireStarted();
+        checkBounds(x, y);
+        if (x == startX && y == startY) return;
+        int newRef = refIfTouched(x, y);
+        if (newRef < 0 || field(newRef, RHS) >= INF) {
+            reset(x, y, goalX, goalY);
+            return;
+        }
+
+        markStamp++;
+        if (markStamp >= 1 << 29) {
+            for (int i = 0; i < touchedCount; i++) setField(touched[i], MARK, 0);
+            markStamp = 1;
+        }
+        setField(newRef, MARK, markStamp << 2 | KEPT);
+
+        // Everything not hanging below the new start loses its values
+        int droppedCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int ref = touched[i];
+            if (membership(ref) == DROPPED) {
+                setField(ref, G, INF);
+                setField(ref, RHS, INF);
+                setField(ref, PARENT, -1);
+                if (field(ref, HEAP_SLOT) != NOT_IN_HEAP) heapRemove(field(ref, HEAP_SLOT));
+                dropped = ensure(dropped, droppedCount + 1);
+                dropped[droppedCount++] = ref;
+            }
+        }
+
+        setField(newRef, PARENT, -1);
+        startRef = newRef;
+        startX = x;
+        startY = y;
+
+        // ...and gets them back from whichever kept neighbour is closest
+        for (int i = 0; i < droppedCount; i++) {
+            int ref = dropped[i];
+            updateState(ref, xOf(ref), yOf(ref));
+        }
+    }
+
+    /**
+     * Moves the target. Costs nothing until the next {@link #findPath}.
+     *
+     * @param x New target X coordinate
+     * @param y New target Y coordinate
+     * @throws IllegalStateException if the search has not been started
+     */
+    public void moveGoal(int x, int y) {
+        requireStarted();
+        checkBounds(x, y);
+        km += Math.abs(x - goalX) + Math.abs(y - goalY);
+        goalX = x;
+        goalY = y;
+    }
+
+    /**
+     * Reports that a cell became walkable or blocked.
+     *
+     * @param x Cell X coordinate
+     * @param y Cell Y coordinate
+     */
+    public void cellChanged(int x, int y) {
+        if (!started || x < 0 || x >= width || y < 0 || y >= height) return;
+        updateState(touch(x, y), x, y);
+        for (int d = 0; d < 4; d++) {
+            int nx = x + DX[d];
+            int ny = y + DY[d];
+            if (nx >= 0 && nx < width && ny >= 0 && ny < height) updateState(touch(nx, ny), nx, ny);
+        }
+    }
+
+    /**
+     * Brings the search up to date and finds a shortest path from the agent to the target.
+     *
+     * @param out Buffer the path is written to if it fits, as cells packed
+     *            {@code y * width + x} with the agent's cell first; otherwise
+     *            call {@link #writePath} with a larger one
+     * @return Number of cells on the path including both ends, or {@link #NO_PATH}
+     * @throws IllegalStateException if the search has not been started
+     */
+    public int findPath(int[] out) {
+        requireStarted();
+        expansions = 0;
+        int goalRef = touch(goalX, goalY);
+        while (heapSize > 0) {
+            int goalK2 = Math.min(field(goalRef, G), field(goalRef, RHS));
+            int goalK1 = goalK2 + km;
+            if (!before(heapK1[0], heapK2[0], goalK1, goalK2) && field(goalRef, RHS) == field(goalRef, G)) break;
+
+            int ref = heapRefs[0];
+            int oldK1 = heapK1[0];
+            int oldK2 = heapK2[0];
+            int g = field(ref, G);
+            int rhs = field(ref, RHS);
+            int x = xOf(ref);
+            int y = yOf(ref);
+            int k2 = Math.min(g, rhs);
+            int k1 = k2 + heuristic(x, y) + km;
+            if (before(oldK1, oldK2, k1, k2)) {
+                // Keyed under an older heuristic; put back with its current key
+                heapK1[0] = k1;
+                heapK2[0] = k2;
+                siftDown(0);
+                continue;
+            }
+
+            expansions++;
+            if (g > rhs) {
+                setField(ref, G, rhs);
+                heapRemove(0);
+            } else {
+                setField(ref, G, INF);
+                updateState(ref, x, y);
+            }
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx >= 0 && nx < width && ny >= 0 && ny < height) updateState(touch(nx, ny), nx, ny);
+            }
+        }
+
+        lastLength = NO_PATH;
+        int g = field(goalRef, G);
+        if (g >= INF || !walkable.isWalkable(startX, startY)) return NO_PATH;
+        lastLength = g - field(startRef, G) + 1;
+        if (out.length >= lastLength) writePath(out);
+        return lastLength;
+    }
+
+    /**
+     * Writes the path found by the last successful {@link #findPath} call.
+     * Must not be called after the search has been changed since.
+     *
+     * @param out Buffer of at least the returned length
+     * @throws IllegalStateException if the last search found no path
+     * @throws IllegalArgumentException if the buffer is too small
+     */
+    public void writePath(int[] out) {
+        if (lastLength == NO_PATH) throw new IllegalStateException("No path to write");
+        if (out.length < lastLength) {
+            throw new IllegalArgumentException("Path of " + lastLength + " cells does not fit in " + out.length);
+        }
+        // From the target, keep stepping to the neighbour closest to the agent
+        int x = goalX;
+        int y = goalY;
+        for (int i = lastLength - 1; i > 0; i--) {
+            out[i] = y * width + x;
+            int bestG = INF;
+            int bestX = x;
+            int bestY = y;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height || !walkable.isWalkable(nx, ny)) continue;
+                int ng = gOf(nx, ny);
+                if (ng < bestG) {
+                    bestG = ng;
+                    bestX = nx;
+                    bestY = ny;
+                }
+            }
+            x = bestX;
+            y = bestY;
+        }
+        out[0] = y * width + x;
+    }
+
+    /**
+     * Recomputes a cell's rhs from its neighbours and fixes its place in the open set.
+     */
+    private void updateState(int ref, int x, int y) {
+        if (ref == startRef) return;
+        int rhs = INF;
+        int parent = -1;
+        if (walkable.isWalkable(x, y)) {
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height || !walkable.isWalkable(nx, ny)) continue;
+                int ng = gOf(nx, ny);
+                if (ng + 1 < rhs) {
+                    rhs = ng + 1;
+                    parent = refOf(nx, ny);
+                }
+            }
+        }
+        setField(ref, RHS, rhs);
+        setField(ref, PARENT, parent);
+        updateHeap(ref);
+    }
+
+    /**
+     * Puts an inconsistent cell in the open set with its current key, or takes a consistent one out.
+     */
+    private void updateHeap(int ref) {
+        int g = field(ref, G);
+        int rhs = field(ref, RHS);
+        int slot = field(ref, HEAP_SLOT);
+        if (g == rhs) {
+            if (slot != NOT_IN_HEAP) heapRemove(slot);
+            return;
+        }
+        int k2 = Math.min(g, rhs);
+        int k1 = k2 + heuristic(xOf(ref), yOf(ref)) + km;
+        if (slot == NOT_IN_HEAP) {
+            if (heapSize == heapRefs.length) {
+                heapRefs = Arrays.copyOf(heapRefs, heapSize * 2);
+                heapK1 = Arrays.copyOf(heapK1, heapSize * 2);
+                heapK2 = Arrays.copyOf(heapK2, heapSize * 2);
+            }
+            slot = heapSize++;
+        }
+        set(slot, ref, k1, k2);
+        siftUp(slot);
+        siftDown(field(ref, HEAP_SLOT));
+    }
+
+    /**
+     * Whether a cell stays in the search tree of the new start: it does if
+     * following parents from it reaches the new start. Answers are memoised
+     * in the mark field, so the whole tree is classified in linear time.
+     */
+    private int membership(int ref) {
+        int depth = 0;
+        int state;
+        int cur = ref;
+        while (true) {
+            int mark = field(cur, MARK);
+            if (mark >>> 2 == markStamp) {
+                // Already decided; running into a cell still being visited means a cycle
+                state = (mark & 3) == VISITING ? DROPPED : mark & 3;
+                break;
+            }
+            int parent = field(cur, PARENT);
+            setField(cur, MARK, markStamp << 2 | VISITING);
+            chain = ensure(chain, depth + 1);
+            chain[depth++] = cur;
+            if (parent < 0) {
+                state = DROPPED;
+                break;
+            }
+            cur = parent;
+        }
+        for (int i = 0; i < depth; i++) setField(chain[i], MARK, markStamp << 2 | state);
+        return state;
+    }
+
+    /**
+     * Returns a cell's reference, initialising its record if the current search has not touched it.
+     */
+    private int touch(int x, int y) {
+        int page = (y >> PAGE_SHIFT) * pagesX + (x >> PAGE_SHIFT);
+        int[] records = pages[page];
+        if (records == null) {
+            records = new int[FIELDS << LOCAL_BITS];
+            pages[page] = records;
+        }
+        int local = ((y & (PAGE_SIZE - 1)) << PAGE_SHIFT) | (x & (PAGE_SIZE - 1));
+        int base = local * FIELDS;
+        int ref = (page << LOCAL_BITS) | local;
+        if (records[base + STAMP] != generation) {
+            records[base + STAMP] = generation;
+            records[base + G] = INF;
+            records[base + RHS] = INF;
+            records[base + PARENT] = -1;
+            records[base + HEAP_SLOT] = NOT_IN_HEAP;
+            records[base + MARK] = 0;
+            touched = ensure(touched, touchedCount + 1);
+            touched[touchedCount++] = ref;
+        }
+        return ref;
+    }
+
+    /**
+     * @return The cell's reference if the current search has touched it, else -1
+     */
+    private int refIfTouched(int x, int y) {
+        int ref = refOf(x, y);
+        int[] records = pages[ref >>> LOCAL_BITS];
+        if (records == null || records[(ref & LOCAL_MASK) * FIELDS + STAMP] != generation) return -1;
+        return ref;
+    }
+
+    private int gOf(int x, int y) {
+        int ref = refIfTouched(x, y);
+        return ref < 0 ? INF : field(ref, G);
+    }
+
+    private int refOf(int x, int y) {
+        int page = (y >> PAGE_SHIFT) * pagesX + (x >> PAGE_SHIFT);
+        return (page << LOCAL_BITS) | ((y & (PAGE_SIZE - 1)) << PAGE_SHIFT) | (x & (PAGE_SIZE - 1));
+    }
+
+    private int xOf(int ref) {
+        return ((ref >>> LOCAL_BITS) % pagesX << PAGE_SHIFT) | (ref & (PAGE_SIZE - 1));
+    }
+
+    private int yOf(int ref) {
+        return ((ref >>> LOCAL_BITS) / pagesX << PAGE_SHIFT) | ((ref & LOCAL_MASK) >>> PAGE_SHIFT);
+    }
+
+    private int field(int ref, int field) {
+        return pages[ref >>> LOCAL_BITS][(ref & LOCAL_MASK) * FIELDS + field];
+    }
+
+    private void setField(int ref, int field, int value) {
+        pages[ref >>> LOCAL_BITS][(ref & LOCAL_MASK) * FIELDS + field] = value;
+    }
+
+    private int heuristic(int x, int y) {
+        return Math.abs(x - goalX) + Math.abs(y - goalY);
+    }
+
+    private void heapRemove(int slot) {
+        int ref = heapRefs[slot];
+        setField(ref, HEAP_SLOT, NOT_IN_HEAP);
+        heapSize--;
+        if (slot < heapSize) {
+            int moved = heapRefs[heapSize];
+            set(slot, moved, heapK1[heapSize], heapK2[heapSize]);
+            siftUp(slot);
+            siftDown(field(moved, HEAP_SLOT));
+        }
+    }
+
+    private void siftUp(int slot) {
+        int ref = heapRefs[slot];
+        int k1 = heapK1[slot];
+        int k2 = heapK2[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (!before(k1, k2, heapK1[parent], heapK2[parent])) break;
+            set(slot, heapRefs[parent], heapK1[parent], heapK2[parent]);
+            slot = parent;
+        }
+        set(slot, ref, k1, k2);
+    }
+
+    private void siftDown(int slot) {
+        int ref = heapRefs[slot];
+        int k1 = heapK1[slot];
+        int k2 = heapK2[slot];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && before(heapK1[child + 1], heapK2[child + 1], heapK1[child], heapK2[child])) {
+                child++;
+            }
+            if (!before(heapK1[child], heapK2[child], k1, k2)) break;
+            set(slot, heapRefs[child], heapK1[child], heapK2[child]);
+            slot = child;
+        }
+        set(slot, ref, k1, k2);
+    }
+
+    /**
+     * Places a cell in a heap slot and records the slot in the cell.
+     */
+    private void set(int slot, int ref, int k1, int k2) {
+        heapRefs[slot] = ref;
+        heapK1[slot] = k1;
+        heapK2[slot] = k2;
+        setField(ref, HEAP_SLOT, slot);
+    }
+
+    private static boolean before(int a1, int a2, int b1, int b2) {
+        return a1 < b1 || (a1 == b1 && a2 < b2);
+    }
+
+    private static int[] ensure(int[] array, int size) {
+        return size <= array.length ? array : Arrays.copyOf(array, Math.max(size, array.length * 2));
+    }
+
+    private void requireStarted() {
+        if (!started) throw new IllegalStateException("Search not started; call reset first");
+    }
+
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IllegalArgumentException("Cell off the grid: " + x + "," + y);
+        }
+    }
+}
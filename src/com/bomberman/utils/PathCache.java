@@ -0,0 +1,379 @@
+package com.bomberman.utils;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of grid paths shared by agents heading for the same goal.
+ *
+ * An entry is a path from a start cell to a goal cell, packed
+ * {@code y * width + x} with the start first. Every cell of a cached path
+ * answers lookups too: an agent standing anywhere on a cached path towards
+ * the same goal gets the rest of that path, since the tail of a shortest
+ * path is a shortest path itself.
+ *
+ * The grid is divided into square regions, each with a version that
+ * {@link #cellChanged} bumps. An entry remembers the versions of the regions
+ * its path crosses and is stale once any of them moves on, so a change far
+ * from a path leaves it in the cache. A stale path is never returned; a path
+ * may however stop being the shortest when a cell opens elsewhere.
+ *
+ * Entries live in fixed slots with their path and region buffers, which are
+ * reused as entries come and go, and the slots are chained into a
+ * least-recently-used list. Entries by start and goal and path cells by
+ * goal are found through open-addressing tables keyed by primitive longs,
+ * so lookups allocate nothing and puts only allocate to grow a buffer.
+ *
+ * Lookups only read, so any number of threads may look up at once as long
+ * as nothing is being added. {@link #recordHit}, {@link #recordMiss} and
+ * {@link #put} update the entries and the metrics and must not run
+ * concurrently with anything else. The least recently used entry is evicted
+ * when the cache is full.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class PathCache {
+    /** Returned by {@link #lookup} when no fresh cached path passes the start */
+    public static final int MISS = -1;
+
+    /** Regions are squares of 1 << REGION_SHIFT cells */
+    static final int REGION_SHIFT = 3;
+
+    private static final int NONE = -1;
+
+    private final int width;
+    private final int height;
+    private final int capacity;
+    private final int regionsX;
+    private final int[] regionVersions;
+
+    // Entry slots
+    private final long[] entryKeys;
+    private final int[][] paths;
+    private final int[] pathLengths;
+    private final int[][] regions;
+    private final int[][] versions;
+    private final int[] regionCounts;
+    /** Least-recently-used chain, oldest at {@link #head}; free slots are chained through next */
+    private final int[] prev;
+    private final int[] next;
+    private int head = NONE;
+    private int tail = NONE;
+    private int free = NONE;
+    private int size = 0;
+
+    /** Entry slot by start and goal */
+    private final LongTable entries;
+    /** Entry slot and index on its path of each cached (cell, goal), for lookups from the middle of a path */
+    private final LongTable cells;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * @param width Grid width
+     * @param height Grid height
+     * @param capacity Maximum number of cached paths
+     */
+    public PathCache(int width, int height, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.width = width;
+        this.height = height;
+        this.capacity = capacity;
+        this.regionsX = (width >> REGION_SHIFT) + 1;
+        this.regionVersions = new int[regionsX * ((height >> REGION_SHIFT) + 1)];
+        entryKeys = new long[capacity];
+        paths = new int[capacity][];
+        pathLengths = new int[capacity];
+        regions = new int[capacity][];
+        versions = new int[capacity][];
+        regionCounts = new int[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+        entries = new LongTable(capacity * 2);
+        cells = new LongTable(capacity * 16);
+        resetSlots();
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int size() { return size; }
+    /** Lookups answered from the cache */
+    public long getHits() { return hits; }
+    /** Lookups that had to search */
+    public long getMisses() { return misses; }
+    /** Paths dropped to make room */
+    public long getEvictions() { return evictions; }
+
+    /**
+     * Marks a cell as changed, making every cached path through its region stale.
+     *
+     * @param x Cell X coordinate
+     * @param y Cell Y coordinate
+     */
+    public void cellChanged(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return;
+        regionVersions[regionOf(y * width + x)]++;
+    }
+
+    /**
+     * Drops every cached path, e.g. after losing track of changes. Metrics are kept.
+     */
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        resetSlots();
+    }
+
+    /**
+     * Finds a fresh cached path from a start cell to a goal, starting at the
+     * cell if it lies on a longer one. Does not count as a hit or a miss.
+     *
+     * @param startX Start X coordinate
+     * @param startY Start Y coordinate
+     * @param goalX Goal X coordinate
+     * @param goalY Goal Y coordinate
+     * @param out Buffer the path is written to if it fits
+     * @return Number of cells on the path including both ends, or {@link #MISS}
+     */
+    public int lookup(int startX, int startY, int goalX, int goalY, int[] out) {
+        long found = cells.get(key(startY * width + startX, goalY * width + goalX));
+        if (found == LongTable.MISSING) return MISS;
+        int slot = (int) (found >>> 32);
+        if (!isFresh(slot)) return MISS;
+        int from = (int) found;
+        int length = pathLengths[slot] - from;
+        if (out.length >= length) System.arraycopy(paths[slot], from, out, 0, length);
+        return length;
+    }
+
+    /**
+     * Counts a lookup answered from the cache and marks its path as recently used.
+     *
+     * @param startX Start X coordinate the lookup was made from
+     * @param startY Start Y coordinate
+     * @param goalX Goal X coordinate
+     * @param goalY Goal Y coordinate
+     */
+    public void recordHit(int startX, int startY, int goalX, int goalY) {
+        hits++;
+        long found = cells.get(key(startY * width + startX, goalY * width + goalX));
+        if (found != LongTable.MISSING) {
+            int slot = (int) (found >>> 32);
+            unlink(slot);
+            append(slot);
+        }
+    }
+
+    /**
+     * Counts a lookup that found nothing and had to search.
+     */
+    public void recordMiss() {
+        misses++;
+    }
+
+    /**
+     * Caches a path, replacing any path with the same start and goal.
+     *
+     * @param path Cells packed y * width + x, start first
+     * @param length Number of cells of the path in use, at least 1
+     */
+    public void put(int[] path, int length) {
+        if (length < 1) throw new IllegalArgumentException("Empty path");
+        int goal = path[length - 1];
+        long key = key(path[0], goal);
+        long old = entries.get(key);
+        if (old != LongTable.MISSING) release((int) old);
+        if (size >= capacity) {
+            release(head);
+            evictions++;
+        }
+
+        int slot = free;
+        free = next[slot];
+        size++;
+        entryKeys[slot] = key;
+        if (paths[slot] == null || paths[slot].length < length) {
+            paths[slot] = new int[Math.max(length, paths[slot] == null ? 16 : paths[slot].length * 2)];
+        }
+        int[] cellsOnPath = paths[slot];
+        System.arraycopy(path, 0, cellsOnPath, 0, length);
+        pathLengths[slot] = length;
+
+        // Paths move one cell at a time, so they cross few regions; record each once
+        if (regions[slot] == null) {
+            regions[slot] = new int[4];
+            versions[slot] = new int[4];
+        }
+        int regionCount = 0;
+        for (int i = 0; i < length; i++) {
+            int region = regionOf(cellsOnPath[i]);
+            boolean seen = false;
+            for (int r = 0; r < regionCount && !seen; r++) seen = regions[slot][r] == region;
+            if (seen) continue;
+            if (regionCount == regions[slot].length) {
+                regions[slot] = Arrays.copyOf(regions[slot], regionCount * 2);
+                versions[slot] = Arrays.copyOf(versions[slot], regionCount * 2);
+            }
+            regions[slot][regionCount] = region;
+            versions[slot][regionCount] = regionVersions[region];
+            regionCount++;
+        }
+        regionCounts[slot] = regionCount;
+
+        append(slot);
+        entries.put(key, slot);
+        for (int i = 0; i < length; i++) cells.put(key(cellsOnPath[i], goal), (long) slot << 32 | i);
+    }
+
+    private boolean isFresh(int slot) {
+        int[] entryRegions = regions[slot];
+        int[] entryVersions = versions[slot];
+        for (int r = 0; r < regionCounts[slot]; r++) {
+            if (regionVersions[entryRegions[r]] != entryVersions[r]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops an entry and frees its slot. Its cells leave the cell table
+     * unless a newer entry has taken them over.
+     */
+    private void release(int slot) {
+        int[] cellsOnPath = paths[slot];
+        int length = pathLengths[slot];
+        int goal = cellsOnPath[length - 1];
+        for (int i = 0; i < length; i++) {
+            long cellKey = key(cellsOnPath[i], goal);
+            long found = cells.get(cellKey);
+            if (found != LongTable.MISSING && (int) (found >>> 32) == slot) cells.remove(cellKey);
+        }
+        entries.remove(entryKeys[slot]);
+        unlink(slot);
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+
+    /**
+     * Makes a slot the most recently used.
+     */
+    private void append(int slot) {
+        prev[slot] = tail;
+        next[slot] = NONE;
+        if (tail == NONE) head = slot;
+        else next[tail] = slot;
+        tail = slot;
+    }
+
+    private void unlink(int slot) {
+        if (prev[slot] == NONE) head = next[slot];
+        else next[prev[slot]] = next[slot];
+        if (next[slot] == NONE) tail = prev[slot];
+        else prev[next[slot]] = prev[slot];
+    }
+
+    /**
+     * Empties the recency list and chains every slot into the free list.
+     */
+    private void resetSlots() {
+        for (int i = 0; i < capacity; i++) next[i] = i + 1 < capacity ? i + 1 : NONE;
+        free = 0;
+        head = NONE;
+        tail = NONE;
+        size = 0;
+    }
+
+    private int regionOf(int cell) {
+        return ((cell / width) >> REGION_SHIFT) * regionsX + ((cell % width) >> REGION_SHIFT);
+    }
+
+    private static long key(int cell, int goal) {
+        return ((long) goal << 32) | (cell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Map from non-negative long keys to non-negative long values with linear
+     * probing. Removal shifts the rest of the probe run back, so no
+     * tombstones build up. Grows to keep at most half of its slots in use.
+     */
+    private static final class LongTable {
+        /** Returned by {@link #get} for a key not in the table */
+        static final long MISSING = -1;
+        private static final long EMPTY = -1;
+
+        private long[] keys;
+        private long[] values;
+        private int mask;
+        private int count;
+
+        LongTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1);
+            keys = new long[capacity];
+            values = new long[capacity];
+            mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        long get(long key) {
+            for (int i = index(key); ; i = (i + 1) & mask) {
+                long k = keys[i];
+                if (k == key) return values[i];
+                if (k == EMPTY) return MISSING;
+            }
+        }
+
+        void put(long key, long value) {
+            if ((count + 1) * 2 > keys.length) grow();
+            int i = index(key);
+            while (keys[i] != EMPTY && keys[i] != key) i = (i + 1) & mask;
+            if (keys[i] == EMPTY) count++;
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        void remove(long key) {
+            int i = index(key);
+            while (keys[i] != key) {
+                if (keys[i] == EMPTY) return;
+                i = (i + 1) & mask;
+            }
+            count--;
+            // Pull back later entries of the run that may no longer be reachable past the gap
+            int gap = i;
+            for (int j = (gap + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+                int home = index(keys[j]);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            keys[gap] = EMPTY;
+        }
+
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+            count = 0;
+        }
+
+        private int index(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new long[oldKeys.length * 2];
+            mask = keys.length - 1;
+            Arrays.fill(keys, EMPTY);
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
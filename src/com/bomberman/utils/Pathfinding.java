@@ -5,6 +5,12 @@ import java.util.*;
 /**
  * A* pathfinding algorithm implementation for game AI.
  * Provides optimal path calculation from start to goal position.
+ *
+ * Matches do not search with this class: the enemy pack steps down a shared
+ * {@link FlowField}, and A* hunters repair an {@link IncrementalPathfinder}
+ * path, taking a {@link GridPathfinder} jump point search when one starts
+ * over. This version is kept as the baseline those are benchmarked against,
+ * and for its {@link WalkableChecker}.
  * 
  * @author BomberQuest Team
  * @version 2.0
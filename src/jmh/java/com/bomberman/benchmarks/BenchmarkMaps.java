@@ -0,0 +1,66 @@
+package com.bomberman.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Deterministic walkability grids shared by the benchmarks.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+public final class BenchmarkMaps {
+
+    /** Map layouts used by the pathfinding benchmarks */
+    public enum Layout {
+        /** Border walls only */
+        OPEN,
+        /** Classic pillar grid plus 40% soft walls, start and goal corners kept clear */
+        MAZE,
+        /** Pillar grid with a full wall sealing the goal off */
+        UNREACHABLE,
+        /** 40% soft walls scattered without the pillar grid, start and goal corners kept clear */
+        SOFT
+    }
+
+    private BenchmarkMaps() {}
+
+    /**
+     * Builds a blocked-cell grid indexed as {@code blocked[y * width + x]}.
+     */
+    public static boolean[] build(Layout layout, int width, int height, long seed) {
+        boolean[] blocked = new boolean[width * height];
+        Random random = new Random(seed);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                boolean border = x == 0 || x == width - 1 || y == 0 || y == height - 1;
+                boolean pillar = x % 2 == 0 && y % 2 == 0;
+                boolean nearCorner = (x < 3 && y < 3) || (x > width - 4 && y > height - 4);
+
+                if (border) {
+                    blocked[y * width + x] = true;
+                } else if (layout == Layout.OPEN) {
+                    blocked[y * width + x] = false;
+                } else if (layout == Layout.SOFT) {
+                    blocked[y * width + x] = !nearCorner && random.nextDouble() < 0.4;
+                } else if (pillar) {
+                    blocked[y * width + x] = true;
+                } else if (layout == Layout.MAZE && !nearCorner && random.nextDouble() < 0.4) {
+                    blocked[y * width + x] = true;
+                }
+            }
+        }
+
+        // Keep the maze solvable by carving the outer corridor
+        if (layout == Layout.MAZE || layout == Layout.SOFT) {
+            for (int x = 1; x < width - 1; x++) blocked[width + x] = false;
+            for (int y = 1; y < height - 1; y++) blocked[y * width + width - 2] = false;
+        }
+
+        if (layout == Layout.UNREACHABLE) {
+            int wallX = width / 2;
+            for (int y = 0; y < height; y++) blocked[y * width + wallX] = true;
+        }
+        return blocked;
+    }
+}
@@ -0,0 +1,64 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.entities.Bomb;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Worst-case chain reaction: a wall-free board with a bomb on every cell,
+ * set off by one blast in the corner. The bombs are placed again before
+ * every invocation because the chain consumes all of them.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainReactionBenchmark {
+
+    private GameManager gm;
+    private PlayingState playing;
+
+    @Setup(Level.Trial)
+    public void setUpBoard() {
+        gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.MEDIUM);
+        gm.getTiles().clear();
+        gm.clearEnemies();
+        playing = (PlayingState) gm.PLAYING_STATE;
+    }
+
+    @Setup(Level.Invocation)
+    public void carpetBombs() {
+        gm.clearFire();
+        for (int y = 0; y < GameManager.GRID_H; y++) {
+            for (int x = 0; x < GameManager.GRID_W; x++) {
+                if (x != 0 || y != 0) gm.addBomb(new Bomb(x, y, GameManager.BOMB_RADIUS));
+            }
+        }
+    }
+
+    @Benchmark
+    public int chainReaction() {
+        playing.triggerExplosion(gm, 0, 0, GameManager.BOMB_RADIUS);
+        return gm.getFire().getBurningCount();
+    }
+}
@@ -0,0 +1,66 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.entities.GameObject;
+import com.bomberman.managers.SettingsManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link GameManager#isValidMove} against a freshly generated map, probing
+ * every cell of the board once per invocation: through the tile map, and
+ * through the legacy wall-list scan for comparison.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private List<GameObject> walls;
+    private TileMap tiles;
+
+    @Setup
+    public void setUp() {
+        GameManager gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.MEDIUM);
+        walls = gm.getWalls();
+        tiles = gm.getTiles();
+    }
+
+    @Benchmark
+    public void isValidMoveTileMap(Blackhole bh) {
+        for (int y = 0; y < GameManager.GRID_H; y++) {
+            for (int x = 0; x < GameManager.GRID_W; x++) {
+                bh.consume(GameManager.isValidMove(x, y, tiles));
+            }
+        }
+    }
+
+    @Benchmark
+    public void isValidMoveWholeBoard(Blackhole bh) {
+        for (int y = 0; y < GameManager.GRID_H; y++) {
+            for (int x = 0; x < GameManager.GRID_W; x++) {
+                bh.consume(GameManager.isValidMove(x, y, GameManager.GRID_W, GameManager.GRID_H, walls));
+            }
+        }
+    }
+}
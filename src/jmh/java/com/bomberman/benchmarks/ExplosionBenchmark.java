@@ -0,0 +1,61 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Blast propagation through {@link PlayingState#triggerExplosion} from the
+ * centre of a generated map. The map is restored before every invocation
+ * because the blast destroys soft walls.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExplosionBenchmark {
+
+    private GameManager gm;
+    private PlayingState playing;
+    private TileMap originalTiles;
+
+    @Setup(Level.Trial)
+    public void setUpMap() {
+        gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.MEDIUM);
+        playing = (PlayingState) gm.PLAYING_STATE;
+        originalTiles = new TileMap(GameManager.GRID_W, GameManager.GRID_H);
+        originalTiles.copyFrom(gm.getTiles());
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreMap() {
+        gm.getTiles().copyFrom(originalTiles);
+        gm.clearFire();
+    }
+
+    @Benchmark
+    public int triggerExplosion() {
+        playing.triggerExplosion(gm, GameManager.GRID_W / 2, GameManager.GRID_H / 2, GameManager.BOMB_RADIUS);
+        return gm.getFire().getBurningCount();
+    }
+}
@@ -0,0 +1,50 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.GameManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full map and enemy generation through {@link GameManager#resetGame()}, from
+ * the default board up to the largest supported map.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapGenerationBenchmark {
+
+    @Param({ "25x15", "512x512", "4096x4096" })
+    public String mapSize;
+
+    private GameManager gm;
+
+    @Setup
+    public void setUp() {
+        gm = GameManager.getInstance();
+        gm.initHeadless();
+        String[] size = mapSize.split("x");
+        gm.setMapSize(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
+
+    @Benchmark
+    public int resetGame() {
+        gm.resetGame();
+        return gm.getTiles().getWallCount();
+    }
+}
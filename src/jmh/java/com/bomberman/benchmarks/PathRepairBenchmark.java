@@ -0,0 +1,102 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.utils.GridPathfinder;
+import com.bomberman.utils.IncrementalPathfinder;
+import com.bomberman.utils.Pathfinding;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keeping a corner-to-corner path current while the board changes under it:
+ * each call either blocks or reopens a cell halfway along the path, as a bomb
+ * being placed and exploding would, or moves the goal one cell and back.
+ * {@link IncrementalPathfinder} repairs its previous search;
+ * {@link GridPathfinder} searches again from scratch.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathRepairBenchmark {
+
+    @Param({ "OPEN", "MAZE" })
+    public BenchmarkMaps.Layout layout;
+
+    @Param({ "25x15", "129x129" })
+    public String mapSize;
+
+    private int width;
+    private int height;
+    private boolean[] blocked;
+    private Pathfinding.WalkableChecker checker;
+    private IncrementalPathfinder incremental;
+    private GridPathfinder grid;
+    private int[] path;
+    private int toggledCell;
+    private int goalX;
+    private int goalY;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        String[] size = mapSize.split("x");
+        width = Integer.parseInt(size[0]);
+        height = Integer.parseInt(size[1]);
+        blocked = BenchmarkMaps.build(layout, width, height, 42L);
+        checker = (x, y) -> !blocked[y * width + x];
+        goalX = width - 2;
+        goalY = height - 2;
+        grid = new GridPathfinder(width, height);
+        path = new int[width * height];
+        int length = grid.findPath(1, 1, goalX, goalY, checker, path);
+        toggledCell = path[length / 2];
+        incremental = new IncrementalPathfinder(width, height, checker);
+        incremental.reset(1, 1, goalX, goalY);
+        incremental.findPath(path);
+    }
+
+    @Benchmark
+    public int repair() {
+        change();
+        if ((step & 3) < 2) {
+            incremental.cellChanged(toggledCell % width, toggledCell / width);
+        } else {
+            incremental.moveGoal(goalX, goalY);
+        }
+        return incremental.findPath(path);
+    }
+
+    @Benchmark
+    public int searchAgain() {
+        change();
+        return grid.findPath(1, 1, goalX, goalY, checker, path);
+    }
+
+    /**
+     * Cycles through block, reopen, goal away, goal back.
+     */
+    private void change() {
+        step++;
+        switch (step & 3) {
+            case 0: blocked[toggledCell] = true; break;
+            case 1: blocked[toggledCell] = false; break;
+            case 2: goalX--; break;
+            default: goalX++; break;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.utils.GridPathfinder;
+import com.bomberman.utils.Pathfinding;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A* search from one corner of the board to the other, with the reusable
+ * {@link GridPathfinder} against the original object-based
+ * {@link Pathfinding#findPath}, and plain A* against jump point search. Run
+ * with {@code -prof gc} to compare allocation per query.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathfindingBenchmark {
+
+    @Param({ "OPEN", "MAZE", "SOFT", "UNREACHABLE" })
+    public BenchmarkMaps.Layout layout;
+
+    @Param({ "25x15", "129x129", "513x513" })
+    public String mapSize;
+
+    private int width;
+    private int height;
+    private boolean[] blocked;
+    private Pathfinding.WalkableChecker checker;
+    private GridPathfinder finder;
+    private GridPathfinder jumpFinder;
+    private int[] path;
+
+    @Setup
+    public void setUp() {
+        String[] size = mapSize.split("x");
+        width = Integer.parseInt(size[0]);
+        height = Integer.parseInt(size[1]);
+        blocked = BenchmarkMaps.build(layout, width, height, 42L);
+        checker = (x, y) -> x >= 0 && x < width && y >= 0 && y < height && !blocked[y * width + x];
+        finder = new GridPathfinder(width, height);
+        jumpFinder = new GridPathfinder(width, height, true);
+        path = new int[width * height];
+    }
+
+    @Benchmark
+    public List<int[]> findPath() {
+        return Pathfinding.findPath(1, 1, width - 2, height - 2, width, height, checker);
+    }
+
+    @Benchmark
+    public int findPathGrid() {
+        return finder.findPath(1, 1, width - 2, height - 2, checker, path);
+    }
+
+    @Benchmark
+    public int findPathJumpPoints() {
+        return jumpFinder.findPath(1, 1, width - 2, height - 2, checker, path);
+    }
+}
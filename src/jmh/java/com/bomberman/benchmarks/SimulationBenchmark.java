@@ -0,0 +1,85 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.EntityFactory;
+import com.bomberman.core.GameManager;
+import com.bomberman.entities.Enemy;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One {@link PlayingState#update} tick with a given number of enemies,
+ * all hunting down the shared flow field or all searching A* paths.
+ * Enemies are spread over the free cells of a generated map; above the
+ * number of free cells they stack, which is intended as a stress case.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int enemies;
+
+    @Param({ "FLOW_FIELD", "A_STAR" })
+    public Enemy.AiMode aiMode;
+
+    private GameManager gm;
+    private PlayingState playing;
+
+    /**
+     * Regenerates the match every iteration so enemy deaths and player damage
+     * from the previous iteration do not skew the next one.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.HARD);
+        playing = (PlayingState) gm.PLAYING_STATE;
+
+        List<int[]> free = new ArrayList<>();
+        for (int y = 0; y < GameManager.GRID_H; y++) {
+            for (int x = 0; x < GameManager.GRID_W; x++) {
+                boolean nearPlayer = x < 4 && y < 4;
+                if (!nearPlayer && GameManager.isValidMove(x, y, gm.getTiles())) {
+                    free.add(new int[] { x, y });
+                }
+            }
+        }
+
+        gm.clearEnemies();
+        for (int i = 0; i < enemies; i++) {
+            int[] cell = free.get(i % free.size());
+            Enemy enemy = EntityFactory.createEnemy(cell[0], cell[1]);
+            enemy.setAiMode(aiMode);
+            gm.addEnemy(enemy);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        playing.update(gm);
+        return gm.getEnemies().size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bomberman.benchmarks;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.core.MatchState;
+import com.bomberman.core.SnapshotCodec;
+import com.bomberman.managers.SettingsManager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Save game encoding and decoding through {@link SnapshotCodec}, on a match
+ * that has been played for a few seconds so enemies carry paths. The
+ * snapshot size of each configuration is printed during setup.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({ "25x15", "512x512" })
+    public String mapSize;
+
+    @Param({ "5", "1000" })
+    public int enemies;
+
+    private GameManager gm;
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private MatchState state;
+    private ByteBuffer snapshot;
+
+    @Setup
+    public void setUp() {
+        gm = GameManager.getInstance();
+        gm.initHeadless();
+        String[] size = mapSize.split("x");
+        gm.setMapSize(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+        gm.setEnemyCount(enemies);
+        gm.startMatch(SettingsManager.Difficulty.HARD, 0x5EEDL);
+        for (int i = 0; i < 180; i++) gm.update();
+
+        state = MatchState.capture(gm);
+        ByteBuffer encoded = codec.encode(state);
+        snapshot = ByteBuffer.allocate(encoded.remaining());
+        snapshot.put(encoded).flip();
+        System.out.printf(Locale.ROOT, "%nsnapshot %s with %d enemies: %d bytes%n",
+            mapSize, gm.getEnemyStore().size(), snapshot.remaining());
+    }
+
+    /** Copy of the live match plus encoding, as "save and quit" does */
+    @Benchmark
+    public int captureAndEncode() {
+        return codec.encode(gm).remaining();
+    }
+
+    @Benchmark
+    public int encode() {
+        return codec.encode(state).remaining();
+    }
+
+    @Benchmark
+    public MatchState decode() throws IOException {
+        return SnapshotCodec.decode(snapshot.duplicate());
+    }
+
+    /** Decoding plus restoring into the game, as "continue" does */
+    @Benchmark
+    public int decodeAndRestore() throws IOException {
+        SnapshotCodec.decode(snapshot.duplicate()).restore(gm);
+        return gm.getEnemyStore().size();
+    }
+}
@@ -0,0 +1,265 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Enemy;
+import com.bomberman.entities.GameObject;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import com.bomberman.utils.CellChangeLog;
+import com.bomberman.utils.CellIndex;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DangerMap class.
+ * Tests blast lanes, chain reactions, incremental updates and timing.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class DangerMapTest {
+
+    private TileMap tiles;
+    private List<GameObject> bombs;
+    private CellIndex<Bomb> bombIndex;
+    private CellChangeLog log;
+    private FireField fire;
+    private DangerMap danger;
+
+    @BeforeEach
+    void setUp() {
+        tiles = new TileMap(11, 9);
+        bombs = new ArrayList<>();
+        bombIndex = new CellIndex<>(11, 9);
+        log = new CellChangeLog(1024);
+        fire = new FireField(11, 9);
+        danger = new DangerMap(11, 9);
+    }
+
+    /**
+     * Tests that a lane stops at a hard wall, and after the first soft wall.
+     */
+    @Test
+    @DisplayName("Lanes stop at walls")
+    void testLanesStopAtWalls() {
+        tiles.placeWall(5, 2, false);
+        tiles.placeWall(7, 4, true);
+        place(new Bomb(5, 4, 3, 60));
+        danger.update(tiles, bombs, bombIndex, fire, log);
+
+        assertEquals(60, danger.getFireTick(5, 4), "Bomb cell burns when the fuse runs out");
+        assertEquals(60, danger.getFireTick(5, 3));
+        assertFalse(danger.isThreatened(5, 2), "Hard wall stops the lane");
+        assertFalse(danger.isThreatened(5, 1), "Nothing beyond a hard wall burns");
+        assertEquals(60, danger.getFireTick(6, 4));
+        assertEquals(60, danger.getFireTick(7, 4), "Soft wall is hit by the blast");
+        assertFalse(danger.isThreatened(8, 4), "Soft wall stops the lane");
+        assertEquals(60, danger.getFireTick(2, 4), "Open lane runs the full radius");
+        assertFalse(danger.isThreatened(1, 4));
+        assertEquals(1 + 1 + 3 + 3 + 2, danger.getThreatenedCount());
+    }
+
+    /**
+     * Tests that a bomb in another's lane is predicted to go off with it,
+     * setting a third off in turn, while a bomb out of reach keeps its fuse.
+     */
+    @Test
+    @DisplayName("Chain reactions bring fire forward")
+    void testChainReaction() {
+        place(new Bomb(1, 1, 2, 30));
+        place(new Bomb(3, 1, 2, 100));
+        place(new Bomb(3, 3, 1, 200));
+        place(new Bomb(9, 7, 1, 150));
+        danger.update(tiles, bombs, bombIndex, fire, log);
+
+        assertEquals(30, danger.getFireTick(3, 1), "Bomb in the first lane goes off with it");
+        assertEquals(30, danger.getFireTick(5, 1), "Chained bomb's lane burns early too");
+        assertEquals(30, danger.getFireTick(3, 3), "Chain goes on to the third bomb");
+        assertEquals(30, danger.getFireTick(4, 3));
+        assertEquals(150, danger.getFireTick(9, 7), "Bomb out of reach keeps its own fuse");
+    }
+
+    /**
+     * Tests that placing bombs one update at a time gives the same map as
+     * tracing them all at once, and that every cell entering or leaving a
+     * lane is in the obstacle log.
+     */
+    @Test
+    @DisplayName("Incremental updates match a rebuild and are logged")
+    void testIncrementalMatchesRebuild() {
+        Random random = new Random(13);
+        for (int y = 0; y < 9; y++) {
+            for (int x = 0; x < 11; x++) {
+                if (x % 2 == 0 && y % 2 == 0) tiles.placeWall(x, y, false);
+                else if (random.nextInt(100) < 20) tiles.placeWall(x, y, true);
+            }
+        }
+        danger.update(tiles, bombs, bombIndex, fire, log);
+
+        for (int round = 0; round < 40; round++) {
+            int x = random.nextInt(11);
+            int y = random.nextInt(9);
+            if (tiles.isBlocked(x, y)) continue;
+            boolean[] before = threatenedCells(danger);
+            long version = log.getVersion();
+
+            Bomb bomb = new Bomb(x, y, 1 + random.nextInt(3), 50 + random.nextInt(150));
+            place(bomb);
+            danger.bombPlaced(bomb);
+            if (random.nextInt(4) == 0) {
+                // A tick passes: every fuse burns as the clock moves on
+                for (GameObject placed : bombs) placed.update();
+                danger.advance();
+            }
+            danger.update(tiles, bombs, bombIndex, fire, log);
+
+            DangerMap fresh = new DangerMap(11, 9);
+            for (int i = 0; i < danger.getClock(); i++) fresh.advance();
+            fresh.update(tiles, bombs, bombIndex, fire, new CellChangeLog(16));
+            Set<Integer> logged = new HashSet<>();
+            for (long change = version; change < log.getVersion(); change++) {
+                logged.add(log.getY(change) * 11 + log.getX(change));
+            }
+            boolean[] after = threatenedCells(danger);
+            for (int cell = 0; cell < 11 * 9; cell++) {
+                assertEquals(fresh.getFireTick(cell % 11, cell / 11), danger.getFireTick(cell % 11, cell / 11),
+                    "Fire tick of cell " + cell + " should match a rebuild in round " + round);
+                if (before[cell] != after[cell]) assertTrue(logged.contains(cell), "Change of cell " + cell + " should be logged");
+            }
+        }
+
+        // Everything goes off: a rebuild clears and logs every lane
+        long version = log.getVersion();
+        int count = danger.getThreatenedCount();
+        for (GameObject bomb : bombs) ((Bomb) bomb).detonate();
+        danger.invalidate();
+        danger.update(tiles, bombs, bombIndex, fire, log);
+        assertEquals(0, danger.getThreatenedCount(), "No lane should be left");
+        assertEquals(count, log.getVersion() - version, "Every cleared cell should be logged once");
+    }
+
+    /**
+     * Tests that a cell is unsafe to enter when fire is due on it before the
+     * next move, and safe when the fire comes later.
+     */
+    @Test
+    @DisplayName("Safety follows the fire's timing")
+    void testSafeWindow() {
+        place(new Bomb(5, 4, 1, 20));
+        danger.update(tiles, bombs, bombIndex, fire, log);
+
+        assertTrue(danger.isSafe(5, 3, 18), "Fire after the enemy has moved on is safe");
+        assertFalse(danger.isSafe(5, 3, 19), "Fire on the tick the enemy would move again is not");
+        assertTrue(danger.isSafe(5, 2, 100), "Cells outside every lane are always safe");
+        for (int i = 0; i < 10; i++) danger.advance();
+        assertFalse(danger.isSafe(5, 3, 9), "Fuse has burned down while the fire tick stayed put");
+    }
+
+    /**
+     * Tests that the predicted fire tick is the tick the game's own blast
+     * lights the cell, and that the map is empty once the bomb has gone off.
+     */
+    @Test
+    @DisplayName("Prediction matches the real explosion")
+    void testPredictionMatchesGame() {
+        GameManager gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.EASY);
+        gm.getTiles().clear();
+        gm.clearEnemies();
+        PlayingState playing = (PlayingState) gm.PLAYING_STATE;
+        gm.addBomb(new Bomb(8, 6, 2, 25));
+        gm.addBomb(new Bomb(10, 6, 1, 90));
+
+        int fireTick = gm.getDangerMap().getFireTick(10, 7);
+        assertEquals(gm.getDangerMap().getClock() + 25, fireTick, "Second bomb is set off by the first");
+        while (!gm.isBurning(10, 7)) {
+            playing.update(gm);
+            assertTrue(gm.getDangerMap().getClock() <= fireTick, "Fire should not come later than predicted");
+        }
+        assertEquals(fireTick, gm.getDangerMap().getClock(), "Fire should come on the predicted tick");
+        assertEquals(0, gm.getDangerMap().getThreatenedCount(), "No bomb is left to threaten anything");
+    }
+
+    /**
+     * Tests that burning cells stay threatened and unsafe until their fire
+     * is out, and that going out is logged unless a lane still threatens them.
+     */
+    @Test
+    @DisplayName("Burning cells stay dangerous until the fire is out")
+    void testBurningCells() {
+        fire.ignite(2, 2, 0);
+        fire.ignite(3, 2, 0);
+        fire.tick();
+        place(new Bomb(3, 4, 2, 100));
+        danger.update(tiles, bombs, bombIndex, fire, log);
+
+        assertTrue(danger.isThreatened(2, 2), "Burning cell is threatened");
+        assertEquals(2, danger.getBurningCount());
+        assertFalse(danger.isSafe(2, 2, 0), "Burning cell is not safe to enter");
+        for (int i = 1; i < FireField.DURATION - 1; i++) {
+            fire.tick();
+            danger.advance();
+            danger.update(tiles, bombs, bombIndex, fire, log);
+            assertTrue(fire.isBurning(2, 2));
+            assertFalse(danger.isSafe(2, 2, 0), "Cell still burning after " + i + " ticks is not safe");
+        }
+
+        long version = log.getVersion();
+        fire.tick();
+        danger.advance();
+        danger.update(tiles, bombs, bombIndex, fire, log);
+        assertFalse(fire.isBurning(2, 2), "Fire has burned out");
+        assertTrue(danger.isSafe(2, 2, 0), "Cell is safe once its fire is out");
+        assertFalse(danger.isThreatened(2, 2));
+        assertTrue(danger.isThreatened(3, 2), "Cell in a lane stays threatened");
+        assertEquals(0, danger.getBurningCount());
+        assertEquals(1, log.getVersion() - version, "Only the cell no lane threatens should be logged");
+        assertEquals(2, log.getX(version));
+        assertEquals(2, log.getY(version));
+    }
+
+    /**
+     * Tests that an enemy beside a blast waits while the lane burns instead
+     * of walking into the fire.
+     */
+    @Test
+    @DisplayName("Enemies wait for the fire to burn out")
+    void testEnemyWaitsOutFire() {
+        GameManager gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.startMatch(SettingsManager.Difficulty.HARD);
+        gm.getTiles().clear();
+        gm.clearEnemies();
+        gm.getPlayer().setPosition(1, 1);
+        PlayingState playing = (PlayingState) gm.PLAYING_STATE;
+        Enemy enemy = new Enemy(8, 1);
+        gm.addEnemy(enemy);
+        gm.addBomb(new Bomb(5, 1, 2, 1));
+
+        boolean burned = false;
+        for (int tick = 0; tick < FireField.DURATION + 5; tick++) {
+            playing.update(gm);
+            burned |= gm.isBurning(7, 1);
+            assertEquals(1, gm.getEnemies().size(), "Enemy should survive tick " + tick);
+            assertFalse(gm.isBurning(enemy.getX(), enemy.getY()), "Enemy should not stand in fire on tick " + tick);
+        }
+        assertTrue(burned, "Blast should reach the cell next to the enemy");
+    }
+
+    private void place(Bomb bomb) {
+        bombs.add(bomb);
+        bombIndex.add(bomb);
+    }
+
+    private static boolean[] threatenedCells(DangerMap map) {
+        boolean[] cells = new boolean[map.getWidth() * map.getHeight()];
+        for (int i = 0; i < cells.length; i++) cells[i] = map.isThreatened(i % map.getWidth(), i / map.getWidth());
+        return cells;
+    }
+}
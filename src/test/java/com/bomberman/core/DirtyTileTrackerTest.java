@@ -0,0 +1,90 @@
+package com.bomberman.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DirtyTileTracker class.
+ * Tests marking, de-duplication, full-repaint requests and clearing.
+ * 
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class DirtyTileTrackerTest {
+    
+    private DirtyTileTracker tracker;
+    
+    @BeforeEach
+    void setUp() {
+        tracker = new DirtyTileTracker(5, 4);
+        tracker.clear(); // A new tracker starts fully dirty
+    }
+    
+    /**
+     * Tests that a new tracker requests a full repaint.
+     */
+    @Test
+    @DisplayName("New tracker starts fully dirty")
+    void testStartsAllDirty() {
+        DirtyTileTracker fresh = new DirtyTileTracker(5, 4);
+        assertTrue(fresh.isAllDirty(), "First frame should repaint everything");
+        assertTrue(fresh.hasDirty(), "Full repaint counts as dirty");
+    }
+    
+    /**
+     * Tests that marking the same tile twice queues it once.
+     */
+    @Test
+    @DisplayName("Repeated marks queue a tile once")
+    void testMarkDeduplicates() {
+        tracker.mark(2, 3);
+        tracker.mark(2, 3);
+        tracker.mark(4, 0);
+        
+        assertEquals(2, tracker.getCount(), "Two distinct tiles should be queued");
+        assertEquals(2, tracker.getX(0));
+        assertEquals(3, tracker.getY(0));
+        assertTrue(tracker.isDirty(4, 0), "Marked tile should be dirty");
+        assertFalse(tracker.isDirty(0, 0), "Unmarked tile should be clean");
+    }
+    
+    /**
+     * Tests that coordinates outside the board are ignored.
+     */
+    @Test
+    @DisplayName("Out-of-bounds marks are ignored")
+    void testOutOfBoundsIgnored() {
+        tracker.mark(-1, 0);
+        tracker.mark(5, 0);
+        tracker.mark(0, 4);
+        
+        assertFalse(tracker.hasDirty(), "No tile should be marked");
+    }
+    
+    /**
+     * Tests that a row range marks every tile in it.
+     */
+    @Test
+    @DisplayName("Row marks cover whole rows")
+    void testMarkRows() {
+        tracker.markRows(0, 2);
+        
+        assertEquals(10, tracker.getCount(), "Two rows of five tiles should be queued");
+        assertTrue(tracker.isDirty(4, 1), "Last tile of second row should be dirty");
+        assertFalse(tracker.isDirty(0, 2), "Third row should be clean");
+    }
+    
+    /**
+     * Tests that clear forgets both single marks and full-repaint requests.
+     */
+    @Test
+    @DisplayName("Clear resets all marks")
+    void testClear() {
+        tracker.mark(1, 1);
+        tracker.markAll();
+        tracker.clear();
+        
+        assertFalse(tracker.hasDirty(), "Nothing should be dirty after clear");
+        assertFalse(tracker.isDirty(1, 1), "Single mark should be cleared too");
+    }
+}
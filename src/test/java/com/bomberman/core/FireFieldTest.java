@@ -0,0 +1,86 @@
+package com.bomberman.core;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FireField class.
+ * Tests burning, refreshing overlapping blasts and burning out.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class FireFieldTest {
+
+    private FireField fire;
+
+    @BeforeEach
+    void setUp() {
+        fire = new FireField(5, 4);
+    }
+
+    /**
+     * Tests that a lit cell burns for the full duration and then goes out.
+     */
+    @Test
+    @DisplayName("Lit cell burns for DURATION ticks")
+    void testBurnsOut() {
+        assertTrue(fire.ignite(2, 1, FireField.ARM_LEFT), "First ignite should light the cell");
+        assertTrue(fire.isBurning(2, 1), "Cell should be burning");
+        assertEquals(1, fire.getBurningCount(), "One cell should be listed");
+
+        for (int i = 1; i < FireField.DURATION; i++) {
+            fire.tick();
+        }
+        assertTrue(fire.isBurning(2, 1), "Cell should still burn on its last tick");
+
+        fire.tick();
+        assertFalse(fire.isBurning(2, 1), "Cell should be out after DURATION ticks");
+        assertEquals(0, fire.getBurningCount(), "No cell should be listed");
+        assertEquals(0, fire.getArms(2, 1), "Arms should be cleared");
+    }
+
+    /**
+     * Tests that an overlapping blast refreshes the cell instead of adding a second fire.
+     */
+    @Test
+    @DisplayName("Overlapping blasts refresh the cell and merge arms")
+    void testOverlapRefreshes() {
+        fire.ignite(3, 2, FireField.ARM_UP);
+        fire.tick();
+        fire.tick();
+
+        assertFalse(fire.ignite(3, 2, FireField.ARM_LEFT), "Second ignite should only refresh");
+        assertEquals(1, fire.getBurningCount(), "Cell should be listed once");
+        assertEquals(FireField.DURATION, fire.getTicks(3, 2), "Timer should be reset");
+        assertEquals(FireField.ARM_UP | FireField.ARM_LEFT, fire.getArms(3, 2), "Arms should merge");
+    }
+
+    /**
+     * Tests that cells outside the field are never burning.
+     */
+    @Test
+    @DisplayName("Out-of-bounds cells are ignored")
+    void testOutOfBounds() {
+        assertFalse(fire.ignite(-1, 0, 0), "Negative X should not ignite");
+        assertFalse(fire.ignite(5, 0, 0), "X >= width should not ignite");
+        assertFalse(fire.isBurning(0, 4), "Y >= height should not burn");
+        assertEquals(0, fire.getBurningCount(), "Nothing should be listed");
+    }
+
+    /**
+     * Tests that clear puts out every cell.
+     */
+    @Test
+    @DisplayName("Clear puts out every fire")
+    void testClear() {
+        fire.ignite(0, 0, 0);
+        fire.ignite(4, 3, FireField.ARM_DOWN);
+        fire.clear();
+
+        assertEquals(0, fire.getBurningCount(), "Nothing should be listed");
+        assertFalse(fire.isBurning(4, 3), "Cell should be out");
+        assertTrue(fire.ignite(4, 3, 0), "Cleared cell should light again as new");
+        assertEquals(0, fire.getArms(4, 3), "Old arms should not survive a clear");
+    }
+}
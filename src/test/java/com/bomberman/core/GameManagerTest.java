@@ -1,5 +1,10 @@
 package com.bomberman.core;
 
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Enemy;
+import com.bomberman.entities.EnemyStore;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.utils.FlowField;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,7 +59,7 @@ class GameManagerTest {
         assertNotNull(gameManager.getEnemies(), "Enemies should exist after reset");
         assertTrue(gameManager.getWalls().size() > 0, "Should have walls after reset");
         assertTrue(gameManager.getBombs().isEmpty(), "Bombs should be empty after reset");
-        assertTrue(gameManager.getExplosions().isEmpty(), "Explosions should be empty after reset");
+        assertEquals(0, gameManager.getFire().getBurningCount(), "No fire should burn after reset");
     }
     
     /**
@@ -107,4 +112,108 @@ class GameManagerTest {
         assertTrue(GameManager.BOMB_RADIUS > 0, "BOMB_RADIUS should be positive");
         assertTrue(GameManager.MAX_BOMBS > 0, "MAX_BOMBS should be positive");
     }
+
+    /**
+     * Tests that the map size is a runtime property of the match.
+     */
+    @Test
+    @DisplayName("Map size can be changed between matches")
+    void testMapSize() {
+        try {
+            gameManager.setMapSize(300, 200);
+            gameManager.resetGame();
+            
+            assertEquals(300, gameManager.getGridWidth(), "Width should follow the map size");
+            assertEquals(200, gameManager.getGridHeight(), "Height should follow the map size");
+            assertEquals(TileMap.HARD, gameManager.getTiles().get(299, 199), "Far corner should be a border wall");
+            assertTrue(GameManager.isValidMove(1, 1, gameManager.getTiles()), "Spawn should be walkable");
+            assertThrows(IllegalArgumentException.class, () -> gameManager.setMapSize(GameManager.MAX_GRID_SIZE + 1, 10),
+                "Oversized maps should be rejected");
+        } finally {
+            gameManager.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+            gameManager.resetGame();
+        }
+    }
+
+    /**
+     * Tests that a match seed fully determines the generated map and enemies.
+     */
+    @Test
+    @DisplayName("Same seed generates the same match")
+    void testSeedReproducesMatch() {
+        long seed = 0x5EEDL;
+        gameManager.resetGame(seed);
+        TileMap first = new TileMap(gameManager.getGridWidth(), gameManager.getGridHeight());
+        first.copyFrom(gameManager.getTiles());
+        EnemyStore enemies = gameManager.getEnemyStore();
+        int[] firstEnemies = new int[enemies.size() * 3];
+        for (int i = 0; i < enemies.size(); i++) {
+            firstEnemies[i * 3] = enemies.getX(i);
+            firstEnemies[i * 3 + 1] = enemies.getY(i);
+            firstEnemies[i * 3 + 2] = enemies.getHueIndex(i);
+        }
+
+        gameManager.resetGame(seed);
+
+        assertEquals(seed, gameManager.getMatchSeed(), "Match should report its seed");
+        for (int y = 0; y < gameManager.getGridHeight(); y++) {
+            for (int x = 0; x < gameManager.getGridWidth(); x++) {
+                assertEquals(first.get(x, y), gameManager.getTiles().get(x, y), "Tile " + x + "," + y);
+            }
+        }
+        assertEquals(firstEnemies.length / 3, enemies.size(), "Enemy count should match");
+        for (int i = 0; i < enemies.size(); i++) {
+            assertEquals(firstEnemies[i * 3], enemies.getX(i), "Enemy X should match");
+            assertEquals(firstEnemies[i * 3 + 1], enemies.getY(i), "Enemy Y should match");
+            assertEquals(firstEnemies[i * 3 + 2], enemies.getHueIndex(i), "Enemy hue should match");
+        }
+        assertEquals(seed, MatchRandom.parse(MatchRandom.format(seed)), "Seed text should round-trip");
+    }
+
+    /**
+     * Tests that the shared flow field follows bombs placed and removed through the manager.
+     */
+    @Test
+    @DisplayName("Player flow field is rebuilt when a bomb comes or goes")
+    void testFlowFieldFollowsBombs() {
+        gameManager.initHeadless();
+        gameManager.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+        gameManager.startMatch(SettingsManager.Difficulty.EASY, 0x5EEDL);
+        assertEquals(1, gameManager.getPlayerFlowField().distance(2, 1), "Cell next to the player should be one step away");
+
+        Bomb bomb = EntityFactory.createBomb(2, 1, GameManager.BOMB_RADIUS);
+        gameManager.addBomb(bomb);
+        assertEquals(FlowField.UNREACHABLE, gameManager.getPlayerFlowField().distance(2, 1), "Bomb cell should be blocked");
+
+        gameManager.removeBomb(bomb);
+        assertEquals(1, gameManager.getPlayerFlowField().distance(2, 1), "Cell should open again once the bomb is gone");
+    }
+
+    /**
+     * Tests that every fourth enemy of a match above EASY hunts by A*, and
+     * that EASY matches have no hunters.
+     */
+    @Test
+    @DisplayName("Matches above EASY spawn A* hunters")
+    void testHuntersAboveEasy() {
+        gameManager.initHeadless();
+        gameManager.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+        gameManager.setEnemyCount(0);
+        for (SettingsManager.Difficulty difficulty : SettingsManager.Difficulty.values()) {
+            gameManager.startMatch(difficulty, 0x5EEDL);
+            int size = gameManager.getEnemyStore().size();
+            int expected = difficulty == SettingsManager.Difficulty.EASY ? 0 : size / GameManager.HUNTER_EVERY;
+            assertEquals(expected, countHunters(), "Hunters on " + difficulty);
+        }
+        assertEquals(2, countHunters(), "A full HARD match should have two hunters");
+    }
+
+    private int countHunters() {
+        EnemyStore enemies = gameManager.getEnemyStore();
+        int hunters = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.getAiMode(i) == Enemy.AiMode.A_STAR) hunters++;
+        }
+        return hunters;
+    }
 }
@@ -0,0 +1,138 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.EnemyStore;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the save game snapshot codec.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class SnapshotCodecTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    void setUp() {
+        gameManager = GameManager.getInstance();
+        gameManager.initHeadless();
+        gameManager.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+        gameManager.setEnemyCount(0);
+        gameManager.startMatch(SettingsManager.Difficulty.HARD, 0xC0FFEEL);
+        gameManager.addBomb(EntityFactory.createBomb(1, 1, GameManager.BOMB_RADIUS));
+        for (int i = 0; i < 125; i++) gameManager.update(); // Bomb is burning
+    }
+
+    /**
+     * Tests that decoding a snapshot and encoding it again gives the same bytes.
+     */
+    @Test
+    @DisplayName("Snapshot round-trips byte for byte")
+    void testRoundTrip() throws IOException {
+        SnapshotCodec codec = new SnapshotCodec(16);
+        byte[] first = toBytes(codec.encode(gameManager));
+
+        MatchState decoded = SnapshotCodec.decode(ByteBuffer.wrap(first));
+        byte[] second = toBytes(codec.encode(decoded));
+
+        assertArrayEquals(first, second, "Re-encoding a decoded snapshot should give the same bytes");
+        assertTrue(first.length < 1024, "Default board should save compactly, not in " + first.length + " bytes");
+    }
+
+    /**
+     * Tests that a restored match plays on exactly as the original does.
+     */
+    @Test
+    @DisplayName("Restored snapshot continues like the original match")
+    void testRestoreContinues() throws IOException {
+        byte[] saved = toBytes(new SnapshotCodec().encode(gameManager));
+        for (int i = 0; i < 300; i++) gameManager.update();
+        String expected = describe();
+
+        SnapshotCodec.decode(ByteBuffer.wrap(saved)).restore(gameManager);
+        for (int i = 0; i < 300; i++) gameManager.update();
+
+        assertEquals(expected, describe(), "Restored match should continue identically");
+    }
+
+    /**
+     * Tests that data from another format or a cut-off file is rejected.
+     */
+    @Test
+    @DisplayName("Invalid snapshots are rejected")
+    void testRejectsInvalid() {
+        byte[] saved = toBytes(new SnapshotCodec().encode(gameManager));
+        byte[] truncated = java.util.Arrays.copyOf(saved, saved.length / 2);
+        byte[] wrongVersion = saved.clone();
+        wrongVersion[4] = (byte) (SnapshotCodec.VERSION + 1);
+
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(ByteBuffer.wrap(truncated)));
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(ByteBuffer.wrap(wrongVersion)));
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(ByteBuffer.wrap(new byte[] { 'B', 'Q', 'R', 'P', 1 })));
+    }
+
+    /**
+     * Tests that a field out of the range a match can hold is rejected on
+     * decode, so that restoring a decoded state cannot fail half way.
+     */
+    @Test
+    @DisplayName("Out-of-range fields are rejected on decode")
+    void testRejectsOutOfRange() throws IOException {
+        MatchState original = MatchState.capture(gameManager);
+        assertTrue(original.enemyCount > 0 && original.fireData.length > 0, "Setup should have enemies and fire");
+
+        assertRejected(original, s -> s.gridW = GameManager.MAX_GRID_SIZE + 1, "map wider than the limit");
+        assertRejected(original, s -> s.gridH = GameManager.MIN_GRID_SIZE - 1, "map lower than the limit");
+        assertRejected(original, s -> s.enemyData[0] = s.gridW, "enemy off the board");
+        assertRejected(original, s -> s.enemyData[2] = -1, "enemy hue");
+        assertRejected(original, s -> {
+            s.enemyPaths[0] = new int[] { s.gridW * s.gridH };
+            s.enemyData[5] = 1;
+            s.enemyData[6] = 0;
+        }, "enemy path cell off the board");
+        assertRejected(original, s -> s.enemyData[6] = s.enemyData[5] + 1, "enemy path cursor");
+        assertRejected(original, s -> s.bombData = new int[] { 1, s.gridH, 3, 10 }, "bomb off the board");
+        assertRejected(original, s -> s.fireData[2] = FireField.DURATION + 1, "fire burn time");
+        assertRejected(original, s -> s.fireData[3] = FireField.ARM_SHAPES, "fire arms");
+        assertRejected(original, s -> s.playerX = -1, "player off the board");
+        assertRejected(original, s -> s.pauseSelection = PlayingState.PAUSE_OPTION_COUNT, "pause selection");
+
+        // The untouched state still decodes and restores
+        MatchState decoded = SnapshotCodec.decode(new SnapshotCodec().encode(original));
+        assertDoesNotThrow(() -> decoded.restore(gameManager));
+    }
+
+    private static void assertRejected(MatchState original, java.util.function.Consumer<MatchState> corrupt, String what)
+            throws IOException {
+        // Round-trip to get an independent copy to corrupt
+        MatchState copy = SnapshotCodec.decode(new SnapshotCodec().encode(original));
+        corrupt.accept(copy);
+        ByteBuffer corrupted = new SnapshotCodec().encode(copy);
+        assertThrows(IOException.class, () -> SnapshotCodec.decode(corrupted), "Snapshot with a bad " + what + " should be rejected");
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(gameManager.getCurrentState().getClass().getSimpleName())
+            .append(" tick=").append(gameManager.getMatchTicks())
+            .append(" hp=").append(gameManager.getPlayer().getHp())
+            .append(" walls=").append(gameManager.getTiles().getWallCount());
+        EnemyStore enemies = gameManager.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            sb.append(" e").append(enemies.getX(i)).append(',').append(enemies.getY(i));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.bomberman.core;
+
+import com.bomberman.entities.Wall;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TileMap class.
+ * Tests tile codes, bounds handling and the read-only wall view.
+ * 
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class TileMapTest {
+    
+    private TileMap tiles;
+    
+    @BeforeEach
+    void setUp() {
+        tiles = new TileMap(5, 4);
+    }
+    
+    /**
+     * Tests that placed walls are stored with the right code and wall object.
+     */
+    @Test
+    @DisplayName("Placed walls report their code and object")
+    void testPlaceWall() {
+        tiles.placeWall(1, 2, true);
+        tiles.placeWall(3, 0, false);
+        
+        assertEquals(TileMap.SOFT, tiles.get(1, 2), "Soft wall code expected");
+        assertEquals(TileMap.HARD, tiles.get(3, 0), "Hard wall code expected");
+        assertEquals(TileMap.EMPTY, tiles.get(0, 0), "Untouched tile should be empty");
+        
+        Wall wall = tiles.getWall(1, 2);
+        assertNotNull(wall, "Soft wall object should exist");
+        assertTrue(wall.isDestructible(), "Soft wall object should be destructible");
+        assertFalse(tiles.getWall(3, 0).isDestructible(), "Hard wall object should not be destructible");
+        assertEquals(2, tiles.getWalls().size(), "Wall view should list both walls");
+    }
+    
+    /**
+     * Tests that tiles outside the board behave like hard walls.
+     */
+    @Test
+    @DisplayName("Out-of-bounds tiles are blocked")
+    void testOutOfBounds() {
+        assertTrue(tiles.isBlocked(-1, 0), "Negative X should be blocked");
+        assertTrue(tiles.isBlocked(5, 0), "X >= width should be blocked");
+        assertTrue(tiles.isBlocked(0, 4), "Y >= height should be blocked");
+        assertNull(tiles.getWall(-1, 0), "No wall object outside the board");
+    }
+    
+    /**
+     * Tests that removing a wall clears both the code and the view.
+     */
+    @Test
+    @DisplayName("Removing a wall empties the tile and the view")
+    void testRemoveWall() {
+        tiles.placeWall(2, 2, true);
+        
+        assertTrue(tiles.removeWall(2, 2), "Existing wall should be removed");
+        assertFalse(tiles.removeWall(2, 2), "Second removal should do nothing");
+        assertFalse(tiles.isBlocked(2, 2), "Tile should be walkable");
+        assertTrue(tiles.getWalls().isEmpty(), "Wall view should be empty");
+    }
+    
+    /**
+     * Tests that the wall list cannot be modified by callers.
+     */
+    @Test
+    @DisplayName("Wall view is read-only")
+    void testWallViewReadOnly() {
+        tiles.placeWall(0, 0, false);
+        
+        assertThrows(UnsupportedOperationException.class, () -> tiles.getWalls().clear(),
+            "Callers must go through the tile map");
+    }
+    
+    /**
+     * Tests that copyFrom reproduces another map.
+     */
+    @Test
+    @DisplayName("copyFrom duplicates another map")
+    void testCopyFrom() {
+        TileMap other = new TileMap(5, 4);
+        other.placeWall(4, 3, true);
+        tiles.placeWall(0, 0, false);
+        
+        tiles.copyFrom(other);
+        
+        assertEquals(TileMap.SOFT, tiles.get(4, 3), "Copied wall expected");
+        assertEquals(TileMap.EMPTY, tiles.get(0, 0), "Previous contents should be cleared");
+        assertNotSame(other.getWall(4, 3), tiles.getWall(4, 3), "Copies get their own wall objects");
+    }
+
+    /**
+     * Tests that chunks are only allocated where walls are placed.
+     */
+    @Test
+    @DisplayName("Large maps allocate chunks lazily")
+    void testLazyChunks() {
+        TileMap large = new TileMap(4096, 4096);
+        assertEquals(0, large.getAllocatedChunks(), "New map should allocate nothing");
+        assertEquals(TileMap.EMPTY, large.get(4000, 4000), "Unallocated tiles read as floor");
+        
+        large.placeWall(4000, 4000, true);
+        large.placeWall(4001, 4001, false);
+        
+        assertEquals(1, large.getAllocatedChunks(), "Nearby walls should share a chunk");
+        assertEquals(TileMap.SOFT, large.get(4000, 4000), "Soft wall code expected");
+        assertEquals(2, large.getWallCount(), "Both walls should be counted");
+        assertTrue(large.isBlocked(4096, 0), "X >= width should be blocked");
+    }
+    
+    /**
+     * Tests that off-heap storage behaves like heap storage, including copies between them.
+     */
+    @Test
+    @DisplayName("Off-heap map matches heap map")
+    void testOffHeap() {
+        TileMap direct = new TileMap(5, 4, true);
+        direct.placeWall(1, 2, true);
+        direct.placeWall(3, 0, false);
+        assertTrue(direct.isOffHeap(), "Map should report off-heap storage");
+        
+        tiles.copyFrom(direct);
+        assertEquals(TileMap.SOFT, tiles.get(1, 2), "Copied soft wall expected");
+        assertEquals(TileMap.HARD, tiles.get(3, 0), "Copied hard wall expected");
+        assertEquals(2, tiles.getWallCount(), "Wall count should be copied");
+        
+        direct.clear();
+        assertEquals(TileMap.EMPTY, direct.get(1, 2), "Cleared tile should be empty");
+        assertEquals(0, direct.getWallCount(), "Cleared map should count no walls");
+    }
+}
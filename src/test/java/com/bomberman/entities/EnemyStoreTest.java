@@ -0,0 +1,311 @@
+package com.bomberman.entities;
+
+import com.bomberman.core.DangerMap;
+import com.bomberman.core.FireField;
+import com.bomberman.core.GameManager;
+import com.bomberman.core.TileMap;
+import com.bomberman.managers.SettingsManager;
+import com.bomberman.states.PlayingState;
+import com.bomberman.utils.CellChangeLog;
+import com.bomberman.utils.CellIndex;
+import com.bomberman.utils.FlowField;
+import com.bomberman.utils.GridPathfinder;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EnemyStore.
+ * Tests slot bookkeeping and that enemy views follow their slots.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class EnemyStoreTest {
+
+    private EnemyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new EnemyStore(2);
+    }
+
+    /**
+     * Tests that spawned enemies read their state from the store and that it grows.
+     */
+    @Test
+    @DisplayName("Views read the store's arrays")
+    void testSpawn() {
+        for (int i = 0; i < 10; i++) {
+            store.spawn(i, i + 1);
+        }
+
+        assertEquals(10, store.size(), "Store should grow past its initial capacity");
+        Enemy view = store.view(7);
+        assertEquals(7, view.getX(), "View X should come from the store");
+        assertEquals(8, view.getY(), "View Y should come from the store");
+        assertEquals(store.getHueIndex(7), view.getHueIndex(), "View hue should come from the store");
+    }
+
+    /**
+     * Tests that removing an enemy moves the last one into its slot.
+     */
+    @Test
+    @DisplayName("Swap-remove keeps views consistent")
+    void testSwapRemove() {
+        Enemy first = store.spawn(1, 1);
+        store.spawn(2, 2);
+        Enemy last = store.spawn(3, 3);
+
+        assertTrue(store.remove(first), "Enemy in the store should be removed");
+
+        assertEquals(2, store.size(), "Store should shrink");
+        assertSame(last, store.view(0), "Last enemy should take the freed slot");
+        assertEquals(3, last.getX(), "Moved enemy should keep its position");
+        assertEquals(1, first.getX(), "Removed enemy should keep its position");
+        assertNull(first.store, "Removed enemy should be detached, not moved into a store of its own");
+        assertFalse(store.remove(first), "Removed enemy should not be removed twice");
+    }
+
+    /**
+     * Tests that adding a detached enemy keeps its state.
+     */
+    @Test
+    @DisplayName("Add adopts a standalone enemy")
+    void testAdd() {
+        Enemy enemy = new Enemy(4, 6);
+        int hue = enemy.getHueIndex();
+        assertNull(enemy.store, "New enemy should start out detached");
+
+        assertTrue(store.add(enemy), "Standalone enemy should be added");
+        assertFalse(store.add(enemy), "Enemy already in the store should not be added again");
+
+        assertEquals(1, store.size(), "Store should hold the enemy once");
+        assertSame(enemy, store.view(0), "Store should use the enemy as its view");
+        assertEquals(4, store.getX(0), "Position should be copied");
+        assertEquals(6, store.getY(0), "Position should be copied");
+        assertEquals(hue, enemy.getHueIndex(), "Hue should be kept");
+    }
+
+    /**
+     * Tests that planning on a pool moves every enemy exactly as planning on one thread does.
+     */
+    @Test
+    @DisplayName("Parallel planning matches serial planning")
+    void testParallelMatchesSerial() {
+        int size = 64;
+        TileMap tiles = new TileMap(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                if (border || (x % 2 == 0 && y % 2 == 0)) tiles.placeWall(x, y, false);
+            }
+        }
+
+        EnemyStore serial = new EnemyStore(16);
+        EnemyStore parallel = new EnemyStore(16);
+        CellIndex<Enemy> serialIndex = new CellIndex<>(size, size);
+        CellIndex<Enemy> parallelIndex = new CellIndex<>(size, size);
+        int placed = 0;
+        for (int y = 8; y < size && placed < 1000; y++) {
+            for (int x = 0; x < size && placed < 1000; x++) {
+                if (tiles.isBlocked(x, y)) continue;
+                serialIndex.add(serial.spawn(x, y));
+                parallelIndex.add(parallel.spawn(x, y));
+                placed++;
+            }
+        }
+        CellIndex<Bomb> bombs = new CellIndex<>(size, size);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int tick = 0; tick < 40; tick++) {
+                serial.planAll(new EnemyStore.TickView(tiles, serialIndex, bombs, 1, 1, size, size, 0), null);
+                parallel.planAll(new EnemyStore.TickView(tiles, parallelIndex, bombs, 1, 1, size, size, 0), pool);
+                commitAll(serial, serialIndex);
+                commitAll(parallel, parallelIndex);
+
+                for (int i = 0; i < placed; i++) {
+                    assertEquals(serial.getX(i), parallel.getX(i), "X of slot " + i + " at tick " + tick);
+                    assertEquals(serial.getY(i), parallel.getY(i), "Y of slot " + i + " at tick " + tick);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that flow-field enemies step towards the player and wait behind
+     * each other, while A* enemies keep searching their own path.
+     */
+    @Test
+    @DisplayName("Flow-field enemies descend the shared field")
+    void testFlowFieldStep() {
+        TileMap tiles = new TileMap(10, 3);
+        for (int x = 0; x < 10; x++) {
+            tiles.placeWall(x, 0, false);
+            tiles.placeWall(x, 2, false);
+        }
+        CellIndex<Enemy> index = new CellIndex<>(10, 3);
+        CellIndex<Bomb> bombs = new CellIndex<>(10, 3);
+        index.add(store.spawn(5, 1));
+        index.add(store.spawn(6, 1));
+        Enemy hunter = store.spawn(3, 1);
+        hunter.setAiMode(Enemy.AiMode.A_STAR);
+        index.add(hunter);
+
+        FlowField field = new FlowField(10, 3);
+        field.rebuild(1, 1, (x, y) -> !tiles.isBlocked(x, y) && !bombs.isOccupied(x, y));
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, new CellChangeLog(16), 10, 3, 0), null);
+        commitAll(store, index);
+
+        assertEquals(4, store.getX(0), "Front enemy should step towards the player");
+        assertEquals(6, store.getX(1), "Enemy behind should wait for the cell ahead to clear");
+        assertEquals(2, hunter.getX(), "A* enemy should follow its own path");
+        assertEquals(Enemy.AiMode.A_STAR, hunter.getAiMode(), "AI mode should be kept per enemy");
+        assertTrue(store.getPathLength(hunter.slot) > 0, "A* enemy should hold a path");
+        assertEquals(0, store.getPathLength(0), "Flow-field enemy should not search a path");
+    }
+
+    /**
+     * Tests that an A* enemy's incremental search takes in a wall destroyed
+     * through the obstacle log and switches to the shorter way it opens.
+     */
+    @Test
+    @DisplayName("A* enemies repair their path from the obstacle log")
+    void testRepairedPath() {
+        TileMap tiles = new TileMap(7, 5);
+        for (int x = 0; x < 7; x++) {
+            tiles.placeWall(x, 0, false);
+            tiles.placeWall(x, 4, false);
+        }
+        tiles.placeWall(3, 2, false);
+        tiles.placeWall(3, 3, true);
+        CellIndex<Enemy> index = new CellIndex<>(7, 5);
+        CellIndex<Bomb> bombs = new CellIndex<>(7, 5);
+        CellChangeLog log = new CellChangeLog(16);
+        FlowField field = new FlowField(7, 5);
+        field.rebuild(5, 3, (x, y) -> !tiles.isBlocked(x, y));
+        Enemy hunter = store.spawn(1, 3);
+        hunter.setAiMode(Enemy.AiMode.A_STAR);
+        index.add(hunter);
+
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, log, 7, 5, 0), null);
+        assertEquals(9, store.getPathLength(hunter.slot), "Only way round is over the top");
+        commitAll(store, index);
+
+        tiles.removeWall(3, 3);
+        log.record(3, 3);
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, log, 7, 5, 0), null);
+        int direct = 1 + Math.abs(hunter.getX() - 5) + Math.abs(hunter.getY() - 3);
+        assertEquals(direct, store.getPathLength(hunter.slot), "Path should go through the opened cell");
+        assertEquals(3 * 7 + 5, store.getPathCell(hunter.slot, direct - 1), "Path should end at the player");
+    }
+
+    /**
+     * Tests that in a match on the walled default board a hunter's first
+     * search is a jump point search, and that later searches repair its
+     * incremental search instead of starting over.
+     */
+    @Test
+    @DisplayName("Hunters start with jump points on walled boards")
+    void testJumpPointsInMatch() {
+        GameManager gm = GameManager.getInstance();
+        gm.initHeadless();
+        gm.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+        gm.setEnemyCount(0);
+        gm.startMatch(SettingsManager.Difficulty.HARD, 0x5EEDL);
+        PlayingState playing = (PlayingState) gm.PLAYING_STATE;
+        EnemyStore enemies = gm.getEnemyStore();
+        int hunters = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            if (enemies.getAiMode(i) == Enemy.AiMode.A_STAR) hunters++;
+        }
+        assertTrue(hunters > 0, "HARD match should have hunters");
+        assertTrue(GridPathfinder.prefersJumpPoints(gm.getGridWidth(), gm.getGridHeight(), gm.getTiles().getWallCount()),
+            "Default board should prefer jump points");
+
+        playing.update(gm);
+        assertEquals(hunters, enemies.getJumpPointSearches(), "Each hunter's first search should use jump points");
+
+        // The player walks off, so every hunter's path needs repairing
+        gm.handleInput(KeyEvent.VK_DOWN);
+        for (int tick = 0; tick < 40 && gm.getCurrentState() == playing; tick++) playing.update(gm);
+        gm.handleKeyReleased(KeyEvent.VK_DOWN);
+        assertEquals(hunters, enemies.getJumpPointSearches(), "Later searches should repair, not start over");
+        assertTrue(enemies.getPathCache().getMisses() > hunters, "Hunters should have searched again");
+    }
+
+    /**
+     * Tests that an enemy will not step into a cell fire reaches before its
+     * next move but will when the fire is further off, and that A* paths
+     * keep out of blast lanes altogether.
+     */
+    @Test
+    @DisplayName("Enemies keep out of blast lanes")
+    void testBlastAware() {
+        TileMap tiles = new TileMap(9, 7);
+        for (int x = 0; x < 9; x++) {
+            tiles.placeWall(x, 0, false);
+            tiles.placeWall(x, 6, false);
+        }
+        CellIndex<Enemy> index = new CellIndex<>(9, 7);
+        CellIndex<Bomb> bombs = new CellIndex<>(9, 7);
+        List<GameObject> bombList = new ArrayList<>();
+        CellChangeLog log = new CellChangeLog(64);
+        FlowField field = new FlowField(9, 7);
+        field.rebuild(7, 3, (x, y) -> !tiles.isBlocked(x, y));
+        Bomb bomb = new Bomb(4, 3, 1, 5);
+        bombs.add(bomb);
+        bombList.add(bomb);
+        DangerMap danger = new DangerMap(9, 7);
+        danger.update(tiles, bombList, bombs, new FireField(9, 7), log);
+
+        Enemy walker = store.spawn(2, 3);
+        index.add(walker);
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, log, danger, 9, 7, 10), null);
+        commitAll(store, index);
+        assertEquals(2, walker.getX(), "Fire due before the next move keeps the enemy out");
+
+        // Long fuse: the lane is clear for longer than the enemy stays
+        bombs.remove(bomb);
+        bombList.clear();
+        bomb = new Bomb(4, 3, 1, 100);
+        bombs.add(bomb);
+        bombList.add(bomb);
+        danger.invalidate();
+        danger.update(tiles, bombList, bombs, new FireField(9, 7), log);
+        store.remove(walker);
+        index.remove(walker);
+        walker = store.spawn(2, 3);
+        index.add(walker);
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, log, danger, 9, 7, 10), null);
+        commitAll(store, index);
+        assertEquals(3, walker.getX(), "Distant fire does not stop the step");
+
+        store.remove(walker);
+        index.remove(walker);
+        Enemy hunter = store.spawn(1, 3);
+        hunter.setAiMode(Enemy.AiMode.A_STAR);
+        index.add(hunter);
+        store.planAll(new EnemyStore.TickView(tiles, index, bombs, field, log, danger, 9, 7, 0), null);
+        int length = store.getPathLength(hunter.slot);
+        assertEquals(11, length, "Path should go round the lanes");
+        for (int i = 0; i < length; i++) {
+            int cell = store.getPathCell(hunter.slot, i);
+            assertFalse(danger.isThreatened(cell % 9, cell / 9), "Path should not cross a lane");
+        }
+    }
+
+    private static void commitAll(EnemyStore store, CellIndex<Enemy> index) {
+        for (int i = 0; i < store.size(); i++) {
+            int x = store.getX(i);
+            int y = store.getY(i);
+            if (store.commit(i, index)) index.move(store.view(i), x, y);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.bomberman.replay;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.entities.EnemyStore;
+import com.bomberman.headless.BotInputDriver;
+import com.bomberman.headless.HeadlessRunner;
+import com.bomberman.managers.SettingsManager;
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for match recording and playback.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class ReplayTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    void setUp() {
+        gameManager = GameManager.getInstance();
+        gameManager.setMapSize(GameManager.GRID_W, GameManager.GRID_H);
+        gameManager.setEnemyCount(0);
+        gameManager.setReplayDirectory(null);
+    }
+
+    /**
+     * Tests that a replay survives writing and reading back unchanged.
+     */
+    @Test
+    @DisplayName("Replay round-trips through its binary format")
+    void testWriteRead() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(0xCAFEF00DL, SettingsManager.Difficulty.HARD, 25, 15, 0);
+        recorder.record(0, 38, true);
+        recorder.record(12, 38, false);
+        recorder.record(300, 32, true);
+        Replay replay = recorder.finish(4000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        Replay read = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(replay.getSeed(), read.getSeed(), "Seed should match");
+        assertEquals(SettingsManager.Difficulty.HARD, read.getDifficulty(), "Difficulty should match");
+        assertEquals(4000, read.getLength(), "Length should match");
+        assertEquals(3, read.getEventCount(), "Event count should match");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(replay.getEventTick(i), read.getEventTick(i), "Event tick should match");
+            assertEquals(replay.getEventKey(i), read.getEventKey(i), "Event key should match");
+            assertEquals(replay.isEventPress(i), read.isEventPress(i), "Event kind should match");
+        }
+        assertTrue(out.size() < 40, "Three events should take a few bytes, not " + out.size());
+        assertEquals(2, read.firstEventAt(13), "First event at tick 13 should be the third");
+    }
+
+    /**
+     * Tests that playing a recorded match back, from the start and after
+     * seeking backwards, ends exactly as the original did.
+     */
+    @Test
+    @DisplayName("Playback and seeking reproduce the recorded match")
+    void testPlaybackMatchesRecording() {
+        HeadlessRunner runner = new HeadlessRunner(new BotInputDriver(), 2000);
+        runner.runMatch(SettingsManager.Difficulty.HARD, 0x5EEDL);
+        String recorded = snapshot();
+        Replay replay = gameManager.getLastReplay();
+        assertNotNull(replay, "Finished match should leave a replay");
+        assertEquals(runner.getLastMatchTicks(), replay.getLength(), "Replay should cover the whole match");
+
+        ReplayPlayer player = new ReplayPlayer(replay, gameManager);
+        player.start();
+        player.runToEnd();
+        assertEquals(recorded, snapshot(), "Playback should end as the recorded match did");
+
+        player.seek(ReplayPlayer.KEYFRAME_INTERVAL + 100);
+        assertEquals(ReplayPlayer.KEYFRAME_INTERVAL + 100, player.getTick(), "Seek should land on the target tick");
+        player.runToEnd();
+        assertEquals(recorded, snapshot(), "Playback after seeking back should end the same way");
+    }
+
+    /**
+     * Tests that auto-repeated presses of a held key are left out of the
+     * replay, while a repeat that places a bomb is kept.
+     */
+    @Test
+    @DisplayName("Key auto-repeat is not recorded")
+    void testRepeatsNotRecorded() throws IOException {
+        gameManager.initHeadless();
+        gameManager.startMatch(SettingsManager.Difficulty.EASY, 0x5EEDL);
+
+        // Two seconds of a held arrow key at AWT's repeat rate
+        for (int tick = 0; tick < 120; tick++) {
+            if (tick % 2 == 0) gameManager.handleInput(KeyEvent.VK_RIGHT);
+            gameManager.update();
+        }
+        gameManager.handleKeyReleased(KeyEvent.VK_RIGHT);
+        // Holding the bomb key places one bomb; the repeats find it already there
+        for (int tick = 0; tick < 30; tick++) {
+            if (tick % 2 == 0) gameManager.handleInput(KeyEvent.VK_SPACE);
+            gameManager.update();
+        }
+        gameManager.handleKeyReleased(KeyEvent.VK_SPACE);
+        assertEquals(1, gameManager.getBombs().size(), "Only the first press should place a bomb");
+        gameManager.finishReplay();
+
+        Replay replay = gameManager.getLastReplay();
+        assertEquals(4, replay.getEventCount(), "Each held key should cost a press and a release");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        assertTrue(out.size() < 40, "Held keys should take a few bytes, not " + out.size());
+    }
+
+    /**
+     * Tests that an event count the file cannot hold is rejected rather than
+     * allocated, whether it is beyond the limit, wraps to a negative int, or
+     * is only contradicted by the data running out.
+     */
+    @Test
+    @DisplayName("Corrupt event counts are rejected")
+    void testRejectsBadEventCount() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder();
+        recorder.begin(1L, SettingsManager.Difficulty.EASY, 25, 15, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.finish(100).write(out);
+        // With no events the count is the last byte
+        byte[] header = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+        long[] counts = { Replay.MAX_EVENTS + 1L, 1L << 32, -1L, Replay.MAX_EVENTS };
+        for (long count : counts) {
+            ByteArrayOutputStream corrupt = new ByteArrayOutputStream();
+            corrupt.write(header);
+            for (long value = count; ; value >>>= 7) {
+                if ((value & ~0x7FL) == 0) {
+                    corrupt.write((int) value);
+                    break;
+                }
+                corrupt.write((int) (value & 0x7F) | 0x80);
+            }
+            byte[] data = corrupt.toByteArray();
+            assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(data)),
+                "Count " + count + " should be rejected");
+        }
+    }
+
+    private String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(gameManager.getCurrentState().getClass().getSimpleName())
+            .append(" tick=").append(gameManager.getMatchTicks())
+            .append(" player=").append(gameManager.getPlayer().getX()).append(',').append(gameManager.getPlayer().getY())
+            .append(" hp=").append(gameManager.getPlayer().getHp())
+            .append(" bombs=").append(gameManager.getBombs().size());
+        EnemyStore enemies = gameManager.getEnemyStore();
+        for (int i = 0; i < enemies.size(); i++) {
+            sb.append(" e").append(enemies.getX(i)).append(',').append(enemies.getY(i));
+        }
+        int tileHash = 0;
+        for (int y = 0; y < gameManager.getGridHeight(); y++) {
+            for (int x = 0; x < gameManager.getGridWidth(); x++) {
+                tileHash = tileHash * 31 + gameManager.getTiles().get(x, y);
+            }
+        }
+        return sb.append(" tiles=").append(tileHash).toString();
+    }
+}
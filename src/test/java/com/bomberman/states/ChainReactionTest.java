@@ -0,0 +1,89 @@
+package com.bomberman.states;
+
+import com.bomberman.core.GameManager;
+import com.bomberman.entities.Bomb;
+import com.bomberman.managers.SettingsManager;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for chain-reaction detonation.
+ * Tests that fire reaching a bomb sets it off within the same blast pass.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class ChainReactionTest {
+
+    private GameManager gameManager;
+    private PlayingState playing;
+
+    @BeforeEach
+    void setUp() {
+        gameManager = GameManager.getInstance();
+        gameManager.initHeadless();
+        gameManager.startMatch(SettingsManager.Difficulty.EASY);
+        gameManager.getTiles().clear();
+        gameManager.clearEnemies();
+        playing = (PlayingState) gameManager.PLAYING_STATE;
+    }
+
+    /**
+     * Tests that a single blast sets off a board carpeted with bombs in one pass.
+     */
+    @Test
+    @DisplayName("Blast detonates every bomb on a carpeted board")
+    void testCarpetedBoard() {
+        for (int y = 0; y < GameManager.GRID_H; y++) {
+            for (int x = 0; x < GameManager.GRID_W; x++) {
+                if (x != 0 || y != 0) gameManager.addBomb(new Bomb(x, y, 1));
+            }
+        }
+
+        playing.triggerExplosion(gameManager, 0, 0, 1);
+
+        assertTrue(gameManager.getBombs().isEmpty(), "Every bomb should have detonated");
+        assertFalse(gameManager.hasBombAt(GameManager.GRID_W - 1, GameManager.GRID_H - 1),
+            "Detonated bombs should leave the cell index");
+        assertEquals(GameManager.GRID_W * GameManager.GRID_H, gameManager.getFire().getBurningCount(),
+            "Every cell should be on fire");
+    }
+
+    /**
+     * Tests that the chain follows each bomb's own radius and stops where fire does not reach.
+     */
+    @Test
+    @DisplayName("Chain stops at bombs out of reach")
+    void testChainReach() {
+        Bomb near = new Bomb(2, 5, 3);
+        Bomb chained = new Bomb(5, 5, 1);
+        Bomb far = new Bomb(8, 5, 1);
+        gameManager.addBomb(near);
+        gameManager.addBomb(chained);
+        gameManager.addBomb(far);
+
+        playing.triggerExplosion(gameManager, 0, 5, 2);
+
+        assertFalse(near.isActive(), "Bomb inside the first blast should detonate");
+        assertFalse(chained.isActive(), "Bomb reached by the second blast should detonate");
+        assertTrue(gameManager.getFire().isBurning(6, 5), "Third blast should spread fire");
+        assertTrue(far.isActive(), "Bomb beyond every blast should keep ticking");
+        assertEquals(1, gameManager.getBombs().size(), "Only the far bomb should remain");
+    }
+
+    /**
+     * Tests that hard walls shield bombs from the chain.
+     */
+    @Test
+    @DisplayName("Hard walls block the chain")
+    void testHardWallBlocks() {
+        gameManager.getTiles().placeWall(1, 5, false);
+        Bomb shielded = new Bomb(2, 5, 1);
+        gameManager.addBomb(shielded);
+
+        playing.triggerExplosion(gameManager, 0, 5, 3);
+
+        assertTrue(shielded.isActive(), "Bomb behind a hard wall should not detonate");
+        assertTrue(gameManager.hasBombAt(2, 5), "Bomb should stay on the board");
+    }
+}
@@ -0,0 +1,183 @@
+package com.bomberman.states;
+
+import com.bomberman.core.FireField;
+import com.bomberman.core.GameManager;
+import com.bomberman.headless.BotInputDriver;
+import com.bomberman.managers.SettingsManager;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation-rate tests for the render paths.
+ * Renders every screen into an off-screen image after a JIT warm-up and checks
+ * that a steady-state frame stays under a small allocation budget. Gameplay
+ * frames are measured with the match running between them, so enemies move,
+ * tiles go dirty and fire burns as in a real frame; only the render calls are
+ * counted.
+ *
+ * The budget is not zero: Java2D itself allocates a little per call (font strike
+ * lookups on setFont, shape iterators for rounded rectangles). It is small enough
+ * that any per-frame Font, Color, String.format or gradient paint in our code fails it.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class RenderAllocationTest {
+
+    private static final int WARMUP_FRAMES = 2000;
+    private static final int MEASURED_FRAMES = 200;
+    private static final long BUDGET_BYTES_PER_FRAME = 4 * 1024;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private GameManager gameManager;
+    private BufferedImage target;
+    private BotInputDriver driver;
+    private long tick;
+    private int dirtyFrames;
+    private int burningFrames;
+
+    @BeforeAll
+    static void checkSupport() {
+        Assumptions.assumeTrue(
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "Per-thread allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(),
+            "Per-thread allocation counters are not available on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        gameManager = GameManager.getInstance();
+        gameManager.initHeadless();
+        gameManager.startMatch(SettingsManager.Difficulty.MEDIUM);
+        driver = new BotInputDriver();
+        tick = 0;
+        target = new BufferedImage(GameManager.GRID_W * GameManager.TILE_SIZE,
+            GameManager.GRID_H * GameManager.TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Tests that a gameplay frame (terrain, entities, HUD) stays within the budget.
+     */
+    @Test
+    @DisplayName("Playing state renders a frame within the allocation budget")
+    void testPlayingStateAllocation() {
+        assertWithinBudget(gameManager.PLAYING_STATE);
+        assertTrue(dirtyFrames > MEASURED_FRAMES / 2, "Most measured frames should redraw dirty tiles");
+        assertTrue(burningFrames > 0, "Some measured frames should draw fire");
+    }
+
+    /**
+     * Tests that the main menu, including its gradient background, stays within the budget.
+     */
+    @Test
+    @DisplayName("Main menu renders a frame within the allocation budget")
+    void testMainMenuAllocation() {
+        assertWithinBudget(gameManager.MAIN_MENU_STATE);
+    }
+
+    /**
+     * Tests that the settings screen, including its sliders, stays within the budget.
+     */
+    @Test
+    @DisplayName("Settings screen renders a frame within the allocation budget")
+    void testSettingsAllocation() {
+        assertWithinBudget(gameManager.SETTINGS_STATE);
+    }
+
+    /**
+     * Tests that the leaderboard only rebuilds its rows when the scores change.
+     */
+    @Test
+    @DisplayName("Leaderboard renders a frame within the allocation budget")
+    void testLeaderboardAllocation() {
+        assertWithinBudget(gameManager.LEADERBOARD_STATE);
+    }
+
+    /**
+     * Tests that the difficulty screen reuses its cached map preview.
+     */
+    @Test
+    @DisplayName("Difficulty selection renders a frame within the allocation budget")
+    void testDifficultySelectionAllocation() {
+        assertWithinBudget(gameManager.DIFFICULTY_SELECTION_STATE);
+    }
+
+    /**
+     * Tests that the game over and victory screens stay within the budget.
+     */
+    @Test
+    @DisplayName("Game over and victory screens render a frame within the allocation budget")
+    void testEndScreensAllocation() {
+        assertWithinBudget(gameManager.GAMEOVER_STATE);
+        assertWithinBudget(gameManager.VICTORY_STATE);
+    }
+
+    private void assertWithinBudget(GameState state) {
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            advance(state);
+            Graphics2D g = createGraphics();
+            state.render(g, gameManager);
+            g.dispose();
+        }
+
+        Graphics2D g = createGraphics();
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        dirtyFrames = 0;
+        burningFrames = 0;
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            advance(state);
+            if (gameManager.getDirtyTiles().hasDirty()) dirtyFrames++;
+            if (gameManager.getFire().getBurningCount() > 0) burningFrames++;
+            long before = threads.getThreadAllocatedBytes(threadId);
+            state.render(g, gameManager);
+            allocated += threads.getThreadAllocatedBytes(threadId) - before;
+        }
+        long perFrame = allocated / MEASURED_FRAMES;
+        g.dispose();
+
+        assertTrue(perFrame <= BUDGET_BYTES_PER_FRAME,
+            state.getClass().getSimpleName() + " allocated " + perFrame + " bytes per frame");
+    }
+
+    /**
+     * Runs one tick of the match behind the playing state, with the bot at the
+     * controls, a tile marked dirty and a fire lit every few ticks. A match that
+     * ends is restarted. Other screens are drawn as they are.
+     */
+    private void advance(GameState state) {
+        if (state != gameManager.PLAYING_STATE) return;
+        if (gameManager.getCurrentState() != gameManager.PLAYING_STATE) {
+            gameManager.startMatch(SettingsManager.Difficulty.MEDIUM);
+            driver.reset();
+            tick = 0;
+        }
+        driver.onTick(gameManager, tick);
+        gameManager.update();
+        int cell = (int) (tick % (GameManager.GRID_W * GameManager.GRID_H));
+        gameManager.markDirty(cell % GameManager.GRID_W, cell / GameManager.GRID_W);
+        if (tick % 8 == 0) {
+            gameManager.ignite(cell % GameManager.GRID_W, cell / GameManager.GRID_W, FireField.ARM_LEFT);
+        }
+        tick++;
+    }
+
+    /**
+     * Graphics with the hints the game uses when retro effects are off. With
+     * antialiasing off, Java2D's software translucent fills allocate per call on
+     * their own, which would hide regressions in our code.
+     */
+    private Graphics2D createGraphics() {
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        return g;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bomberman.utils;
+
+import com.bomberman.entities.Bomb;
+import com.bomberman.entities.Player;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CellIndex class.
+ * Tests occupancy queries, moves, removal and stacking several objects in a cell.
+ * 
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class CellIndexTest {
+    
+    private CellIndex<Bomb> index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new CellIndex<>(10, 8);
+    }
+    
+    /**
+     * Tests that an added object is found at its cell.
+     */
+    @Test
+    @DisplayName("Added object is found at its cell")
+    void testAddAndLookup() {
+        Bomb bomb = new Bomb(3, 4, 2);
+        index.add(bomb);
+        
+        assertTrue(index.isOccupied(3, 4), "Cell should be occupied");
+        assertSame(bomb, index.first(3, 4), "Lookup should return the bomb");
+        assertFalse(index.isOccupied(4, 3), "Other cells should stay empty");
+        assertEquals(1, index.size(), "Index should hold one object");
+    }
+    
+    /**
+     * Tests that several objects can share a cell and be removed individually.
+     */
+    @Test
+    @DisplayName("Several objects can share a cell")
+    void testStacking() {
+        Bomb a = new Bomb(1, 1, 2);
+        Bomb b = new Bomb(1, 1, 2);
+        Bomb c = new Bomb(1, 1, 2);
+        index.add(a);
+        index.add(b);
+        index.add(c);
+        
+        assertEquals(3, index.count(1, 1), "Cell should hold three objects");
+        assertTrue(index.remove(b), "Middle object should be removed");
+        assertEquals(2, index.count(1, 1), "Two objects should remain");
+        assertFalse(index.remove(b), "Removing twice should fail");
+    }
+    
+    /**
+     * Tests that a reported move relocates the entry.
+     */
+    @Test
+    @DisplayName("Move relocates the entry")
+    void testMove() {
+        CellIndex<Player> players = new CellIndex<>(10, 8);
+        Player player = new Player(2, 2);
+        players.add(player);
+        
+        player.setPosition(5, 2);
+        players.move(player, 2, 2);
+        
+        assertFalse(players.isOccupied(2, 2), "Old cell should be empty");
+        assertSame(player, players.first(5, 2), "Player should be at the new cell");
+        assertEquals(1, players.size(), "Move should not change the size");
+    }
+    
+    /**
+     * Tests that out-of-bounds cells are always empty and ignored on add.
+     */
+    @Test
+    @DisplayName("Out-of-bounds cells are empty")
+    void testOutOfBounds() {
+        index.add(new Bomb(-1, 0, 2));
+        index.add(new Bomb(10, 0, 2));
+        
+        assertEquals(0, index.size(), "Off-grid objects are not indexed");
+        assertEquals(0, index.count(-1, 0), "Negative cell should be empty");
+        assertNull(index.first(0, 8), "Row past the bottom should be empty");
+    }
+    
+    /**
+     * Tests that clear empties every cell.
+     */
+    @Test
+    @DisplayName("Clear empties every cell")
+    void testClear() {
+        index.add(new Bomb(1, 2, 2));
+        index.add(new Bomb(7, 7, 2));
+        index.clear();
+        
+        assertEquals(0, index.size(), "Index should be empty");
+        assertFalse(index.isOccupied(1, 2), "Cell should be empty after clear");
+    }
+}
@@ -0,0 +1,47 @@
+package com.bomberman.utils;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the breadth-first distance field.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class FlowFieldTest {
+
+    /**
+     * Tests distances around a wall with a single gap.
+     */
+    @Test
+    @DisplayName("Distances follow walkable cells around walls")
+    void testDistances() {
+        FlowField field = new FlowField(7, 5);
+        // Wall down column 3 with a gap at row 4
+        field.rebuild(0, 0, (x, y) -> x != 3 || y == 4);
+
+        assertEquals(0, field.distance(0, 0), "Goal should be at distance 0");
+        assertEquals(2, field.distance(1, 1), "Open cells should be at Manhattan distance");
+        assertEquals(FlowField.UNREACHABLE, field.distance(3, 0), "Walls should be unreachable");
+        assertEquals(7, field.distance(3, 4), "Gap should be reached around the corner");
+        assertEquals(12, field.distance(4, 0), "Far side should be reached through the gap");
+        assertEquals(FlowField.UNREACHABLE, field.distance(-1, 0), "Off-grid cells should be unreachable");
+    }
+
+    /**
+     * Tests that rebuilding replaces the previous field completely.
+     */
+    @Test
+    @DisplayName("Rebuild forgets the previous goal and walls")
+    void testRebuild() {
+        FlowField field = new FlowField(7, 5);
+        field.rebuild(0, 0, (x, y) -> true);
+        field.rebuild(6, 4, (x, y) -> x != 3);
+
+        assertEquals(6, field.getGoalX(), "Goal should move");
+        assertEquals(0, field.distance(6, 4), "New goal should be at distance 0");
+        assertEquals(FlowField.UNREACHABLE, field.distance(0, 0), "Cells cut off by the new wall should be unreachable");
+        assertThrows(IllegalArgumentException.class, () -> field.rebuild(7, 0, (x, y) -> true));
+    }
+}
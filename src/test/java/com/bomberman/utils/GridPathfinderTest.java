@@ -0,0 +1,170 @@
+package com.bomberman.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Unit tests for the allocation-free grid A*.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class GridPathfinderTest {
+
+    /**
+     * Tests that found paths are connected, walkable and as short as a
+     * breadth-first search says, on random boards spanning several chunks.
+     */
+    @Test
+    @DisplayName("Paths are valid and shortest")
+    void testShortestPaths() {
+        int w = 150;
+        int h = 90;
+        Random random = new Random(7);
+        GridPathfinder finder = new GridPathfinder(w, h);
+        int[] out = new int[4];
+
+        for (int round = 0; round < 20; round++) {
+            boolean[] blocked = new boolean[w * h];
+            for (int i = 0; i < blocked.length; i++) blocked[i] = random.nextInt(100) < 30;
+            Pathfinding.WalkableChecker walkable = (x, y) -> !blocked[y * w + x];
+            int sx = random.nextInt(w), sy = random.nextInt(h), gx = random.nextInt(w), gy = random.nextInt(h);
+            blocked[sy * w + sx] = false;
+            blocked[gy * w + gx] = false;
+
+            int length = finder.findPath(sx, sy, gx, gy, walkable, out);
+            int expected = bfsLength(blocked, w, h, sx, sy, gx, gy);
+            assertEquals(expected, length, "Path length should match BFS in round " + round);
+            if (length == GridPathfinder.NO_PATH) continue;
+
+            if (length > out.length) {
+                out = new int[length];
+                finder.writePath(out);
+            }
+            assertEquals(sy * w + sx, out[0], "Path should start at the start");
+            assertEquals(gy * w + gx, out[length - 1], "Path should end at the goal");
+            for (int i = 1; i < length; i++) {
+                int step = Math.abs(out[i] % w - out[i - 1] % w) + Math.abs(out[i] / w - out[i - 1] / w);
+                assertEquals(1, step, "Path should move one cell at a time");
+                assertFalse(blocked[out[i]], "Path should only cross walkable cells");
+            }
+        }
+    }
+
+    /**
+     * Tests the trivial and unreachable cases.
+     */
+    @Test
+    @DisplayName("Start at goal and sealed goals")
+    void testEdgeCases() {
+        GridPathfinder finder = new GridPathfinder(10, 10);
+        int[] out = new int[100];
+        assertEquals(1, finder.findPath(3, 3, 3, 3, (x, y) -> true, out), "Start at goal is a one-cell path");
+        assertEquals(33, out[0], "One-cell path holds the start");
+
+        Pathfinding.WalkableChecker walled = (x, y) -> x != 5;
+        assertEquals(GridPathfinder.NO_PATH, finder.findPath(0, 0, 9, 9, walled, out), "Wall should seal the goal off");
+        assertThrows(IllegalStateException.class, () -> finder.writePath(out));
+        assertEquals(GridPathfinder.NO_PATH, finder.findPath(0, 0, 5, 5, walled, out), "Blocked goal has no path");
+    }
+
+    /**
+     * Tests that jump point mode finds paths as short as BFS, expanded cell
+     * by cell, on random boards with and without the pillar lattice.
+     */
+    @Test
+    @DisplayName("Jump point paths are valid and shortest")
+    void testJumpPointPaths() {
+        Random random = new Random(5);
+        for (int round = 0; round < 300; round++) {
+            int w = 2 + random.nextInt(60);
+            int h = 2 + random.nextInt(40);
+            int density = random.nextInt(50);
+            boolean pillars = round % 3 == 0;
+            boolean[] blocked = new boolean[w * h];
+            for (int i = 0; i < blocked.length; i++) {
+                blocked[i] = (pillars && i % w % 2 == 0 && i / w % 2 == 0) || random.nextInt(100) < density;
+            }
+            int sx = random.nextInt(w), sy = random.nextInt(h), gx = random.nextInt(w), gy = random.nextInt(h);
+            blocked[sy * w + sx] = false;
+            blocked[gy * w + gx] = false;
+
+            GridPathfinder finder = new GridPathfinder(w, h, true);
+            int[] out = new int[w * h];
+            int length = finder.findPath(sx, sy, gx, gy, (x, y) -> !blocked[y * w + x], out);
+            assertEquals(bfsLength(blocked, w, h, sx, sy, gx, gy), length, "Path length should match BFS in round " + round);
+            if (length == GridPathfinder.NO_PATH) continue;
+            assertEquals(sy * w + sx, out[0], "Path should start at the start");
+            assertEquals(gy * w + gx, out[length - 1], "Path should end at the goal");
+            for (int i = 1; i < length; i++) {
+                int step = Math.abs(out[i] % w - out[i - 1] % w) + Math.abs(out[i] / w - out[i - 1] / w);
+                assertEquals(1, step, "Path should move one cell at a time");
+                assertFalse(blocked[out[i]], "Path should only cross walkable cells");
+            }
+        }
+    }
+
+    /**
+     * Tests that jump points are chosen once walls fill a fifth of the board.
+     */
+    @Test
+    @DisplayName("Jump points are chosen on walled-in boards")
+    void testPrefersJumpPoints() {
+        assertFalse(GridPathfinder.prefersJumpPoints(129, 129, 4 * 128), "Border-only board should use A*");
+        assertTrue(GridPathfinder.prefersJumpPoints(129, 129, 129 * 129 / 5 + 1), "A fifth of the board walled should use jump points");
+        assertFalse(GridPathfinder.prefersJumpPoints(129, 129, 129 * 129 / 5 - 1));
+        assertTrue(new GridPathfinder(5, 5, true).isJumpPoints());
+        assertFalse(new GridPathfinder(5, 5).isJumpPoints());
+    }
+
+    /**
+     * Tests that repeated queries do not allocate once the buffers have grown.
+     */
+    @Test
+    @DisplayName("Queries allocate nothing once warmed up")
+    void testNoAllocation() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counter not available");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        GridPathfinder finder = new GridPathfinder(64, 64);
+        Pathfinding.WalkableChecker walkable = (x, y) -> x % 4 != 2 || y % 8 == 0;
+        int[] out = new int[4096];
+        long sum = 0;
+        for (int i = 0; i < 1000; i++) sum += finder.findPath(1, 1, 61, 61, walkable, out);
+
+        long tid = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < 1000; i++) sum += finder.findPath(1, 1, 61, 61, walkable, out);
+        long allocated = threads.getThreadAllocatedBytes(tid) - before;
+
+        assertTrue(sum > 0, "Paths should be found");
+        assertTrue(allocated < 1000, "1000 queries should not allocate, but took " + allocated + " bytes");
+    }
+
+    private static int bfsLength(boolean[] blocked, int w, int h, int sx, int sy, int gx, int gy) {
+        int[] dist = new int[w * h];
+        java.util.Arrays.fill(dist, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        dist[sy * w + sx] = 1;
+        queue.add(sy * w + sx);
+        while (!queue.isEmpty()) {
+            int c = queue.poll();
+            if (c == gy * w + gx) return dist[c];
+            int x = c % w, y = c / w;
+            int[][] dirs = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+            for (int[] d : dirs) {
+                int nx = x + d[0], ny = y + d[1];
+                if (nx < 0 || ny < 0 || nx >= w || ny >= h || blocked[ny * w + nx] || dist[ny * w + nx] >= 0) continue;
+                dist[ny * w + nx] = dist[c] + 1;
+                queue.add(ny * w + nx);
+            }
+        }
+        return GridPathfinder.NO_PATH;
+    }
+}
@@ -0,0 +1,171 @@
+package com.bomberman.utils;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the incremental Moving Target D* Lite search.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class IncrementalPathfinderTest {
+
+    /**
+     * Tests that after every kind of change - cells opening and closing, the
+     * target moving, the agent stepping along its path - the repaired path is
+     * valid and as short as a fresh breadth-first search says.
+     */
+    @Test
+    @DisplayName("Repaired paths stay valid and shortest")
+    void testRepairMatchesBfs() {
+        int w = 40;
+        int h = 30;
+        Random random = new Random(11);
+        boolean[] blocked = new boolean[w * h];
+        for (int i = 0; i < blocked.length; i++) blocked[i] = random.nextInt(100) < 25;
+        IncrementalPathfinder finder = new IncrementalPathfinder(w, h, (x, y) -> !blocked[y * w + x]);
+        int sx = 1, sy = 1, gx = w - 2, gy = h - 2;
+        blocked[sy * w + sx] = false;
+        blocked[gy * w + gx] = false;
+        finder.reset(sx, sy, gx, gy);
+        int[] out = new int[w * h];
+
+        for (int round = 0; round < 600; round++) {
+            int length = finder.findPath(out);
+            assertEquals(bfsLength(blocked, w, h, sx, sy, gx, gy), length, "Path length should match BFS in round " + round);
+            if (length != IncrementalPathfinder.NO_PATH) checkPath(out, length, blocked, w, sx, sy, gx, gy);
+
+            int event = random.nextInt(3);
+            if (event == 0) {
+                // Toggle a cell other than the two ends
+                int cell = random.nextInt(w * h);
+                if (cell == sy * w + sx || cell == gy * w + gx) continue;
+                blocked[cell] = !blocked[cell];
+                finder.cellChanged(cell % w, cell / w);
+            } else if (event == 1) {
+                int d = random.nextInt(4);
+                int nx = gx + (d == 2 ? -1 : d == 3 ? 1 : 0);
+                int ny = gy + (d == 0 ? -1 : d == 1 ? 1 : 0);
+                if (nx < 0 || nx >= w || ny < 0 || ny >= h || blocked[ny * w + nx]) continue;
+                gx = nx;
+                gy = ny;
+                finder.moveGoal(gx, gy);
+            } else if (length > 1) {
+                sx = out[1] % w;
+                sy = out[1] / w;
+                finder.moveStart(sx, sy);
+            }
+        }
+    }
+
+    /**
+     * Tests that a wall dropped on the path and a one-cell goal move are
+     * repaired with much less work than searching again from scratch.
+     */
+    @Test
+    @DisplayName("Single changes are repaired locally")
+    void testLocalRepair() {
+        int w = 200;
+        int h = 200;
+        Random random = new Random(3);
+        boolean[] blocked = new boolean[w * h];
+        for (int i = 0; i < blocked.length; i++) blocked[i] = random.nextInt(100) < 25;
+        blocked[0] = false;
+        blocked[w * h - 1] = false;
+        Pathfinding.WalkableChecker walkable = (x, y) -> !blocked[y * w + x];
+        IncrementalPathfinder finder = new IncrementalPathfinder(w, h, walkable);
+        int[] out = new int[w * h];
+        finder.reset(0, 0, w - 1, h - 1);
+        int length = finder.findPath(out);
+        assertNotEquals(IncrementalPathfinder.NO_PATH, length, "Board should be crossable");
+
+        int cell = out[length / 2];
+        blocked[cell] = true;
+        finder.cellChanged(cell % w, cell / w);
+        assertEquals(bfsLength(blocked, w, h, 0, 0, w - 1, h - 1), finder.findPath(out));
+        int repaired = finder.getExpansions();
+        IncrementalPathfinder fresh = new IncrementalPathfinder(w, h, walkable);
+        fresh.reset(0, 0, w - 1, h - 1);
+        fresh.findPath(out);
+        assertTrue(repaired * 2 < fresh.getExpansions(),
+            "Repair expanded " + repaired + " cells, fresh search " + fresh.getExpansions());
+
+        int gx = blocked[(h - 2) * w + w - 1] ? w - 2 : w - 1;
+        int gy = gx == w - 1 ? h - 2 : h - 1;
+        finder.moveGoal(gx, gy);
+        assertEquals(bfsLength(blocked, w, h, 0, 0, gx, gy), finder.findPath(out));
+        repaired = finder.getExpansions();
+        fresh.reset(0, 0, gx, gy);
+        fresh.findPath(out);
+        assertTrue(repaired * 2 < fresh.getExpansions(),
+            "Goal move expanded " + repaired + " cells, fresh search " + fresh.getExpansions());
+    }
+
+    /**
+     * Tests the unstarted, trivial, unreachable and off-tree cases.
+     */
+    @Test
+    @DisplayName("Edge cases")
+    void testEdgeCases() {
+        boolean[] wall = { false };
+        IncrementalPathfinder finder = new IncrementalPathfinder(10, 10, (x, y) -> !(wall[0] && x == 5));
+        int[] out = new int[100];
+        assertThrows(IllegalStateException.class, () -> finder.findPath(out));
+        assertThrows(IllegalArgumentException.class, () -> finder.reset(0, 0, 10, 0));
+
+        finder.reset(3, 3, 3, 3);
+        assertEquals(1, finder.findPath(out), "Start at goal is a one-cell path");
+        assertEquals(33, out[0], "One-cell path holds the start");
+
+        finder.moveGoal(9, 9);
+        assertEquals(13, finder.findPath(out));
+        wall[0] = true;
+        for (int y = 0; y < 10; y++) finder.cellChanged(5, y);
+        assertEquals(IncrementalPathfinder.NO_PATH, finder.findPath(out), "Wall should seal the goal off");
+        assertThrows(IllegalStateException.class, () -> finder.writePath(out));
+
+        // The far side was never reached, so moving there starts over
+        finder.moveStart(8, 9);
+        assertEquals(2, finder.findPath(out));
+        assertEquals(98, out[0]);
+        assertEquals(99, out[1]);
+    }
+
+    private static void checkPath(int[] path, int length, boolean[] blocked, int w, int sx, int sy, int gx, int gy) {
+        assertEquals(sy * w + sx, path[0], "Path should start at the agent");
+        assertEquals(gy * w + gx, path[length - 1], "Path should end at the target");
+        for (int i = 1; i < length; i++) {
+            int step = Math.abs(path[i] % w - path[i - 1] % w) + Math.abs(path[i] / w - path[i - 1] / w);
+            assertEquals(1, step, "Path should move one cell at a time");
+            assertFalse(blocked[path[i]], "Path should only cross walkable cells");
+        }
+    }
+
+    private static int bfsLength(boolean[] blocked, int w, int h, int sx, int sy, int gx, int gy) {
+        int[] dist = new int[w * h];
+        java.util.Arrays.fill(dist, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        dist[sy * w + sx] = 1;
+        queue.add(sy * w + sx);
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            if (cell == gy * w + gx) return dist[cell];
+            int x = cell % w;
+            int y = cell / w;
+            int[][] dirs = { { 0, -1 }, { 0, 1 }, { -1, 0 }, { 1, 0 } };
+            for (int[] d : dirs) {
+                int nx = x + d[0];
+                int ny = y + d[1];
+                if (nx < 0 || nx >= w || ny < 0 || ny >= h) continue;
+                int n = ny * w + nx;
+                if (blocked[n] || dist[n] != -1) continue;
+                dist[n] = dist[cell] + 1;
+                queue.add(n);
+            }
+        }
+        return IncrementalPathfinder.NO_PATH;
+    }
+}
@@ -0,0 +1,179 @@
+package com.bomberman.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the region-versioned path cache.
+ *
+ * @author BomberQuest Team
+ * @version 1.0
+ */
+class PathCacheTest {
+
+    private static final int W = 40;
+
+    private PathCache cache;
+    private final int[] out = new int[64];
+
+    @BeforeEach
+    void setUp() {
+        cache = new PathCache(W, 20, 2);
+    }
+
+    /**
+     * Tests exact hits, hits from the middle of a path and misses towards other goals.
+     */
+    @Test
+    @DisplayName("Lookups return the path or its tail")
+    void testLookup() {
+        cache.put(row(0, 10, 1), 11);
+
+        assertEquals(11, cache.lookup(0, 1, 10, 1, out), "Same start and goal should hit");
+        assertEquals(1 * W + 0, out[0]);
+        assertEquals(1 * W + 10, out[10]);
+        assertEquals(4, cache.lookup(7, 1, 10, 1, out), "Cell on the path should get the rest of it");
+        assertEquals(1 * W + 7, out[0]);
+        assertEquals(PathCache.MISS, cache.lookup(0, 1, 11, 1, out), "Other goal should miss");
+        assertEquals(PathCache.MISS, cache.lookup(0, 2, 10, 1, out), "Cell off the path should miss");
+    }
+
+    /**
+     * Tests that a change invalidates paths through its region and only those.
+     */
+    @Test
+    @DisplayName("Changes invalidate paths through their region")
+    void testInvalidation() {
+        cache.put(row(0, 5, 1), 6);
+        cache.put(row(24, 30, 1), 7);
+
+        cache.cellChanged(3, 6); // Same 8x8 region as the first path, off the path itself
+        assertEquals(PathCache.MISS, cache.lookup(0, 1, 5, 1, out), "Path through the changed region is stale");
+        assertEquals(7, cache.lookup(24, 1, 30, 1, out), "Path elsewhere should survive");
+
+        cache.put(row(0, 5, 1), 6);
+        assertEquals(6, cache.lookup(0, 1, 5, 1, out), "Path cached again after the change is fresh");
+    }
+
+    /**
+     * Tests least-recently-used eviction and the metrics.
+     */
+    @Test
+    @DisplayName("Least recently used paths are evicted")
+    void testEviction() {
+        cache.put(row(0, 5, 1), 6);
+        cache.put(row(0, 5, 3), 6);
+        cache.recordHit(0, 1, 5, 1); // First path is now the most recent
+        cache.put(row(0, 5, 5), 6);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(6, cache.lookup(0, 1, 5, 1, out), "Recently used path should stay");
+        assertEquals(PathCache.MISS, cache.lookup(2, 3, 5, 3, out), "Least recently used path should go, cells included");
+        cache.recordMiss();
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    /**
+     * Tests that under heavy churn the paths of the last puts are found from
+     * every cell and the cells of evicted paths are all gone.
+     */
+    @Test
+    @DisplayName("Evicted paths leave no cells behind")
+    void testChurn() {
+        int capacity = 8;
+        PathCache churned = new PathCache(W, 20, capacity);
+        Random random = new Random(23);
+        List<int[]> puts = new ArrayList<>();
+        int[] buffer = new int[W * 20];
+        for (int round = 0; round < 300; round++) {
+            // Every path heads for a goal of its own, so no two share a cell entry
+            int goal = round;
+            int length = 1 + random.nextInt(30);
+            int[] path = distinctCells(random, length, goal);
+            churned.put(path, length);
+            puts.add(path);
+
+            assertTrue(churned.size() <= capacity, "Cache should stay within its capacity");
+            for (int p = 0; p < puts.size(); p++) {
+                int[] cached = puts.get(p);
+                boolean live = p >= puts.size() - capacity;
+                int goalCell = cached[cached.length - 1];
+                for (int i = 0; i < cached.length; i++) {
+                    int found = churned.lookup(cached[i] % W, cached[i] / W, goalCell % W, goalCell / W, buffer);
+                    assertEquals(live ? cached.length - i : PathCache.MISS, found,
+                        "Cell " + i + " of path " + p + " after put " + round);
+                }
+            }
+        }
+        assertEquals(300 - capacity, churned.getEvictions());
+    }
+
+    /**
+     * Tests that lookups and hits on a warm cache allocate nothing.
+     */
+    @Test
+    @DisplayName("Lookups allocate nothing")
+    void testLookupAllocation() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "Per-thread allocation counters are not available on this JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(),
+            "Per-thread allocation counters are not available on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        cache.put(row(0, 10, 1), 11);
+        cache.put(row(0, 10, 3), 11);
+        long sum = 0;
+        for (int i = 0; i < 20000; i++) sum += lookupAndHit(i);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 20000; i++) sum += lookupAndHit(i);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sum > 0);
+        assertTrue(allocated < 1024, "20000 lookups allocated " + allocated + " bytes");
+    }
+
+    private long lookupAndHit(int i) {
+        int x = i % 11;
+        int y = i % 2 == 0 ? 1 : 3;
+        int length = cache.lookup(x, y, 10, y, out);
+        cache.recordHit(x, y, 10, y);
+        return length;
+    }
+
+    /**
+     * @return Path of distinct cells ending at the given goal cell
+     */
+    private static int[] distinctCells(Random random, int length, int goal) {
+        int[] path = new int[length];
+        path[length - 1] = goal;
+        for (int i = 0; i < length - 1; i++) {
+            int cell;
+            boolean taken;
+            do {
+                cell = random.nextInt(W * 20);
+                taken = cell == goal;
+                for (int j = 0; j < i && !taken; j++) taken = path[j] == cell;
+            } while (taken);
+            path[i] = cell;
+        }
+        return path;
+    }
+
+    /**
+     * @return Cells of a horizontal path on row y from x0 to x1
+     */
+    private static int[] row(int x0, int x1, int y) {
+        int[] path = new int[x1 - x0 + 1];
+        for (int x = x0; x <= x1; x++) path[x - x0] = y * W + x;
+        return path;
+    }
+}